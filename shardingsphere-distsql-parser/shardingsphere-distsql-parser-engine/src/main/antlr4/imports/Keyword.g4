@@ -134,3 +134,11 @@ LIST
 STATUS
     : S T A T U S
     ;
+
+RATE
+    : R A T E
+    ;
+
+LIMIT
+    : L I M I T
+    ;
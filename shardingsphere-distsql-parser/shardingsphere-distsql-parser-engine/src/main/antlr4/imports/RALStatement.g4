@@ -47,6 +47,14 @@ checkScalingJob
     : CHECK SCALING JOB jobId
     ;
 
+alterScalingJobRateLimit
+    : ALTER SCALING JOB jobId RATE LIMIT LP rateLimitProperty (COMMA rateLimitProperty)* RP
+    ;
+
+rateLimitProperty
+    : key=IDENTIFIER EQ value=INT
+    ;
+
 jobId
     : INT
     ;
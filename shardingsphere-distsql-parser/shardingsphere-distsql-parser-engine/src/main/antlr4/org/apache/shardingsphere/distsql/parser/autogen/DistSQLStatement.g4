@@ -37,5 +37,6 @@ execute
     | dropScalingJob
     | resetScalingJob
     | checkScalingJob
+    | alterScalingJobRateLimit
     ) SEMI?
     ;
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.discovery.mgr;
 
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
@@ -26,6 +27,7 @@ import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.reg.zookeeper.ZookeeperConfiguration;
 import org.apache.shardingsphere.elasticjob.reg.zookeeper.ZookeeperRegistryCenter;
 import org.apache.shardingsphere.db.discovery.spi.DatabaseDiscoveryType;
+import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceDisabledEvent;
@@ -33,16 +35,21 @@ import org.apache.shardingsphere.infra.rule.event.impl.PrimaryDataSourceEvent;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * MGR data base discovery type.
@@ -58,13 +65,21 @@ public final class MGRDatabaseDiscoveryType implements DatabaseDiscoveryType {
     
     private static final String SINGLE_PRIMARY = "SELECT * FROM performance_schema.global_variables WHERE VARIABLE_NAME='group_replication_single_primary_mode'";
     
-    private static final String MEMBER_LIST = "SELECT MEMBER_HOST, MEMBER_PORT, MEMBER_STATE FROM performance_schema.replication_group_members";
+    private static final String MEMBER_STATUS = "SELECT MEMBER_HOST, MEMBER_PORT, MEMBER_STATE, MEMBER_ID = "
+            + "(SELECT VARIABLE_VALUE FROM performance_schema.global_status WHERE VARIABLE_NAME = 'group_replication_primary_member') AS IS_PRIMARY "
+            + "FROM performance_schema.replication_group_members";
     
     private static CoordinatorRegistryCenter coordinatorRegistryCenter;
     
     private static final Map<String, ScheduleJobBootstrap> SCHEDULE_JOB_BOOTSTRAP_MAP = new HashMap<>(16, 1);
     
-    private String oldPrimaryDataSource;
+    private static final Map<String, MGRDatabaseDiscoveryType> HEARTBEAT_DISCOVERY_TYPES = new HashMap<>(16, 1);
+    
+    private volatile String oldPrimaryDataSource;
+    
+    private final Map<String, Connection> probeConnections = new ConcurrentHashMap<>();
+    
+    private final Map<String, String> dataSourceURLs = new ConcurrentHashMap<>();
     
     @Getter
     @Setter
@@ -126,147 +141,202 @@ public final class MGRDatabaseDiscoveryType implements DatabaseDiscoveryType {
     @Override
     public void updatePrimaryDataSource(final Map<String, DataSource> dataSourceMap, final String schemaName, final Collection<String> disabledDataSourceNames,
                                         final String groupName, final String primaryDataSourceName) {
-        Map<String, DataSource> activeDataSourceMap = new HashMap<>(dataSourceMap);
-        if (!disabledDataSourceNames.isEmpty()) {
-            activeDataSourceMap.entrySet().removeIf(each -> disabledDataSourceNames.contains(each.getKey()));
-        }
         if (null == primaryDataSourceName || primaryDataSourceName.equals(oldPrimaryDataSource)) {
-            String newPrimaryDataSource = determinePrimaryDataSource(activeDataSourceMap);
-            if (newPrimaryDataSource.isEmpty()) {
-                return;
-            }
-            if (!newPrimaryDataSource.equals(oldPrimaryDataSource)) {
-                oldPrimaryDataSource = newPrimaryDataSource;
-                ShardingSphereEventBus.getInstance().post(new PrimaryDataSourceEvent(schemaName, groupName, newPrimaryDataSource));
-            }
+            loadMembers(getActiveDataSourceMap(dataSourceMap, disabledDataSourceNames), false).ifPresent(optional -> updatePrimaryDataSource(optional, dataSourceMap, schemaName, groupName));
         } else {
             oldPrimaryDataSource = primaryDataSourceName;
         }
     }
     
-    private String determinePrimaryDataSource(final Map<String, DataSource> dataSourceMap) {
-        String primaryDataSourceURL = findPrimaryDataSourceURL(dataSourceMap);
-        return findPrimaryDataSourceName(primaryDataSourceURL, dataSourceMap);
-    }
-
-    private String findPrimaryDataSourceURL(final Map<String, DataSource> dataSourceMap) {
-        String result = "";
-        String sql = "SELECT MEMBER_HOST, MEMBER_PORT FROM performance_schema.replication_group_members WHERE MEMBER_ID = "
-                + "(SELECT VARIABLE_VALUE FROM performance_schema.global_status WHERE VARIABLE_NAME = 'group_replication_primary_member')";
-        for (DataSource each : dataSourceMap.values()) {
-            try (Connection connection = each.getConnection();
-                 Statement statement = connection.createStatement();
-                 ResultSet resultSet = statement.executeQuery(sql)) {
-                if (resultSet.next()) {
-                    return String.format("%s:%s", resultSet.getString("MEMBER_HOST"), resultSet.getString("MEMBER_PORT"));
-                }
-            } catch (final SQLException ex) {
-                log.error("An exception occurred while find primary data source url", ex);
-            }
+    private void updatePrimaryDataSource(final Collection<MGRMember> members, final Map<String, DataSource> dataSourceMap, final String schemaName, final String groupName) {
+        Optional<MGRMember> primaryMember = members.stream().filter(MGRMember::isPrimary).findFirst();
+        if (!primaryMember.isPresent()) {
+            return;
+        }
+        Optional<String> newPrimaryDataSource = findDataSourceName(primaryMember.get().getAddress(), dataSourceMap);
+        if (newPrimaryDataSource.isPresent() && !newPrimaryDataSource.get().equals(oldPrimaryDataSource)) {
+            oldPrimaryDataSource = newPrimaryDataSource.get();
+            ShardingSphereEventBus.getInstance().post(new PrimaryDataSourceEvent(schemaName, groupName, newPrimaryDataSource.get()));
         }
-        return result;
     }
     
-    private String findPrimaryDataSourceName(final String primaryDataSourceURL, final Map<String, DataSource> dataSourceMap) {
-        String result = "";
+    private Optional<String> findDataSourceName(final String memberAddress, final Map<String, DataSource> dataSourceMap) {
         for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
-            String url;
-            try (Connection connection = entry.getValue().getConnection()) {
-                url = connection.getMetaData().getURL();
-                if (null != url && url.contains(primaryDataSourceURL)) {
-                    return entry.getKey();
-                }
-            } catch (final SQLException ex) {
-                log.error("An exception occurred while find primary data source name", ex);
+            Optional<String> url = findDataSourceURL(entry.getKey(), entry.getValue());
+            if (url.isPresent() && url.get().contains(memberAddress)) {
+                return Optional.of(entry.getKey());
             }
         }
-        return result;
+        return Optional.empty();
     }
     
     @Override
     public void updateMemberState(final Map<String, DataSource> dataSourceMap, final String schemaName, final Collection<String> disabledDataSourceNames) {
-        Map<String, DataSource> activeDataSourceMap = new HashMap<>(dataSourceMap);
-        if (!disabledDataSourceNames.isEmpty()) {
-            activeDataSourceMap.entrySet().removeIf(each -> disabledDataSourceNames.contains(each.getKey()));
-        }
-        List<String> memberDataSourceURLs = findMemberDataSourceURLs(activeDataSourceMap);
-        if (memberDataSourceURLs.isEmpty()) {
+        loadMembers(getActiveDataSourceMap(dataSourceMap, disabledDataSourceNames), false).ifPresent(optional -> updateMemberState(optional, dataSourceMap, schemaName, disabledDataSourceNames));
+    }
+    
+    private void updateMemberState(final Collection<MGRMember> members, final Map<String, DataSource> dataSourceMap, final String schemaName, final Collection<String> disabledDataSourceNames) {
+        Collection<String> onlineMemberAddresses = members.stream().filter(MGRMember::isOnline).map(MGRMember::getAddress).collect(Collectors.toList());
+        if (onlineMemberAddresses.isEmpty()) {
             return;
         }
-        Map<String, String> dataSourceURLs = new HashMap<>(16, 1);
-        determineDisabledDataSource(schemaName, activeDataSourceMap, memberDataSourceURLs, dataSourceURLs);
-        determineEnabledDataSource(dataSourceMap, schemaName, memberDataSourceURLs, dataSourceURLs);
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            Optional<String> url = findDataSourceURL(entry.getKey(), entry.getValue());
+            boolean online = url.isPresent() && onlineMemberAddresses.stream().anyMatch(each -> url.get().contains(each));
+            boolean disabled = disabledDataSourceNames.contains(entry.getKey());
+            if (online == disabled) {
+                ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(schemaName, entry.getKey(), !online));
+            }
+        }
     }
     
-    private List<String> findMemberDataSourceURLs(final Map<String, DataSource> activeDataSourceMap) {
-        List<String> result = new LinkedList<>();
-        try (Connection connection = activeDataSourceMap.get(oldPrimaryDataSource).getConnection();
-             Statement statement = connection.createStatement()) {
-            ResultSet resultSet = statement.executeQuery(MEMBER_LIST);
-            while (resultSet.next()) {
-                if (!"ONLINE".equals(resultSet.getString("MEMBER_STATE"))) {
-                    continue;
-                }
-                result.add(String.format("%s:%s", resultSet.getString("MEMBER_HOST"), resultSet.getString("MEMBER_PORT")));
+    /**
+     * Heartbeat, update primary data source and member state by one member status query on long-lived probe connection.
+     * 
+     * <p>Probe connection is opened by {@link DriverManager} with JDBC URL, username and password of the pool, so no connection of the pool is held by heartbeat.
+     * Data source without JDBC URL is probed by connection borrowed from and returned to the pool for each heartbeat.</p>
+     * 
+     * <p>Primary data source name captured when heartbeat scheduled only initializes the primary, the primary observed by last heartbeat is kept afterwards,
+     * so failover is announced once. Failover is still detected by polling, detection latency is bounded by heartbeat interval.</p>
+     *
+     * @param dataSourceMap data source map
+     * @param schemaName schema name
+     * @param disabledDataSourceNames disabled data source names
+     * @param groupName group name
+     * @param primaryDataSourceName primary data source name
+     */
+    public void heartbeat(final Map<String, DataSource> dataSourceMap, final String schemaName, final Collection<String> disabledDataSourceNames,
+                          final String groupName, final String primaryDataSourceName) {
+        if (null == oldPrimaryDataSource) {
+            oldPrimaryDataSource = primaryDataSourceName;
+        }
+        Optional<Collection<MGRMember>> members = loadMembers(getActiveDataSourceMap(dataSourceMap, disabledDataSourceNames), true);
+        if (members.isPresent()) {
+            updatePrimaryDataSource(members.get(), dataSourceMap, schemaName, groupName);
+            updateMemberState(members.get(), dataSourceMap, schemaName, disabledDataSourceNames);
+        }
+    }
+    
+    private Map<String, DataSource> getActiveDataSourceMap(final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames) {
+        Map<String, DataSource> result = new LinkedHashMap<>(dataSourceMap.size(), 1);
+        if (null != oldPrimaryDataSource && dataSourceMap.containsKey(oldPrimaryDataSource)) {
+            result.put(oldPrimaryDataSource, dataSourceMap.get(oldPrimaryDataSource));
+        }
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            if (!disabledDataSourceNames.contains(entry.getKey())) {
+                result.putIfAbsent(entry.getKey(), entry.getValue());
             }
-        } catch (final SQLException ex) {
-            log.error("An exception occurred while find member data source urls", ex);
         }
         return result;
     }
     
-    private void determineDisabledDataSource(final String schemaName, final Map<String, DataSource> activeDataSourceMap,
-                                             final List<String> memberDataSourceURLs, final Map<String, String> dataSourceURLs) {
+    private Optional<Collection<MGRMember>> loadMembers(final Map<String, DataSource> activeDataSourceMap, final boolean retainConnection) {
         for (Entry<String, DataSource> entry : activeDataSourceMap.entrySet()) {
-            boolean disable = true;
-            String url = null;
-            try (Connection connection = entry.getValue().getConnection()) {
-                url = connection.getMetaData().getURL();
-                for (String each : memberDataSourceURLs) {
-                    if (null != url && url.contains(each)) {
-                        disable = false;
-                        break;
-                    }
-                }
-            } catch (final SQLException ex) {
-                log.error("An exception occurred while find data source urls", ex);
-            }
-            if (disable) {
-                ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(schemaName, entry.getKey(), true));
-            } else if (!url.isEmpty()) {
-                dataSourceURLs.put(entry.getKey(), url);
+            Optional<Collection<MGRMember>> result = retainConnection ? loadMembersWithProbeConnection(entry.getKey(), entry.getValue()) : loadMembers(entry.getKey(), entry.getValue());
+            if (result.isPresent() && !result.get().isEmpty()) {
+                return result;
             }
         }
+        return Optional.empty();
     }
     
-    private void determineEnabledDataSource(final Map<String, DataSource> dataSourceMap, final String schemaName,
-                                            final List<String> memberDataSourceURLs, final Map<String, String> dataSourceURLs) {
-        for (String each : memberDataSourceURLs) {
-            boolean enable = true;
-            for (Entry<String, String> entry : dataSourceURLs.entrySet()) {
-                if (entry.getValue().contains(each)) {
-                    enable = false;
-                    break;
-                }
-            }
-            if (!enable) {
-                continue;
+    private Optional<Collection<MGRMember>> loadMembers(final String dataSourceName, final DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            dataSourceURLs.putIfAbsent(dataSourceName, connection.getMetaData().getURL());
+            return Optional.of(loadMembers(connection));
+        } catch (final SQLException ex) {
+            log.error("An exception occurred while load members by data source `{}`", dataSourceName, ex);
+            return Optional.empty();
+        }
+    }
+    
+    private Collection<MGRMember> loadMembers(final Connection connection) throws SQLException {
+        Collection<MGRMember> result = new LinkedList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(MEMBER_STATUS)) {
+            while (resultSet.next()) {
+                result.add(new MGRMember(String.format("%s:%s", resultSet.getString("MEMBER_HOST"), resultSet.getString("MEMBER_PORT")),
+                        "ONLINE".equals(resultSet.getString("MEMBER_STATE")), resultSet.getBoolean("IS_PRIMARY")));
             }
-            for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
-                String url;
-                try (Connection connection = entry.getValue().getConnection()) {
-                    url = connection.getMetaData().getURL();
-                    if (null != url && url.contains(each)) {
-                        ShardingSphereEventBus.getInstance().post(new DataSourceDisabledEvent(schemaName, entry.getKey(), false));
-                        break;
-                    }
-                } catch (final SQLException ex) {
-                    log.error("An exception occurred while find enable data source urls", ex);
-                }
+        }
+        return result;
+    }
+    
+    private Optional<Collection<MGRMember>> loadMembersWithProbeConnection(final String dataSourceName, final DataSource dataSource) {
+        boolean reused = probeConnections.containsKey(dataSourceName);
+        try {
+            Optional<Connection> probeConnection = findProbeConnection(dataSourceName, dataSource);
+            return probeConnection.isPresent() ? Optional.of(loadMembers(probeConnection.get())) : loadMembers(dataSourceName, dataSource);
+        } catch (final SQLException ex) {
+            closeProbeConnection(dataSourceName);
+            if (reused) {
+                return loadMembersWithProbeConnection(dataSourceName, dataSource);
             }
+            log.error("An exception occurred while load members by data source `{}`", dataSourceName, ex);
+            return Optional.empty();
         }
     }
     
+    private Optional<Connection> findProbeConnection(final String dataSourceName, final DataSource dataSource) throws SQLException {
+        Connection result = probeConnections.get(dataSourceName);
+        if (null != result) {
+            return Optional.of(result);
+        }
+        Map<String, Object> dataSourceProps = DataSourceConfiguration.getDataSourceConfiguration(dataSource).getProps();
+        Object url = dataSourceProps.get("jdbcUrl");
+        if (null == url) {
+            return Optional.empty();
+        }
+        result = DriverManager.getConnection(url.toString(), createProbeConnectionProperties(dataSourceProps));
+        probeConnections.put(dataSourceName, result);
+        dataSourceURLs.putIfAbsent(dataSourceName, url.toString());
+        return Optional.of(result);
+    }
+    
+    private Properties createProbeConnectionProperties(final Map<String, Object> dataSourceProps) {
+        Properties result = new Properties();
+        if (null != dataSourceProps.get("username")) {
+            result.setProperty("user", dataSourceProps.get("username").toString());
+        }
+        if (null != dataSourceProps.get("password")) {
+            result.setProperty("password", dataSourceProps.get("password").toString());
+        }
+        return result;
+    }
+    
+    private void closeProbeConnection(final String dataSourceName) {
+        Connection connection = probeConnections.remove(dataSourceName);
+        if (null == connection) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (final SQLException ex) {
+            log.warn("An exception occurred while close probe connection of data source `{}`", dataSourceName, ex);
+        }
+    }
+    
+    private void closeProbeConnections() {
+        new ArrayList<>(probeConnections.keySet()).forEach(this::closeProbeConnection);
+    }
+    
+    private Optional<String> findDataSourceURL(final String dataSourceName, final DataSource dataSource) {
+        String result = dataSourceURLs.get(dataSourceName);
+        if (null != result) {
+            return Optional.of(result);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            result = connection.getMetaData().getURL();
+        } catch (final SQLException ex) {
+            log.error("An exception occurred while find url of data source `{}`", dataSourceName, ex);
+            return Optional.empty();
+        }
+        if (null != result) {
+            dataSourceURLs.put(dataSourceName, result);
+        }
+        return Optional.ofNullable(result);
+    }
+    
     @Override
     public void startPeriodicalUpdate(final Map<String, DataSource> dataSourceMap, final String schemaName, final Collection<String> disabledDataSourceNames,
                                       final String groupName, final String primaryDataSourceName) {
@@ -278,6 +348,10 @@ public final class MGRDatabaseDiscoveryType implements DatabaseDiscoveryType {
         if (null != SCHEDULE_JOB_BOOTSTRAP_MAP.get(groupName)) {
             SCHEDULE_JOB_BOOTSTRAP_MAP.get(groupName).shutdown();
         }
+        MGRDatabaseDiscoveryType previousDiscoveryType = HEARTBEAT_DISCOVERY_TYPES.put(groupName, this);
+        if (null != previousDiscoveryType && this != previousDiscoveryType) {
+            previousDiscoveryType.closeProbeConnections();
+        }
         SCHEDULE_JOB_BOOTSTRAP_MAP.put(groupName, new ScheduleJobBootstrap(coordinatorRegistryCenter, new MGRHeartbeatJob(this, dataSourceMap, schemaName, disabledDataSourceNames,
                 groupName, primaryDataSourceName), JobConfiguration.newBuilder("MGR-" + groupName, 1).cron(props.getProperty("keepAliveCron")).build()));
         SCHEDULE_JOB_BOOTSTRAP_MAP.get(groupName).schedule();
@@ -292,4 +366,15 @@ public final class MGRDatabaseDiscoveryType implements DatabaseDiscoveryType {
     public String getType() {
         return "MGR";
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class MGRMember {
+        
+        private final String address;
+        
+        private final boolean online;
+        
+        private final boolean primary;
+    }
 }
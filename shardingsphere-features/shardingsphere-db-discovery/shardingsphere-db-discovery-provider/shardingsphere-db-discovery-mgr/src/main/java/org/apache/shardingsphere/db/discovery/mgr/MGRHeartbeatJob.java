@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.db.discovery.mgr;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.db.discovery.spi.DatabaseDiscoveryType;
 import org.apache.shardingsphere.elasticjob.api.ShardingContext;
 import org.apache.shardingsphere.elasticjob.simple.job.SimpleJob;
 
@@ -32,7 +31,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public final class MGRHeartbeatJob implements SimpleJob {
     
-    private final DatabaseDiscoveryType databaseDiscoveryType;
+    private final MGRDatabaseDiscoveryType databaseDiscoveryType;
     
     private final Map<String, DataSource> dataSourceMap;
     
@@ -46,7 +45,6 @@ public final class MGRHeartbeatJob implements SimpleJob {
     
     @Override
     public void execute(final ShardingContext shardingContext) {
-        databaseDiscoveryType.updatePrimaryDataSource(dataSourceMap, schemaName, disabledDataSourceNames, groupName, primaryDataSourceName);
-        databaseDiscoveryType.updateMemberState(dataSourceMap, schemaName, disabledDataSourceNames);
+        databaseDiscoveryType.heartbeat(dataSourceMap, schemaName, disabledDataSourceNames, groupName, primaryDataSourceName);
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.discovery.mgr;
 
+import com.zaxxer.hikari.HikariDataSource;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.junit.Test;
 
@@ -28,13 +29,14 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class MGRDatabaseDiscoveryTypeTest {
@@ -47,6 +49,10 @@ public final class MGRDatabaseDiscoveryTypeTest {
     
     private static final String SINGLE_PRIMARY = "SELECT * FROM performance_schema.global_variables WHERE VARIABLE_NAME='group_replication_single_primary_mode'";
     
+    private static final String MEMBER_STATUS = "SELECT MEMBER_HOST, MEMBER_PORT, MEMBER_STATE, MEMBER_ID = "
+            + "(SELECT VARIABLE_VALUE FROM performance_schema.global_status WHERE VARIABLE_NAME = 'group_replication_primary_member') AS IS_PRIMARY "
+            + "FROM performance_schema.replication_group_members";
+    
     private final MGRDatabaseDiscoveryType mgrHaType = new MGRDatabaseDiscoveryType();
     
     @Test
@@ -80,41 +86,92 @@ public final class MGRDatabaseDiscoveryTypeTest {
     }
     
     @Test
-    public void updatePrimaryDataSource() {
-        List<DataSource> dataSources = new LinkedList<>();
-        List<Connection> connections = new LinkedList<>();
-        List<Statement> statements = new LinkedList<>();
-        List<ResultSet> resultSets = new LinkedList<>();
-        List<DatabaseMetaData> databaseMetaData = new LinkedList<>();
-        for (int i = 0; i < 3; i++) {
-            dataSources.add(mock(DataSource.class));
-            connections.add(mock(Connection.class));
-            statements.add(mock(Statement.class));
-            resultSets.add(mock(ResultSet.class));
-            databaseMetaData.add(mock(DatabaseMetaData.class));
+    public void updatePrimaryDataSource() throws SQLException {
+        Map<String, DataSource> dataSourceMap = createDataSourceMap();
+        mgrHaType.getProps().setProperty("groupName", "group_name");
+        mgrHaType.updatePrimaryDataSource(dataSourceMap, "discovery_db", Collections.emptySet(), "group_name", null);
+        assertThat(mgrHaType.getPrimaryDataSource(), is("ds_2"));
+    }
+    
+    @Test
+    public void assertHeartbeatWithoutJdbcUrl() throws SQLException {
+        Map<String, DataSource> dataSourceMap = createDataSourceMap();
+        mgrHaType.getProps().setProperty("groupName", "group_name");
+        mgrHaType.heartbeat(dataSourceMap, "discovery_db", Collections.emptySet(), "group_name", "ds_0");
+        mgrHaType.heartbeat(dataSourceMap, "discovery_db", Collections.emptySet(), "group_name", null);
+        mgrHaType.heartbeat(dataSourceMap, "discovery_db", Collections.emptySet(), "group_name", null);
+        assertThat(mgrHaType.getPrimaryDataSource(), is("ds_2"));
+        verify(dataSourceMap.get("ds_0").getConnection().createStatement()).executeQuery(MEMBER_STATUS);
+        DataSource probeDataSource = dataSourceMap.get("ds_2");
+        verify(probeDataSource, times(3)).getConnection();
+        verify(probeDataSource.getConnection(), times(3)).close();
+        verify(probeDataSource.getConnection().createStatement(), times(2)).executeQuery(MEMBER_STATUS);
+    }
+    
+    @Test
+    public void assertHeartbeatWithDedicatedProbeConnection() throws SQLException {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:mgr_probe;DB_CLOSE_DELAY=-1;MODE=MySQL");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setMaximumPoolSize(2);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SCHEMA IF NOT EXISTS performance_schema");
+            statement.execute("CREATE TABLE performance_schema.replication_group_members (MEMBER_ID VARCHAR(36), MEMBER_HOST VARCHAR(64), MEMBER_PORT VARCHAR(64), MEMBER_STATE VARCHAR(16))");
+            statement.execute("CREATE TABLE performance_schema.global_status (VARIABLE_NAME VARCHAR(64), VARIABLE_VALUE VARCHAR(1024))");
+            statement.execute("INSERT INTO performance_schema.replication_group_members VALUES ('member_0', 'mem', 'mgr_probe', 'ONLINE')");
+            statement.execute("INSERT INTO performance_schema.global_status VALUES ('group_replication_primary_member', 'member_0')");
         }
-        String sql = "SELECT MEMBER_HOST, MEMBER_PORT FROM performance_schema.replication_group_members WHERE MEMBER_ID = "
-                + "(SELECT VARIABLE_VALUE FROM performance_schema.global_status WHERE VARIABLE_NAME = 'group_replication_primary_member')";
         try {
+            Map<String, DataSource> dataSourceMap = Collections.singletonMap("ds_0", dataSource);
+            mgrHaType.getProps().setProperty("groupName", "group_name");
             for (int i = 0; i < 3; i++) {
-                when(dataSources.get(i).getConnection()).thenReturn(connections.get(i));
-                when(connections.get(i).createStatement()).thenReturn(statements.get(i));
-                when(statements.get(i).executeQuery(sql)).thenReturn(resultSets.get(i));
-                when(resultSets.get(i).next()).thenReturn(true, false);
-                when(resultSets.get(i).getString("MEMBER_HOST")).thenReturn("127.0.0.1");
-                when(resultSets.get(i).getString("MEMBER_PORT")).thenReturn(Integer.toString(3306 + i));
-                when(connections.get(i).getMetaData()).thenReturn(databaseMetaData.get(i));
-                when(databaseMetaData.get(i).getURL()).thenReturn("jdbc:mysql://127.0.0.1:" + (3306 + i) + "/ds_0?serverTimezone=UTC&useSSL=false");
+                mgrHaType.heartbeat(dataSourceMap, "discovery_db", Collections.emptySet(), "group_name", "ds_0");
             }
-        } catch (final SQLException ex) {
-            throw new ShardingSphereException(ex);
+            assertThat(mgrHaType.getPrimaryDataSource(), is("ds_0"));
+            assertThat(dataSource.getHikariPoolMXBean().getActiveConnections(), is(0));
+        } finally {
+            dataSource.close();
         }
-        Map<String, DataSource> dataSourceMap = new HashMap<>(3, 1);
+    }
+    
+    @Test
+    public void assertHeartbeatKeepObservedPrimaryAfterFailover() throws SQLException {
+        Map<String, DataSource> dataSourceMap = createDataSourceMap();
+        mgrHaType.getProps().setProperty("groupName", "group_name");
         for (int i = 0; i < 3; i++) {
-            dataSourceMap.put(String.format("ds_%s", i), dataSources.get(i));
+            mgrHaType.heartbeat(dataSourceMap, "discovery_db", Collections.emptySet(), "group_name", "ds_0");
         }
-        mgrHaType.getProps().setProperty("groupName", "group_name");
-        mgrHaType.updatePrimaryDataSource(dataSourceMap, "discovery_db", Collections.emptySet(), "group_name", null);
         assertThat(mgrHaType.getPrimaryDataSource(), is("ds_2"));
+        verify(dataSourceMap.get("ds_0").getConnection().createStatement()).executeQuery(MEMBER_STATUS);
+        verify(dataSourceMap.get("ds_2").getConnection().createStatement(), times(2)).executeQuery(MEMBER_STATUS);
+    }
+    
+    private Map<String, DataSource> createDataSourceMap() throws SQLException {
+        Map<String, DataSource> result = new LinkedHashMap<>(3, 1);
+        for (int i = 0; i < 3; i++) {
+            DataSource dataSource = mock(DataSource.class);
+            Connection connection = mock(Connection.class);
+            Statement statement = mock(Statement.class);
+            DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+            when(dataSource.getConnection()).thenReturn(connection);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery(MEMBER_STATUS)).thenAnswer(invocation -> mockMemberStatusResultSet());
+            when(connection.getMetaData()).thenReturn(databaseMetaData);
+            when(databaseMetaData.getURL()).thenReturn("jdbc:mysql://127.0.0.1:" + (3306 + i) + "/ds_0?serverTimezone=UTC&useSSL=false");
+            result.put(String.format("ds_%s", i), dataSource);
+        }
+        return result;
+    }
+    
+    private ResultSet mockMemberStatusResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, true, false);
+        when(result.getString("MEMBER_HOST")).thenReturn("127.0.0.1");
+        when(result.getString("MEMBER_PORT")).thenReturn("3306", "3307", "3308");
+        when(result.getString("MEMBER_STATE")).thenReturn("ONLINE");
+        when(result.getBoolean("IS_PRIMARY")).thenReturn(false, false, true);
+        return result;
     }
 }
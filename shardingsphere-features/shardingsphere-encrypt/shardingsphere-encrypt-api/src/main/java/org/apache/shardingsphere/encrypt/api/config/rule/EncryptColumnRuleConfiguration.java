@@ -36,4 +36,10 @@ public final class EncryptColumnRuleConfiguration {
     private final String plainColumn;
     
     private final String encryptorName;
+    
+    private final long cacheMaxBytes;
+    
+    public EncryptColumnRuleConfiguration(final String logicColumn, final String cipherColumn, final String assistedQueryColumn, final String plainColumn, final String encryptorName) {
+        this(logicColumn, cipherColumn, assistedQueryColumn, plainColumn, encryptorName, 0L);
+    }
 }
@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.spi;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Encrypt algorithm for SPI.
  */
@@ -40,4 +43,29 @@ public interface EncryptAlgorithm extends ShardingSphereAlgorithm, ShardingSpher
      * @return plaintext
      */
     Object decrypt(String ciphertext);
+    
+    /**
+     * Is deterministic or not.
+     * 
+     * <p>Deterministic algorithm always encrypts the same plaintext to the same ciphertext, so its results can be memoized.</p>
+     *
+     * @return deterministic or not
+     */
+    default boolean isDeterministic() {
+        return false;
+    }
+    
+    /**
+     * Decode ciphertexts of one column across many rows.
+     *
+     * @param ciphertexts ciphertexts
+     * @return plaintexts in the same order of ciphertexts
+     */
+    default List<Object> batchDecrypt(final List<String> ciphertexts) {
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        for (String each : ciphertexts) {
+            result.add(decrypt(each));
+        }
+        return result;
+    }
 }
@@ -50,6 +50,11 @@ public final class MD5EncryptAlgorithm implements EncryptAlgorithm {
         return ciphertext;
     }
     
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+    
     @Override
     public String getType() {
         return "MD5";
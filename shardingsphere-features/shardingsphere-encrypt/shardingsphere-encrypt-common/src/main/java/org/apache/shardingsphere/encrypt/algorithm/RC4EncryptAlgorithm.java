@@ -25,8 +25,9 @@ import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
+import java.util.stream.Collectors;
 
 /**
  * RC4 encrypt algorithm.
@@ -39,9 +40,11 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
     
     private static final int KEY_MIN_LENGTH = 5;
     
+    private static final int PARALLEL_DECRYPT_THRESHOLD = 4096;
+    
     private byte[] key = new byte[SBOX_LENGTH - 1];
     
-    private int[] sBox = new int[SBOX_LENGTH];
+    private int[] initialSBox = new int[SBOX_LENGTH];
     
     @Getter
     @Setter
@@ -49,8 +52,9 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
     
     @Override
     public void init() {
-        reset();
         setKey(StringUtils.getBytesUtf8(props.getProperty(RC4_KEY)));
+        // Key bytes have always been zero filled before key scheduling, keep it to stay compatible with existing ciphertexts.
+        initialSBox = initSBox(new byte[key.length]);
     }
     
     @Override
@@ -58,7 +62,7 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
         if (null == plaintext) {
             return null;
         }
-        byte[] result = handle(StringUtils.getBytesUtf8(String.valueOf(plaintext)), key);
+        byte[] result = crypt(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
         return Base64.encodeBase64String(result);
     }
     
@@ -67,31 +71,23 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = handle(Base64.decodeBase64(ciphertext), key);
+        byte[] result = crypt(Base64.decodeBase64(ciphertext));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private byte[] handle(final byte[] data, final byte[] key) {
-        reset();
-        setKey(key);
-        byte[] result = crypt(data);
-        reset();
-        return result;
-    }
-    
-    private void reset() {
-        Arrays.fill(key, (byte) 0);
-        Arrays.fill(sBox, 0);
+    @Override
+    public List<Object> batchDecrypt(final List<String> ciphertexts) {
+        return ciphertexts.size() < PARALLEL_DECRYPT_THRESHOLD ? EncryptAlgorithm.super.batchDecrypt(ciphertexts) : ciphertexts.parallelStream().map(this::decrypt).collect(Collectors.toList());
     }
     
     /**
-     * Crypt given byte array. Be aware, that you must init key, before using.
+     * Crypt given byte array with a copy of key scheduled SBOX, so it is safe to crypt concurrently.
      * @param message array to be crypt
      * @return byte array
      * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a>
      */
     private byte[] crypt(final byte[] message) {
-        sBox = initSBox(key);
+        int[] sBox = initialSBox.clone();
         byte[] result = new byte[message.length];
         int i = 0;
         int j = 0;
@@ -144,6 +140,11 @@ public final class RC4EncryptAlgorithm implements EncryptAlgorithm {
         this.key = key;
     }
     
+    @Override
+    public boolean isDeterministic() {
+        return true;
+    }
+    
     @Override
     public String getType() {
         return "RC4";
@@ -23,6 +23,9 @@ import org.apache.shardingsphere.encrypt.algorithm.config.AlgorithmProvidedEncry
 import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.encrypt.rule.cache.CachedEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.rule.cache.CachedQueryAssistedEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.rule.cache.EncryptColumnCache;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.QueryAssistedEncryptAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmFactory;
@@ -35,6 +38,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -50,16 +54,36 @@ public final class EncryptRule implements TableContainedRule {
     
     private final Map<String, EncryptTable> tables = new LinkedHashMap<>();
     
+    private final Map<String, Map<String, EncryptAlgorithm>> cachedEncryptors = new LinkedHashMap<>();
+    
+    private final Map<String, Map<String, EncryptColumnCache>> columnCaches = new LinkedHashMap<>();
+    
     public EncryptRule(final EncryptRuleConfiguration config) {
         Preconditions.checkArgument(isValidRuleConfiguration(config), "Invalid encrypt column configurations in EncryptTableRuleConfigurations.");
         config.getEncryptors().forEach((key, value) -> encryptors.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, EncryptAlgorithm.class)));
         config.getTables().forEach(each -> tables.put(each.getName(), new EncryptTable(each)));
+        config.getTables().forEach(this::initColumnCaches);
     }
     
     public EncryptRule(final AlgorithmProvidedEncryptRuleConfiguration config) {
         Preconditions.checkArgument(isValidRuleConfigurationWithAlgorithmProvided(config), "Invalid encrypt column configurations in EncryptTableRuleConfigurations.");
         encryptors.putAll(config.getEncryptors());
         config.getTables().forEach(each -> tables.put(each.getName(), new EncryptTable(each)));
+        config.getTables().forEach(this::initColumnCaches);
+    }
+    
+    private void initColumnCaches(final EncryptTableRuleConfiguration tableConfig) {
+        for (EncryptColumnRuleConfiguration each : tableConfig.getColumns()) {
+            EncryptAlgorithm encryptor = encryptors.get(each.getEncryptorName());
+            if (each.getCacheMaxBytes() <= 0 || null == encryptor || !encryptor.isDeterministic()) {
+                continue;
+            }
+            boolean queryAssisted = encryptor instanceof QueryAssistedEncryptAlgorithm;
+            EncryptColumnCache cache = new EncryptColumnCache(each.getCacheMaxBytes(), queryAssisted);
+            columnCaches.computeIfAbsent(tableConfig.getName(), key -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER)).put(each.getLogicColumn(), cache);
+            cachedEncryptors.computeIfAbsent(tableConfig.getName(), key -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER)).put(each.getLogicColumn(), queryAssisted
+                    ? new CachedQueryAssistedEncryptAlgorithm((QueryAssistedEncryptAlgorithm) encryptor, cache) : new CachedEncryptAlgorithm(encryptor, cache));
+        }
     }
     
     private boolean isValidRuleConfiguration(final EncryptRuleConfiguration config) {
@@ -123,7 +147,24 @@ public final class EncryptRule implements TableContainedRule {
      * @return encryptor
      */
     public Optional<EncryptAlgorithm> findEncryptor(final String logicTable, final String logicColumn) {
-        return tables.containsKey(logicTable) ? tables.get(logicTable).findEncryptorName(logicColumn).map(encryptors::get) : Optional.empty();
+        if (!tables.containsKey(logicTable)) {
+            return Optional.empty();
+        }
+        if (cachedEncryptors.containsKey(logicTable) && cachedEncryptors.get(logicTable).containsKey(logicColumn)) {
+            return Optional.of(cachedEncryptors.get(logicTable).get(logicColumn));
+        }
+        return tables.get(logicTable).findEncryptorName(logicColumn).map(encryptors::get);
+    }
+    
+    /**
+     * Find encrypt column cache.
+     *
+     * @param logicTable logic table name
+     * @param logicColumn logic column name
+     * @return encrypt column cache, present only if cache is configured for a deterministic encryptor
+     */
+    public Optional<EncryptColumnCache> findEncryptColumnCache(final String logicTable, final String logicColumn) {
+        return columnCaches.containsKey(logicTable) ? Optional.ofNullable(columnCaches.get(logicTable).get(logicColumn)) : Optional.empty();
     }
     
     /**
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Encrypt algorithm which memoizes results of deterministic encrypt algorithm.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class CachedEncryptAlgorithm implements EncryptAlgorithm {
+    
+    private final EncryptAlgorithm delegate;
+    
+    private final EncryptColumnCache cache;
+    
+    @Override
+    public void init() {
+    }
+    
+    @Override
+    public String encrypt(final Object plaintext) {
+        return cache.getCiphertext(plaintext, delegate::encrypt);
+    }
+    
+    @Override
+    public Object decrypt(final String ciphertext) {
+        return cache.getPlaintext(ciphertext, delegate::decrypt);
+    }
+    
+    @Override
+    public List<Object> batchDecrypt(final List<String> ciphertexts) {
+        return batchDecrypt(delegate, cache, ciphertexts);
+    }
+    
+    static List<Object> batchDecrypt(final EncryptAlgorithm delegate, final EncryptColumnCache cache, final List<String> ciphertexts) {
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        Set<String> missedCiphertexts = new LinkedHashSet<>();
+        for (String each : ciphertexts) {
+            Object plaintext = null == each ? null : cache.findPlaintext(each);
+            result.add(plaintext);
+            if (null != each && null == plaintext) {
+                missedCiphertexts.add(each);
+            }
+        }
+        if (missedCiphertexts.isEmpty()) {
+            return result;
+        }
+        Iterator<Object> decrypted = delegate.batchDecrypt(new ArrayList<>(missedCiphertexts)).iterator();
+        for (String each : missedCiphertexts) {
+            cache.putPlaintext(each, decrypted.next());
+        }
+        for (int i = 0; i < result.size(); i++) {
+            if (null == result.get(i)) {
+                result.set(i, cache.getPlaintext(ciphertexts.get(i), delegate::decrypt));
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean isDeterministic() {
+        return delegate.isDeterministic();
+    }
+    
+    @Override
+    public String getType() {
+        return delegate.getType();
+    }
+    
+    @Override
+    public Properties getProps() {
+        return delegate.getProps();
+    }
+    
+    @Override
+    public void setProps(final Properties props) {
+        delegate.setProps(props);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of encrypt and decrypt results for one encrypt column.
+ * 
+ * <p>Memory limit is expressed in bytes and shared evenly by every direction of the column, entries are evicted in least recently used order.</p>
+ */
+public final class EncryptColumnCache {
+    
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    
+    private static final int OBJECT_BYTES = 24;
+    
+    private final Cache<Object, String> ciphertexts;
+    
+    private final Cache<String, Object> plaintexts;
+    
+    private final Cache<String, String> assistedQueryCiphertexts;
+    
+    public EncryptColumnCache(final long maxBytes, final boolean queryAssisted) {
+        long maxBytesPerDirection = maxBytes / (queryAssisted ? 3 : 2);
+        ciphertexts = createCache(maxBytesPerDirection);
+        plaintexts = createCache(maxBytesPerDirection);
+        assistedQueryCiphertexts = queryAssisted ? createCache(maxBytesPerDirection) : null;
+    }
+    
+    private static <K, V> Cache<K, V> createCache(final long maxBytes) {
+        return CacheBuilder.newBuilder().maximumWeight(maxBytes).weigher((Weigher<K, V>) (key, value) -> estimateBytes(key) + estimateBytes(value) + ENTRY_OVERHEAD_BYTES).recordStats().build();
+    }
+    
+    private static int estimateBytes(final Object value) {
+        if (value instanceof String) {
+            return STRING_OVERHEAD_BYTES + ((String) value).length() * 2;
+        }
+        return value instanceof BigInteger || value instanceof BigDecimal ? STRING_OVERHEAD_BYTES + value.toString().length() * 2 : OBJECT_BYTES;
+    }
+    
+    /**
+     * Get ciphertext of plaintext, encrypt and cache it if absent.
+     * 
+     * @param plaintext plaintext
+     * @param encryptor encryptor to call when ciphertext is absent
+     * @return ciphertext
+     */
+    public String getCiphertext(final Object plaintext, final Function<Object, String> encryptor) {
+        return isCacheable(plaintext) ? get(ciphertexts, plaintext, encryptor) : encryptor.apply(plaintext);
+    }
+    
+    /**
+     * Get plaintext of ciphertext, decrypt and cache it if absent.
+     *
+     * @param ciphertext ciphertext
+     * @param decryptor decryptor to call when plaintext is absent
+     * @return plaintext
+     */
+    public Object getPlaintext(final String ciphertext, final Function<String, Object> decryptor) {
+        return null == ciphertext ? decryptor.apply(null) : get(plaintexts, ciphertext, decryptor);
+    }
+    
+    /**
+     * Find cached plaintext of ciphertext.
+     *
+     * @param ciphertext ciphertext
+     * @return cached plaintext, null if absent
+     */
+    public Object findPlaintext(final String ciphertext) {
+        return plaintexts.getIfPresent(ciphertext);
+    }
+    
+    /**
+     * Put plaintext of ciphertext.
+     *
+     * @param ciphertext ciphertext
+     * @param plaintext plaintext
+     */
+    public void putPlaintext(final String ciphertext, final Object plaintext) {
+        if (null != plaintext) {
+            plaintexts.put(ciphertext, plaintext);
+        }
+    }
+    
+    /**
+     * Get assisted query ciphertext of plaintext, encrypt and cache it if absent.
+     *
+     * @param plaintext plaintext
+     * @param encryptor assisted query encryptor to call when ciphertext is absent
+     * @return assisted query ciphertext
+     */
+    public String getAssistedQueryCiphertext(final String plaintext, final Function<String, String> encryptor) {
+        return null == assistedQueryCiphertexts || null == plaintext ? encryptor.apply(plaintext) : get(assistedQueryCiphertexts, plaintext, encryptor);
+    }
+    
+    private static <K, V> V get(final Cache<K, V> cache, final K key, final Function<? super K, ? extends V> loader) {
+        V result = cache.getIfPresent(key);
+        if (null == result) {
+            result = loader.apply(key);
+            if (null != result) {
+                cache.put(key, result);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isCacheable(final Object plaintext) {
+        return plaintext instanceof String || plaintext instanceof Integer || plaintext instanceof Long || plaintext instanceof Short || plaintext instanceof Byte
+                || plaintext instanceof BigInteger || plaintext instanceof BigDecimal || plaintext instanceof Character || plaintext instanceof Boolean;
+    }
+    
+    /**
+     * Get encrypt statistics.
+     * 
+     * @return encrypt statistics
+     */
+    public CacheStats getEncryptStats() {
+        return ciphertexts.stats();
+    }
+    
+    /**
+     * Get decrypt statistics.
+     *
+     * @return decrypt statistics
+     */
+    public CacheStats getDecryptStats() {
+        return plaintexts.stats();
+    }
+    
+    /**
+     * Get assisted query encrypt statistics.
+     *
+     * @return assisted query encrypt statistics
+     */
+    public CacheStats getAssistedQueryEncryptStats() {
+        return null == assistedQueryCiphertexts ? new CacheStats(0, 0, 0, 0, 0, 0) : assistedQueryCiphertexts.stats();
+    }
+    
+    /**
+     * Get estimated size in bytes of all cached entries.
+     *
+     * @return estimated size in bytes
+     */
+    public long getEstimatedBytes() {
+        return estimateCacheBytes(ciphertexts) + estimateCacheBytes(plaintexts) + (null == assistedQueryCiphertexts ? 0L : estimateCacheBytes(assistedQueryCiphertexts));
+    }
+    
+    private static long estimateCacheBytes(final Cache<?, ?> cache) {
+        return cache.asMap().entrySet().stream().mapToLong(each -> estimateBytes(each.getKey()) + estimateBytes(each.getValue()) + ENTRY_OVERHEAD_BYTES).sum();
+    }
+}
@@ -24,6 +24,9 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -80,4 +83,20 @@ public final class AESEncryptAlgorithmTest {
     public void assertDecryptWithNullCiphertext() {
         assertNull(encryptAlgorithm.decrypt(null));
     }
+    
+    @Test
+    public void assertBatchDecrypt() {
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null)), is(Arrays.<Object>asList("test", null)));
+    }
+    
+    @Test
+    public void assertBatchDecryptInParallel() {
+        List<String> ciphertexts = new ArrayList<>(10000);
+        List<Object> expected = new ArrayList<>(10000);
+        for (int i = 0; i < 10000; i++) {
+            ciphertexts.add(encryptAlgorithm.encrypt("test_" + i));
+            expected.add("test_" + i);
+        }
+        assertThat(encryptAlgorithm.batchDecrypt(ciphertexts), is(expected));
+    }
 }
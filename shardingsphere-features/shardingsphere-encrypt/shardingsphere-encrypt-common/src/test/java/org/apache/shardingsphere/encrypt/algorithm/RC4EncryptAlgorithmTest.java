@@ -25,6 +25,9 @@ import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -82,4 +85,20 @@ public final class RC4EncryptAlgorithmTest {
     public void assertGetProperties() {
         assertThat(encryptAlgorithm.getProps().getProperty("rc4-key-value"), is("test-sharding"));
     }
+    
+    @Test
+    public void assertBatchDecrypt() {
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("qn36NQ==", null)), is(Arrays.<Object>asList("test", null)));
+    }
+    
+    @Test
+    public void assertBatchDecryptInParallel() {
+        List<String> ciphertexts = new ArrayList<>(10000);
+        List<Object> expected = new ArrayList<>(10000);
+        for (int i = 0; i < 10000; i++) {
+            ciphertexts.add(encryptAlgorithm.encrypt("test_" + i));
+            expected.add("test_" + i);
+        }
+        assertThat(encryptAlgorithm.batchDecrypt(ciphertexts), is(expected));
+    }
 }
@@ -23,15 +23,21 @@ import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.encrypt.fixture.TestEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.rule.cache.CachedEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.rule.cache.EncryptColumnCache;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
@@ -77,6 +83,36 @@ public final class EncryptRuleTest {
         assertTrue(new EncryptRule(createEncryptRuleConfiguration()).findEncryptor("t_encrypt", "pwd").isPresent());
     }
     
+    @Test
+    public void assertFindEncryptorWithColumnCache() {
+        Properties props = new Properties();
+        props.setProperty("aes-key-value", "test");
+        EncryptColumnRuleConfiguration columnConfig = new EncryptColumnRuleConfiguration("pwd", "pwd_cipher", "", "pwd_plain", "aes_encryptor", 4096L);
+        EncryptTableRuleConfiguration tableConfig = new EncryptTableRuleConfiguration("t_encrypt", Collections.singleton(columnConfig));
+        EncryptRule actual = new EncryptRule(new EncryptRuleConfiguration(
+                Collections.singleton(tableConfig), ImmutableMap.of("aes_encryptor", new ShardingSphereAlgorithmConfiguration("AES", props))));
+        Optional<EncryptAlgorithm> encryptor = actual.findEncryptor("t_encrypt", "PWD");
+        assertTrue(encryptor.isPresent());
+        assertThat(encryptor.get(), instanceOf(CachedEncryptAlgorithm.class));
+        String ciphertext = encryptor.get().encrypt("test");
+        assertThat(encryptor.get().encrypt("test"), is(ciphertext));
+        assertThat(encryptor.get().decrypt(ciphertext), is("test"));
+        Optional<EncryptColumnCache> cache = actual.findEncryptColumnCache("t_encrypt", "pwd");
+        assertTrue(cache.isPresent());
+        assertThat(cache.get().getEncryptStats().hitCount(), is(1L));
+        assertThat(cache.get().getEncryptStats().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertNotFindEncryptColumnCacheWithNonDeterministicEncryptor() {
+        EncryptColumnRuleConfiguration columnConfig = new EncryptColumnRuleConfiguration("pwd", "pwd_cipher", "", "pwd_plain", "test_encryptor", 4096L);
+        EncryptTableRuleConfiguration tableConfig = new EncryptTableRuleConfiguration("t_encrypt", Collections.singleton(columnConfig));
+        EncryptRule actual = new EncryptRule(new EncryptRuleConfiguration(
+                Collections.singleton(tableConfig), ImmutableMap.of("test_encryptor", new ShardingSphereAlgorithmConfiguration("QUERY_ASSISTED_TEST", new Properties()))));
+        assertFalse(actual.findEncryptColumnCache("t_encrypt", "pwd").isPresent());
+        assertThat(actual.findEncryptor("t_encrypt", "pwd").get(), not(instanceOf(CachedEncryptAlgorithm.class)));
+    }
+    
     @Test
     public void assertNotFindEncryptor() {
         assertFalse(new EncryptRule(createEncryptRuleConfiguration()).findEncryptor("t_encrypt", "other_column").isPresent());
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule.cache;
+
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CachedEncryptAlgorithmTest {
+    
+    @Mock
+    private EncryptAlgorithm delegate;
+    
+    private CachedEncryptAlgorithm encryptAlgorithm;
+    
+    @Before
+    public void setUp() {
+        encryptAlgorithm = new CachedEncryptAlgorithm(delegate, new EncryptColumnCache(4096L, false));
+    }
+    
+    @Test
+    public void assertEncrypt() {
+        when(delegate.encrypt("a")).thenReturn("encrypt_a");
+        assertThat(encryptAlgorithm.encrypt("a"), is("encrypt_a"));
+        assertThat(encryptAlgorithm.encrypt("a"), is("encrypt_a"));
+        verify(delegate, times(1)).encrypt("a");
+    }
+    
+    @Test
+    public void assertDecrypt() {
+        when(delegate.decrypt("encrypt_a")).thenReturn("a");
+        assertThat(encryptAlgorithm.decrypt("encrypt_a"), is("a"));
+        assertThat(encryptAlgorithm.decrypt("encrypt_a"), is("a"));
+        verify(delegate, times(1)).decrypt(anyString());
+    }
+    
+    @Test
+    public void assertBatchDecrypt() {
+        when(delegate.decrypt("encrypt_a")).thenReturn("a");
+        when(delegate.batchDecrypt(Collections.singletonList("encrypt_b"))).thenReturn(Collections.singletonList("b"));
+        encryptAlgorithm.decrypt("encrypt_a");
+        assertThat(encryptAlgorithm.batchDecrypt(Arrays.asList("encrypt_a", "encrypt_b", null, "encrypt_b")), is(Arrays.<Object>asList("a", "b", null, "b")));
+        verify(delegate, times(1)).batchDecrypt(Collections.singletonList("encrypt_b"));
+    }
+}
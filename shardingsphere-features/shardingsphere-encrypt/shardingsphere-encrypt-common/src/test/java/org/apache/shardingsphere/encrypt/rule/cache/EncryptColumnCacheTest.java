@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule.cache;
+
+import org.junit.Test;
+
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class EncryptColumnCacheTest {
+    
+    private final Function<Object, String> encryptor = plaintext -> null == plaintext ? null : "encrypt_" + plaintext;
+    
+    @Test
+    public void assertGetCiphertext() {
+        EncryptColumnCache cache = new EncryptColumnCache(4096L, false);
+        assertThat(cache.getCiphertext("a", encryptor), is("encrypt_a"));
+        assertThat(cache.getCiphertext("a", encryptor), is("encrypt_a"));
+        assertThat(cache.getCiphertext(1, encryptor), is("encrypt_1"));
+        assertThat(cache.getEncryptStats().hitCount(), is(1L));
+        assertThat(cache.getEncryptStats().missCount(), is(2L));
+    }
+    
+    @Test
+    public void assertGetCiphertextWithUncacheablePlaintext() {
+        EncryptColumnCache cache = new EncryptColumnCache(4096L, false);
+        assertNull(cache.getCiphertext(null, encryptor));
+        assertThat(cache.getCiphertext(new StringBuilder("a"), encryptor), is("encrypt_a"));
+        assertThat(cache.getEncryptStats().requestCount(), is(0L));
+    }
+    
+    @Test
+    public void assertGetPlaintext() {
+        EncryptColumnCache cache = new EncryptColumnCache(4096L, false);
+        assertThat(cache.getPlaintext("encrypt_a", ciphertext -> ciphertext.substring("encrypt_".length())), is("a"));
+        assertThat(cache.findPlaintext("encrypt_a"), is("a"));
+        assertThat(cache.getDecryptStats().hitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetAssistedQueryCiphertext() {
+        EncryptColumnCache cache = new EncryptColumnCache(4096L, true);
+        assertThat(cache.getAssistedQueryCiphertext("a", plaintext -> "assisted_" + plaintext), is("assisted_a"));
+        assertThat(cache.getAssistedQueryCiphertext("a", plaintext -> "assisted_" + plaintext), is("assisted_a"));
+        assertThat(cache.getAssistedQueryEncryptStats().hitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertEvictWhenExceedMaxBytes() {
+        long maxBytes = 16 * 1024L;
+        EncryptColumnCache cache = new EncryptColumnCache(maxBytes, false);
+        for (int i = 0; i < 10000; i++) {
+            cache.getCiphertext("plaintext_" + i, encryptor);
+        }
+        assertTrue(cache.getEstimatedBytes() <= maxBytes);
+        assertTrue(cache.getEncryptStats().evictionCount() > 0L);
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.encrypt.yaml.config.rule.YamlEncryptColumnRuleC
 import org.junit.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 public final class EncryptColumnRuleConfigurationYamlSwapperTest {
@@ -35,6 +36,13 @@ public final class EncryptColumnRuleConfigurationYamlSwapperTest {
         assertThat(actual.getAssistedQueryColumn(), is("assistedQueryColumn"));
         assertThat(actual.getPlainColumn(), is("plainColumn"));
         assertThat(actual.getEncryptorName(), is("encryptorName"));
+        assertNull(actual.getCacheMaxBytes());
+    }
+    
+    @Test
+    public void assertSwapToYamlConfigurationWithCacheMaxBytes() {
+        EncryptColumnRuleConfiguration encryptColumnRuleConfig = new EncryptColumnRuleConfiguration("logicColumn", "cipherColumn", "assistedQueryColumn", "plainColumn", "encryptorName", 1024L);
+        assertThat(new EncryptColumnRuleConfigurationYamlSwapper().swapToYamlConfiguration(encryptColumnRuleConfig).getCacheMaxBytes(), is(1024L));
     }
     
     @Test
@@ -52,5 +60,13 @@ public final class EncryptColumnRuleConfigurationYamlSwapperTest {
         assertThat(actual.getAssistedQueryColumn(), is("assistedQueryColumn"));
         assertThat(actual.getPlainColumn(), is("plainColumn"));
         assertThat(actual.getEncryptorName(), is("encryptorName"));
+        assertThat(actual.getCacheMaxBytes(), is(0L));
+    }
+    
+    @Test
+    public void assertSwapToObjectWithCacheMaxBytes() {
+        YamlEncryptColumnRuleConfiguration yamlEncryptColumnRuleConfig = new YamlEncryptColumnRuleConfiguration();
+        yamlEncryptColumnRuleConfig.setCacheMaxBytes(1024L);
+        assertThat(new EncryptColumnRuleConfigurationYamlSwapper().swapToObject(yamlEncryptColumnRuleConfig).getCacheMaxBytes(), is(1024L));
     }
 }
@@ -25,7 +25,9 @@ import org.apache.shardingsphere.infra.binder.segment.select.projection.Projecti
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -40,6 +42,21 @@ public final class EncryptAlgorithmMetaData {
     
     private final SelectStatementContext selectStatementContext;
     
+    /**
+     * Find encryptors of all projections.
+     *
+     * @return encryptors, key is column index and value is encryptor
+     */
+    public Map<Integer, EncryptAlgorithm> findEncryptors() {
+        List<Projection> expandProjections = selectStatementContext.getProjectionsContext().getExpandProjections();
+        Map<Integer, EncryptAlgorithm> result = new LinkedHashMap<>(expandProjections.size(), 1);
+        for (int i = 1; i <= expandProjections.size(); i++) {
+            int columnIndex = i;
+            findEncryptor(columnIndex, expandProjections).ifPresent(optional -> result.put(columnIndex, optional));
+        }
+        return result;
+    }
+    
     /**
      * Find encryptor.
      *
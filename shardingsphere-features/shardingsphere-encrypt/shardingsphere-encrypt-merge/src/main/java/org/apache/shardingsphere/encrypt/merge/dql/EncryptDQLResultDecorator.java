@@ -19,12 +19,18 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+
 /**
  * DQL result decorator for encrypt.
  */
@@ -42,6 +48,20 @@ public final class EncryptDQLResultDecorator implements ResultDecorator<EncryptR
     
     @Override
     public MergedResult decorate(final MergedResult mergedResult, final SQLStatementContext<?> sqlStatementContext, final EncryptRule rule) {
+        if (queryWithCipherColumn && mergedResult instanceof MemoryMergedResult) {
+            decryptColumns((MemoryMergedResult<?>) mergedResult);
+            return mergedResult;
+        }
         return new EncryptMergedResult(metaData, mergedResult, queryWithCipherColumn);
     }
+    
+    private void decryptColumns(final MemoryMergedResult<?> mergedResult) {
+        for (Entry<Integer, EncryptAlgorithm> entry : metaData.findEncryptors().entrySet()) {
+            mergedResult.updateColumnValues(entry.getKey(), values -> entry.getValue().batchDecrypt(toCiphertexts(values)));
+        }
+    }
+    
+    private List<String> toCiphertexts(final List<Object> values) {
+        return values.stream().map(each -> null == each ? null : each.toString()).collect(Collectors.toList());
+    }
 }
@@ -18,13 +18,23 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -48,4 +58,25 @@ public final class EncryptDQLResultDecoratorTest {
         MergedResult actual = decorator.decorate(mergedResult, mock(SQLStatementContext.class), mock(EncryptRule.class));
         assertTrue(actual.next());
     }
+    
+    @Test
+    public void assertDecorateMemoryMergedResult() throws SQLException {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.batchDecrypt(Arrays.asList("cipher_1", "cipher_2"))).thenReturn(Arrays.asList("plain_1", "plain_2"));
+        EncryptAlgorithmMetaData metaData = mock(EncryptAlgorithmMetaData.class);
+        when(metaData.findEncryptors()).thenReturn(Collections.singletonMap(2, encryptAlgorithm));
+        MergedResult actual = new EncryptDQLResultDecorator(metaData, true).decorate(new MemoryMergedResult<EncryptRule>(null, null, null, Collections.emptyList()) {
+            
+            @Override
+            protected List<MemoryQueryResultRow> init(final EncryptRule rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) {
+                return Arrays.asList(new MemoryQueryResultRow(new Object[] {1, "cipher_1"}), new MemoryQueryResultRow(new Object[] {2, "cipher_2"}));
+            }
+        }, mock(SQLStatementContext.class), mock(EncryptRule.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertThat(actual.getValue(2, String.class), is("plain_1"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, String.class), is("plain_2"));
+        assertFalse(actual.next());
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwrite.splitting.spi;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Replica load balance algorithm which needs to access data sources, e.g. to probe replica status.
+ */
+public interface DataSourceAwareReplicaLoadBalanceAlgorithm extends ReplicaLoadBalanceAlgorithm {
+    
+    /**
+     * Set data sources.
+     * 
+     * @param dataSources data sources of schema
+     */
+    void setDataSources(Map<String, DataSource> dataSources);
+}
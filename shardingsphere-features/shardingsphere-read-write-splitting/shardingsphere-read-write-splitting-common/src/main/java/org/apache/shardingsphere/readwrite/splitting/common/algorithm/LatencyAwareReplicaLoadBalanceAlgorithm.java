@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwrite.splitting.common.algorithm;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
+import org.apache.shardingsphere.infra.database.statistics.DataSourceStatistics;
+import org.apache.shardingsphere.infra.database.statistics.DataSourceStatisticsRegistry;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.readwrite.splitting.spi.DataSourceAwareReplicaLoadBalanceAlgorithm;
+
+import javax.sql.DataSource;
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Latency aware replica load-balance algorithm.
+ * 
+ * <p>Replica with least exponentially weighted moving average latency weighted by executions in flight is selected,
+ * replicas whose replication lag exceed max replication lag are evicted until they catch up.</p>
+ * 
+ * <p>Each replica is probed on its own worker with a query timeout, and at most one probe per replica is in flight,
+ * so a hung replica is treated as lagging without stalling probes of other replicas.</p>
+ */
+@Getter
+@Setter
+@Slf4j
+public final class LatencyAwareReplicaLoadBalanceAlgorithm implements DataSourceAwareReplicaLoadBalanceAlgorithm, ShardingSphereAlgorithmPostProcessor {
+    
+    private static final String MAX_REPLICATION_LAG_MILLISECONDS_KEY = "max-replication-lag-milliseconds";
+    
+    private static final String PROBE_INTERVAL_MILLISECONDS_KEY = "probe-interval-milliseconds";
+    
+    private static final String PROBE_TIMEOUT_MILLISECONDS_KEY = "probe-timeout-milliseconds";
+    
+    private static final long DEFAULT_PROBE_INTERVAL_MILLISECONDS = 1000L;
+    
+    private static final long DEFAULT_PROBE_TIMEOUT_MILLISECONDS = 3000L;
+    
+    private static final ScheduledExecutorService PROBE_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-ReplicaProbe-%d").build());
+    
+    private static final ExecutorService PROBE_WORKER_EXECUTOR = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-ReplicaProbeWorker-%d").build());
+    
+    private Properties props = new Properties();
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long maxReplicationLagMilliseconds;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long probeIntervalMilliseconds;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long probeTimeoutMilliseconds;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile Map<String, DataSource> dataSources = Collections.emptyMap();
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Collection<String> probedDataSourceNames = ConcurrentHashMap.newKeySet();
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Map<String, String> dataSourceURLs = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Collection<String> laggingDataSourceNames = ConcurrentHashMap.newKeySet();
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Map<String, Future<?>> probeFutures = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final AtomicInteger sequence = new AtomicInteger();
+    
+    @Override
+    public void init() {
+        maxReplicationLagMilliseconds = Long.parseLong(props.getProperty(MAX_REPLICATION_LAG_MILLISECONDS_KEY, "0"));
+        probeIntervalMilliseconds = Long.parseLong(props.getProperty(PROBE_INTERVAL_MILLISECONDS_KEY, String.valueOf(DEFAULT_PROBE_INTERVAL_MILLISECONDS)));
+        probeTimeoutMilliseconds = Long.parseLong(props.getProperty(PROBE_TIMEOUT_MILLISECONDS_KEY, String.valueOf(DEFAULT_PROBE_TIMEOUT_MILLISECONDS)));
+        if (probeTimeoutMilliseconds <= 0) {
+            probeTimeoutMilliseconds = DEFAULT_PROBE_TIMEOUT_MILLISECONDS;
+        }
+    }
+    
+    @Override
+    public void setDataSources(final Map<String, DataSource> dataSources) {
+        boolean scheduled = !this.dataSources.isEmpty();
+        this.dataSources = dataSources;
+        if (!scheduled && !dataSources.isEmpty()) {
+            scheduleProbe(this, probeIntervalMilliseconds > 0 ? probeIntervalMilliseconds : DEFAULT_PROBE_INTERVAL_MILLISECONDS);
+        }
+    }
+    
+    private static void scheduleProbe(final LatencyAwareReplicaLoadBalanceAlgorithm algorithm, final long intervalMilliseconds) {
+        WeakReference<LatencyAwareReplicaLoadBalanceAlgorithm> algorithmReference = new WeakReference<>(algorithm);
+        AtomicReference<ScheduledFuture<?>> future = new AtomicReference<>();
+        future.set(PROBE_EXECUTOR.scheduleWithFixedDelay(() -> {
+            LatencyAwareReplicaLoadBalanceAlgorithm each = algorithmReference.get();
+            if (null != each) {
+                each.probe();
+            } else if (null != future.get()) {
+                future.get().cancel(false);
+            }
+        }, 0L, intervalMilliseconds, TimeUnit.MILLISECONDS));
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        probedDataSourceNames.addAll(readDataSourceNames);
+        int size = readDataSourceNames.size();
+        int offset = Math.abs(sequence.getAndIncrement() % size);
+        String result = null;
+        double minScore = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            String each = readDataSourceNames.get((offset + i) % size);
+            if (laggingDataSourceNames.contains(each)) {
+                continue;
+            }
+            double score = getScore(each);
+            if (score < minScore) {
+                result = each;
+                minScore = score;
+            }
+        }
+        return null == result ? writeDataSourceName : result;
+    }
+    
+    private double getScore(final String dataSourceName) {
+        String url = dataSourceURLs.get(dataSourceName);
+        Optional<DataSourceStatistics> statistics = null == url ? Optional.empty() : DataSourceStatisticsRegistry.findStatistics(url);
+        return statistics.map(optional -> (double) optional.getLatencyNanos() * (optional.getInFlightCount() + 1)).orElse(0D);
+    }
+    
+    void probe() {
+        for (String each : probedDataSourceNames) {
+            DataSource dataSource = dataSources.get(each);
+            if (null == dataSource) {
+                continue;
+            }
+            Future<?> future = probeFutures.get(each);
+            if (null == future || future.isDone()) {
+                probeFutures.put(each, PROBE_WORKER_EXECUTOR.submit(() -> probeReplica(each, dataSource)));
+            }
+        }
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(probeTimeoutMilliseconds);
+        for (Map.Entry<String, Future<?>> entry : probeFutures.entrySet()) {
+            waitProbe(entry.getKey(), entry.getValue(), deadlineNanos);
+        }
+    }
+    
+    private void waitProbe(final String dataSourceName, final Future<?> future, final long deadlineNanos) {
+        try {
+            future.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException ex) {
+            log.warn("Probe replica data source `{}` timed out after {} milliseconds.", dataSourceName, probeTimeoutMilliseconds);
+            if (maxReplicationLagMilliseconds > 0) {
+                laggingDataSourceNames.add(dataSourceName);
+            }
+        } catch (final ExecutionException ex) {
+            log.warn("Probe replica data source `{}` failed.", dataSourceName, ex.getCause());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void probeReplica(final String dataSourceName, final DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            String url = connection.getMetaData().getURL();
+            dataSourceURLs.put(dataSourceName, url);
+            DataSourceStatisticsRegistry.register(dataSource, url);
+            if (maxReplicationLagMilliseconds > 0 && loadReplicationLagMilliseconds(url, connection) > maxReplicationLagMilliseconds) {
+                laggingDataSourceNames.add(dataSourceName);
+            } else {
+                laggingDataSourceNames.remove(dataSourceName);
+            }
+        } catch (final SQLException ex) {
+            log.warn("Probe replica data source `{}` failed.", dataSourceName, ex);
+        }
+    }
+    
+    private Statement createStatement(final Connection connection) throws SQLException {
+        Statement result = connection.createStatement();
+        result.setQueryTimeout((int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(probeTimeoutMilliseconds + 999L)));
+        return result;
+    }
+    
+    private long loadReplicationLagMilliseconds(final String url, final Connection connection) throws SQLException {
+        String databaseTypeName = DatabaseTypeRegistry.getTrunkDatabaseTypeName(DatabaseTypeRegistry.getDatabaseTypeByURL(url));
+        if ("MySQL".equals(databaseTypeName)) {
+            return loadMySQLReplicationLagMilliseconds(connection);
+        }
+        if ("PostgreSQL".equals(databaseTypeName)) {
+            return loadPostgreSQLReplicationLagMilliseconds(connection);
+        }
+        return 0L;
+    }
+    
+    private long loadMySQLReplicationLagMilliseconds(final Connection connection) throws SQLException {
+        try (Statement statement = createStatement(connection);
+             ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long result = resultSet.getLong("Seconds_Behind_Master");
+            return resultSet.wasNull() ? Long.MAX_VALUE : TimeUnit.SECONDS.toMillis(result);
+        }
+    }
+    
+    private long loadPostgreSQLReplicationLagMilliseconds(final Connection connection) throws SQLException {
+        try (Statement statement = createStatement(connection);
+             ResultSet resultSet = statement.executeQuery("SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                     + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END")) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long result = resultSet.getLong(1);
+            return resultSet.wasNull() ? Long.MAX_VALUE : result;
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
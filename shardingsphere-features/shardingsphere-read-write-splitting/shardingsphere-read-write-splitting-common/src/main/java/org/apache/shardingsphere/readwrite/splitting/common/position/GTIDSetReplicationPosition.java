@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwrite.splitting.common.position;
+
+import com.google.common.base.Splitter;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * GTID set replication position of MySQL.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GTIDSetReplicationPosition implements ReplicationPosition {
+    
+    private final Map<String, List<long[]>> intervals;
+    
+    /**
+     * Create GTID set replication position from text, e.g. {@code 3E11FA47-71CA-11E1-9E33-C80AA9429562:1-5:11-18,2174B383-5441-11E8-B90A-C80AA9429562:1-3}.
+     * 
+     * @param text text of GTID set
+     * @return GTID set replication position
+     */
+    public static GTIDSetReplicationPosition valueOf(final String text) {
+        Map<String, List<long[]>> intervals = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String each : Splitter.on(',').trimResults().omitEmptyStrings().split(text.replaceAll("\\s", ""))) {
+            List<String> segments = Splitter.on(':').splitToList(each);
+            List<long[]> sourceIntervals = intervals.computeIfAbsent(segments.get(0), key -> new ArrayList<>(segments.size() - 1));
+            for (String segment : segments.subList(1, segments.size())) {
+                int rangeIndex = segment.indexOf('-');
+                long start = Long.parseLong(rangeIndex < 0 ? segment : segment.substring(0, rangeIndex));
+                long end = rangeIndex < 0 ? start : Long.parseLong(segment.substring(rangeIndex + 1));
+                sourceIntervals.add(new long[]{start, end});
+            }
+        }
+        return new GTIDSetReplicationPosition(intervals);
+    }
+    
+    /**
+     * Judge whether GTID set is empty.
+     * 
+     * @return empty or not
+     */
+    public boolean isEmpty() {
+        return intervals.isEmpty();
+    }
+    
+    @Override
+    public boolean covers(final ReplicationPosition position) {
+        if (!(position instanceof GTIDSetReplicationPosition)) {
+            return false;
+        }
+        for (Entry<String, List<long[]>> entry : ((GTIDSetReplicationPosition) position).intervals.entrySet()) {
+            Collection<long[]> coveringIntervals = intervals.get(entry.getKey());
+            for (long[] each : entry.getValue()) {
+                if (null == coveringIntervals || coveringIntervals.stream().noneMatch(covering -> covering[0] <= each[0] && each[1] <= covering[1])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
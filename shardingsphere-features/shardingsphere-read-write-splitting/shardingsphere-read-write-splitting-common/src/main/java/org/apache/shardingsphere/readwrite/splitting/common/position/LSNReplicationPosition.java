@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwrite.splitting.common.position;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Log sequence number replication position of PostgreSQL.
+ */
+@RequiredArgsConstructor
+@EqualsAndHashCode
+@ToString
+public final class LSNReplicationPosition implements ReplicationPosition {
+    
+    private final long lsn;
+    
+    /**
+     * Create LSN replication position from text, e.g. {@code 16/B374D848}.
+     * 
+     * @param text text of LSN
+     * @return LSN replication position
+     */
+    public static LSNReplicationPosition valueOf(final String text) {
+        int separatorIndex = text.indexOf('/');
+        if (separatorIndex < 0) {
+            throw new IllegalArgumentException(String.format("Invalid LSN `%s`.", text));
+        }
+        return new LSNReplicationPosition(Long.parseLong(text.substring(0, separatorIndex).trim(), 16) << 32 | Long.parseLong(text.substring(separatorIndex + 1).trim(), 16));
+    }
+    
+    @Override
+    public boolean covers(final ReplicationPosition position) {
+        return position instanceof LSNReplicationPosition && Long.compareUnsigned(lsn, ((LSNReplicationPosition) position).lsn) >= 0;
+    }
+}
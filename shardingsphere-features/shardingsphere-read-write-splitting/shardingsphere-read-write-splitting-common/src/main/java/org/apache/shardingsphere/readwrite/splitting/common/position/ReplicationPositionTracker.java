@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwrite.splitting.common.position;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication position tracker.
+ * 
+ * <p>Replication positions of replicas are cached, and reloaded only if the cached one does not cover the required position.
+ * As replication positions only move forward, a cached position which covers the required one is always trustworthy.</p>
+ * 
+ * <p>Replication position of primary is shared by sessions, a load started after the write of session completed covers the write,
+ * so it is reused instead of loading again.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class ReplicationPositionTracker {
+    
+    private static final long MIN_RELOAD_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+    
+    private final Map<String, DataSource> dataSourceMap;
+    
+    private final Map<String, CachedReplicationPosition> replicaPositions = new ConcurrentHashMap<>();
+    
+    private final Map<String, PrimaryPositionLoad> primaryPositionLoads = new ConcurrentHashMap<>();
+    
+    /**
+     * Load replication position of primary which covers writes completed before the specified time.
+     * 
+     * @param primaryDataSourceName primary data source name
+     * @param writeCompletedNanos nano time when writes completed
+     * @return replication position of primary, empty if database does not support or fail to load
+     */
+    public Optional<ReplicationPosition> loadPrimaryPosition(final String primaryDataSourceName, final long writeCompletedNanos) {
+        PrimaryPositionLoad load = new PrimaryPositionLoad(System.nanoTime());
+        PrimaryPositionLoad result = primaryPositionLoads.merge(primaryDataSourceName, load, (oldValue, value) -> oldValue.startedNanos - writeCompletedNanos >= 0 ? oldValue : value);
+        if (result != load) {
+            return result.future.join();
+        }
+        Optional<ReplicationPosition> position = Optional.empty();
+        try {
+            position = loadPosition(primaryDataSourceName, true);
+            return position;
+        } finally {
+            if (!position.isPresent()) {
+                primaryPositionLoads.remove(primaryDataSourceName, load);
+            }
+            load.future.complete(position);
+        }
+    }
+    
+    /**
+     * Judge whether replica has applied replication position.
+     * 
+     * @param replicaDataSourceName replica data source name
+     * @param position replication position
+     * @return applied or not
+     */
+    public boolean isApplied(final String replicaDataSourceName, final ReplicationPosition position) {
+        CachedReplicationPosition cached = replicaPositions.get(replicaDataSourceName);
+        if (null != cached && cached.position.covers(position)) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (null != cached && now - cached.loadedNanos < MIN_RELOAD_INTERVAL_NANOS) {
+            return false;
+        }
+        Optional<ReplicationPosition> loaded = loadPosition(replicaDataSourceName, false);
+        if (!loaded.isPresent()) {
+            return false;
+        }
+        replicaPositions.put(replicaDataSourceName, new CachedReplicationPosition(loaded.get(), now));
+        return loaded.get().covers(position);
+    }
+    
+    private Optional<ReplicationPosition> loadPosition(final String dataSourceName, final boolean primary) {
+        DataSource dataSource = dataSourceMap.get(dataSourceName);
+        if (null == dataSource) {
+            return Optional.empty();
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            String databaseTypeName = DatabaseTypeRegistry.getTrunkDatabaseTypeName(DatabaseTypeRegistry.getDatabaseTypeByURL(connection.getMetaData().getURL()));
+            if ("MySQL".equals(databaseTypeName)) {
+                return loadPosition(connection, "SELECT @@GLOBAL.gtid_executed").map(GTIDSetReplicationPosition::valueOf).filter(each -> !each.isEmpty()).map(ReplicationPosition.class::cast);
+            }
+            if ("PostgreSQL".equals(databaseTypeName)) {
+                return loadPosition(connection, primary ? "SELECT pg_current_wal_lsn()" : "SELECT pg_last_wal_replay_lsn()").map(LSNReplicationPosition::valueOf);
+            }
+        } catch (final SQLException | IllegalArgumentException ex) {
+            log.warn("Load replication position of data source `{}` failed.", dataSourceName, ex);
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<String> loadPosition(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? Optional.ofNullable(resultSet.getString(1)) : Optional.empty();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class PrimaryPositionLoad {
+        
+        private final long startedNanos;
+        
+        private final CompletableFuture<Optional<ReplicationPosition>> future = new CompletableFuture<>();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedReplicationPosition {
+        
+        private final ReplicationPosition position;
+        
+        private final long loadedNanos;
+    }
+}
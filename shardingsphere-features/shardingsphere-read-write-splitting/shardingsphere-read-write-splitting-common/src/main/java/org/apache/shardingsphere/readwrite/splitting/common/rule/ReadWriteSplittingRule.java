@@ -27,11 +27,15 @@ import org.apache.shardingsphere.infra.rule.event.impl.DataSourceNameDisabledEve
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.typed.TypedSPIRegistry;
 import org.apache.shardingsphere.readwrite.splitting.common.algorithm.config.AlgorithmProvidedReadWriteSplittingRuleConfiguration;
+import org.apache.shardingsphere.readwrite.splitting.common.position.ReplicationPositionTracker;
 import org.apache.shardingsphere.readwrite.splitting.api.ReadWriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwrite.splitting.api.rule.ReadWriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwrite.splitting.spi.DataSourceAwareReplicaLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwrite.splitting.spi.ReplicaLoadBalanceAlgorithm;
 
+import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -51,7 +55,13 @@ public final class ReadWriteSplittingRule implements DataSourceContainedRule, St
     
     private final Map<String, ReadWriteSplittingDataSourceRule> dataSourceRules;
     
+    private final ReplicationPositionTracker replicationPositionTracker;
+    
     public ReadWriteSplittingRule(final ReadWriteSplittingRuleConfiguration config) {
+        this(config, Collections.emptyMap());
+    }
+    
+    public ReadWriteSplittingRule(final ReadWriteSplittingRuleConfiguration config, final Map<String, DataSource> dataSourceMap) {
         Preconditions.checkArgument(!config.getDataSources().isEmpty(), "Replica query data source rules can not be empty.");
         config.getLoadBalancers().forEach((key, value) -> loadBalancers.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, ReplicaLoadBalanceAlgorithm.class)));
         dataSourceRules = new HashMap<>(config.getDataSources().size(), 1);
@@ -61,9 +71,15 @@ public final class ReadWriteSplittingRule implements DataSourceContainedRule, St
                     ? TypedSPIRegistry.getRegisteredService(ReplicaLoadBalanceAlgorithm.class) : loadBalancers.get(each.getLoadBalancerName());
             dataSourceRules.put(each.getName(), new ReadWriteSplittingDataSourceRule(each, loadBalanceAlgorithm));
         }
+        initDataSourceAwareLoadBalancers(dataSourceMap);
+        replicationPositionTracker = new ReplicationPositionTracker(dataSourceMap);
     }
     
     public ReadWriteSplittingRule(final AlgorithmProvidedReadWriteSplittingRuleConfiguration config) {
+        this(config, Collections.emptyMap());
+    }
+    
+    public ReadWriteSplittingRule(final AlgorithmProvidedReadWriteSplittingRuleConfiguration config, final Map<String, DataSource> dataSourceMap) {
         Preconditions.checkArgument(!config.getDataSources().isEmpty(), "Replica query data source rules can not be empty.");
         loadBalancers.putAll(config.getLoadBalanceAlgorithms());
         dataSourceRules = new HashMap<>(config.getDataSources().size(), 1);
@@ -73,6 +89,19 @@ public final class ReadWriteSplittingRule implements DataSourceContainedRule, St
                     ? TypedSPIRegistry.getRegisteredService(ReplicaLoadBalanceAlgorithm.class) : loadBalancers.get(each.getLoadBalancerName());
             dataSourceRules.put(each.getName(), new ReadWriteSplittingDataSourceRule(each, loadBalanceAlgorithm));
         }
+        initDataSourceAwareLoadBalancers(dataSourceMap);
+        replicationPositionTracker = new ReplicationPositionTracker(dataSourceMap);
+    }
+    
+    private void initDataSourceAwareLoadBalancers(final Map<String, DataSource> dataSourceMap) {
+        if (dataSourceMap.isEmpty()) {
+            return;
+        }
+        for (ReplicaLoadBalanceAlgorithm each : loadBalancers.values()) {
+            if (each instanceof DataSourceAwareReplicaLoadBalanceAlgorithm) {
+                ((DataSourceAwareReplicaLoadBalanceAlgorithm) each).setDataSources(dataSourceMap);
+            }
+        }
     }
     
     /**
@@ -103,6 +132,15 @@ public final class ReadWriteSplittingRule implements DataSourceContainedRule, St
         return Optional.ofNullable(dataSourceRules.get(dataSourceName));
     }
     
+    /**
+     * Get replication position tracker.
+     *
+     * @return replication position tracker
+     */
+    public ReplicationPositionTracker getReplicationPositionTracker() {
+        return replicationPositionTracker;
+    }
+    
     @Override
     public Map<String, Collection<String>> getDataSourceMapper() {
         Map<String, Collection<String>> result = new HashMap<>();
@@ -34,7 +34,7 @@ public final class AlgorithmProvidedReadWriteSplittingRuleBuilder implements Sha
     @Override
     public ReadWriteSplittingRule build(final String schemaName,
                                         final Map<String, DataSource> dataSourceMap, final DatabaseType databaseType, final AlgorithmProvidedReadWriteSplittingRuleConfiguration ruleConfig) {
-        return new ReadWriteSplittingRule(ruleConfig);
+        return new ReadWriteSplittingRule(ruleConfig, dataSourceMap);
     }
     
     @Override
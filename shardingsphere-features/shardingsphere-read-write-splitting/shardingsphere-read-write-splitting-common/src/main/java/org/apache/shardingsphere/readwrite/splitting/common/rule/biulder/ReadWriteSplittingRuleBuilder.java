@@ -34,7 +34,7 @@ public final class ReadWriteSplittingRuleBuilder implements ShardingSphereRuleBu
     @Override
     public ReadWriteSplittingRule build(final String schemaName,
                                         final Map<String, DataSource> dataSourceMap, final DatabaseType databaseType, final ReadWriteSplittingRuleConfiguration ruleConfig) {
-        return new ReadWriteSplittingRule(ruleConfig);
+        return new ReadWriteSplittingRule(ruleConfig, dataSourceMap);
     }
     
     @Override
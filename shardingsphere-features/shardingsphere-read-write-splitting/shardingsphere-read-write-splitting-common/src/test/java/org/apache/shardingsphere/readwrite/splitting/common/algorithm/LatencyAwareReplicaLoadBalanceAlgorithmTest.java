@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwrite.splitting.common.algorithm;
+
+import org.apache.shardingsphere.infra.database.statistics.DataSourceStatistics;
+import org.apache.shardingsphere.infra.database.statistics.DataSourceStatisticsRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class LatencyAwareReplicaLoadBalanceAlgorithmTest {
+    
+    private final List<String> readDataSourceNames = Arrays.asList("test_read_ds_1", "test_read_ds_2");
+    
+    private LatencyAwareReplicaLoadBalanceAlgorithm loadBalanceAlgorithm;
+    
+    @Before
+    public void setUp() {
+        loadBalanceAlgorithm = new LatencyAwareReplicaLoadBalanceAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("max-replication-lag-milliseconds", "1000");
+        props.setProperty("probe-interval-milliseconds", "60000");
+        loadBalanceAlgorithm.setProps(props);
+        loadBalanceAlgorithm.init();
+    }
+    
+    @Test
+    public void assertGetDataSourceWithoutStatistics() {
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_1"));
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_2"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLeastLatency() throws SQLException, InterruptedException {
+        Map<String, DataSource> dataSources = new HashMap<>(2, 1);
+        dataSources.put("test_read_ds_1", mockDataSource("jdbc:mysql://127.0.0.1:3306/latency_ds_1", 0L));
+        dataSources.put("test_read_ds_2", mockDataSource("jdbc:mysql://127.0.0.1:3306/latency_ds_2", 0L));
+        loadBalanceAlgorithm.setDataSources(dataSources);
+        loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames);
+        loadBalanceAlgorithm.probe();
+        DataSourceStatistics slowStatistics = DataSourceStatisticsRegistry.findStatistics("jdbc:mysql://127.0.0.1:3306/latency_ds_1").get();
+        long startNanos = slowStatistics.start();
+        Thread.sleep(20L);
+        slowStatistics.finish(startNanos);
+        DataSourceStatistics fastStatistics = DataSourceStatisticsRegistry.findStatistics("jdbc:mysql://127.0.0.1:3306/latency_ds_2").get();
+        fastStatistics.finish(fastStatistics.start());
+        for (int i = 0; i < 4; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_2"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLaggingReplica() throws SQLException {
+        Map<String, DataSource> dataSources = new HashMap<>(2, 1);
+        dataSources.put("test_read_ds_1", mockDataSource("jdbc:mysql://127.0.0.1:3306/lag_ds_1", 10L));
+        dataSources.put("test_read_ds_2", mockDataSource("jdbc:mysql://127.0.0.1:3306/lag_ds_2", 0L));
+        loadBalanceAlgorithm.setDataSources(dataSources);
+        loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames);
+        loadBalanceAlgorithm.probe();
+        for (int i = 0; i < 4; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_2"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithAllReplicasLagging() throws SQLException {
+        Map<String, DataSource> dataSources = new HashMap<>(2, 1);
+        dataSources.put("test_read_ds_1", mockDataSource("jdbc:mysql://127.0.0.1:3306/all_lag_ds_1", 10L));
+        dataSources.put("test_read_ds_2", mockDataSource("jdbc:mysql://127.0.0.1:3306/all_lag_ds_2", 10L));
+        loadBalanceAlgorithm.setDataSources(dataSources);
+        loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames);
+        loadBalanceAlgorithm.probe();
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_write_ds"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithHungReplica() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty("max-replication-lag-milliseconds", "1000");
+        props.setProperty("probe-interval-milliseconds", "60000");
+        props.setProperty("probe-timeout-milliseconds", "100");
+        loadBalanceAlgorithm.setProps(props);
+        loadBalanceAlgorithm.init();
+        CountDownLatch hungLatch = new CountDownLatch(1);
+        DataSource hungDataSource = mock(DataSource.class);
+        when(hungDataSource.getConnection()).thenAnswer(invocation -> {
+            hungLatch.await();
+            throw new SQLException("Replica is unreachable.");
+        });
+        Map<String, DataSource> dataSources = new HashMap<>(2, 1);
+        dataSources.put("test_read_ds_1", hungDataSource);
+        dataSources.put("test_read_ds_2", mockDataSource("jdbc:mysql://127.0.0.1:3306/hung_ds_2", 0L));
+        try {
+            loadBalanceAlgorithm.setDataSources(dataSources);
+            loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames);
+            loadBalanceAlgorithm.probe();
+            loadBalanceAlgorithm.probe();
+            for (int i = 0; i < 4; i++) {
+                assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("test_read_ds_2"));
+            }
+        } finally {
+            hungLatch.countDown();
+        }
+    }
+    
+    private DataSource mockDataSource(final String url, final long secondsBehindMaster) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(result.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getURL()).thenReturn(url);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(secondsBehindMaster);
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwrite.splitting.common.position;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class GTIDSetReplicationPositionTest {
+    
+    private static final String SOURCE_1 = "3E11FA47-71CA-11E1-9E33-C80AA9429562";
+    
+    private static final String SOURCE_2 = "2174B383-5441-11E8-B90A-C80AA9429562";
+    
+    @Test
+    public void assertCovers() {
+        GTIDSetReplicationPosition position = GTIDSetReplicationPosition.valueOf(SOURCE_1 + ":1-5:11-18,\n" + SOURCE_2 + ":1-3");
+        assertTrue(position.covers(GTIDSetReplicationPosition.valueOf(SOURCE_1 + ":1-5:11-18")));
+        assertTrue(position.covers(GTIDSetReplicationPosition.valueOf(SOURCE_1.toLowerCase() + ":2-4:12")));
+        assertTrue(position.covers(GTIDSetReplicationPosition.valueOf("")));
+    }
+    
+    @Test
+    public void assertNotCovers() {
+        GTIDSetReplicationPosition position = GTIDSetReplicationPosition.valueOf(SOURCE_1 + ":1-5:11-18");
+        assertFalse(position.covers(GTIDSetReplicationPosition.valueOf(SOURCE_1 + ":1-6")));
+        assertFalse(position.covers(GTIDSetReplicationPosition.valueOf(SOURCE_1 + ":8")));
+        assertFalse(position.covers(GTIDSetReplicationPosition.valueOf(SOURCE_2 + ":1")));
+        assertFalse(position.covers(LSNReplicationPosition.valueOf("0/1")));
+    }
+    
+    @Test
+    public void assertIsEmpty() {
+        assertTrue(GTIDSetReplicationPosition.valueOf("").isEmpty());
+        assertFalse(GTIDSetReplicationPosition.valueOf(SOURCE_1 + ":1").isEmpty());
+    }
+}
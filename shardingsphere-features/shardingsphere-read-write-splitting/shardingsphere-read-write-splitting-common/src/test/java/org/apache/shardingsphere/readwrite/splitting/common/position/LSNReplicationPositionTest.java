@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwrite.splitting.common.position;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LSNReplicationPositionTest {
+    
+    @Test
+    public void assertValueOf() {
+        assertThat(LSNReplicationPosition.valueOf("16/B374D848"), is(new LSNReplicationPosition(0x16B374D848L)));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertValueOfWithInvalidText() {
+        LSNReplicationPosition.valueOf("B374D848");
+    }
+    
+    @Test
+    public void assertCovers() {
+        assertTrue(LSNReplicationPosition.valueOf("16/B374D848").covers(LSNReplicationPosition.valueOf("16/B374D848")));
+        assertTrue(LSNReplicationPosition.valueOf("17/0").covers(LSNReplicationPosition.valueOf("16/FFFFFFFF")));
+        assertFalse(LSNReplicationPosition.valueOf("16/B374D847").covers(LSNReplicationPosition.valueOf("16/B374D848")));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwrite.splitting.common.position;
+
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ReplicationPositionTrackerTest {
+    
+    private static final String PRIMARY_GTID_SET = "3E11FA47-71CA-11E1-9E33-C80AA9429562:1-10";
+    
+    @Test
+    public void assertLoadPrimaryPositionReusedAfterWriteCompleted() throws SQLException {
+        Statement statement = mock(Statement.class);
+        ReplicationPositionTracker tracker = new ReplicationPositionTracker(Collections.singletonMap("write_ds", mockDataSource(statement)));
+        long writeCompletedNanos = System.nanoTime();
+        Optional<ReplicationPosition> actual = tracker.loadPrimaryPosition("write_ds", writeCompletedNanos);
+        assertThat(actual.isPresent(), is(true));
+        assertThat(tracker.loadPrimaryPosition("write_ds", writeCompletedNanos), is(actual));
+        verify(statement, times(1)).executeQuery("SELECT @@GLOBAL.gtid_executed");
+    }
+    
+    @Test
+    public void assertLoadPrimaryPositionReloadedAfterLaterWrite() throws SQLException {
+        Statement statement = mock(Statement.class);
+        ReplicationPositionTracker tracker = new ReplicationPositionTracker(Collections.singletonMap("write_ds", mockDataSource(statement)));
+        tracker.loadPrimaryPosition("write_ds", System.nanoTime());
+        tracker.loadPrimaryPosition("write_ds", System.nanoTime());
+        verify(statement, times(2)).executeQuery("SELECT @@GLOBAL.gtid_executed");
+    }
+    
+    private DataSource mockDataSource(final Statement statement) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getURL()).thenReturn("jdbc:mysql://127.0.0.1:3306/test");
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SELECT @@GLOBAL.gtid_executed")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn(PRIMARY_GTID_SET);
+        return result;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.readwrite.splitting.route.engine;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.route.SQLRouter;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -27,6 +28,7 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.readwrite.splitting.route.engine.impl.ReadWriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwrite.splitting.common.constant.ReadWriteSplittingOrder;
+import org.apache.shardingsphere.readwrite.splitting.common.position.ReplicationPositionTracker;
 import org.apache.shardingsphere.readwrite.splitting.common.rule.ReadWriteSplittingDataSourceRule;
 import org.apache.shardingsphere.readwrite.splitting.common.rule.ReadWriteSplittingRule;
 
@@ -43,7 +45,8 @@ public final class ReadWriteSplittingSQLRouter implements SQLRouter<ReadWriteSpl
     @Override
     public RouteContext createRouteContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ReadWriteSplittingRule rule, final ConfigurationProperties props) {
         RouteContext result = new RouteContext();
-        String dataSourceName = new ReadWriteSplittingDataSourceRouter(rule.getSingleDataSourceRule()).route(logicSQL.getSqlStatementContext().getSqlStatement());
+        ReadWriteSplittingDataSourceRouter dataSourceRouter = new ReadWriteSplittingDataSourceRouter(rule.getSingleDataSourceRule(), findReplicationPositionTracker(rule, props));
+        String dataSourceName = dataSourceRouter.route(logicSQL.getSqlStatementContext().getSqlStatement());
         result.getRouteUnits().add(new RouteUnit(new RouteMapper(DefaultSchema.LOGIC_NAME, dataSourceName), Collections.emptyList()));
         return result;
     }
@@ -58,7 +61,8 @@ public final class ReadWriteSplittingSQLRouter implements SQLRouter<ReadWriteSpl
             Optional<ReadWriteSplittingDataSourceRule> dataSourceRule = rule.findDataSourceRule(dataSourceName);
             if (dataSourceRule.isPresent() && dataSourceRule.get().getName().equalsIgnoreCase(each.getDataSourceMapper().getActualName())) {
                 toBeRemoved.add(each);
-                String actualDataSourceName = new ReadWriteSplittingDataSourceRouter(dataSourceRule.get()).route(logicSQL.getSqlStatementContext().getSqlStatement());
+                ReadWriteSplittingDataSourceRouter dataSourceRouter = new ReadWriteSplittingDataSourceRouter(dataSourceRule.get(), findReplicationPositionTracker(rule, props));
+                String actualDataSourceName = dataSourceRouter.route(logicSQL.getSqlStatementContext().getSqlStatement());
                 toBeAdded.add(new RouteUnit(new RouteMapper(each.getDataSourceMapper().getLogicName(), actualDataSourceName), each.getTableMappers()));
             }
         }
@@ -66,6 +70,10 @@ public final class ReadWriteSplittingSQLRouter implements SQLRouter<ReadWriteSpl
         routeContext.getRouteUnits().addAll(toBeAdded);
     }
     
+    private ReplicationPositionTracker findReplicationPositionTracker(final ReadWriteSplittingRule rule, final ConfigurationProperties props) {
+        return props.<Boolean>getValue(ConfigurationPropertyKey.READ_WRITE_SPLITTING_READ_YOUR_WRITES_ENABLED) ? rule.getReplicationPositionTracker() : null;
+    }
+    
     @Override
     public int getOrder() {
         return ReadWriteSplittingOrder.ORDER;
@@ -24,12 +24,17 @@ import lombok.NoArgsConstructor;
  * Primary data source visited manager.
  * 
  * <p>Trace primary data source visited or not in current thread.</p>
+ * 
+ * <p>Primary written context belongs to session, it should be bound to current thread before routing if session outlives one command,
+ * otherwise a thread scoped context is used.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PrimaryVisitedManager {
     
     private static final ThreadLocal<Boolean> PRIMARY_VISITED = ThreadLocal.withInitial(() -> false);
     
+    private static final ThreadLocal<PrimaryWrittenContext> PRIMARY_WRITTEN_CONTEXT = ThreadLocal.withInitial(PrimaryWrittenContext::new);
+    
     /**
      * Judge primary data source visited in current thread.
      * 
@@ -46,10 +51,29 @@ public final class PrimaryVisitedManager {
         PRIMARY_VISITED.set(true);
     }
     
+    /**
+     * Get primary written context bound to current thread.
+     * 
+     * @return primary written context
+     */
+    public static PrimaryWrittenContext getPrimaryWrittenContext() {
+        return PRIMARY_WRITTEN_CONTEXT.get();
+    }
+    
+    /**
+     * Bind primary written context of session to current thread.
+     * 
+     * @param primaryWrittenContext primary written context
+     */
+    public static void setPrimaryWrittenContext(final PrimaryWrittenContext primaryWrittenContext) {
+        PRIMARY_WRITTEN_CONTEXT.set(primaryWrittenContext);
+    }
+    
     /**
      * Clear primary data source visited.
      */
     public static void clear() {
         PRIMARY_VISITED.remove();
+        PRIMARY_WRITTEN_CONTEXT.remove();
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwrite.splitting.route.engine.impl;
+
+import org.apache.shardingsphere.readwrite.splitting.common.position.ReplicationPosition;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Primary written context.
+ * 
+ * <p>Trace read write splitting data sources written and replication positions of primary captured after the writes in one session.</p>
+ */
+public final class PrimaryWrittenContext {
+    
+    private final Collection<String> uncompletedWrittenDataSourceNames = ConcurrentHashMap.newKeySet();
+    
+    private final Map<String, Long> completedWrittenNanos = new ConcurrentHashMap<>();
+    
+    private final Map<String, ReplicationPosition> primaryPositions = new ConcurrentHashMap<>();
+    
+    /**
+     * Judge primary data source of read write splitting data source written or not.
+     * 
+     * @param name read write splitting data source name
+     * @return primary data source written or not
+     */
+    public boolean isWritten(final String name) {
+        return uncompletedWrittenDataSourceNames.contains(name) || completedWrittenNanos.containsKey(name) || primaryPositions.containsKey(name);
+    }
+    
+    /**
+     * Set primary data source of read write splitting data source written.
+     * 
+     * @param name read write splitting data source name
+     */
+    public void setWritten(final String name) {
+        uncompletedWrittenDataSourceNames.add(name);
+        completedWrittenNanos.remove(name);
+    }
+    
+    /**
+     * Complete writes, writes are completed when command which executes them finished.
+     */
+    public void completeWrites() {
+        if (uncompletedWrittenDataSourceNames.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (String each : uncompletedWrittenDataSourceNames) {
+            completedWrittenNanos.put(each, now);
+        }
+        uncompletedWrittenDataSourceNames.clear();
+    }
+    
+    /**
+     * Get nano time when last write of read write splitting data source completed.
+     * 
+     * <p>Current nano time is returned if the write is not known to be completed, it is always completed before the next read is routed.</p>
+     * 
+     * @param name read write splitting data source name
+     * @return nano time when last write completed
+     */
+    public long getWriteCompletedNanos(final String name) {
+        Long result = uncompletedWrittenDataSourceNames.contains(name) ? null : completedWrittenNanos.get(name);
+        return null == result ? System.nanoTime() : result;
+    }
+    
+    /**
+     * Find replication position of primary data source captured after last write.
+     * 
+     * @param name read write splitting data source name
+     * @return replication position of primary data source, empty if not captured since last write
+     */
+    public Optional<ReplicationPosition> findPrimaryPosition(final String name) {
+        return uncompletedWrittenDataSourceNames.contains(name) || completedWrittenNanos.containsKey(name) ? Optional.empty() : Optional.ofNullable(primaryPositions.get(name));
+    }
+    
+    /**
+     * Set replication position of primary data source captured after last write.
+     * 
+     * @param name read write splitting data source name
+     * @param position replication position of primary data source
+     */
+    public void setPrimaryPosition(final String name, final ReplicationPosition position) {
+        uncompletedWrittenDataSourceNames.remove(name);
+        completedWrittenNanos.remove(name);
+        primaryPositions.put(name, position);
+    }
+}
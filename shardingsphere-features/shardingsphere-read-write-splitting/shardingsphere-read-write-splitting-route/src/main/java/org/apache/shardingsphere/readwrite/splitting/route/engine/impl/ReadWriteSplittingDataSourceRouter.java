@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.aware.DataSourceNameAware;
 import org.apache.shardingsphere.infra.aware.DataSourceNameAwareFactory;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.transaction.TransactionHolder;
+import org.apache.shardingsphere.readwrite.splitting.common.position.ReplicationPosition;
+import org.apache.shardingsphere.readwrite.splitting.common.position.ReplicationPositionTracker;
 import org.apache.shardingsphere.readwrite.splitting.common.rule.ReadWriteSplittingDataSourceRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
@@ -30,7 +32,9 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatem
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Data source router for read write splitting.
@@ -40,6 +44,12 @@ public final class ReadWriteSplittingDataSourceRouter {
     
     private final ReadWriteSplittingDataSourceRule rule;
     
+    private final ReplicationPositionTracker replicationPositionTracker;
+    
+    public ReadWriteSplittingDataSourceRouter(final ReadWriteSplittingDataSourceRule rule) {
+        this(rule, null);
+    }
+    
     /**
      * Route.
      * 
@@ -49,30 +59,64 @@ public final class ReadWriteSplittingDataSourceRouter {
     public String route(final SQLStatement sqlStatement) {
         if (isPrimaryRoute(sqlStatement)) {
             PrimaryVisitedManager.setPrimaryVisited();
-            String autoAwareDataSourceName = rule.getAutoAwareDataSourceName();
-            if (Strings.isNullOrEmpty(autoAwareDataSourceName)) {
-                return rule.getWriteDataSourceName();
+            if (null != replicationPositionTracker) {
+                PrimaryVisitedManager.getPrimaryWrittenContext().setWritten(rule.getName());
             }
-            Optional<DataSourceNameAware> dataSourceNameAware = DataSourceNameAwareFactory.getInstance().getDataSourceNameAware();
-            if (dataSourceNameAware.isPresent()) {
-                return dataSourceNameAware.get().getPrimaryDataSourceName(autoAwareDataSourceName);
+            Optional<String> primaryDataSourceName = findPrimaryDataSourceName();
+            if (primaryDataSourceName.isPresent()) {
+                return primaryDataSourceName.get();
             }
         }
         String autoAwareDataSourceName = rule.getAutoAwareDataSourceName();
         if (Strings.isNullOrEmpty(autoAwareDataSourceName)) {
-            return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSourceName(), rule.getReadDataSourceNames());
+            return routeToReplica(rule.getReadDataSourceNames());
         }
         Optional<DataSourceNameAware> dataSourceNameAware = DataSourceNameAwareFactory.getInstance().getDataSourceNameAware();
         if (dataSourceNameAware.isPresent()) {
             Collection<String> replicaDataSourceNames = dataSourceNameAware.get().getReplicaDataSourceNames(autoAwareDataSourceName);
-            return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSourceName(), new ArrayList<>(replicaDataSourceNames));
+            return routeToReplica(new ArrayList<>(replicaDataSourceNames));
         }
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSourceName(), rule.getReadDataSourceNames());
+        return routeToReplica(rule.getReadDataSourceNames());
     }
     
     private boolean isPrimaryRoute(final SQLStatement sqlStatement) {
         return containsLockSegment(sqlStatement) || !(sqlStatement instanceof SelectStatement)
-                || PrimaryVisitedManager.getPrimaryVisited() || HintManager.isWriteRouteOnly() || TransactionHolder.isTransaction();
+                || (null == replicationPositionTracker && PrimaryVisitedManager.getPrimaryVisited()) || HintManager.isWriteRouteOnly() || TransactionHolder.isTransaction();
+    }
+    
+    private Optional<String> findPrimaryDataSourceName() {
+        String autoAwareDataSourceName = rule.getAutoAwareDataSourceName();
+        if (Strings.isNullOrEmpty(autoAwareDataSourceName)) {
+            return Optional.of(rule.getWriteDataSourceName());
+        }
+        return DataSourceNameAwareFactory.getInstance().getDataSourceNameAware().map(optional -> optional.getPrimaryDataSourceName(autoAwareDataSourceName));
+    }
+    
+    private String routeToReplica(final List<String> readDataSourceNames) {
+        if (null == replicationPositionTracker || !PrimaryVisitedManager.getPrimaryWrittenContext().isWritten(rule.getName())) {
+            return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSourceName(), readDataSourceNames);
+        }
+        Optional<String> primaryDataSourceName = findPrimaryDataSourceName();
+        if (!primaryDataSourceName.isPresent()) {
+            return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSourceName(), readDataSourceNames);
+        }
+        Optional<ReplicationPosition> primaryPosition = findPrimaryPosition(primaryDataSourceName.get());
+        if (!primaryPosition.isPresent()) {
+            return primaryDataSourceName.get();
+        }
+        List<String> appliedDataSourceNames = readDataSourceNames.stream().filter(each -> replicationPositionTracker.isApplied(each, primaryPosition.get())).collect(Collectors.toList());
+        return appliedDataSourceNames.isEmpty() ? primaryDataSourceName.get() : rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSourceName(), appliedDataSourceNames);
+    }
+    
+    private Optional<ReplicationPosition> findPrimaryPosition(final String primaryDataSourceName) {
+        PrimaryWrittenContext primaryWrittenContext = PrimaryVisitedManager.getPrimaryWrittenContext();
+        Optional<ReplicationPosition> result = primaryWrittenContext.findPrimaryPosition(rule.getName());
+        if (result.isPresent()) {
+            return result;
+        }
+        result = replicationPositionTracker.loadPrimaryPosition(primaryDataSourceName, primaryWrittenContext.getWriteCompletedNanos(rule.getName()));
+        result.ifPresent(optional -> primaryWrittenContext.setPrimaryPosition(rule.getName(), optional));
+        return result;
     }
     
     private boolean containsLockSegment(final SQLStatement sqlStatement) {
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwrite.splitting.route.engine.impl;
+
+import org.apache.shardingsphere.readwrite.splitting.api.ReadWriteSplittingRuleConfiguration;
+import org.apache.shardingsphere.readwrite.splitting.api.rule.ReadWriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwrite.splitting.common.rule.ReadWriteSplittingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ReadWriteSplittingDataSourceRouterTest {
+    
+    private static final String PRIMARY_GTID_SET = "3E11FA47-71CA-11E1-9E33-C80AA9429562:1-10";
+    
+    @After
+    public void tearDown() {
+        PrimaryVisitedManager.clear();
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteToPrimaryWithoutReadYourWrites() throws SQLException {
+        ReadWriteSplittingRule rule = createRule("3E11FA47-71CA-11E1-9E33-C80AA9429562:1-10");
+        ReadWriteSplittingDataSourceRouter router = new ReadWriteSplittingDataSourceRouter(rule.getSingleDataSourceRule());
+        assertThat(router.route(mock(InsertStatement.class)), is("write_ds"));
+        assertThat(router.route(mockSelectStatement()), is("write_ds"));
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteToAppliedReplica() throws SQLException {
+        ReadWriteSplittingRule rule = createRule("3e11fa47-71ca-11e1-9e33-c80aa9429562:1-12");
+        ReadWriteSplittingDataSourceRouter router = new ReadWriteSplittingDataSourceRouter(rule.getSingleDataSourceRule(), rule.getReplicationPositionTracker());
+        assertThat(router.route(mock(InsertStatement.class)), is("write_ds"));
+        assertThat(router.route(mockSelectStatement()), is("read_ds"));
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteToPrimaryWithLaggingReplica() throws SQLException {
+        ReadWriteSplittingRule rule = createRule("3E11FA47-71CA-11E1-9E33-C80AA9429562:1-9");
+        ReadWriteSplittingDataSourceRouter router = new ReadWriteSplittingDataSourceRouter(rule.getSingleDataSourceRule(), rule.getReplicationPositionTracker());
+        assertThat(router.route(mock(InsertStatement.class)), is("write_ds"));
+        assertThat(router.route(mockSelectStatement()), is("write_ds"));
+    }
+    
+    @Test
+    public void assertRouteReadAfterWriteInPreviousCommandToPrimaryWithLaggingReplica() throws SQLException {
+        ReadWriteSplittingRule rule = createRule("3E11FA47-71CA-11E1-9E33-C80AA9429562:1-9");
+        ReadWriteSplittingDataSourceRouter router = new ReadWriteSplittingDataSourceRouter(rule.getSingleDataSourceRule(), rule.getReplicationPositionTracker());
+        PrimaryWrittenContext primaryWrittenContext = new PrimaryWrittenContext();
+        PrimaryVisitedManager.setPrimaryWrittenContext(primaryWrittenContext);
+        assertThat(router.route(mock(InsertStatement.class)), is("write_ds"));
+        primaryWrittenContext.completeWrites();
+        PrimaryVisitedManager.clear();
+        PrimaryVisitedManager.setPrimaryWrittenContext(primaryWrittenContext);
+        assertThat(router.route(mockSelectStatement()), is("write_ds"));
+    }
+    
+    @Test
+    public void assertRouteReadWithoutWriteToReplica() throws SQLException {
+        ReadWriteSplittingRule rule = createRule("3E11FA47-71CA-11E1-9E33-C80AA9429562:1-9");
+        ReadWriteSplittingDataSourceRouter router = new ReadWriteSplittingDataSourceRouter(rule.getSingleDataSourceRule(), rule.getReplicationPositionTracker());
+        assertThat(router.route(mockSelectStatement()), is("read_ds"));
+    }
+    
+    private ReadWriteSplittingRule createRule(final String replicaGTIDSet) throws SQLException {
+        ReadWriteSplittingRuleConfiguration ruleConfig = new ReadWriteSplittingRuleConfiguration(Collections.singleton(
+                new ReadWriteSplittingDataSourceRuleConfiguration("ds", "", "write_ds", Collections.singletonList("read_ds"), null)), Collections.emptyMap());
+        Map<String, DataSource> dataSourceMap = new HashMap<>(2, 1);
+        dataSourceMap.put("write_ds", mockDataSource(PRIMARY_GTID_SET));
+        dataSourceMap.put("read_ds", mockDataSource(replicaGTIDSet));
+        return new ReadWriteSplittingRule(ruleConfig, dataSourceMap);
+    }
+    
+    private DataSource mockDataSource(final String gtidSet) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getURL()).thenReturn("jdbc:mysql://127.0.0.1:3306/test");
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SELECT @@GLOBAL.gtid_executed")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn(gtidSet);
+        return result;
+    }
+    
+    private MySQLSelectStatement mockSelectStatement() {
+        MySQLSelectStatement result = mock(MySQLSelectStatement.class);
+        when(result.getLock()).thenReturn(Optional.empty());
+        return result;
+    }
+}
@@ -23,8 +23,11 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake key generate algorithm.
@@ -36,6 +39,13 @@ import java.util.Properties;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>
+ *     Last milliseconds and sequence are packed into one long and updated by CAS,
+ *     keys of one batch are reserved as a contiguous sequence range by one CAS.
+ *     Last state is read before current time, so last milliseconds moved by other threads are never ahead of current time,
+ *     and only clock moving backwards is waited or rejected.
+ * </p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm {
     
@@ -78,11 +88,9 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private int maxTolerateTimeDifferenceMilliseconds;
     
-    private int sequenceOffset = -1;
-    
-    private long sequence;
+    private volatile int sequenceOffset = -1;
     
-    private long lastMilliseconds;
+    private final AtomicLong lastState = new AtomicLong();
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -118,25 +126,70 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public Comparable<?> generateKey() {
+        long state = reserveSequences(1);
+        return createKey(getMilliseconds(state), getSequence(state));
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        int remaining = count;
+        while (remaining > 0) {
+            int reservedCount = (int) Math.min(remaining, SEQUENCE_MASK + 1);
+            long state = reserveSequences(reservedCount);
+            long milliseconds = getMilliseconds(state);
+            long lastSequence = getSequence(state);
+            for (long each = lastSequence - reservedCount + 1; each <= lastSequence; each++) {
+                result.add(createKey(milliseconds, each));
+            }
+            remaining -= reservedCount;
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+        return result;
+    }
+    
+    private long createKey(final long milliseconds, final long sequence) {
+        return ((milliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long reserveSequences(final int count) {
+        while (true) {
+            long state = lastState.get();
+            long lastMilliseconds = getMilliseconds(state);
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = Math.max(timeService.getCurrentMillis(), lastMilliseconds);
+            }
+            int nextSequenceOffset = sequenceOffset;
+            long firstSequence;
+            if (lastMilliseconds == currentMilliseconds) {
+                firstSequence = getSequence(state) + 1;
+                if (firstSequence + count - 1 > SEQUENCE_MASK) {
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                    firstSequence = 0L;
+                }
+            } else {
+                nextSequenceOffset = vibrateSequenceOffset(nextSequenceOffset);
+                firstSequence = nextSequenceOffset + count - 1 > SEQUENCE_MASK ? 0L : nextSequenceOffset;
+            }
+            long result = (currentMilliseconds << SEQUENCE_BITS) | (firstSequence + count - 1);
+            if (lastState.compareAndSet(state, result)) {
+                sequenceOffset = nextSequenceOffset;
+                return result;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long getMilliseconds(final long state) {
+        return state >>> SEQUENCE_BITS;
+    }
+    
+    private long getSequence(final long state) {
+        return state & SEQUENCE_MASK;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
@@ -155,8 +208,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        sequenceOffset = sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
+    private int vibrateSequenceOffset(final int currentSequenceOffset) {
+        return currentSequenceOffset >= maxVibrationOffset ? 0 : currentSequenceOffset + 1;
     }
     
     @Override
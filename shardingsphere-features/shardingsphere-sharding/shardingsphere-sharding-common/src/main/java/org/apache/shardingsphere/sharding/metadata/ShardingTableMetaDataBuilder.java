@@ -25,7 +25,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datanode.DataNodes;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
-import org.apache.shardingsphere.infra.metadata.schema.builder.loader.TableMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.builder.loader.TableMetaDataLoaderEngine;
 import org.apache.shardingsphere.infra.metadata.schema.builder.spi.RuleBasedTableMetaDataBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
@@ -37,19 +37,14 @@ import org.apache.shardingsphere.sharding.rule.TableRule;
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -57,64 +52,66 @@ import java.util.stream.Collectors;
  */
 public final class ShardingTableMetaDataBuilder implements RuleBasedTableMetaDataBuilder<ShardingRule> {
     
-    private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
-    
-    private static final int FUTURE_GET_TIME_OUT_SECOND = 5;
-    
     @Override
     public Optional<TableMetaData> load(final String tableName, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes,
                                         final ShardingRule rule, final ConfigurationProperties props) throws SQLException {
-        if (!rule.findTableRule(tableName).isPresent()) {
-            return Optional.empty();
-        }
+        return Optional.ofNullable(load(Collections.singletonList(tableName), databaseType, dataSourceMap, dataNodes, rule, props).get(tableName));
+    }
+    
+    @Override
+    public Map<String, TableMetaData> load(final Collection<String> tableNames, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes,
+                                           final ShardingRule rule, final ConfigurationProperties props) throws SQLException {
         boolean isCheckingMetaData = props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED);
-        int maxConnectionsSizePerQuery = props.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        TableRule tableRule = rule.getTableRule(tableName);
-        if (!isCheckingMetaData) {
-            DataNode dataNode = dataNodes.getDataNodes(tableName).iterator().next();
-            return TableMetaDataLoader.load(dataSourceMap.get(dataNode.getDataSourceName()), dataNode.getTableName(), databaseType);
+        Map<String, Collection<DataNode>> logicTableDataNodes = getLogicTableDataNodes(tableNames, dataNodes, rule, isCheckingMetaData);
+        if (logicTableDataNodes.isEmpty()) {
+            return Collections.emptyMap();
         }
-        Map<String, TableMetaData> actualTableMetaDataMap = parallelLoadTables(databaseType, dataSourceMap, dataNodes, tableName, maxConnectionsSizePerQuery);
-        if (actualTableMetaDataMap.isEmpty()) {
-            return Optional.empty();
+        Map<String, Map<String, TableMetaData>> loadedTableMetaDataMap = TableMetaDataLoaderEngine.load(getDataSourceTables(logicTableDataNodes.values()), databaseType, dataSourceMap);
+        Map<String, TableMetaData> result = new LinkedHashMap<>(logicTableDataNodes.size(), 1);
+        for (Entry<String, Collection<DataNode>> entry : logicTableDataNodes.entrySet()) {
+            Map<String, TableMetaData> actualTableMetaDataMap = getActualTableMetaDataMap(entry.getValue(), loadedTableMetaDataMap);
+            if (actualTableMetaDataMap.isEmpty()) {
+                continue;
+            }
+            if (isCheckingMetaData) {
+                checkUniformed(rule.getTableRule(entry.getKey()).getLogicTable(), actualTableMetaDataMap, rule);
+            }
+            result.put(entry.getKey(), actualTableMetaDataMap.values().iterator().next());
         }
-        checkUniformed(tableRule.getLogicTable(), actualTableMetaDataMap, rule);
-        return Optional.of(actualTableMetaDataMap.values().iterator().next());
+        return result;
     }
     
-    private Map<String, TableMetaData> parallelLoadTables(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap, final DataNodes dataNodes,
-                                                          final String tableName, final int maxConnectionsSizePerQuery) {
-        Map<String, List<DataNode>> dataNodeGroups = dataNodes.getDataNodeGroups(tableName);
-        Map<String, TableMetaData> result = new HashMap<>(dataNodeGroups.size(), 1);
-        Map<String, Future<Optional<TableMetaData>>> tableFutureMap = new HashMap<>(dataNodeGroups.size(), 1);
-        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(CPU_CORES * 2, dataNodeGroups.size() * maxConnectionsSizePerQuery));
-        for (Entry<String, List<DataNode>> entry : dataNodeGroups.entrySet()) {
-            for (DataNode each : entry.getValue()) {
-                Future<Optional<TableMetaData>> futures = executorService.submit(() -> loadTableByDataNode(each, databaseType, dataSourceMap));
-                tableFutureMap.put(each.getTableName(), futures);
+    private Map<String, Collection<DataNode>> getLogicTableDataNodes(final Collection<String> tableNames, final DataNodes dataNodes, final ShardingRule rule, final boolean isCheckingMetaData) {
+        Map<String, Collection<DataNode>> result = new LinkedHashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            if (!rule.findTableRule(each).isPresent()) {
+                continue;
             }
+            Collection<DataNode> actualDataNodes = dataNodes.getDataNodes(each);
+            result.put(each, isCheckingMetaData ? actualDataNodes : Collections.singletonList(actualDataNodes.iterator().next()));
         }
-        tableFutureMap.forEach((key, value) -> {
-            try {
-                getTableMetaData(value).ifPresent(tableMetaData -> result.put(key, tableMetaData));
-            } catch (final InterruptedException | ExecutionException | TimeoutException ex) {
-                throw new IllegalStateException(String.format("Error while fetching tableMetaData with key= %s and Value=%s", key, value), ex);
-            }
-        });
-        executorService.shutdownNow();
         return result;
     }
     
-    private Optional<TableMetaData> getTableMetaData(final Future<Optional<TableMetaData>> value) throws InterruptedException, ExecutionException, TimeoutException {
-        return value.get(FUTURE_GET_TIME_OUT_SECOND, TimeUnit.SECONDS);
+    private Map<String, Collection<String>> getDataSourceTables(final Collection<Collection<DataNode>> dataNodeGroups) {
+        Map<String, Collection<String>> result = new LinkedHashMap<>();
+        for (Collection<DataNode> dataNodeGroup : dataNodeGroups) {
+            for (DataNode each : dataNodeGroup) {
+                result.computeIfAbsent(each.getDataSourceName(), key -> new LinkedHashSet<>()).add(each.getTableName());
+            }
+        }
+        return result;
     }
     
-    private Optional<TableMetaData> loadTableByDataNode(final DataNode dataNode, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) {
-        try {
-            return TableMetaDataLoader.load(dataSourceMap.get(dataNode.getDataSourceName()), dataNode.getTableName(), databaseType);
-        } catch (final SQLException ex) {
-            throw new IllegalStateException(String.format("SQLException for DataNode=%s and databaseType=%s", dataNode, databaseType.getName()), ex);
+    private Map<String, TableMetaData> getActualTableMetaDataMap(final Collection<DataNode> dataNodes, final Map<String, Map<String, TableMetaData>> loadedTableMetaDataMap) {
+        Map<String, TableMetaData> result = new LinkedHashMap<>(dataNodes.size(), 1);
+        for (DataNode each : dataNodes) {
+            TableMetaData tableMetaData = loadedTableMetaDataMap.getOrDefault(each.getDataSourceName(), Collections.emptyMap()).get(each.getTableName());
+            if (null != tableMetaData) {
+                result.put(String.join(".", each.getDataSourceName(), each.getTableName()), tableMetaData);
+            }
         }
+        return result;
     }
     
     private void checkUniformed(final String logicTableName, final Map<String, TableMetaData> actualTableMetaDataMap, final ShardingRule shardingRule) {
@@ -53,6 +53,7 @@ import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -96,6 +97,21 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
     
     private final KeyGenerateAlgorithm defaultKeyGenerateAlgorithm;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> broadcastTableNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> shardingColumns;
+    
     public ShardingRule(final ShardingRuleConfiguration config, final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) {
         Preconditions.checkArgument(null != config, "Sharding rule configuration cannot be null.");
         Preconditions.checkArgument(null != dataSourceMap && !dataSourceMap.isEmpty(), "Data sources cannot be empty.");
@@ -104,13 +120,18 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
         config.getKeyGenerators().forEach((key, value) -> keyGenerators.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, KeyGenerateAlgorithm.class)));
         tableRules = new LinkedList<>(createTableRules(config.getTables(), config.getDefaultKeyGenerateStrategy()));
         tableRules.addAll(createAutoTableRules(config.getAutoTables(), config.getDefaultKeyGenerateStrategy()));
+        logicTableRules = createLogicTableRules();
+        actualTableRules = createActualTableRules();
         broadcastTables = config.getBroadcastTables();
+        broadcastTableNames = broadcastTables.stream().map(String::toLowerCase).collect(Collectors.toSet());
         bindingTableRules = createBindingTableRules(config.getBindingTableGroups());
+        logicTableBindingTableRules = createLogicTableBindingTableRules();
         singleTableRules = SingleTableRuleLoader.load(databaseType, dataSourceMap, getExcludedTables());
         defaultDatabaseShardingStrategyConfig = null == config.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultDatabaseShardingStrategy();
         defaultTableShardingStrategyConfig = null == config.getDefaultTableShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultTableShardingStrategy();
         defaultKeyGenerateAlgorithm = null == config.getDefaultKeyGenerateStrategy()
                 ? TypedSPIRegistry.getRegisteredService(KeyGenerateAlgorithm.class) : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
+        shardingColumns = createShardingColumns();
         ShardingSphereEventBus.getInstance().register(this);
     }
     
@@ -122,13 +143,18 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
         keyGenerators.putAll(config.getKeyGenerators());
         tableRules = new LinkedList<>(createTableRules(config.getTables(), config.getDefaultKeyGenerateStrategy()));
         tableRules.addAll(createAutoTableRules(config.getAutoTables(), config.getDefaultKeyGenerateStrategy()));
+        logicTableRules = createLogicTableRules();
+        actualTableRules = createActualTableRules();
         broadcastTables = config.getBroadcastTables();
+        broadcastTableNames = broadcastTables.stream().map(String::toLowerCase).collect(Collectors.toSet());
         bindingTableRules = createBindingTableRules(config.getBindingTableGroups());
+        logicTableBindingTableRules = createLogicTableBindingTableRules();
         singleTableRules = SingleTableRuleLoader.load(databaseType, dataSourceMap, getExcludedTables());
         defaultDatabaseShardingStrategyConfig = null == config.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultDatabaseShardingStrategy();
         defaultTableShardingStrategyConfig = null == config.getDefaultTableShardingStrategy() ? new NoneShardingStrategyConfiguration() : config.getDefaultTableShardingStrategy();
         defaultKeyGenerateAlgorithm = null == config.getDefaultKeyGenerateStrategy()
                 ? TypedSPIRegistry.getRegisteredService(KeyGenerateAlgorithm.class) : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
+        shardingColumns = createShardingColumns();
     }
     
     private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs, final Collection<String> dataSourceNames) {
@@ -176,6 +202,45 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
         return new BindingTableRule(Splitter.on(",").trimResults().splitToList(bindingTableGroup).stream().map(this::getTableRule).collect(Collectors.toList()));
     }
     
+    private Map<String, TableRule> createLogicTableRules() {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        tableRules.forEach(each -> result.putIfAbsent(each.getLogicTable(), each));
+        return result;
+    }
+    
+    private Map<String, TableRule> createActualTableRules() {
+        Map<String, TableRule> result = new HashMap<>();
+        tableRules.forEach(each -> each.getActualDataNodes().forEach(dataNode -> result.putIfAbsent(dataNode.getTableName().toLowerCase(), each)));
+        return result;
+    }
+    
+    private Map<String, BindingTableRule> createLogicTableBindingTableRules() {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        bindingTableRules.forEach(each -> each.getTableRules().forEach(tableRule -> result.putIfAbsent(tableRule.getLogicTable(), each)));
+        return result;
+    }
+    
+    private Map<String, Collection<String>> createShardingColumns() {
+        Map<String, Collection<String>> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            Collection<String> columns = new HashSet<>();
+            columns.addAll(getShardingColumns(getDatabaseShardingStrategyConfiguration(each)));
+            columns.addAll(getShardingColumns(getTableShardingStrategyConfiguration(each)));
+            result.putIfAbsent(each.getLogicTable(), columns);
+        }
+        return result;
+    }
+    
+    private Collection<String> getShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration && null != ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()) {
+            return Collections.singleton(((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn().toLowerCase());
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration && null != ((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns()) {
+            return Splitter.on(",").trimResults().omitEmptyStrings().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns().toLowerCase());
+        }
+        return Collections.emptyList();
+    }
+    
     private Collection<String> getExcludedTables() {
         Collection<String> result = new HashSet<>(getTables());
         result.addAll(getAllActualTables());
@@ -210,7 +275,7 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        return tableRules.stream().filter(each -> each.getLogicTable().equalsIgnoreCase(logicTableName)).findFirst();
+        return null == logicTableName ? Optional.empty() : Optional.ofNullable(logicTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -220,7 +285,7 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        return tableRules.stream().filter(each -> each.isExisted(actualTableName)).findFirst();
+        return null == actualTableName ? Optional.empty() : Optional.ofNullable(actualTableRules.get(actualTableName.toLowerCase()));
     }
     
     /**
@@ -270,7 +335,7 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        return bindingTableRules.stream().filter(each -> each.hasLogicTable(logicTableName)).findFirst();
+        return null == logicTableName ? Optional.empty() : Optional.ofNullable(logicTableBindingTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -300,7 +365,7 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
      * @return logic table is belong to broadcast tables or not
      */
     public boolean isBroadcastTable(final String logicTableName) {
-        return broadcastTables.stream().anyMatch(each -> each.equalsIgnoreCase(logicTableName));
+        return null != logicTableName && broadcastTableNames.contains(logicTableName.toLowerCase());
     }
     
     /**
@@ -313,7 +378,7 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
         if (!singleTableRules.keySet().containsAll(logicTableNames)) {
             return false;
         }
-        return 1 == singleTableRules.values().stream().filter(each -> logicTableNames.contains(each.getTableName())).collect(Collectors.toSet()).size();
+        return 1 == logicTableNames.stream().map(singleTableRules::get).collect(Collectors.toSet()).size();
     }
     
     /**
@@ -344,22 +409,12 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        return tableRules.stream().anyMatch(each -> each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName));
-    }
-    
-    private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
-        return isShardingColumn(getDatabaseShardingStrategyConfiguration(tableRule), columnName) || isShardingColumn(getTableShardingStrategyConfiguration(tableRule), columnName);
-    }
-    
-    private boolean isShardingColumn(final ShardingStrategyConfiguration shardingStrategyConfig, final String columnName) {
-        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
-            return ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn().equalsIgnoreCase(columnName);
-        }
-        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
-            return ((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns().contains(columnName);
+        if (null == columnName || null == tableName) {
+            return false;
         }
-        return false;
-    } 
+        Collection<String> columns = shardingColumns.get(tableName.toLowerCase());
+        return null != columns && columns.contains(columnName.toLowerCase());
+    }
     
     /**
      * Judge is generate key column or not.
@@ -369,7 +424,7 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
      * @return is generate key column or not
      */
     public boolean isGenerateKeyColumn(final String columnName, final String tableName) {
-        return tableRules.stream().anyMatch(each -> each.getLogicTable().equalsIgnoreCase(tableName) && isGenerateKeyColumn(each, columnName));
+        return findTableRule(tableName).filter(each -> isGenerateKeyColumn(each, columnName)).isPresent();
     }
     
     private boolean isGenerateKeyColumn(final TableRule tableRule, final String columnName) {
@@ -384,8 +439,7 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        return tableRules.stream().filter(each -> each.getLogicTable().equalsIgnoreCase(logicTableName) && each.getGenerateKeyColumn().isPresent())
-                .map(TableRule::getGenerateKeyColumn).findFirst().orElse(Optional.empty());
+        return findTableRule(logicTableName).flatMap(TableRule::getGenerateKeyColumn);
     }
     
     /**
@@ -395,12 +449,26 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys to be generated
+     * @return generated keys
+     */
+    public Collection<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(count);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        KeyGenerateAlgorithm keyGenerator = null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
-        return keyGenerator.generateKey();
+        return null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
     }
     
     /**
@@ -467,7 +535,7 @@ public final class ShardingRule implements DataNodeContainedRule, TableContained
     }
     
     private boolean isConfiguredTable(final String tableName) {
-        return findTableRule(tableName).isPresent() || findBindingTableRule(tableName).isPresent() || broadcastTables.contains(tableName) || singleTableRules.containsKey(tableName);
+        return findTableRule(tableName).isPresent() || findBindingTableRule(tableName).isPresent() || isBroadcastTable(tableName) || singleTableRules.containsKey(tableName);
     }
     
     /**
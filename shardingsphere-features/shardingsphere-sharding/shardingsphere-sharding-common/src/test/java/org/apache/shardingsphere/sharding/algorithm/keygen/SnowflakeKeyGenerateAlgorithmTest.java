@@ -24,6 +24,7 @@ import org.junit.Test;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
@@ -32,10 +33,13 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class SnowflakeKeyGenerateAlgorithmTest {
     
@@ -119,7 +123,7 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         keyGenerateAlgorithm.setProps(new Properties());
         keyGenerateAlgorithm.init();
         setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2);
-        List<Comparable<?>> expected = Arrays.asList(4194304L, 8388609L, 8388610L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L, 25165825L);
+        List<Comparable<?>> expected = Arrays.asList(8388609L, 8388610L, 8388611L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L, 25165825L);
         List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
         for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
             actual.add(keyGenerateAlgorithm.generateKey());
@@ -161,18 +165,90 @@ public final class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertGenerateKeysInSameMillisecond() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(5));
+        keyGenerateAlgorithm.setProps(new Properties());
+        keyGenerateAlgorithm.init();
+        assertThat(new ArrayList<>(keyGenerateAlgorithm.generateKeys(3)), is(Arrays.<Comparable<?>>asList(0L, 1L, 2L)));
+        assertThat(new ArrayList<>(keyGenerateAlgorithm.generateKeys(2)), is(Arrays.<Comparable<?>>asList(3L, 4L)));
+        assertThat(keyGenerateAlgorithm.generateKey(), is(5L));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        keyGenerateAlgorithm.setProps(new Properties());
+        keyGenerateAlgorithm.init();
+        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis());
+        setSequence(keyGenerateAlgorithm, (1 << DEFAULT_SEQUENCE_BITS) - 2);
+        assertThat(new ArrayList<>(keyGenerateAlgorithm.generateKeys(2)), is(Arrays.<Comparable<?>>asList(4194304L, 4194305L)));
+    }
+    
+    @Test
+    public void assertGenerateKeysMoreThanMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        keyGenerateAlgorithm.setProps(new Properties());
+        keyGenerateAlgorithm.init();
+        int keyAmount = (1 << DEFAULT_SEQUENCE_BITS) * 3;
+        List<Comparable<?>> actual = new ArrayList<>(keyGenerateAlgorithm.generateKeys(keyAmount));
+        assertThat(actual.size(), is(keyAmount));
+        for (int i = 1; i < keyAmount; i++) {
+            assertTrue((Long) actual.get(i) > (Long) actual.get(i - 1));
+        }
+    }
+    
+    @Test
+    public void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = new SnowflakeKeyGenerateAlgorithm();
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        keyGenerateAlgorithm.setProps(new Properties());
+        keyGenerateAlgorithm.init();
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        int taskNumber = threadNumber << 2;
+        int keyAmountPerTask = 1000;
+        List<Future<Collection<Comparable<?>>>> futures = new ArrayList<>(taskNumber);
+        for (int i = 0; i < taskNumber; i++) {
+            boolean batch = 0 == i % 2;
+            futures.add(executor.submit(() -> batch ? keyGenerateAlgorithm.generateKeys(keyAmountPerTask) : generateKeysOneByOne(keyGenerateAlgorithm, keyAmountPerTask)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(taskNumber * keyAmountPerTask, 1);
+        for (Future<Collection<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * keyAmountPerTask));
+    }
+    
+    private Collection<Comparable<?>> generateKeysOneByOne(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final int keyAmount) {
+        Collection<Comparable<?>> result = new ArrayList<>(keyAmount);
+        for (int i = 0; i < keyAmount; i++) {
+            result.add(keyGenerateAlgorithm.generateKey());
+        }
+        return result;
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
-        Field sequence = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(keyGenerateAlgorithm, value);
+    private void setSequence(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final long value) {
+        AtomicLong lastState = getLastState(keyGenerateAlgorithm);
+        lastState.set(lastState.get() >>> DEFAULT_SEQUENCE_BITS << DEFAULT_SEQUENCE_BITS | value);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMilliseconds(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
-        Field lastMilliseconds = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(keyGenerateAlgorithm, value);
+    private void setLastMilliseconds(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final long value) {
+        AtomicLong lastState = getLastState(keyGenerateAlgorithm);
+        lastState.set(value << DEFAULT_SEQUENCE_BITS | lastState.get() & ((1 << DEFAULT_SEQUENCE_BITS) - 1));
+    }
+    
+    private AtomicLong getLastState(final SnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm) throws ReflectiveOperationException {
+        Field lastState = SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastState");
+        lastState.setAccessible(true);
+        return (AtomicLong) lastState.get(keyGenerateAlgorithm);
     }
     
     @Test(expected = IllegalArgumentException.class)
@@ -21,12 +21,16 @@ import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmC
 import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.CreateTableEvent;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.DropTableEvent;
 import org.apache.shardingsphere.sharding.algorithm.keygen.SnowflakeKeyGenerateAlgorithm;
 import org.apache.shardingsphere.sharding.algorithm.keygen.fixture.IncrementKeyGenerateAlgorithm;
 import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.keygen.KeyGenerateStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.rule.single.SingleTableRule;
@@ -34,9 +38,11 @@ import org.junit.Test;
 
 import javax.sql.DataSource;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -88,6 +94,11 @@ public final class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findTableRuleByActualTable("table_0").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleByActualTableIgnoreCase() {
+        assertThat(createMaximumShardingRule().findTableRuleByActualTable("SUB_TABLE_1").map(TableRule::getLogicTable), is(Optional.of("sub_logic_table")));
+    }
+    
     @Test
     public void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
@@ -220,6 +231,18 @@ public final class ShardingRuleTest {
         assertTrue(new ShardingRule(shardingRuleConfig, mock(DatabaseType.class), createDataSourceMap()).isShardingColumn("column", "logic_Table"));
     }
     
+    @Test
+    public void assertIsShardingColumnForComplexShardingStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration shardingTableRuleConfig = new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
+        shardingTableRuleConfig.setTableShardingStrategy(new ComplexShardingStrategyConfiguration("user_id, order_id", "standard"));
+        shardingRuleConfig.getTables().add(shardingTableRuleConfig);
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, mock(DatabaseType.class), createDataSourceMap());
+        assertTrue(actual.isShardingColumn("ORDER_ID", "logic_table"));
+        assertTrue(actual.isShardingColumn("user_id", "logic_table"));
+        assertFalse(actual.isShardingColumn("id", "logic_table"));
+    }
+    
     @Test
     public void assertIsNotShardingColumn() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -252,6 +275,13 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(Integer.class));
     }
     
+    @Test
+    public void assertGenerateKeysWithKeyGenerator() {
+        Collection<Comparable<?>> actual = createMaximumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.iterator().next(), instanceOf(Integer.class));
+    }
+    
     @Test
     public void assertGetDataNodeByLogicTable() {
         assertThat(createMaximumShardingRule().getDataNode("logic_table"), is(new DataNode("ds_0.table_0")));
@@ -313,6 +343,19 @@ public final class ShardingRuleTest {
         assertThat(shardingRule.getAllDataNodes().size(), is(3));
     }
     
+    @Test
+    public void assertCreateAndDropSingleTable() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        shardingRule.createSingleTable(new CreateTableEvent("ds_0", "broadcast_table", new TableMetaData()));
+        shardingRule.createSingleTable(new CreateTableEvent("ds_0", "logic_table", new TableMetaData()));
+        shardingRule.createSingleTable(new CreateTableEvent("ds_0", "single_table", new TableMetaData()));
+        assertThat(shardingRule.getSingleTableRules().keySet(), is(Collections.singleton("single_table")));
+        assertTrue(shardingRule.findTableRule("LOGIC_TABLE").isPresent());
+        shardingRule.dropSingleTable(new DropTableEvent("single_table"));
+        assertTrue(shardingRule.getSingleTableRules().isEmpty());
+        assertTrue(shardingRule.findTableRule("LOGIC_TABLE").isPresent());
+    }
+    
     private ShardingRule createMaximumShardingRule() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
         ShardingTableRuleConfiguration shardingTableRuleConfig = createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.governance.context.metadata;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.governance.context.process.yaml.config.YamlExecuteProcessList;
+import org.apache.shardingsphere.governance.context.process.yaml.swapper.ExecuteProcessListYamlSwapper;
 import org.apache.shardingsphere.governance.core.event.model.auth.PrivilegeChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.auth.UserRuleChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.datasource.DataSourceChangeCompletedEvent;
@@ -27,24 +29,28 @@ import org.apache.shardingsphere.governance.core.event.model.datasource.DataSour
 import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataDeletedEvent;
 import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataPersistedEvent;
+import org.apache.shardingsphere.governance.core.event.model.process.ShowProcessListTriggerEvent;
 import org.apache.shardingsphere.governance.core.event.model.props.PropertiesChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.rule.RuleConfigurationsChangedEvent;
-import org.apache.shardingsphere.governance.core.event.model.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataDeletedEvent;
 import org.apache.shardingsphere.governance.core.facade.GovernanceFacade;
 import org.apache.shardingsphere.governance.core.lock.GovernanceLock;
 import org.apache.shardingsphere.governance.core.registry.event.DisabledStateChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.event.PrimaryStateChangedEvent;
 import org.apache.shardingsphere.governance.core.registry.schema.GovernanceSchema;
-import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConverter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.metadata.IncrementalMetaDataBuilder;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContextsBuilder;
 import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessRegistry;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.apache.shardingsphere.infra.lock.ShardingSphereLock;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.auth.Authentication;
@@ -54,13 +60,13 @@ import org.apache.shardingsphere.infra.metadata.auth.builder.loader.PrivilegeLoa
 import org.apache.shardingsphere.infra.metadata.auth.builtin.DefaultAuthentication;
 import org.apache.shardingsphere.infra.metadata.auth.model.privilege.ShardingSpherePrivilege;
 import org.apache.shardingsphere.infra.metadata.auth.model.user.ShardingSphereUser;
-import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.optimize.context.CalciteContextFactory;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceNameDisabledEvent;
 import org.apache.shardingsphere.infra.rule.event.impl.PrimaryDataSourceEvent;
 import org.apache.shardingsphere.infra.rule.type.StatusContainedRule;
 import org.apache.shardingsphere.infra.state.StateContext;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
@@ -89,6 +95,7 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         this.governanceFacade = governanceFacade;
         this.metaDataContexts = metaDataContexts;
         ShardingSphereEventBus.getInstance().register(this);
+        ExecuteProcessRegistry.setEnabled(true);
         disableDataSources();
         persistMetaData();
         lock = new GovernanceLock(governanceFacade.getRegistryCenter(), 
@@ -158,6 +165,15 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         return metaDataContexts.getStateContext();
     }
     
+    @Override
+    public Map<String, Collection<ExecuteProcessContext>> getExecuteProcessContexts() {
+        Map<String, Collection<ExecuteProcessContext>> result = new LinkedHashMap<>();
+        for (Entry<String, String> entry : governanceFacade.getRegistryCenter().loadExecuteProcessLists().entrySet()) {
+            result.put(entry.getKey(), new ExecuteProcessListYamlSwapper().swapToObject(YamlEngine.unmarshal(entry.getValue(), YamlExecuteProcessList.class)));
+        }
+        return result;
+    }
+    
     @Override
     public void close() {
         metaDataContexts.close();
@@ -194,6 +210,17 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         governanceFacade.getRegistryCenter().deleteSchema(event.getSchemaName());
     }
     
+    /**
+     * Renew to report in-flight execute processes of current instance.
+     *
+     * @param event show process list trigger event
+     */
+    @Subscribe
+    public void renew(final ShowProcessListTriggerEvent event) {
+        governanceFacade.getRegistryCenter().persistExecuteProcessList(event.getProcessListId(),
+                YamlEngine.marshal(new ExecuteProcessListYamlSwapper().swapToYamlConfiguration(ExecuteProcessRegistry.getAllProcessContexts())));
+    }
+    
     /**
      * Renew properties.
      *
@@ -228,24 +255,35 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     }
     
     /**
-     * Renew meta data of the schema.
+     * Renew table meta data of the schema.
      *
-     * @param event meta data changed event
+     * @param event table meta data changed event
      */
     @Subscribe
-    public synchronized void renew(final SchemaChangedEvent event) {
-        Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap().size(), 1);
-        for (Entry<String, ShardingSphereMetaData> entry : metaDataContexts.getMetaDataMap().entrySet()) {
-            String schemaName = entry.getKey();
-            ShardingSphereMetaData oldMetaData = entry.getValue();
-            ShardingSphereMetaData newMetaData = event.getSchemaName().equals(schemaName) ? getChangedMetaData(oldMetaData, event.getSchema(), schemaName) : oldMetaData;
-            newMetaDataMap.put(schemaName, newMetaData);
+    public synchronized void renew(final TableMetaDataChangedEvent event) {
+        ShardingSphereMetaData metaData = metaDataContexts.getMetaDataMap().get(event.getSchemaName());
+        if (null != metaData) {
+            metaData.getSchema().put(event.getTableName(), event.getTableMetaData());
+        }
+    }
+    
+    /**
+     * Renew table meta data of the schema.
+     *
+     * @param event table meta data deleted event
+     */
+    @Subscribe
+    public synchronized void renew(final TableMetaDataDeletedEvent event) {
+        ShardingSphereMetaData metaData = metaDataContexts.getMetaDataMap().get(event.getSchemaName());
+        if (null != metaData) {
+            metaData.getSchema().remove(event.getTableName());
         }
-        metaDataContexts = new StandardMetaDataContexts(newMetaDataMap, metaDataContexts.getExecutorEngine(), metaDataContexts.getAuthentication(), metaDataContexts.getProps());
     }
     
     /**
      * Renew rule configurations.
+     * 
+     * <p>Only rules whose configurations are changed are rebuilt, resource and table meta data of unchanged rules are reused.</p>
      *
      * @param event rule configurations changed event
      * @throws SQLException SQL exception
@@ -254,14 +292,15 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     public synchronized void renew(final RuleConfigurationsChangedEvent event) throws SQLException {
         Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
         String schemaName = event.getSchemaName();
-        newMetaDataMap.remove(schemaName);
-        newMetaDataMap.put(schemaName, getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getRuleConfigurations()));
+        newMetaDataMap.put(schemaName, new IncrementalMetaDataBuilder(metaDataContexts.getProps()).build(metaDataContexts.getMetaDataMap().get(schemaName), event.getRuleConfigurations()));
         metaDataContexts = new StandardMetaDataContexts(newMetaDataMap, metaDataContexts.getExecutorEngine(), metaDataContexts.getAuthentication(), metaDataContexts.getProps());
         governanceFacade.getRegistryCenter().persistSchema(schemaName, newMetaDataMap.get(schemaName).getSchema());
     }
     
     /**
      * Renew data source configuration.
+     * 
+     * <p>Unchanged data sources and table meta data which are not located on changed data sources are reused.</p>
      *
      * @param event data source changed event.
      * @throws SQLException SQL exception
@@ -270,7 +309,6 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
     public synchronized void renew(final DataSourceChangedEvent event) throws SQLException {
         String schemaName = event.getSchemaName();
         Map<String, ShardingSphereMetaData> newMetaDataMap = new HashMap<>(metaDataContexts.getMetaDataMap());
-        newMetaDataMap.remove(schemaName);
         newMetaDataMap.put(schemaName, getChangedMetaData(metaDataContexts.getMetaDataMap().get(schemaName), event.getDataSourceConfigurations()));
         metaDataContexts = new StandardMetaDataContexts(newMetaDataMap, metaDataContexts.getExecutorEngine(), metaDataContexts.getAuthentication(), metaDataContexts.getProps());
         ShardingSphereEventBus.getInstance().post(new DataSourceChangeCompletedEvent(event.getSchemaName(),
@@ -380,26 +418,17 @@ public final class GovernanceMetaDataContexts implements MetaDataContexts {
         return result;
     }
     
-    private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final ShardingSphereSchema schema, final String schemaName) {
-        // TODO refresh table addressing mapper
-        return new ShardingSphereMetaData(schemaName, oldMetaData.getResource(), oldMetaData.getRuleMetaData(), schema);
-    }
-    
-    private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
-        MetaDataContextsBuilder builder = new MetaDataContextsBuilder(Collections.singletonMap(oldMetaData.getName(), oldMetaData.getResource().getDataSources()),
-                Collections.singletonMap(oldMetaData.getName(), ruleConfigs), metaDataContexts.getAuthentication().getAllUsers(), metaDataContexts.getProps().getProps());
-        return builder.build().getMetaDataMap().values().iterator().next();
-    }
-    
     private ShardingSphereMetaData getChangedMetaData(final ShardingSphereMetaData oldMetaData, final Map<String, DataSourceConfiguration> newDataSourceConfigs) throws SQLException {
         Collection<String> deletedDataSources = getDeletedDataSources(oldMetaData, newDataSourceConfigs);
         Map<String, DataSource> modifiedDataSources = getModifiedDataSources(oldMetaData, newDataSourceConfigs);
+        Map<String, DataSource> addedDataSources = getAddedDataSources(oldMetaData, newDataSourceConfigs);
         oldMetaData.getResource().close(deletedDataSources);
         oldMetaData.getResource().close(modifiedDataSources.keySet());
-        Map<String, Map<String, DataSource>> dataSourcesMap = Collections.singletonMap(oldMetaData.getName(), 
-                getNewDataSources(oldMetaData.getResource().getDataSources(), getAddedDataSources(oldMetaData, newDataSourceConfigs), modifiedDataSources, deletedDataSources));
-        return new MetaDataContextsBuilder(dataSourcesMap, Collections.singletonMap(oldMetaData.getName(), oldMetaData.getRuleMetaData().getConfigurations()),
-                metaDataContexts.getAuthentication().getAllUsers(), metaDataContexts.getProps().getProps()).build().getMetaDataMap().get(oldMetaData.getName());
+        Map<String, DataSource> newDataSources = getNewDataSources(oldMetaData.getResource().getDataSources(), addedDataSources, modifiedDataSources, deletedDataSources);
+        Collection<String> changedDataSourceNames = new LinkedList<>(deletedDataSources);
+        changedDataSourceNames.addAll(modifiedDataSources.keySet());
+        changedDataSourceNames.addAll(addedDataSources.keySet());
+        return new IncrementalMetaDataBuilder(metaDataContexts.getProps()).build(oldMetaData, newDataSources, changedDataSourceNames);
     }
     
     private Map<String, DataSource> getNewDataSources(final Map<String, DataSource> oldDataSources, 
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.context.process.yaml.swapper;
+
+import org.apache.shardingsphere.governance.context.process.yaml.config.YamlExecuteProcessContext;
+import org.apache.shardingsphere.governance.context.process.yaml.config.YamlExecuteProcessList;
+import org.apache.shardingsphere.governance.context.process.yaml.config.YamlExecuteProcessUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.apache.shardingsphere.infra.yaml.swapper.YamlConfigurationSwapper;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+/**
+ * Execute process list YAML swapper.
+ */
+public final class ExecuteProcessListYamlSwapper implements YamlConfigurationSwapper<YamlExecuteProcessList, Collection<ExecuteProcessContext>> {
+    
+    @Override
+    public YamlExecuteProcessList swapToYamlConfiguration(final Collection<ExecuteProcessContext> processContexts) {
+        YamlExecuteProcessList result = new YamlExecuteProcessList();
+        result.setProcesses(processContexts.stream().map(this::swapToYamlProcessContext).collect(Collectors.toList()));
+        return result;
+    }
+    
+    private YamlExecuteProcessContext swapToYamlProcessContext(final ExecuteProcessContext processContext) {
+        YamlExecuteProcessContext result = new YamlExecuteProcessContext();
+        result.setExecutionID(processContext.getExecutionID());
+        result.setSchemaName(processContext.getSchemaName());
+        result.setSql(processContext.getSql());
+        result.setStartTimeMillis(processContext.getStartTimeMillis());
+        result.setUnitStatuses(processContext.getUnitStatuses().stream().map(this::swapToYamlProcessUnit).collect(Collectors.toList()));
+        return result;
+    }
+    
+    private YamlExecuteProcessUnit swapToYamlProcessUnit(final ExecuteProcessUnit processUnit) {
+        YamlExecuteProcessUnit result = new YamlExecuteProcessUnit();
+        result.setUnitID(processUnit.getUnitID());
+        result.setDataSourceName(processUnit.getDataSourceName());
+        result.setSql(processUnit.getSql());
+        result.setStatus(processUnit.getStatus().name());
+        result.setFinishTimeMillis(processUnit.getFinishTimeMillis());
+        return result;
+    }
+    
+    @Override
+    public Collection<ExecuteProcessContext> swapToObject(final YamlExecuteProcessList processList) {
+        return null == processList.getProcesses() ? Collections.emptyList() : processList.getProcesses().stream().map(this::swapToProcessContext).collect(Collectors.toList());
+    }
+    
+    private ExecuteProcessContext swapToProcessContext(final YamlExecuteProcessContext processContext) {
+        Collection<ExecuteProcessUnit> unitStatuses = null == processContext.getUnitStatuses()
+                ? Collections.emptyList() : processContext.getUnitStatuses().stream().map(this::swapToProcessUnit).collect(Collectors.toList());
+        return new ExecuteProcessContext(processContext.getExecutionID(), processContext.getSchemaName(), processContext.getSql(), processContext.getStartTimeMillis(), unitStatuses);
+    }
+    
+    private ExecuteProcessUnit swapToProcessUnit(final YamlExecuteProcessUnit processUnit) {
+        return new ExecuteProcessUnit(processUnit.getUnitID(), processUnit.getDataSourceName(), processUnit.getSql(),
+                ExecuteProcessConstants.valueOf(processUnit.getStatus()), processUnit.getFinishTimeMillis());
+    }
+}
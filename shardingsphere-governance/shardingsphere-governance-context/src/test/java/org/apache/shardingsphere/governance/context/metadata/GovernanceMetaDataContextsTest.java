@@ -21,9 +21,11 @@ import org.apache.shardingsphere.governance.core.event.model.auth.UserRuleChange
 import org.apache.shardingsphere.governance.core.event.model.datasource.DataSourceChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataDeletedEvent;
 import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataPersistedEvent;
+import org.apache.shardingsphere.governance.core.event.model.process.ShowProcessListTriggerEvent;
 import org.apache.shardingsphere.governance.core.event.model.props.PropertiesChangedEvent;
 import org.apache.shardingsphere.governance.core.event.model.rule.RuleConfigurationsChangedEvent;
-import org.apache.shardingsphere.governance.core.event.model.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataDeletedEvent;
 import org.apache.shardingsphere.governance.core.facade.GovernanceFacade;
 import org.apache.shardingsphere.governance.core.registry.RegistryCenter;
 import org.apache.shardingsphere.governance.core.registry.event.DisabledStateChangedEvent;
@@ -34,10 +36,12 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.auth.builtin.DefaultAuthentication;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.rule.event.RuleChangedEvent;
 import org.apache.shardingsphere.readwrite.splitting.common.rule.ReadWriteSplittingRule;
 import org.apache.shardingsphere.test.mock.MockedDataSource;
@@ -49,6 +53,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -63,6 +68,8 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -126,6 +133,25 @@ public final class GovernanceMetaDataContextsTest {
         assertThat(governanceMetaDataContexts.getProps(), is(props));
     }
     
+    @Test
+    public void assertGetExecuteProcessContexts() {
+        String processList = "processes:\n- executionID: foo_id\n  schemaName: schema\n  startTimeMillis: 1\n  unitStatuses:\n"
+                + "  - unitID: '1'\n    dataSourceName: ds_0\n    sql: SELECT 1\n    status: EXECUTE_STATUS_START\n    finishTimeMillis: 0\n";
+        when(registryCenter.loadExecuteProcessLists()).thenReturn(Collections.singletonMap("instance_id", processList));
+        Map<String, Collection<ExecuteProcessContext>> actual = governanceMetaDataContexts.getExecuteProcessContexts();
+        assertThat(actual.size(), is(1));
+        ExecuteProcessContext processContext = actual.get("instance_id").iterator().next();
+        assertThat(processContext.getExecutionID(), is("foo_id"));
+        assertThat(processContext.getSchemaName(), is("schema"));
+        assertThat(processContext.getUnitStatuses().iterator().next().getDataSourceName(), is("ds_0"));
+    }
+    
+    @Test
+    public void assertShowProcessListTrigger() {
+        governanceMetaDataContexts.renew(new ShowProcessListTriggerEvent("processListId"));
+        verify(registryCenter).persistExecuteProcessList(eq("processListId"), anyString());
+    }
+    
     @Test
     public void assertSchemaAdd() throws SQLException {
         MetaDataPersistedEvent event = new MetaDataPersistedEvent("schema_add");
@@ -169,18 +195,26 @@ public final class GovernanceMetaDataContextsTest {
     }
     
     @Test
-    public void assertSchemaChanged() {
-        SchemaChangedEvent event = new SchemaChangedEvent("schema_changed", mock(ShardingSphereSchema.class));
-        governanceMetaDataContexts.renew(event);
+    public void assertTableMetaDataChangedWithNotExistSchema() {
+        governanceMetaDataContexts.renew(new TableMetaDataChangedEvent("schema_changed", "t_order", new TableMetaData()));
         assertTrue(governanceMetaDataContexts.getAllSchemaNames().contains("schema"));
         assertFalse(governanceMetaDataContexts.getAllSchemaNames().contains("schema_changed"));
+        verify(metaData.getSchema(), times(0)).put(any(), any());
     }
     
     @Test
-    public void assertSchemaChangedWithExistSchema() {
-        SchemaChangedEvent event = new SchemaChangedEvent("schema", mock(ShardingSphereSchema.class));
-        governanceMetaDataContexts.renew(event);
-        assertThat(governanceMetaDataContexts.getMetaData("schema"), not(metaData));
+    public void assertTableMetaDataChangedWithExistSchema() {
+        TableMetaData tableMetaData = new TableMetaData();
+        governanceMetaDataContexts.renew(new TableMetaDataChangedEvent("schema", "t_order", tableMetaData));
+        assertThat(governanceMetaDataContexts.getMetaData("schema"), is(metaData));
+        verify(metaData.getSchema()).put("t_order", tableMetaData);
+    }
+    
+    @Test
+    public void assertTableMetaDataDeleted() {
+        governanceMetaDataContexts.renew(new TableMetaDataDeletedEvent("schema", "t_order"));
+        assertThat(governanceMetaDataContexts.getMetaData("schema"), is(metaData));
+        verify(metaData.getSchema()).remove("t_order");
     }
     
     @Test
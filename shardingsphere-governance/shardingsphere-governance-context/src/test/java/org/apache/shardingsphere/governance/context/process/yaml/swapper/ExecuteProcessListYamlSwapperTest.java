@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.context.process.yaml.swapper;
+
+import org.apache.shardingsphere.governance.context.process.yaml.config.YamlExecuteProcessContext;
+import org.apache.shardingsphere.governance.context.process.yaml.config.YamlExecuteProcessList;
+import org.apache.shardingsphere.governance.context.process.yaml.config.YamlExecuteProcessUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ExecuteProcessListYamlSwapperTest {
+    
+    @Test
+    public void assertSwapToYamlConfiguration() {
+        ExecuteProcessUnit unit = new ExecuteProcessUnit("unit_id", "ds_0", "SELECT 1", ExecuteProcessConstants.EXECUTE_STATUS_DONE, 2L);
+        YamlExecuteProcessList actual = new ExecuteProcessListYamlSwapper().swapToYamlConfiguration(
+                Collections.singletonList(new ExecuteProcessContext("foo_id", "foo_db", "SELECT 1", 1L, Collections.singletonList(unit))));
+        assertThat(actual.getProcesses().size(), is(1));
+        YamlExecuteProcessContext processContext = actual.getProcesses().iterator().next();
+        assertThat(processContext.getExecutionID(), is("foo_id"));
+        assertThat(processContext.getSchemaName(), is("foo_db"));
+        assertThat(processContext.getSql(), is("SELECT 1"));
+        assertThat(processContext.getStartTimeMillis(), is(1L));
+        YamlExecuteProcessUnit processUnit = processContext.getUnitStatuses().iterator().next();
+        assertThat(processUnit.getUnitID(), is("unit_id"));
+        assertThat(processUnit.getDataSourceName(), is("ds_0"));
+        assertThat(processUnit.getSql(), is("SELECT 1"));
+        assertThat(processUnit.getStatus(), is("EXECUTE_STATUS_DONE"));
+        assertThat(processUnit.getFinishTimeMillis(), is(2L));
+    }
+    
+    @Test
+    public void assertSwapToObject() {
+        YamlExecuteProcessUnit processUnit = new YamlExecuteProcessUnit();
+        processUnit.setUnitID("unit_id");
+        processUnit.setDataSourceName("ds_0");
+        processUnit.setSql("SELECT 1");
+        processUnit.setStatus("EXECUTE_STATUS_START");
+        YamlExecuteProcessContext processContext = new YamlExecuteProcessContext();
+        processContext.setExecutionID("foo_id");
+        processContext.setSchemaName("foo_db");
+        processContext.setSql("SELECT 1");
+        processContext.setStartTimeMillis(1L);
+        processContext.setUnitStatuses(Collections.singletonList(processUnit));
+        YamlExecuteProcessList processList = new YamlExecuteProcessList();
+        processList.setProcesses(Collections.singletonList(processContext));
+        Collection<ExecuteProcessContext> actual = new ExecuteProcessListYamlSwapper().swapToObject(processList);
+        assertThat(actual.size(), is(1));
+        ExecuteProcessContext actualContext = actual.iterator().next();
+        assertThat(actualContext.getExecutionID(), is("foo_id"));
+        assertThat(actualContext.getSchemaName(), is("foo_db"));
+        assertThat(actualContext.getSql(), is("SELECT 1"));
+        assertThat(actualContext.getStartTimeMillis(), is(1L));
+        ExecuteProcessUnit actualUnit = actualContext.getUnitStatuses().iterator().next();
+        assertThat(actualUnit.getDataSourceName(), is("ds_0"));
+        assertThat(actualUnit.getStatus(), is(ExecuteProcessConstants.EXECUTE_STATUS_START));
+    }
+}
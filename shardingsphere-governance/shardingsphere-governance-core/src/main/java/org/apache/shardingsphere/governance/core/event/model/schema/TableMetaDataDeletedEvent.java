@@ -20,16 +20,15 @@ package org.apache.shardingsphere.governance.core.event.model.schema;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.governance.core.event.model.GovernanceEvent;
-import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 
 /**
- * Schema changed event.
+ * Table meta data deleted event.
  */
 @RequiredArgsConstructor
 @Getter
-public final class SchemaChangedEvent implements GovernanceEvent {
-
+public final class TableMetaDataDeletedEvent implements GovernanceEvent {
+    
     private final String schemaName;
-
-    private final ShardingSphereSchema schema;
+    
+    private final String tableName;
 }
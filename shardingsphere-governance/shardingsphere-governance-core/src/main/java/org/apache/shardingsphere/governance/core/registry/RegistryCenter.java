@@ -21,6 +21,8 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import com.google.common.eventbus.Subscribe;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.governance.core.event.model.datasource.DataSourceAddedEvent;
 import org.apache.shardingsphere.governance.core.event.model.datasource.DataSourceAlteredEvent;
 import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataCreatedEvent;
@@ -29,6 +31,8 @@ import org.apache.shardingsphere.governance.core.event.model.rule.RuleConfigurat
 import org.apache.shardingsphere.governance.core.event.model.rule.RuleConfigurationsAlteredEvent;
 import org.apache.shardingsphere.governance.core.event.model.rule.SwitchRuleConfigurationEvent;
 import org.apache.shardingsphere.governance.core.event.model.scaling.StartScalingEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataDeletedEvent;
 import org.apache.shardingsphere.governance.core.lock.node.LockAck;
 import org.apache.shardingsphere.governance.core.lock.node.LockNode;
 import org.apache.shardingsphere.governance.core.registry.checker.RuleConfigurationChecker;
@@ -36,9 +40,8 @@ import org.apache.shardingsphere.governance.core.registry.checker.RuleConfigurat
 import org.apache.shardingsphere.governance.core.registry.instance.GovernanceInstance;
 import org.apache.shardingsphere.governance.core.yaml.config.YamlConfigurationConverter;
 import org.apache.shardingsphere.governance.core.yaml.config.YamlDataSourceConfigurationWrap;
-import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlSchema;
-import org.apache.shardingsphere.governance.core.yaml.swapper.SchemaYamlSwapper;
 import org.apache.shardingsphere.governance.repository.api.RegistryRepository;
+import org.apache.shardingsphere.governance.repository.api.transaction.TransactionOperation;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
@@ -47,6 +50,7 @@ import org.apache.shardingsphere.infra.metadata.auth.model.user.ShardingSphereUs
 import org.apache.shardingsphere.infra.metadata.auth.refresher.event.CreateUserEvent;
 import org.apache.shardingsphere.infra.metadata.auth.refresher.event.GrantEvent;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
 import org.apache.shardingsphere.infra.rule.event.impl.DataSourceDisabledEvent;
 import org.apache.shardingsphere.infra.rule.event.impl.PrimaryDataSourceEvent;
@@ -56,6 +60,7 @@ import org.apache.shardingsphere.infra.yaml.swapper.YamlDataSourceConfigurationS
 import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapperEngine;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -65,6 +70,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -75,8 +82,16 @@ public final class RegistryCenter {
     
     private static final int CHECK_ACK_MAXIMUM = 5;
     
+    private static final int MAX_TRANSACTION_OPERATION_COUNT = 128;
+    
+    private static final int MAX_TRANSACTION_VALUE_LENGTH = 512 * 1024;
+    
     private static final int CHECK_ACK_INTERVAL_SECONDS = 1;
     
+    private static final int CHECK_PROCESS_LIST_MAXIMUM = 30;
+    
+    private static final int CHECK_PROCESS_LIST_INTERVAL_MILLISECONDS = 100;
+    
     private final RegistryCenterNode node;
     
     private final RegistryRepository repository;
@@ -87,6 +102,8 @@ public final class RegistryCenter {
     
     private final RegistryCacheManager registryCacheManager;
     
+    private final Map<String, Map<String, TableMetaData>> persistedTablesCache = new ConcurrentHashMap<>();
+    
     public RegistryCenter(final RegistryRepository registryRepository) {
         node = new RegistryCenterNode();
         repository = registryRepository;
@@ -107,10 +124,12 @@ public final class RegistryCenter {
      */
     public void persistConfigurations(final String schemaName, final Map<String, DataSourceConfiguration> dataSourceConfigs,
                                       final Collection<RuleConfiguration> ruleConfigurations, final boolean isOverwrite) {
-        persistDataSourceConfigurations(schemaName, dataSourceConfigs, isOverwrite);
-        persistRuleConfigurations(schemaName, ruleConfigurations, isOverwrite);
+        List<TransactionOperation> operations = new LinkedList<>();
+        createDataSourceConfigurationsOperation(schemaName, dataSourceConfigs, isOverwrite).ifPresent(operations::add);
+        createRuleConfigurationsOperation(schemaName, ruleConfigurations, isOverwrite).ifPresent(operations::add);
         // TODO Consider removing the following one.
-        persistSchemaName(schemaName);
+        createSchemaNameOperation(schemaName).ifPresent(operations::add);
+        repository.executeInTransaction(operations);
     }
     
     /**
@@ -121,8 +140,10 @@ public final class RegistryCenter {
      * @param isOverwrite is overwrite config center's configuration
      */
     public void persistGlobalConfiguration(final Collection<ShardingSphereUser> users, final Properties props, final boolean isOverwrite) {
-        persistAuthentication(users, isOverwrite);
-        persistProperties(props, isOverwrite);
+        List<TransactionOperation> operations = new LinkedList<>();
+        createAuthenticationOperation(users, isOverwrite).ifPresent(operations::add);
+        createPropertiesOperation(props, isOverwrite).ifPresent(operations::add);
+        repository.executeInTransaction(operations);
     }
     
     private Collection<RuleConfiguration> loadCachedRuleConfigurations(final String schemaName, final String ruleConfigurationCacheId) {
@@ -130,10 +151,12 @@ public final class RegistryCenter {
                 YamlEngine.unmarshal(registryCacheManager.loadCache(node.getRulePath(schemaName), ruleConfigurationCacheId), YamlRootRuleConfigurations.class).getRules());
     }
     
-    private void persistDataSourceConfigurations(final String schemaName, final Map<String, DataSourceConfiguration> dataSourceConfigurations, final boolean isOverwrite) {
+    private Optional<TransactionOperation> createDataSourceConfigurationsOperation(final String schemaName,
+                                                                                   final Map<String, DataSourceConfiguration> dataSourceConfigurations, final boolean isOverwrite) {
         if (!dataSourceConfigurations.isEmpty() && (isOverwrite || !hasDataSourceConfiguration(schemaName))) {
-            persistDataSourceConfigurations(schemaName, dataSourceConfigurations);
+            return Optional.of(TransactionOperation.persist(node.getMetadataDataSourcePath(schemaName), YamlEngine.marshal(createYamlDataSourceConfigurationWrap(dataSourceConfigurations))));
         }
+        return Optional.empty();
     }
     
     /**
@@ -160,10 +183,11 @@ public final class RegistryCenter {
         return result;
     }
     
-    private void persistRuleConfigurations(final String schemaName, final Collection<RuleConfiguration> ruleConfigurations, final boolean isOverwrite) {
+    private Optional<TransactionOperation> createRuleConfigurationsOperation(final String schemaName, final Collection<RuleConfiguration> ruleConfigurations, final boolean isOverwrite) {
         if (!ruleConfigurations.isEmpty() && (isOverwrite || !hasRuleConfiguration(schemaName))) {
-            persistRuleConfigurations(schemaName, ruleConfigurations);
+            return Optional.of(TransactionOperation.persist(node.getRulePath(schemaName), YamlEngine.marshal(createYamlRootRuleConfigurations(schemaName, ruleConfigurations))));
         }
+        return Optional.empty();
     }
     
     /**
@@ -191,10 +215,14 @@ public final class RegistryCenter {
     }
 
     private void persistAuthentication(final Collection<ShardingSphereUser> users, final boolean isOverwrite) {
+        createAuthenticationOperation(users, isOverwrite).ifPresent(optional -> repository.persist(optional.getKey(), optional.getValue()));
+    }
+    
+    private Optional<TransactionOperation> createAuthenticationOperation(final Collection<ShardingSphereUser> users, final boolean isOverwrite) {
         if (!users.isEmpty() && (isOverwrite || !hasAuthentication())) {
-            repository.persist(node.getAuthenticationPath(),
-                    YamlEngine.marshal(new UserRuleYamlSwapper().swapToYamlConfiguration(users)));
+            return Optional.of(TransactionOperation.persist(node.getAuthenticationPath(), YamlEngine.marshal(new UserRuleYamlSwapper().swapToYamlConfiguration(users))));
         }
+        return Optional.empty();
     }
     
     private void persistChangedPrivilege(final Collection<ShardingSphereUser> users) {
@@ -203,29 +231,29 @@ public final class RegistryCenter {
         }
     }
 
-    private void persistProperties(final Properties props, final boolean isOverwrite) {
+    private Optional<TransactionOperation> createPropertiesOperation(final Properties props, final boolean isOverwrite) {
         if (!props.isEmpty() && (isOverwrite || !hasProperties())) {
-            repository.persist(node.getPropsPath(), YamlEngine.marshal(props));
+            return Optional.of(TransactionOperation.persist(node.getPropsPath(), YamlEngine.marshal(props)));
         }
+        return Optional.empty();
     }
     
     private boolean hasProperties() {
         return !Strings.isNullOrEmpty(repository.get(node.getPropsPath()));
     }
     
-    private void persistSchemaName(final String schemaName) {
+    private Optional<TransactionOperation> createSchemaNameOperation(final String schemaName) {
         String schemaNames = repository.get(node.getMetadataNodePath());
         if (Strings.isNullOrEmpty(schemaNames)) {
-            repository.persist(node.getMetadataNodePath(), schemaName);
-            return;
+            return Optional.of(TransactionOperation.persist(node.getMetadataNodePath(), schemaName));
         }
         List<String> schemaNameList = Splitter.on(",").splitToList(schemaNames);
         if (schemaNameList.contains(schemaName)) {
-            return;
+            return Optional.empty();
         }
         List<String> newArrayList = new ArrayList<>(schemaNameList);
         newArrayList.add(schemaName);
-        repository.persist(node.getMetadataNodePath(), Joiner.on(",").join(newArrayList));
+        return Optional.of(TransactionOperation.persist(node.getMetadataNodePath(), Joiner.on(",").join(newArrayList)));
     }
 
     /**
@@ -303,12 +331,63 @@ public final class RegistryCenter {
     
     /**
      * Persist ShardingSphere schema.
+     * 
+     * <p>Each table is persisted to its own node, only tables which are changed since last persisted are written, and tables not in schema are deleted.
+     * Operations are executed in transactions of bounded operation count and value length, to keep in transaction limits of registry, such as
+     * max transaction operations of etcd and max buffer of ZooKeeper.</p>
      *
      * @param schemaName schema name
      * @param schema ShardingSphere schema
      */
-    public void persistSchema(final String schemaName, final ShardingSphereSchema schema) {
-        repository.persist(node.getMetadataSchemaPath(schemaName), YamlEngine.marshal(new SchemaYamlSwapper().swapToYamlConfiguration(schema)));
+    public synchronized void persistSchema(final String schemaName, final ShardingSphereSchema schema) {
+        Map<String, TableMetaData> persistedTables = getPersistedTables(schemaName);
+        List<TableOperation> tableOperations = new LinkedList<>();
+        for (String each : schema.getAllTableNames()) {
+            TableMetaData tableMetaData = schema.get(each);
+            if (null != tableMetaData && !tableMetaData.equals(persistedTables.get(each))) {
+                TransactionOperation operation = TransactionOperation.persist(node.getMetadataTablePath(schemaName, each), TableMetaDataCodec.encode(tableMetaData));
+                tableOperations.add(new TableOperation(each, copyTableMetaData(tableMetaData), operation));
+            }
+        }
+        for (String each : persistedTables.keySet()) {
+            if (!schema.containsTable(each)) {
+                tableOperations.add(new TableOperation(each, null, TransactionOperation.delete(node.getMetadataTablePath(schemaName, each))));
+            }
+        }
+        List<TableOperation> batch = new LinkedList<>();
+        int batchValueLength = 0;
+        for (TableOperation each : tableOperations) {
+            int valueLength = null == each.getOperation().getValue() ? 0 : each.getOperation().getValue().length();
+            if (!batch.isEmpty() && (batch.size() >= MAX_TRANSACTION_OPERATION_COUNT || batchValueLength + valueLength > MAX_TRANSACTION_VALUE_LENGTH)) {
+                executeTableOperations(persistedTables, batch);
+                batch = new LinkedList<>();
+                batchValueLength = 0;
+            }
+            batch.add(each);
+            batchValueLength += valueLength;
+        }
+        if (!batch.isEmpty()) {
+            executeTableOperations(persistedTables, batch);
+        }
+    }
+    
+    private void executeTableOperations(final Map<String, TableMetaData> persistedTables, final List<TableOperation> tableOperations) {
+        repository.executeInTransaction(tableOperations.stream().map(TableOperation::getOperation).collect(Collectors.toList()));
+        for (TableOperation each : tableOperations) {
+            if (null == each.getTableMetaData()) {
+                persistedTables.remove(each.getTableName());
+            } else {
+                persistedTables.put(each.getTableName(), each.getTableMetaData());
+            }
+        }
+    }
+    
+    private Map<String, TableMetaData> getPersistedTables(final String schemaName) {
+        return persistedTablesCache.computeIfAbsent(schemaName, key -> new ConcurrentHashMap<>(loadTables(key)));
+    }
+    
+    private TableMetaData copyTableMetaData(final TableMetaData tableMetaData) {
+        return new TableMetaData(new ArrayList<>(tableMetaData.getColumns().values()), new ArrayList<>(tableMetaData.getIndexes().values()));
     }
     
     /**
@@ -318,11 +397,20 @@ public final class RegistryCenter {
      * @return ShardingSphere schema
      */
     public Optional<ShardingSphereSchema> loadSchema(final String schemaName) {
-        String path = repository.get(node.getMetadataSchemaPath(schemaName));
-        if (Strings.isNullOrEmpty(path)) {
-            return Optional.empty();
+        Map<String, TableMetaData> tables = loadTables(schemaName);
+        return tables.isEmpty() ? Optional.empty() : Optional.of(new ShardingSphereSchema(tables));
+    }
+    
+    private Map<String, TableMetaData> loadTables(final String schemaName) {
+        Collection<String> tableNames = repository.getChildrenKeys(node.getMetadataTablesPath(schemaName));
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            String value = repository.get(node.getMetadataTablePath(schemaName, each));
+            if (!Strings.isNullOrEmpty(value)) {
+                result.put(each, TableMetaDataCodec.decode(value));
+            }
         }
-        return Optional.of(new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(path, YamlSchema.class)));
+        return result;
     }
     
     /**
@@ -330,8 +418,9 @@ public final class RegistryCenter {
      *
      * @param schemaName schema name
      */
-    public void deleteSchema(final String schemaName) {
+    public synchronized void deleteSchema(final String schemaName) {
         repository.delete(node.getSchemaNamePath(schemaName));
+        persistedTablesCache.remove(schemaName);
     }
     
     private boolean hasAuthentication() {
@@ -430,6 +519,32 @@ public final class RegistryCenter {
         persistSchema(event.getSchemaName(), event.getSchema());
     }
     
+    /**
+     * Renew persisted table meta data.
+     *
+     * @param event table meta data changed event
+     */
+    @Subscribe
+    public synchronized void renew(final TableMetaDataChangedEvent event) {
+        Map<String, TableMetaData> persistedTables = persistedTablesCache.get(event.getSchemaName());
+        if (null != persistedTables) {
+            persistedTables.put(event.getTableName(), event.getTableMetaData());
+        }
+    }
+    
+    /**
+     * Renew persisted table meta data.
+     *
+     * @param event table meta data deleted event
+     */
+    @Subscribe
+    public synchronized void renew(final TableMetaDataDeletedEvent event) {
+        Map<String, TableMetaData> persistedTables = persistedTablesCache.get(event.getSchemaName());
+        if (null != persistedTables) {
+            persistedTables.remove(event.getTableName());
+        }
+    }
+    
     /**
      * Switch rule configuration.
      *
@@ -543,8 +658,7 @@ public final class RegistryCenter {
     }
     
     private void initLockNode() {
-        repository.persist(lockNode.getLockRootNodePath(), "");
-        repository.persist(lockNode.getLockedAckRootNodePah(), "");
+        repository.executeInTransaction(Arrays.asList(TransactionOperation.persist(lockNode.getLockRootNodePath(), ""), TransactionOperation.persist(lockNode.getLockedAckRootNodePah(), "")));
     }
     
     /**
@@ -636,4 +750,79 @@ public final class RegistryCenter {
     private String loadLockAck(final String instanceId, final String lockName) {
         return Strings.nullToEmpty(repository.get(lockNode.getLockedAckNodePath(Joiner.on("-").join(instanceId, lockName))));
     }
+    
+    /**
+     * Load execute process lists of all instances.
+     * 
+     * <p>Every online instance is triggered to report its in-flight processes on demand, nothing is persisted per executed statement.</p>
+     *
+     * @return execute process lists, key is instance id and value is process list of the instance
+     */
+    public Map<String, String> loadExecuteProcessLists() {
+        Collection<String> instanceIds = loadAllInstances();
+        if (instanceIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String processListId = UUID.randomUUID().toString().replace("-", "");
+        repository.executeInTransaction(instanceIds.stream().map(each -> TransactionOperation.persist(node.getProcessTriggerPath(each, processListId), processListId)).collect(Collectors.toList()));
+        checkProcessListReported(instanceIds, processListId);
+        Map<String, String> result = new LinkedHashMap<>(instanceIds.size(), 1);
+        for (String each : instanceIds) {
+            String processList = repository.get(node.getProcessListInstancePath(processListId, each));
+            if (!Strings.isNullOrEmpty(processList)) {
+                result.put(each, processList);
+            }
+        }
+        cleanExecuteProcessList(instanceIds, processListId);
+        return result;
+    }
+    
+    private void cleanExecuteProcessList(final Collection<String> instanceIds, final String processListId) {
+        // Triggers of late responders may be deleted by themselves meanwhile, so delete nodes one by one instead of in a transaction which fails on missing nodes.
+        // Triggers go first, thus no responder is able to report under the process list path after it is deleted.
+        for (String each : instanceIds) {
+            repository.delete(node.getProcessTriggerPath(each, processListId));
+        }
+        repository.delete(node.getProcessListPath(processListId));
+    }
+    
+    private void checkProcessListReported(final Collection<String> instanceIds, final String processListId) {
+        for (int i = 0; i < CHECK_PROCESS_LIST_MAXIMUM; i++) {
+            if (instanceIds.stream().allMatch(each -> null != repository.get(node.getProcessListInstancePath(processListId, each)))) {
+                return;
+            }
+            try {
+                Thread.sleep(CHECK_PROCESS_LIST_INTERVAL_MILLISECONDS);
+                // CHECKSTYLE:OFF
+            } catch (final InterruptedException ex) {
+                // CHECKSTYLE:ON
+            }
+        }
+    }
+    
+    /**
+     * Persist execute process list of current instance.
+     *
+     * @param processListId process list id
+     * @param processList process list of current instance
+     */
+    public void persistExecuteProcessList(final String processListId, final String processList) {
+        String triggerPath = node.getProcessTriggerPath(instance.getInstanceId(), processListId);
+        if (null == repository.get(triggerPath)) {
+            return;
+        }
+        repository.executeInTransaction(Arrays.asList(
+                TransactionOperation.persist(node.getProcessListInstancePath(processListId, instance.getInstanceId()), processList), TransactionOperation.delete(triggerPath)));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class TableOperation {
+        
+        private final String tableName;
+        
+        private final TableMetaData tableMetaData;
+        
+        private final TransactionOperation operation;
+    }
 }
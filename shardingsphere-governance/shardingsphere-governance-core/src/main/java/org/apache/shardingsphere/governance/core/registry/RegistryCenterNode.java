@@ -51,7 +51,7 @@ public final class RegistryCenterNode {
     
     private static final String RULE_NODE = "rule";
     
-    private static final String SCHEMA_NODE = "schema";
+    private static final String TABLES_NODE = "tables";
     
     private static final String AUTHENTICATION_NODE = "authentication";
     
@@ -65,6 +65,10 @@ public final class RegistryCenterNode {
     
     private static final String CACHE_NODE = "cache";
     
+    private static final String PROCESS_TRIGGER_NODE = "processtrigger";
+    
+    private static final String PROCESS_LIST_NODE = "processlist";
+    
     /**
      * Get proxy node path.
      *
@@ -75,6 +79,60 @@ public final class RegistryCenterNode {
         return Joiner.on("/").join("", ROOT, PROXY_NODES_NAME, instanceId);
     }
     
+    /**
+     * Get process trigger nodes path.
+     *
+     * @return process trigger nodes path
+     */
+    public String getProcessTriggerNodesPath() {
+        return Joiner.on("/").join("", ROOT, PROCESS_TRIGGER_NODE);
+    }
+    
+    /**
+     * Get process trigger path.
+     *
+     * @param instanceId instance id
+     * @param processListId process list id
+     * @return process trigger path
+     */
+    public String getProcessTriggerPath(final String instanceId, final String processListId) {
+        return Joiner.on("/").join("", ROOT, PROCESS_TRIGGER_NODE, instanceId, processListId);
+    }
+    
+    /**
+     * Get process list id from process trigger path.
+     *
+     * @param instanceId instance id
+     * @param processTriggerFullPath process trigger full path
+     * @return process list id
+     */
+    public Optional<String> getProcessListId(final String instanceId, final String processTriggerFullPath) {
+        Pattern pattern = Pattern.compile(getProcessTriggerNodesPath() + "/" + Pattern.quote(instanceId) + "/(\\w+)$", Pattern.CASE_INSENSITIVE);
+        Matcher matcher = pattern.matcher(processTriggerFullPath);
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+    
+    /**
+     * Get process list path.
+     *
+     * @param processListId process list id
+     * @return process list path
+     */
+    public String getProcessListPath(final String processListId) {
+        return Joiner.on("/").join("", ROOT, PROCESS_LIST_NODE, processListId);
+    }
+    
+    /**
+     * Get process list instance path.
+     *
+     * @param processListId process list id
+     * @param instanceId instance id
+     * @return process list instance path
+     */
+    public String getProcessListInstancePath(final String processListId, final String instanceId) {
+        return Joiner.on("/").join("", ROOT, PROCESS_LIST_NODE, processListId, instanceId);
+    }
+    
     /**
      * Get data nodes path.
      *
@@ -236,13 +294,36 @@ public final class RegistryCenterNode {
     }
     
     /**
-     * Get metadata schema path.
+     * Get metadata tables path.
      *
      * @param schemaName schema name
-     * @return schema path
+     * @return tables path
+     */
+    public String getMetadataTablesPath(final String schemaName) {
+        return getFullMetadataPath(schemaName, TABLES_NODE);
+    }
+    
+    /**
+     * Get metadata table path.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return table path
+     */
+    public String getMetadataTablePath(final String schemaName, final String tableName) {
+        return Joiner.on(PATH_SEPARATOR).join(getMetadataTablesPath(schemaName), tableName);
+    }
+    
+    /**
+     * Get table name.
+     *
+     * @param tableNodeFullPath table node full path
+     * @return table name
      */
-    public String getMetadataSchemaPath(final String schemaName) {
-        return getFullMetadataPath(schemaName, SCHEMA_NODE);
+    public Optional<String> getTableName(final String tableNodeFullPath) {
+        Pattern pattern = Pattern.compile(getMetadataNodePath() + "/(\\w+)/" + TABLES_NODE + "/([^/]+)$", Pattern.CASE_INSENSITIVE);
+        Matcher matcher = pattern.matcher(tableNodeFullPath);
+        return matcher.find() ? Optional.of(matcher.group(2)) : Optional.empty();
     }
     
     /**
@@ -313,7 +394,7 @@ public final class RegistryCenterNode {
         for (String schemaName : schemaNames) {
             result.add(getRulePath(schemaName));
             result.add(getMetadataDataSourcePath(schemaName));
-            result.add(getMetadataSchemaPath(schemaName));
+            result.add(getMetadataTablesPath(schemaName));
         }
         return result;
     }
@@ -329,13 +410,13 @@ public final class RegistryCenterNode {
     }
     
     /**
-     * Get all metadata schema paths.
+     * Get all metadata tables paths.
      *
      * @param schemaNames schema names
-     * @return list of schema path
+     * @return list of tables path
      */
-    public Collection<String> getAllMetadataSchemaPaths(final Collection<String> schemaNames) {
-        return schemaNames.stream().map(this::getMetadataSchemaPath).collect(Collectors.toList());
+    public Collection<String> getAllMetadataTablesPaths(final Collection<String> schemaNames) {
+        return schemaNames.stream().map(this::getMetadataTablesPath).collect(Collectors.toList());
     }
     
     /**
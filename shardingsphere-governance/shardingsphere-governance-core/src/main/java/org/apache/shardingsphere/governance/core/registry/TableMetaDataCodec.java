@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.registry;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlTableMetaData;
+import org.apache.shardingsphere.governance.core.yaml.swapper.TableMetaDataYamlSwapper;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Codec of table meta data in registry center.
+ * 
+ * <p>Table meta data is stored as Base64 of GZIP compressed YAML, which keeps value of each table node small.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableMetaDataCodec {
+    
+    private static final int BUFFER_SIZE = 1024;
+    
+    /**
+     * Encode table meta data.
+     *
+     * @param tableMetaData table meta data
+     * @return encoded table meta data
+     */
+    @SneakyThrows(IOException.class)
+    public static String encode(final TableMetaData tableMetaData) {
+        byte[] yaml = YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(tableMetaData)).getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream result = new ByteArrayOutputStream(yaml.length / 4 + 32);
+        try (OutputStream outputStream = new GZIPOutputStream(result)) {
+            outputStream.write(yaml);
+        }
+        return Base64.getEncoder().encodeToString(result.toByteArray());
+    }
+    
+    /**
+     * Decode table meta data.
+     *
+     * @param value encoded table meta data
+     * @return table meta data
+     */
+    @SneakyThrows(IOException.class)
+    public static TableMetaData decode(final String value) {
+        ByteArrayOutputStream yaml = new ByteArrayOutputStream(BUFFER_SIZE);
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(value)))) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int length;
+            while (-1 != (length = inputStream.read(buffer))) {
+                yaml.write(buffer, 0, length);
+            }
+        }
+        return new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(new String(yaml.toByteArray(), StandardCharsets.UTF_8), YamlTableMetaData.class));
+    }
+}
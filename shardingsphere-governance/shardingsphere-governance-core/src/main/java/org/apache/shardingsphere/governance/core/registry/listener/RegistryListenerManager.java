@@ -42,6 +42,8 @@ public final class RegistryListenerManager {
     
     private final PrivilegeNodeChangedListener privilegeNodeChangedListener;
     
+    private final ProcessListTriggerListener processListTriggerListener;
+    
     public RegistryListenerManager(final RegistryRepository registryRepository, final Collection<String> schemaNames) {
         terminalStateChangedListener = new TerminalStateChangedListener(registryRepository);
         dataSourceStateChangedListener = new DataSourceStateChangedListener(registryRepository, schemaNames);
@@ -50,6 +52,7 @@ public final class RegistryListenerManager {
         propertiesChangedListener = new PropertiesChangedListener(registryRepository);
         authenticationChangedListener = new AuthenticationChangedListener(registryRepository);
         privilegeNodeChangedListener = new PrivilegeNodeChangedListener(registryRepository);
+        processListTriggerListener = new ProcessListTriggerListener(registryRepository);
     }
     
     /**
@@ -63,5 +66,6 @@ public final class RegistryListenerManager {
         propertiesChangedListener.watch(Type.UPDATED);
         authenticationChangedListener.watch(Type.UPDATED);
         privilegeNodeChangedListener.watch(Type.UPDATED);
+        processListTriggerListener.watch(Type.ADDED);
     }
 }
@@ -56,7 +56,7 @@ public final class MetaDataListener {
         metaDataChangedListener.watch(Type.UPDATED, Type.ADDED);
         ruleChangedListener.watch(Type.UPDATED);
         dataSourceChangedListener.watch(Type.UPDATED);
-        schemaChangedListener.watch(Type.UPDATED);
+        schemaChangedListener.watch(Type.ADDED, Type.UPDATED, Type.DELETED);
     }
     
     /**
@@ -71,6 +71,6 @@ public final class MetaDataListener {
         schemaChangedListener = new SchemaChangedListener(registryRepository, event.getSchemaNames());
         ruleChangedListener.watch(Type.UPDATED);
         dataSourceChangedListener.watch(Type.UPDATED);
-        schemaChangedListener.watch(Type.UPDATED);
+        schemaChangedListener.watch(Type.ADDED, Type.UPDATED, Type.DELETED);
     }
 }
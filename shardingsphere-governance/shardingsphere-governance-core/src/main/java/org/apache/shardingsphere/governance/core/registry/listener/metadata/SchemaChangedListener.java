@@ -17,15 +17,16 @@
 
 package org.apache.shardingsphere.governance.core.registry.listener.metadata;
 
+import com.google.common.base.Strings;
 import org.apache.shardingsphere.governance.core.event.listener.PostGovernanceRepositoryEventListener;
 import org.apache.shardingsphere.governance.core.event.model.GovernanceEvent;
-import org.apache.shardingsphere.governance.core.event.model.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataDeletedEvent;
 import org.apache.shardingsphere.governance.core.registry.RegistryCenterNode;
-import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlSchema;
-import org.apache.shardingsphere.governance.core.yaml.swapper.SchemaYamlSwapper;
+import org.apache.shardingsphere.governance.core.registry.TableMetaDataCodec;
 import org.apache.shardingsphere.governance.repository.api.RegistryRepository;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
-import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -35,13 +36,23 @@ import java.util.Optional;
  */
 public final class SchemaChangedListener extends PostGovernanceRepositoryEventListener<GovernanceEvent> {
     
+    private final RegistryCenterNode registryCenterNode;
+    
     public SchemaChangedListener(final RegistryRepository registryRepository, final Collection<String> schemaNames) {
-        super(registryRepository, new RegistryCenterNode().getAllMetadataSchemaPaths(schemaNames));
+        super(registryRepository, new RegistryCenterNode().getAllMetadataTablesPaths(schemaNames));
+        registryCenterNode = new RegistryCenterNode();
     }
     
     @Override
     protected Optional<GovernanceEvent> createEvent(final DataChangedEvent event) {
-        String schemaName = new RegistryCenterNode().getSchemaName(event.getKey());
-        return Optional.of(new SchemaChangedEvent(schemaName, new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(event.getValue(), YamlSchema.class))));
+        Optional<String> tableName = registryCenterNode.getTableName(event.getKey());
+        if (!tableName.isPresent()) {
+            return Optional.empty();
+        }
+        String schemaName = registryCenterNode.getSchemaName(event.getKey());
+        if (Type.DELETED == event.getType()) {
+            return Optional.of(new TableMetaDataDeletedEvent(schemaName, tableName.get()));
+        }
+        return Strings.isNullOrEmpty(event.getValue()) ? Optional.empty() : Optional.of(new TableMetaDataChangedEvent(schemaName, tableName.get(), TableMetaDataCodec.decode(event.getValue())));
     }
 }
@@ -29,6 +29,7 @@ import java.util.Optional;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -41,6 +42,24 @@ public final class RegistryCenterNodeTest {
         assertThat(registryCenterNode.getProxyNodePath("testId"), is("/states/proxynodes/testId"));
     }
     
+    @Test
+    public void assertGetProcessTriggerPath() {
+        assertThat(registryCenterNode.getProcessTriggerPath("testId", "processListId"), is("/states/processtrigger/testId/processListId"));
+    }
+    
+    @Test
+    public void assertGetProcessListId() {
+        Optional<String> actual = registryCenterNode.getProcessListId("127.0.0.1@1@id", "/states/processtrigger/127.0.0.1@1@id/processListId");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("processListId"));
+        assertFalse(registryCenterNode.getProcessListId("127.0.0.1@1@id", "/states/processtrigger/127.0.0.2@1@id/processListId").isPresent());
+    }
+    
+    @Test
+    public void assertGetProcessListInstancePath() {
+        assertThat(registryCenterNode.getProcessListInstancePath("processListId", "testId"), is("/states/processlist/processListId/testId"));
+    }
+    
     @Test
     public void assertGetDataNodesPath() {
         assertThat(registryCenterNode.getDataNodesPath(), is("/states/datanodes"));
@@ -100,7 +119,7 @@ public final class RegistryCenterNodeTest {
         assertThat(actual, hasItems("/metadata"));
         assertThat(actual, hasItems("/metadata/logic_db/rule"));
         assertThat(actual, hasItems("/metadata/logic_db/datasource"));
-        assertThat(actual, hasItems("/metadata/logic_db/schema"));
+        assertThat(actual, hasItems("/metadata/logic_db/tables"));
     }
 
     @Test
@@ -109,7 +128,20 @@ public final class RegistryCenterNodeTest {
     }
 
     @Test
-    public void assertGetTablePath() {
-        assertThat(registryCenterNode.getMetadataSchemaPath("sharding_db"), is("/metadata/sharding_db/schema"));
+    public void assertGetMetadataTablesPath() {
+        assertThat(registryCenterNode.getMetadataTablesPath("sharding_db"), is("/metadata/sharding_db/tables"));
+    }
+    
+    @Test
+    public void assertGetMetadataTablePath() {
+        assertThat(registryCenterNode.getMetadataTablePath("sharding_db", "t_order"), is("/metadata/sharding_db/tables/t_order"));
+    }
+    
+    @Test
+    public void assertGetTableName() {
+        Optional<String> actual = registryCenterNode.getTableName("/metadata/sharding_db/tables/t_order");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("t_order"));
+        assertFalse(registryCenterNode.getTableName("/metadata/sharding_db/tables").isPresent());
     }
 }
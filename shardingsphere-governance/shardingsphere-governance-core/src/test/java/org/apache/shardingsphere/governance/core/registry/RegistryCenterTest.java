@@ -27,10 +27,13 @@ import org.apache.shardingsphere.governance.core.event.model.metadata.MetaDataDr
 import org.apache.shardingsphere.governance.core.event.model.rule.RuleConfigurationsAlteredEvent;
 import org.apache.shardingsphere.governance.core.event.model.rule.SwitchRuleConfigurationEvent;
 import org.apache.shardingsphere.governance.core.lock.node.LockNode;
+import org.apache.shardingsphere.governance.core.registry.instance.GovernanceInstance;
 import org.apache.shardingsphere.governance.core.yaml.config.YamlRuleConfigurationWrap;
 import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlSchema;
 import org.apache.shardingsphere.governance.core.yaml.swapper.SchemaYamlSwapper;
 import org.apache.shardingsphere.governance.repository.api.RegistryRepository;
+import org.apache.shardingsphere.governance.repository.api.exception.GovernanceException;
+import org.apache.shardingsphere.governance.repository.api.transaction.TransactionOperation;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
@@ -42,6 +45,7 @@ import org.apache.shardingsphere.infra.metadata.auth.model.privilege.ShardingSph
 import org.apache.shardingsphere.infra.metadata.auth.model.user.Grantee;
 import org.apache.shardingsphere.infra.metadata.auth.model.user.ShardingSphereUser;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
 import org.apache.shardingsphere.infra.yaml.config.YamlRootRuleConfigurations;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
@@ -52,6 +56,8 @@ import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -80,6 +86,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -109,7 +117,7 @@ public final class RegistryCenterTest {
     
     private static final String META_DATA_YAML = "yaml/schema.yaml";
     
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private RegistryRepository registryRepository;
     
     @Mock
@@ -621,19 +629,69 @@ public final class RegistryCenterTest {
         ShardingSphereSchema schema = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(META_DATA_YAML), YamlSchema.class));
         RegistryCenter registryCenter = new RegistryCenter(registryRepository);
         registryCenter.persistSchema("sharding_db", schema);
-        verify(registryRepository).persist(eq("/metadata/sharding_db/schema"), anyString());
+        verify(registryRepository).persist(eq("/metadata/sharding_db/tables/t_order"), eq(TableMetaDataCodec.encode(schema.get("t_order"))));
+        registryCenter.persistSchema("sharding_db", schema);
+        verify(registryRepository).persist(eq("/metadata/sharding_db/tables/t_order"), anyString());
+        schema.remove("t_order");
+        registryCenter.persistSchema("sharding_db", schema);
+        verify(registryRepository).delete("/metadata/sharding_db/tables/t_order");
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertPersistSchemaInBoundedTransactions() {
+        ShardingSphereSchema schema = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(META_DATA_YAML), YamlSchema.class));
+        TableMetaData tableMetaData = schema.get("t_order");
+        for (int i = 0; i < 300; i++) {
+            schema.put("t_order_" + i, tableMetaData);
+        }
+        RegistryCenter registryCenter = new RegistryCenter(registryRepository);
+        registryCenter.persistSchema("sharding_db", schema);
+        ArgumentCaptor<List<TransactionOperation>> operationsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(registryRepository, atLeastOnce()).executeInTransaction(operationsCaptor.capture());
+        List<List<TransactionOperation>> tableOperations = operationsCaptor.getAllValues().stream()
+                .filter(each -> each.get(0).getKey().startsWith("/metadata/sharding_db/tables/")).collect(Collectors.toList());
+        assertThat(tableOperations.size(), is(3));
+        assertThat(tableOperations.stream().mapToInt(List::size).sum(), is(301));
+        assertTrue(tableOperations.stream().allMatch(each -> each.size() <= 128));
+    }
+    
+    @Test
+    public void assertPersistSchemaAfterTransactionFailure() {
+        ShardingSphereSchema schema = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(META_DATA_YAML), YamlSchema.class));
+        RegistryCenter registryCenter = new RegistryCenter(registryRepository);
+        doThrow(new GovernanceException(new IllegalStateException("transaction failed"))).doCallRealMethod().when(registryRepository).executeInTransaction(any());
+        try {
+            registryCenter.persistSchema("sharding_db", schema);
+        } catch (final GovernanceException ignored) {
+        }
+        verify(registryRepository, times(0)).persist(eq("/metadata/sharding_db/tables/t_order"), anyString());
+        registryCenter.persistSchema("sharding_db", schema);
+        verify(registryRepository).persist(eq("/metadata/sharding_db/tables/t_order"), eq(TableMetaDataCodec.encode(schema.get("t_order"))));
+    }
+    
+    @Test
+    public void assertPersistSchemaWithUnchangedTables() {
+        ShardingSphereSchema schema = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(META_DATA_YAML), YamlSchema.class));
+        when(registryRepository.getChildrenKeys("/metadata/sharding_db/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(registryRepository.get("/metadata/sharding_db/tables/t_order")).thenReturn(TableMetaDataCodec.encode(schema.get("t_order")));
+        RegistryCenter registryCenter = new RegistryCenter(registryRepository);
+        registryCenter.persistSchema("sharding_db", schema);
+        verify(registryRepository, times(0)).persist(eq("/metadata/sharding_db/tables/t_order"), anyString());
     }
     
     @Test
     public void assertLoadSchema() {
-        when(registryRepository.get("/metadata/sharding_db/schema")).thenReturn(readYAML(META_DATA_YAML));
+        ShardingSphereSchema expected = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(META_DATA_YAML), YamlSchema.class));
+        when(registryRepository.getChildrenKeys("/metadata/sharding_db/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(registryRepository.get("/metadata/sharding_db/tables/t_order")).thenReturn(TableMetaDataCodec.encode(expected.get("t_order")));
         RegistryCenter registryCenter = new RegistryCenter(registryRepository);
         Optional<ShardingSphereSchema> schemaOptional = registryCenter.loadSchema("sharding_db");
         assertTrue(schemaOptional.isPresent());
         Optional<ShardingSphereSchema> empty = registryCenter.loadSchema("test");
         assertThat(empty, is(Optional.empty()));
         ShardingSphereSchema schema = schemaOptional.get();
-        verify(registryRepository).get(eq("/metadata/sharding_db/schema"));
+        verify(registryRepository).get(eq("/metadata/sharding_db/tables/t_order"));
         assertThat(schema.getAllTableNames(), is(Collections.singleton("t_order")));
         assertThat(schema.get("t_order").getIndexes().keySet(), is(Collections.singleton("primary")));
         assertThat(schema.getAllColumnNames("t_order").size(), is(1));
@@ -645,7 +703,7 @@ public final class RegistryCenterTest {
         SchemaAlteredEvent event = new SchemaAlteredEvent("sharding_db", new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(META_DATA_YAML), YamlSchema.class)));
         RegistryCenter registryCenter = new RegistryCenter(registryRepository);
         registryCenter.renew(event);
-        verify(registryRepository).persist(eq("/metadata/sharding_db/schema"), anyString());
+        verify(registryRepository).persist(eq("/metadata/sharding_db/tables/t_order"), anyString());
     }
     
     @Test
@@ -676,4 +734,36 @@ public final class RegistryCenterTest {
         registryCenter.renew(event);
         verify(registryRepository).persist(startsWith("/metadata/sharding_db/datasource"), anyString());
     }
+    
+    @Test
+    public void assertLoadExecuteProcessLists() {
+        when(registryRepository.getChildrenKeys("/states/proxynodes")).thenReturn(Collections.singletonList("testId"));
+        when(registryRepository.get(startsWith("/states/processlist/"))).thenReturn("processes: []");
+        Map<String, String> actual = registryCenter.loadExecuteProcessLists();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("testId"), is("processes: []"));
+        verify(registryRepository).persist(startsWith("/states/processtrigger/testId/"), anyString());
+        verify(registryRepository).delete(startsWith("/states/processtrigger/testId/"));
+        verify(registryRepository).delete(startsWith("/states/processlist/"));
+    }
+    
+    @Test
+    public void assertLoadExecuteProcessListsWithoutInstance() {
+        assertTrue(registryCenter.loadExecuteProcessLists().isEmpty());
+    }
+    
+    @Test
+    public void assertPersistExecuteProcessList() {
+        String instanceId = GovernanceInstance.getInstance().getInstanceId();
+        when(registryRepository.get("/states/processtrigger/" + instanceId + "/processListId")).thenReturn("processListId");
+        registryCenter.persistExecuteProcessList("processListId", "processes: []");
+        verify(registryRepository).persist("/states/processlist/processListId/" + instanceId, "processes: []");
+        verify(registryRepository).delete("/states/processtrigger/" + instanceId + "/processListId");
+    }
+    
+    @Test
+    public void assertPersistExecuteProcessListWithoutTrigger() {
+        registryCenter.persistExecuteProcessList("processListId", "processes: []");
+        verify(registryRepository, times(0)).persist(startsWith("/states/processlist/"), anyString());
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.core.registry.listener;
+
+import org.apache.shardingsphere.governance.core.event.model.GovernanceEvent;
+import org.apache.shardingsphere.governance.core.event.model.process.ShowProcessListTriggerEvent;
+import org.apache.shardingsphere.governance.core.registry.instance.GovernanceInstance;
+import org.apache.shardingsphere.governance.repository.api.RegistryRepository;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
+import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ProcessListTriggerListenerTest {
+    
+    private ProcessListTriggerListener processListTriggerListener;
+    
+    @Mock
+    private RegistryRepository registryRepository;
+    
+    @Before
+    public void setUp() {
+        processListTriggerListener = new ProcessListTriggerListener(registryRepository);
+    }
+    
+    @Test
+    public void assertCreateEvent() {
+        String key = "/states/processtrigger/" + GovernanceInstance.getInstance().getInstanceId() + "/processListId";
+        Optional<GovernanceEvent> actual = processListTriggerListener.createEvent(new DataChangedEvent(key, "processListId", Type.ADDED));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(ShowProcessListTriggerEvent.class));
+        assertThat(((ShowProcessListTriggerEvent) actual.get()).getProcessListId(), is("processListId"));
+    }
+    
+    @Test
+    public void assertCreateEventWithOtherInstance() {
+        Optional<GovernanceEvent> actual = processListTriggerListener.createEvent(new DataChangedEvent("/states/processtrigger/otherId/processListId", "processListId", Type.ADDED));
+        assertFalse(actual.isPresent());
+    }
+}
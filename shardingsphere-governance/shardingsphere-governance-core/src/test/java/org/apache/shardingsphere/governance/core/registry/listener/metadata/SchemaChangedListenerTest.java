@@ -18,9 +18,15 @@
 package org.apache.shardingsphere.governance.core.registry.listener.metadata;
 
 import org.apache.shardingsphere.governance.core.event.model.GovernanceEvent;
-import org.apache.shardingsphere.governance.core.event.model.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataChangedEvent;
+import org.apache.shardingsphere.governance.core.event.model.schema.TableMetaDataDeletedEvent;
+import org.apache.shardingsphere.governance.core.registry.TableMetaDataCodec;
+import org.apache.shardingsphere.governance.core.yaml.config.schema.YamlSchema;
+import org.apache.shardingsphere.governance.core.yaml.swapper.SchemaYamlSwapper;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -30,6 +36,8 @@ import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -46,11 +54,30 @@ public final class SchemaChangedListenerTest extends MetaDataListenerTest {
     }
     
     @Test
-    public void assertCreateEvent() {
-        DataChangedEvent dataChangedEvent = new DataChangedEvent("/metadata/sharding_db/schema", readYAML(META_DATA_FILE), Type.UPDATED);
+    public void assertCreateTableMetaDataChangedEvent() {
+        TableMetaData tableMetaData = new SchemaYamlSwapper().swapToObject(YamlEngine.unmarshal(readYAML(META_DATA_FILE), YamlSchema.class)).get("t_order");
+        DataChangedEvent dataChangedEvent = new DataChangedEvent("/metadata/sharding_db/tables/t_order", TableMetaDataCodec.encode(tableMetaData), Type.UPDATED);
         Optional<GovernanceEvent> actual = schemaChangedListener.createEvent(dataChangedEvent);
         assertTrue(actual.isPresent());
-        assertThat(actual.get(), instanceOf(SchemaChangedEvent.class));
-        assertTrue(((SchemaChangedEvent) actual.get()).getSchema().getAllTableNames().contains("t_order"));
+        assertThat(actual.get(), instanceOf(TableMetaDataChangedEvent.class));
+        assertThat(((TableMetaDataChangedEvent) actual.get()).getSchemaName(), is("sharding_db"));
+        assertThat(((TableMetaDataChangedEvent) actual.get()).getTableName(), is("t_order"));
+        assertThat(((TableMetaDataChangedEvent) actual.get()).getTableMetaData(), is(tableMetaData));
+    }
+    
+    @Test
+    public void assertCreateTableMetaDataDeletedEvent() {
+        DataChangedEvent dataChangedEvent = new DataChangedEvent("/metadata/sharding_db/tables/t_order", "", Type.DELETED);
+        Optional<GovernanceEvent> actual = schemaChangedListener.createEvent(dataChangedEvent);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(TableMetaDataDeletedEvent.class));
+        assertThat(((TableMetaDataDeletedEvent) actual.get()).getSchemaName(), is("sharding_db"));
+        assertThat(((TableMetaDataDeletedEvent) actual.get()).getTableName(), is("t_order"));
+    }
+    
+    @Test
+    public void assertCreateEventWithoutTableNode() {
+        DataChangedEvent dataChangedEvent = new DataChangedEvent("/metadata/sharding_db/tables", "", Type.UPDATED);
+        assertFalse(schemaChangedListener.createEvent(dataChangedEvent).isPresent());
     }
 }
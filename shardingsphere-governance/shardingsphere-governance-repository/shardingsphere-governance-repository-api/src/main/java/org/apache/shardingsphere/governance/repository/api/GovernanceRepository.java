@@ -20,6 +20,7 @@ package org.apache.shardingsphere.governance.repository.api;
 import org.apache.shardingsphere.infra.spi.typed.TypedSPI;
 import org.apache.shardingsphere.governance.repository.api.config.GovernanceCenterConfiguration;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEventListener;
+import org.apache.shardingsphere.governance.repository.api.transaction.TransactionOperation;
 
 import java.util.List;
 
@@ -79,6 +80,25 @@ public interface GovernanceRepository extends TypedSPI {
      */
     void delete(String key);
     
+    /**
+     * Execute operations in transaction.
+     *
+     * <p>Operations are committed atomically by governance center which supports transaction,
+     * the default implementation executes operations one by one.
+     * Failure of transaction is thrown, so that operations are only regarded as committed when it returns.</p>
+     *
+     * @param operations transaction operations
+     */
+    default void executeInTransaction(final List<TransactionOperation> operations) {
+        for (TransactionOperation each : operations) {
+            if (TransactionOperation.Type.PERSIST == each.getType()) {
+                persist(each.getKey(), each.getValue());
+            } else {
+                delete(each.getKey());
+            }
+        }
+    }
+    
     /**
      * Watch key or path of governance server.
      *
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.repository.api.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Read cache of registry repository.
+ *
+ * <p>Registry nodes are held in an in-memory prefix tree which is kept consistent by watch events of registry center.
+ * Every node records the revision of its latest change and changes older than it are ignored,
+ * so writes of current instance can be applied at once without being reverted by delayed watch events.
+ * Reads are lock free, and should fall back to registry center until the cache is synced.</p>
+ */
+public final class RegistryReadCache {
+    
+    private static final String PATH_SEPARATOR = "/";
+    
+    private final CacheNode root = new CacheNode();
+    
+    @Getter
+    private volatile boolean synced;
+    
+    /**
+     * Mark cache is synced with registry center.
+     */
+    public void markSynced() {
+        synced = true;
+    }
+    
+    /**
+     * Clear cache, reads should fall back to registry center until cache is synced again.
+     */
+    public synchronized void clear() {
+        synced = false;
+        root.value = null;
+        root.children.clear();
+    }
+    
+    /**
+     * Get value of key.
+     *
+     * @param key key of data
+     * @return value of data, null if key is absent
+     */
+    public String get(final String key) {
+        CacheNode node = find(key);
+        return null == node || null == node.value || node.value.deleted ? null : node.value.data;
+    }
+    
+    /**
+     * Get sub-nodes names of key.
+     *
+     * @param key key of data
+     * @return sub-nodes names in ascending order
+     */
+    public List<String> getChildrenKeys(final String key) {
+        CacheNode node = find(key);
+        if (null == node) {
+            return Collections.emptyList();
+        }
+        return node.children.entrySet().stream().filter(entry -> entry.getValue().containsPresentNode()).map(Entry::getKey).sorted().collect(Collectors.toList());
+    }
+    
+    /**
+     * Put value of key which is changed on registry center or written by current instance.
+     *
+     * @param key key of data
+     * @param value value of data
+     * @param revision revision of change
+     */
+    public synchronized void put(final String key, final String value, final long revision) {
+        CacheNode node = root;
+        for (String each : split(key)) {
+            node = node.children.computeIfAbsent(each, unused -> new CacheNode());
+        }
+        CachedValue current = node.value;
+        if (null == current || revision > current.revision || !current.deleted && revision == current.revision) {
+            node.value = new CachedValue(value, revision, false);
+        }
+    }
+    
+    /**
+     * Remove key which is deleted on registry center.
+     *
+     * @param key key of data
+     * @param revision revision of deletion
+     */
+    public synchronized void remove(final String key, final long revision) {
+        List<CacheNode> path = findPath(key);
+        if (path.isEmpty()) {
+            return;
+        }
+        CacheNode node = path.get(path.size() - 1);
+        if (null != node.value && revision >= node.value.revision) {
+            node.value = null;
+            prune(key, path);
+        }
+    }
+    
+    /**
+     * Mark key as deleted by current instance.
+     *
+     * <p>Deleted key is kept as tombstone until the deletion is notified by registry center, so delayed changes can not revive it.</p>
+     *
+     * @param key key of data
+     * @param revision revision of deletion, 0 if unknown
+     */
+    public synchronized void markDeleted(final String key, final long revision) {
+        CacheNode node = find(key);
+        if (null != node) {
+            node.markDeleted(revision);
+        }
+    }
+    
+    /**
+     * Mark key and all its sub-nodes as deleted by current instance.
+     *
+     * @param key key of data
+     * @param revision revision of deletion, 0 if unknown
+     */
+    public synchronized void markTreeDeleted(final String key, final long revision) {
+        CacheNode node = find(key);
+        if (null != node) {
+            node.markTreeDeleted(revision);
+        }
+    }
+    
+    private CacheNode find(final String key) {
+        CacheNode result = root;
+        for (String each : split(key)) {
+            result = result.children.get(each);
+            if (null == result) {
+                return null;
+            }
+        }
+        return result;
+    }
+    
+    private List<CacheNode> findPath(final String key) {
+        List<CacheNode> result = new ArrayList<>();
+        CacheNode node = root;
+        result.add(node);
+        for (String each : split(key)) {
+            node = node.children.get(each);
+            if (null == node) {
+                return Collections.emptyList();
+            }
+            result.add(node);
+        }
+        return result;
+    }
+    
+    private void prune(final String key, final List<CacheNode> path) {
+        List<String> names = split(key);
+        for (int i = names.size(); i > 0; i--) {
+            CacheNode node = path.get(i);
+            if (null != node.value || !node.children.isEmpty()) {
+                return;
+            }
+            path.get(i - 1).children.remove(names.get(i - 1), node);
+        }
+    }
+    
+    private List<String> split(final String key) {
+        List<String> result = new LinkedList<>();
+        for (String each : key.split(PATH_SEPARATOR)) {
+            if (!each.isEmpty()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private static final class CacheNode {
+        
+        private final Map<String, CacheNode> children = new ConcurrentHashMap<>();
+        
+        private volatile CachedValue value;
+        
+        private boolean containsPresentNode() {
+            return (null != value && !value.deleted) || children.values().stream().anyMatch(CacheNode::containsPresentNode);
+        }
+        
+        private void markDeleted(final long revision) {
+            if (null != value && !value.deleted) {
+                value = new CachedValue(null, Math.max(revision, value.revision), true);
+            }
+        }
+        
+        private void markTreeDeleted(final long revision) {
+            markDeleted(revision);
+            children.values().forEach(each -> each.markTreeDeleted(revision));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedValue {
+        
+        private final String data;
+        
+        private final long revision;
+        
+        private final boolean deleted;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.repository.api.transaction;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Transaction operation of governance repository.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class TransactionOperation {
+    
+    private final Type type;
+    
+    private final String key;
+    
+    private final String value;
+    
+    /**
+     * Create persist operation.
+     *
+     * @param key key of data
+     * @param value value of data
+     * @return persist operation
+     */
+    public static TransactionOperation persist(final String key, final String value) {
+        return new TransactionOperation(Type.PERSIST, key, value);
+    }
+    
+    /**
+     * Create delete operation.
+     *
+     * @param key key of data
+     * @return delete operation
+     */
+    public static TransactionOperation delete(final String key) {
+        return new TransactionOperation(Type.DELETE, key, null);
+    }
+    
+    /**
+     * Transaction operation type.
+     */
+    public enum Type {
+        
+        PERSIST, DELETE
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.governance.repository.api.cache;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RegistryReadCacheTest {
+    
+    @Test
+    public void assertMarkSynced() {
+        RegistryReadCache readCache = new RegistryReadCache();
+        assertFalse(readCache.isSynced());
+        readCache.markSynced();
+        assertTrue(readCache.isSynced());
+    }
+    
+    @Test
+    public void assertClear() {
+        RegistryReadCache readCache = new RegistryReadCache();
+        readCache.put("/a/b", "value", 1L);
+        readCache.markSynced();
+        readCache.clear();
+        assertFalse(readCache.isSynced());
+        assertNull(readCache.get("/a/b"));
+        assertTrue(readCache.getChildrenKeys("/a").isEmpty());
+    }
+    
+    @Test
+    public void assertPut() {
+        RegistryReadCache readCache = new RegistryReadCache();
+        readCache.put("/a/b", "value1", 1L);
+        readCache.put("/a/b", "value2", 2L);
+        assertThat(readCache.get("/a/b"), is("value2"));
+        assertNull(readCache.get("/a"));
+    }
+    
+    @Test
+    public void assertPutWithOlderRevision() {
+        RegistryReadCache readCache = new RegistryReadCache();
+        readCache.put("/a/b", "value2", 2L);
+        readCache.put("/a/b", "value1", 1L);
+        assertThat(readCache.get("/a/b"), is("value2"));
+    }
+    
+    @Test
+    public void assertGetChildrenKeys() {
+        RegistryReadCache readCache = new RegistryReadCache();
+        readCache.put("/a/c", "value", 1L);
+        readCache.put("/a/b/d", "value", 1L);
+        assertThat(readCache.getChildrenKeys("/a"), is(Arrays.asList("b", "c")));
+        assertThat(readCache.getChildrenKeys("/a/b"), is(Collections.singletonList("d")));
+        assertTrue(readCache.getChildrenKeys("/x").isEmpty());
+    }
+    
+    @Test
+    public void assertRemove() {
+        RegistryReadCache readCache = new RegistryReadCache();
+        readCache.put("/a/b/c", "value", 1L);
+        readCache.remove("/a/b/c", 2L);
+        assertNull(readCache.get("/a/b/c"));
+        assertTrue(readCache.getChildrenKeys("/a").isEmpty());
+    }
+    
+    @Test
+    public void assertRemoveWithOlderRevision() {
+        RegistryReadCache readCache = new RegistryReadCache();
+        readCache.put("/a/b", "value", 2L);
+        readCache.remove("/a/b", 1L);
+        assertThat(readCache.get("/a/b"), is("value"));
+    }
+    
+    @Test
+    public void assertMarkDeleted() {
+        RegistryReadCache readCache = new RegistryReadCache();
+        readCache.put("/a/b", "value1", 1L);
+        readCache.put("/a/b/c", "value2", 1L);
+        readCache.markDeleted("/a/b", 2L);
+        assertNull(readCache.get("/a/b"));
+        assertThat(readCache.get("/a/b/c"), is("value2"));
+        readCache.put("/a/b", "value1", 1L);
+        readCache.put("/a/b", "value1", 2L);
+        assertNull(readCache.get("/a/b"));
+        readCache.put("/a/b", "value3", 3L);
+        assertThat(readCache.get("/a/b"), is("value3"));
+    }
+    
+    @Test
+    public void assertMarkTreeDeleted() {
+        RegistryReadCache readCache = new RegistryReadCache();
+        readCache.put("/a/b", "value1", 1L);
+        readCache.put("/a/b/c", "value2", 2L);
+        readCache.markTreeDeleted("/a/b", 0L);
+        assertNull(readCache.get("/a/b"));
+        assertNull(readCache.get("/a/b/c"));
+        assertTrue(readCache.getChildrenKeys("/a").isEmpty());
+        readCache.put("/a/b/c", "value2", 2L);
+        assertNull(readCache.get("/a/b/c"));
+        readCache.remove("/a/b/c", 2L);
+        readCache.remove("/a/b", 1L);
+        readCache.put("/a/b", "value3", 3L);
+        assertThat(readCache.get("/a/b"), is("value3"));
+        assertThat(readCache.getChildrenKeys("/a"), is(Collections.singletonList("b")));
+    }
+}
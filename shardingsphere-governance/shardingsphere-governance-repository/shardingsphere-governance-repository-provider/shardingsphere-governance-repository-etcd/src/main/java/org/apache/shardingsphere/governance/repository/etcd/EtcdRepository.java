@@ -24,19 +24,29 @@ import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Observers;
 import io.etcd.jetcd.Util;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.kv.PutResponse;
+import io.etcd.jetcd.kv.TxnResponse;
+import io.etcd.jetcd.op.Op;
+import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
+import io.etcd.jetcd.options.WatchOption;
 import io.etcd.jetcd.watch.WatchEvent;
+import io.etcd.jetcd.watch.WatchResponse;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.governance.repository.api.RegistryRepository;
+import org.apache.shardingsphere.governance.repository.api.cache.RegistryReadCache;
 import org.apache.shardingsphere.governance.repository.api.config.GovernanceCenterConfiguration;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEventListener;
+import org.apache.shardingsphere.governance.repository.api.transaction.TransactionOperation;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
@@ -56,15 +66,54 @@ public final class EtcdRepository implements RegistryRepository {
     
     private EtcdProperties etcdProperties;
     
+    private final RegistryReadCache readCache = new RegistryReadCache();
+    
+    private volatile Watch.Watcher readCacheWatcher;
+    
     @Override
     public void init(final String name, final GovernanceCenterConfiguration config) {
         etcdProperties = new EtcdProperties(props);
         client = Client.builder().endpoints(Util.toURIs(Splitter.on(",").trimResults().splitToList(config.getServerLists()))).namespace(ByteSequence.from(name, StandardCharsets.UTF_8)).build();
+        syncReadCache();
+    }
+    
+    private void syncReadCache() {
+        ByteSequence prefix = ByteSequence.from(PATH_SEPARATOR, StandardCharsets.UTF_8);
+        client.getKVClient().get(prefix, GetOption.newBuilder().withPrefix(prefix).build()).thenAccept(response -> {
+            for (KeyValue each : response.getKvs()) {
+                readCache.put(each.getKey().toString(StandardCharsets.UTF_8), each.getValue().toString(StandardCharsets.UTF_8), each.getModRevision());
+            }
+            WatchOption watchOption = WatchOption.newBuilder().withPrefix(prefix).withRevision(response.getHeader().getRevision() + 1).build();
+            readCacheWatcher = client.getWatchClient().watch(prefix, watchOption, Watch.listener(this::refreshReadCache, this::resyncReadCache));
+            readCache.markSynced();
+        });
+    }
+    
+    private void refreshReadCache(final WatchResponse response) {
+        for (WatchEvent each : response.getEvents()) {
+            String key = each.getKeyValue().getKey().toString(StandardCharsets.UTF_8);
+            if (WatchEvent.EventType.PUT == each.getEventType()) {
+                readCache.put(key, each.getKeyValue().getValue().toString(StandardCharsets.UTF_8), each.getKeyValue().getModRevision());
+            } else if (WatchEvent.EventType.DELETE == each.getEventType()) {
+                readCache.remove(key, each.getKeyValue().getModRevision());
+            }
+        }
+    }
+    
+    private void resyncReadCache(final Throwable cause) {
+        readCache.clear();
+        if (null != readCacheWatcher) {
+            readCacheWatcher.close();
+        }
+        syncReadCache();
     }
     
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public String get(final String key) {
+        if (readCache.isSynced()) {
+            return readCache.get(key);
+        }
         List<KeyValue> keyValues = client.getKVClient().get(ByteSequence.from(key, StandardCharsets.UTF_8)).get().getKvs();
         return keyValues.isEmpty() ? null : keyValues.iterator().next().getValue().toString(StandardCharsets.UTF_8);
     }
@@ -72,6 +121,9 @@ public final class EtcdRepository implements RegistryRepository {
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public List<String> getChildrenKeys(final String key) {
+        if (readCache.isSynced()) {
+            return readCache.getChildrenKeys(key);
+        }
         String prefix = key + PATH_SEPARATOR;
         ByteSequence prefixByteSequence = ByteSequence.from(prefix, StandardCharsets.UTF_8);
         GetOption getOption = GetOption.newBuilder().withPrefix(prefixByteSequence).withSortField(GetOption.SortTarget.KEY).withSortOrder(GetOption.SortOrder.ASCEND).build();
@@ -87,7 +139,8 @@ public final class EtcdRepository implements RegistryRepository {
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
     @Override
     public void persist(final String key, final String value) {
-        client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
+        PutResponse response = client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
+        readCache.put(key, value, response.getHeader().getRevision());
     }
     
     @SneakyThrows({InterruptedException.class, ExecutionException.class})
@@ -95,7 +148,9 @@ public final class EtcdRepository implements RegistryRepository {
     public void persistEphemeral(final String key, final String value) {
         long leaseId = client.getLeaseClient().grant(etcdProperties.getValue(EtcdPropertyKey.TIME_TO_LIVE_SECONDS)).get().getID();
         client.getLeaseClient().keepAlive(leaseId, Observers.observer(response -> { }));
-        client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8), PutOption.newBuilder().withLeaseId(leaseId).build()).get();
+        PutOption putOption = PutOption.newBuilder().withLeaseId(leaseId).build();
+        PutResponse response = client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8), putOption).get();
+        readCache.put(key, value, response.getHeader().getRevision());
     }
     
     @Override
@@ -111,7 +166,34 @@ public final class EtcdRepository implements RegistryRepository {
     
     @Override
     public void delete(final String key) {
-        client.getKVClient().delete(ByteSequence.from(key, StandardCharsets.UTF_8));
+        client.getKVClient().delete(ByteSequence.from(key, StandardCharsets.UTF_8)).thenAccept(response -> readCache.markDeleted(key, response.getHeader().getRevision()));
+    }
+    
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void executeInTransaction(final List<TransactionOperation> operations) {
+        if (operations.isEmpty()) {
+            return;
+        }
+        Collection<Op> ops = new LinkedList<>();
+        for (TransactionOperation each : operations) {
+            ByteSequence key = ByteSequence.from(each.getKey(), StandardCharsets.UTF_8);
+            if (TransactionOperation.Type.PERSIST == each.getType()) {
+                ops.add(Op.put(key, ByteSequence.from(each.getValue(), StandardCharsets.UTF_8), PutOption.DEFAULT));
+            } else {
+                ByteSequence childrenPrefix = ByteSequence.from(each.getKey() + PATH_SEPARATOR, StandardCharsets.UTF_8);
+                ops.add(Op.delete(key, DeleteOption.DEFAULT));
+                ops.add(Op.delete(childrenPrefix, DeleteOption.newBuilder().withPrefix(childrenPrefix).build()));
+            }
+        }
+        TxnResponse response = client.getKVClient().txn().Then(ops.toArray(new Op[0])).commit().get();
+        for (TransactionOperation each : operations) {
+            if (TransactionOperation.Type.PERSIST == each.getType()) {
+                readCache.put(each.getKey(), each.getValue(), response.getHeader().getRevision());
+            } else {
+                readCache.markTreeDeleted(each.getKey(), response.getHeader().getRevision());
+            }
+        }
     }
     
     @Override
@@ -119,13 +201,18 @@ public final class EtcdRepository implements RegistryRepository {
         Watch.Listener listener = Watch.listener(response -> {
             for (WatchEvent each : response.getEvents()) {
                 Type type = getEventChangedType(each);
-                if (Type.IGNORED != type) {
-                    dataChangedEventListener.onChange(new DataChangedEvent(each.getKeyValue().getKey().toString(StandardCharsets.UTF_8),
-                            each.getKeyValue().getValue().toString(StandardCharsets.UTF_8), type));
+                String changedKey = each.getKeyValue().getKey().toString(StandardCharsets.UTF_8);
+                if (Type.IGNORED != type && isWatchedKey(key, changedKey)) {
+                    dataChangedEventListener.onChange(new DataChangedEvent(changedKey, each.getKeyValue().getValue().toString(StandardCharsets.UTF_8), type));
                 }
             }
         });
-        client.getWatchClient().watch(ByteSequence.from(key, StandardCharsets.UTF_8), listener);
+        ByteSequence watchedKey = ByteSequence.from(key, StandardCharsets.UTF_8);
+        client.getWatchClient().watch(watchedKey, WatchOption.newBuilder().withPrefix(watchedKey).build(), listener);
+    }
+    
+    private boolean isWatchedKey(final String key, final String changedKey) {
+        return changedKey.equals(key) || changedKey.startsWith(key + PATH_SEPARATOR);
     }
     
     private Type getEventChangedType(final WatchEvent event) {
@@ -141,6 +228,9 @@ public final class EtcdRepository implements RegistryRepository {
     
     @Override
     public void close() {
+        if (null != readCacheWatcher) {
+            readCacheWatcher.close();
+        }
         client.close();
     }
     
@@ -24,15 +24,24 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.api.RangeResponse;
+import io.etcd.jetcd.api.ResponseHeader;
 import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.kv.PutResponse;
+import io.etcd.jetcd.kv.TxnResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
+import io.etcd.jetcd.options.WatchOption;
 import io.etcd.jetcd.watch.WatchEvent;
 import io.etcd.jetcd.watch.WatchResponse;
 import io.grpc.stub.StreamObserver;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.governance.repository.api.cache.RegistryReadCache;
+import org.apache.shardingsphere.governance.repository.api.transaction.TransactionOperation;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -40,7 +49,10 @@ import org.mockito.Mock;
 import org.mockito.internal.util.reflection.FieldSetter;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -51,11 +63,13 @@ import java.util.concurrent.ExecutionException;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -119,6 +133,7 @@ public final class EtcdRepositoryTest {
         when(kv.put(any(ByteSequence.class), any(ByteSequence.class))).thenReturn(putFuture);
         when(kv.put(any(ByteSequence.class), any(ByteSequence.class), any(PutOption.class))).thenReturn(putFuture);
         when(getFuture.get()).thenReturn(getResponse);
+        when(putFuture.get()).thenReturn(new PutResponse(io.etcd.jetcd.api.PutResponse.newBuilder().setHeader(ResponseHeader.newBuilder().setRevision(1L)).build(), ByteSequence.EMPTY));
         when(client.getLeaseClient()).thenReturn(lease);
         when(lease.grant(anyLong())).thenReturn(leaseFuture);
         when(leaseFuture.get()).thenReturn(leaseGrantResponse);
@@ -164,41 +179,42 @@ public final class EtcdRepositoryTest {
     @Test
     public void assertWatchUpdate() {
         doAnswer(invocationOnMock -> {
-            Watch.Listener listener = (Watch.Listener) invocationOnMock.getArguments()[1];
+            Watch.Listener listener = (Watch.Listener) invocationOnMock.getArguments()[2];
             listener.onNext(buildWatchResponse(WatchEvent.EventType.PUT));
             return mock(Watch.Watcher.class);
-        }).when(watch).watch(any(ByteSequence.class), any(Watch.Listener.class));
+        }).when(watch).watch(any(ByteSequence.class), any(WatchOption.class), any(Watch.Listener.class));
         repository.watch("key1", dataChangedEvent -> {
         });
-        verify(watch).watch(any(ByteSequence.class), any(Watch.Listener.class));
+        verify(watch).watch(any(ByteSequence.class), any(WatchOption.class), any(Watch.Listener.class));
     }
     
     @Test
     public void assertWatchDelete() {
         doAnswer(invocationOnMock -> {
-            Watch.Listener listener = (Watch.Listener) invocationOnMock.getArguments()[1];
+            Watch.Listener listener = (Watch.Listener) invocationOnMock.getArguments()[2];
             listener.onNext(buildWatchResponse(WatchEvent.EventType.DELETE));
             return mock(Watch.Watcher.class);
-        }).when(watch).watch(any(ByteSequence.class), any(Watch.Listener.class));
+        }).when(watch).watch(any(ByteSequence.class), any(WatchOption.class), any(Watch.Listener.class));
         repository.watch("key1", dataChangedEvent -> {
         });
-        verify(watch).watch(any(ByteSequence.class), any(Watch.Listener.class));
+        verify(watch).watch(any(ByteSequence.class), any(WatchOption.class), any(Watch.Listener.class));
     }
     
     @Test
     public void assertWatchIgnored() {
         doAnswer(invocationOnMock -> {
-            Watch.Listener listener = (Watch.Listener) invocationOnMock.getArguments()[1];
+            Watch.Listener listener = (Watch.Listener) invocationOnMock.getArguments()[2];
             listener.onNext(buildWatchResponse(WatchEvent.EventType.UNRECOGNIZED));
             return mock(Watch.Watcher.class);
-        }).when(watch).watch(any(ByteSequence.class), any(Watch.Listener.class));
+        }).when(watch).watch(any(ByteSequence.class), any(WatchOption.class), any(Watch.Listener.class));
         repository.watch("key1", dataChangedEvent -> {
         });
-        verify(watch).watch(any(ByteSequence.class), any(Watch.Listener.class));
+        verify(watch).watch(any(ByteSequence.class), any(WatchOption.class), any(Watch.Listener.class));
     }
     
     @Test
     public void assertDelete() {
+        when(kv.delete(any(ByteSequence.class))).thenReturn(new CompletableFuture<>());
         repository.delete("key");
         verify(kv).delete(ByteSequence.from("key", StandardCharsets.UTF_8));
     }
@@ -209,6 +225,68 @@ public final class EtcdRepositoryTest {
         verify(kv).put(any(ByteSequence.class), any(ByteSequence.class));
     }
     
+    @Test
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    public void assertExecuteInTransaction() {
+        Txn txn = mock(Txn.class);
+        CompletableFuture txnFuture = mock(CompletableFuture.class);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.Then(any())).thenReturn(txn);
+        when(txn.commit()).thenReturn(txnFuture);
+        when(txnFuture.get()).thenReturn(new TxnResponse(io.etcd.jetcd.api.TxnResponse.newBuilder().setHeader(ResponseHeader.newBuilder().setRevision(1L)).build(), ByteSequence.EMPTY));
+        repository.executeInTransaction(Arrays.asList(TransactionOperation.persist("/key1", "value1"), TransactionOperation.delete("/key2")));
+        verify(txn).Then(any());
+        verify(txnFuture).get();
+    }
+    
+    @Test
+    public void assertExecuteInTransactionWithoutOperations() {
+        repository.executeInTransaction(Collections.emptyList());
+        verify(kv, never()).txn();
+    }
+    
+    @Test
+    public void assertGetFromReadCache() {
+        RegistryReadCache readCache = getReadCache();
+        readCache.put("/key/key1", "value1", 1L);
+        readCache.markSynced();
+        assertThat(repository.get("/key/key1"), is("value1"));
+        assertThat(repository.getChildrenKeys("/key"), is(Collections.singletonList("key1")));
+        verify(kv, never()).get(any(ByteSequence.class));
+    }
+    
+    @Test
+    @SneakyThrows(ReflectiveOperationException.class)
+    public void assertSyncReadCache() {
+        io.etcd.jetcd.api.KeyValue keyValue = io.etcd.jetcd.api.KeyValue.newBuilder()
+                .setKey(ByteString.copyFromUtf8("/key/key1")).setValue(ByteString.copyFromUtf8("value1")).setModRevision(1L).build();
+        GetResponse response = new GetResponse(RangeResponse.newBuilder().setHeader(ResponseHeader.newBuilder().setRevision(1L)).addKvs(keyValue).build(), ByteSequence.EMPTY);
+        when(kv.get(any(ByteSequence.class), any(GetOption.class))).thenReturn(CompletableFuture.completedFuture(response));
+        doAnswer(invocationOnMock -> {
+            Watch.Listener listener = (Watch.Listener) invocationOnMock.getArguments()[2];
+            listener.onNext(buildWatchResponse(WatchEvent.EventType.PUT));
+            return mock(Watch.Watcher.class);
+        }).when(watch).watch(any(ByteSequence.class), any(WatchOption.class), any(Watch.Listener.class));
+        Method method = EtcdRepository.class.getDeclaredMethod("syncReadCache");
+        method.setAccessible(true);
+        method.invoke(repository);
+        assertTrue(getReadCache().isSynced());
+        assertThat(repository.get("/key/key1"), is("value1"));
+        assertThat(repository.get("key1"), is("value1"));
+    }
+    
+    @After
+    public void clearReadCache() {
+        getReadCache().clear();
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private RegistryReadCache getReadCache() {
+        Field field = EtcdRepository.class.getDeclaredField("readCache");
+        field.setAccessible(true);
+        return (RegistryReadCache) field.get(repository);
+    }
+    
     @Test
     public void assertClose() {
         repository.close();
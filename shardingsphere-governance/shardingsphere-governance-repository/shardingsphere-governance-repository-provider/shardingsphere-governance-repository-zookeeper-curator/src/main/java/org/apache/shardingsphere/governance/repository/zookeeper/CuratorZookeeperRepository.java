@@ -23,33 +23,41 @@ import lombok.Setter;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.api.ACLProvider;
-import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.api.transaction.CuratorTransactionResult;
+import org.apache.curator.framework.api.transaction.OperationType;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
+import org.apache.curator.framework.recipes.cache.CuratorCacheStorage;
 import org.apache.curator.framework.recipes.locks.InterProcessLock;
 import org.apache.curator.framework.recipes.locks.InterProcessMutex;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.curator.utils.CloseableUtils;
 import org.apache.shardingsphere.governance.repository.api.RegistryRepository;
+import org.apache.shardingsphere.governance.repository.api.cache.RegistryReadCache;
 import org.apache.shardingsphere.governance.repository.api.config.GovernanceCenterConfiguration;
+import org.apache.shardingsphere.governance.repository.api.exception.GovernanceException;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEventListener;
+import org.apache.shardingsphere.governance.repository.api.transaction.TransactionOperation;
 import org.apache.shardingsphere.governance.repository.zookeeper.handler.CuratorZookeeperExceptionHandler;
 import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -61,6 +69,10 @@ public final class CuratorZookeeperRepository implements RegistryRepository {
     
     private final Map<String, CuratorCache> caches = new HashMap<>();
     
+    private final RegistryReadCache readCache = new RegistryReadCache();
+    
+    private CuratorCache treeCache;
+    
     private CuratorFramework client;
     
     private CuratorFrameworkFactory.Builder builder = CuratorFrameworkFactory.builder();
@@ -76,6 +88,7 @@ public final class CuratorZookeeperRepository implements RegistryRepository {
         ZookeeperProperties zookeeperProperties = new ZookeeperProperties(props);
         client = buildCuratorClient(name, config, zookeeperProperties);
         initCuratorClient(zookeeperProperties);
+        initReadCache();
     }
     
     private CuratorFramework buildCuratorClient(final String namespace, final GovernanceCenterConfiguration config, final ZookeeperProperties zookeeperProperties) {
@@ -125,29 +138,34 @@ public final class CuratorZookeeperRepository implements RegistryRepository {
         }
     }
     
-    @Override
-    public String get(final String key) {
-        CuratorCache cache = findTreeCache(key);
-        if (null == cache) {
-            return getDirectly(key);
-        }
-        Optional<ChildData> resultInCache = cache.get(key);
-        if (resultInCache.isPresent()) {
-            return null == resultInCache.get().getData() ? null : new String(resultInCache.get().getData(), StandardCharsets.UTF_8);
-        }
-        return getDirectly(key);
+    private void initReadCache() {
+        treeCache = CuratorCache.builder(client, PATH_SEPARATOR).withStorage(CuratorCacheStorage.dataNotCached()).build();
+        treeCache.listenable().addListener(CuratorCacheListener.builder()
+                .forCreatesAndChanges((oldNode, node) -> readCache.put(node.getPath(), toValue(node.getData()), node.getStat().getMzxid()))
+                .forDeletes(oldNode -> readCache.remove(oldNode.getPath(), oldNode.getStat().getMzxid()))
+                .forInitialized(readCache::markSynced).build());
+        treeCache.start();
+    }
+    
+    private String toValue(final byte[] data) {
+        return null == data ? null : new String(data, StandardCharsets.UTF_8);
     }
     
-    private CuratorCache findTreeCache(final String key) {
-        return caches.entrySet().stream().filter(entry -> key.startsWith(entry.getKey())).findFirst().map(Entry::getValue).orElse(null);
+    @Override
+    public String get(final String key) {
+        return readCache.isSynced() ? readCache.get(key) : getDirectly(key);
     }
     
     @Override
     public List<String> getChildrenKeys(final String key) {
+        List<String> result = readCache.isSynced() ? readCache.getChildrenKeys(key) : getChildrenKeysDirectly(key);
+        result.sort(Comparator.reverseOrder());
+        return result;
+    }
+    
+    private List<String> getChildrenKeysDirectly(final String key) {
         try {
-            List<String> result = client.getChildren().forPath(key);
-            result.sort(Comparator.reverseOrder());
-            return result;
+            return client.getChildren().forPath(key);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -160,7 +178,7 @@ public final class CuratorZookeeperRepository implements RegistryRepository {
     public void persist(final String key, final String value) {
         try {
             if (!isExisted(key)) {
-                client.create().creatingParentsIfNeeded().withMode(CreateMode.PERSISTENT).forPath(key, value.getBytes(StandardCharsets.UTF_8));
+                create(key, value, CreateMode.PERSISTENT);
             } else {
                 update(key, value);
             }
@@ -171,9 +189,16 @@ public final class CuratorZookeeperRepository implements RegistryRepository {
         }
     }
     
+    private void create(final String key, final String value, final CreateMode createMode) throws Exception {
+        Stat stat = new Stat();
+        client.create().storingStatIn(stat).creatingParentsIfNeeded().withMode(createMode).forPath(key, value.getBytes(StandardCharsets.UTF_8));
+        readCache.put(key, value, stat.getMzxid());
+    }
+    
     private void update(final String key, final String value) {
         try {
-            client.setData().forPath(key, value.getBytes(StandardCharsets.UTF_8));
+            Stat stat = client.setData().forPath(key, value.getBytes(StandardCharsets.UTF_8));
+            readCache.put(key, value, stat.getMzxid());
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -209,7 +234,7 @@ public final class CuratorZookeeperRepository implements RegistryRepository {
             if (isExisted(key)) {
                 client.delete().deletingChildrenIfNeeded().forPath(key);
             }
-            client.create().creatingParentsIfNeeded().withMode(CreateMode.EPHEMERAL).forPath(key, value.getBytes(StandardCharsets.UTF_8));
+            create(key, value, CreateMode.EPHEMERAL);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -222,6 +247,7 @@ public final class CuratorZookeeperRepository implements RegistryRepository {
         try {
             if (isExisted(key)) {
                 client.delete().deletingChildrenIfNeeded().forPath(key);
+                readCache.markTreeDeleted(key, 0L);
             }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
@@ -230,6 +256,103 @@ public final class CuratorZookeeperRepository implements RegistryRepository {
         }
     }
     
+    @Override
+    public void executeInTransaction(final List<TransactionOperation> operations) {
+        if (operations.isEmpty()) {
+            return;
+        }
+        try {
+            List<CuratorTransactionResult> results = client.transaction().forOperations(createCuratorOperations(operations));
+            refreshReadCache(operations, getTransactionRevision(results));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new GovernanceException(ex);
+        }
+    }
+    
+    private long getTransactionRevision(final List<CuratorTransactionResult> results) throws Exception {
+        for (CuratorTransactionResult each : results) {
+            if (null != each.getResultStat()) {
+                return each.getResultStat().getMzxid();
+            }
+        }
+        for (CuratorTransactionResult each : results) {
+            if (OperationType.CREATE == each.getType()) {
+                Stat stat = client.checkExists().forPath(each.getForPath());
+                return null == stat ? 0L : stat.getCzxid();
+            }
+        }
+        return 0L;
+    }
+    
+    private void refreshReadCache(final List<TransactionOperation> operations, final long revision) {
+        for (TransactionOperation each : operations) {
+            if (TransactionOperation.Type.PERSIST == each.getType()) {
+                readCache.put(each.getKey(), each.getValue(), revision);
+            } else {
+                readCache.markTreeDeleted(each.getKey(), 0L);
+            }
+        }
+    }
+    
+    private List<CuratorOp> createCuratorOperations(final List<TransactionOperation> operations) throws Exception {
+        List<CuratorOp> result = new LinkedList<>();
+        Map<String, Boolean> existedPaths = new HashMap<>();
+        for (TransactionOperation each : operations) {
+            if (TransactionOperation.Type.PERSIST == each.getType()) {
+                addPersistOperations(each.getKey(), each.getValue(), existedPaths, result);
+            } else {
+                addDeleteOperations(each.getKey(), existedPaths, result);
+            }
+        }
+        return result;
+    }
+    
+    private void addPersistOperations(final String key, final String value, final Map<String, Boolean> existedPaths, final List<CuratorOp> curatorOperations) throws Exception {
+        if (isExistedInTransaction(key, existedPaths)) {
+            curatorOperations.add(client.transactionOp().setData().forPath(key, value.getBytes(StandardCharsets.UTF_8)));
+            return;
+        }
+        for (int index = key.indexOf(PATH_SEPARATOR, 1); index > 0; index = key.indexOf(PATH_SEPARATOR, index + 1)) {
+            String parentPath = key.substring(0, index);
+            if (!isExistedInTransaction(parentPath, existedPaths)) {
+                curatorOperations.add(client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(parentPath, new byte[0]));
+                existedPaths.put(parentPath, true);
+            }
+        }
+        curatorOperations.add(client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(key, value.getBytes(StandardCharsets.UTF_8)));
+        existedPaths.put(key, true);
+    }
+    
+    private void addDeleteOperations(final String key, final Map<String, Boolean> existedPaths, final List<CuratorOp> curatorOperations) throws Exception {
+        if (!isExistedInTransaction(key, existedPaths)) {
+            return;
+        }
+        for (String each : getChildrenNames(key, existedPaths)) {
+            addDeleteOperations(String.join(PATH_SEPARATOR, key, each), existedPaths, curatorOperations);
+        }
+        curatorOperations.add(client.transactionOp().delete().forPath(key));
+        existedPaths.put(key, false);
+    }
+    
+    private Collection<String> getChildrenNames(final String key, final Map<String, Boolean> existedPaths) throws Exception {
+        Collection<String> result = new LinkedHashSet<>();
+        if (null != client.checkExists().forPath(key)) {
+            result.addAll(client.getChildren().forPath(key));
+        }
+        String prefix = key + PATH_SEPARATOR;
+        existedPaths.keySet().stream().filter(each -> each.startsWith(prefix)).map(each -> each.substring(prefix.length())).filter(each -> !each.contains(PATH_SEPARATOR)).forEach(result::add);
+        return result;
+    }
+    
+    private boolean isExistedInTransaction(final String key, final Map<String, Boolean> existedPaths) {
+        return existedPaths.computeIfAbsent(key, this::isExisted);
+    }
+    
     @Override
     public void watch(final String key, final DataChangedEventListener listener) {
         String path = key + PATH_SEPARATOR;
@@ -314,6 +437,9 @@ public final class CuratorZookeeperRepository implements RegistryRepository {
     @Override
     public void close() {
         caches.values().forEach(CuratorCache::close);
+        if (null != treeCache) {
+            treeCache.close();
+        }
         waitForCacheClose();
         CloseableUtils.closeQuietly(client);
     }
@@ -22,12 +22,14 @@ import lombok.SneakyThrows;
 import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
+import org.apache.curator.framework.api.ACLPathAndBytesable;
 import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.framework.api.AddWatchBuilder;
 import org.apache.curator.framework.api.AddWatchBuilder2;
 import org.apache.curator.framework.api.BackgroundCallback;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
+import org.apache.curator.framework.api.CreateProtectACLCreateModePathAndBytesable;
 import org.apache.curator.framework.api.DeleteBuilder;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
@@ -36,23 +38,35 @@ import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable
 import org.apache.curator.framework.api.SetDataBuilder;
 import org.apache.curator.framework.api.WatchableBase;
 import org.apache.curator.framework.api.WatchesBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
+import org.apache.curator.framework.api.transaction.TransactionDeleteBuilder;
+import org.apache.curator.framework.api.transaction.TransactionOp;
+import org.apache.curator.framework.api.transaction.TransactionSetDataBuilder;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.locks.InterProcessLock;
 import org.apache.curator.framework.state.ConnectionStateListener;
+import org.apache.shardingsphere.governance.repository.api.cache.RegistryReadCache;
 import org.apache.shardingsphere.governance.repository.api.config.GovernanceCenterConfiguration;
+import org.apache.shardingsphere.governance.repository.api.exception.GovernanceException;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.governance.repository.api.transaction.TransactionOperation;
 import org.apache.zookeeper.AddWatchMode;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.NoNodeException;
 import org.apache.zookeeper.Watcher;
 import org.apache.zookeeper.data.Stat;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.AdditionalAnswers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.stubbing.VoidAnswer1;
@@ -60,6 +74,7 @@ import org.mockito.stubbing.VoidAnswer1;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -116,6 +131,9 @@ public final class CuratorZookeeperRepositoryTest {
     @Mock
     private ProtectACLCreateModeStatPathAndBytesable<String> protect;
     
+    @Mock
+    private CreateProtectACLCreateModePathAndBytesable<String> storingStatCreateBuilder;
+    
     @Mock
     private BackgroundVersionable backgroundVersionable;
     
@@ -178,7 +196,8 @@ public final class CuratorZookeeperRepositoryTest {
     private void mockBuilder() {
         when(client.checkExists()).thenReturn(existsBuilder);
         when(client.create()).thenReturn(createBuilder);
-        when(createBuilder.creatingParentsIfNeeded()).thenReturn(protect);
+        when(createBuilder.storingStatIn(any(Stat.class))).thenReturn(storingStatCreateBuilder);
+        when(storingStatCreateBuilder.creatingParentsIfNeeded()).thenReturn(protect);
         when(client.setData()).thenReturn(setDataBuilder);
         when(client.delete()).thenReturn(deleteBuilder);
         when(deleteBuilder.deletingChildrenIfNeeded()).thenReturn(backgroundVersionable);
@@ -194,10 +213,58 @@ public final class CuratorZookeeperRepositoryTest {
         verify(protect).forPath(eq("/test"), eq("value1".getBytes(StandardCharsets.UTF_8)));
     }
     
+    @Test
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public void assertExecuteInTransaction() {
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        TransactionOp transactionOp = mock(TransactionOp.class);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        TransactionCreateBuilder<CuratorOp> transactionCreateBuilder = mock(TransactionCreateBuilder.class);
+        ACLPathAndBytesable<CuratorOp> transactionCreateModeBuilder = mock(ACLPathAndBytesable.class);
+        when(transactionOp.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.withMode(CreateMode.PERSISTENT)).thenReturn(transactionCreateModeBuilder);
+        when(transactionCreateModeBuilder.forPath(anyString(), any(byte[].class))).thenReturn(mock(CuratorOp.class));
+        TransactionSetDataBuilder<CuratorOp> transactionSetDataBuilder = mock(TransactionSetDataBuilder.class);
+        when(transactionOp.setData()).thenReturn(transactionSetDataBuilder);
+        when(transactionSetDataBuilder.forPath(anyString(), any(byte[].class))).thenReturn(mock(CuratorOp.class));
+        TransactionDeleteBuilder<CuratorOp> transactionDeleteBuilder = mock(TransactionDeleteBuilder.class);
+        when(transactionOp.delete()).thenReturn(transactionDeleteBuilder);
+        when(transactionDeleteBuilder.forPath(anyString())).thenReturn(mock(CuratorOp.class));
+        when(existsBuilder.forPath(eq("/test"))).thenReturn(new Stat());
+        when(existsBuilder.forPath(eq("/test/exist"))).thenReturn(new Stat());
+        when(existsBuilder.forPath(eq("/test/exist/child"))).thenReturn(new Stat());
+        when(getChildrenBuilder.forPath("/test/exist")).thenReturn(Collections.singletonList("child"));
+        when(getChildrenBuilder.forPath("/test/exist/child")).thenReturn(Collections.emptyList());
+        REPOSITORY.executeInTransaction(Arrays.asList(TransactionOperation.persist("/test/parent/child", "value1"), TransactionOperation.persist("/test/exist", "value2"),
+                TransactionOperation.delete("/test/exist"), TransactionOperation.delete("/test/not_exist")));
+        ArgumentCaptor<List<CuratorOp>> operations = ArgumentCaptor.forClass(List.class);
+        verify(transaction).forOperations(operations.capture());
+        assertThat(operations.getValue().size(), is(5));
+    }
+    
+    @Test(expected = GovernanceException.class)
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public void assertExecuteInTransactionFailure() {
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        TransactionOp transactionOp = mock(TransactionOp.class);
+        when(client.transactionOp()).thenReturn(transactionOp);
+        TransactionSetDataBuilder<CuratorOp> transactionSetDataBuilder = mock(TransactionSetDataBuilder.class);
+        when(transactionOp.setData()).thenReturn(transactionSetDataBuilder);
+        when(transactionSetDataBuilder.forPath(anyString(), any(byte[].class))).thenReturn(mock(CuratorOp.class));
+        when(existsBuilder.forPath(eq("/test/exist"))).thenReturn(new Stat());
+        when(transaction.forOperations(any(List.class))).thenThrow(new NoNodeException("/test/exist"));
+        REPOSITORY.executeInTransaction(Collections.singletonList(TransactionOperation.persist("/test/exist", "value")));
+    }
+    
     @Test
     @SneakyThrows
     public void assertUpdate() {
         when(existsBuilder.forPath(eq("/test"))).thenReturn(new Stat());
+        when(setDataBuilder.forPath(eq("/test"), any(byte[].class))).thenReturn(new Stat());
         REPOSITORY.persist("/test", "value2");
         verify(setDataBuilder).forPath(eq("/test"), eq("value2".getBytes(StandardCharsets.UTF_8)));
     }
@@ -230,6 +297,42 @@ public final class CuratorZookeeperRepositoryTest {
         assertThat(childrenKeys.size(), is(2));
     }
     
+    @Test
+    @SneakyThrows
+    public void assertGetFromReadCache() {
+        RegistryReadCache readCache = getReadCache();
+        readCache.put("/test/cached/1", "value1", 1L);
+        readCache.put("/test/cached/2", "value2", 1L);
+        readCache.markSynced();
+        assertThat(REPOSITORY.get("/test/cached/1"), is("value1"));
+        assertThat(REPOSITORY.getChildrenKeys("/test/cached"), is(Arrays.asList("2", "1")));
+        verify(client, times(0)).getData();
+        verify(getChildrenBuilder, times(0)).forPath(anyString());
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertPersistWithReadCache() {
+        when(existsBuilder.forPath(eq("/test/cached"))).thenReturn(null);
+        when(protect.withMode(eq(CreateMode.PERSISTENT))).thenReturn(protect);
+        RegistryReadCache readCache = getReadCache();
+        readCache.markSynced();
+        REPOSITORY.persist("/test/cached", "value1");
+        assertThat(REPOSITORY.get("/test/cached"), is("value1"));
+    }
+    
+    @After
+    public void clearReadCache() {
+        getReadCache().clear();
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private RegistryReadCache getReadCache() {
+        Field field = CuratorZookeeperRepository.class.getDeclaredField("readCache");
+        field.setAccessible(true);
+        return (RegistryReadCache) field.get(REPOSITORY);
+    }
+    
     @Test
     @SneakyThrows
     public void assertWatchUpdatedChangedType() {
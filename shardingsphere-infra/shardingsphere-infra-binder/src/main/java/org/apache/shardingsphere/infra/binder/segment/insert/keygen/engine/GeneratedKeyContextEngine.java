@@ -104,8 +104,9 @@ public final class GeneratedKeyContextEngine {
     
     private Collection<ExpressionSegment> findGenerateKeyExpressions(final List<String> insertColumnNames, final List<List<ExpressionSegment>> valueExpressions, final String generateKeyColumnName) {
         Collection<ExpressionSegment> result = new LinkedList<>();
+        int generateKeyIndex = findGenerateKeyIndex(insertColumnNames, generateKeyColumnName.toLowerCase());
         for (List<ExpressionSegment> each : valueExpressions) {
-            result.add(each.get(findGenerateKeyIndex(insertColumnNames, generateKeyColumnName.toLowerCase())));
+            result.add(each.get(generateKeyIndex));
         }
         return result;
     }
@@ -50,6 +50,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Insert SQL statement context.
+ * 
+ * <p>Insert value context is created for every row and keeps every value of the row as expression segment,
+ * so memory of multiple rows insert still grows with count of values, values are not materialized lazily.</p>
  */
 @Getter
 public final class InsertStatementContext extends CommonSQLStatementContext<InsertStatement> implements TableAvailable {
@@ -71,11 +74,12 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
         List<String> insertColumnNames = getInsertColumnNames();
         columnNames = useDefaultColumns() ? schema.getAllColumnNames(sqlStatement.getTable().getTableName().getIdentifier().getValue()) : insertColumnNames;
         AtomicInteger parametersOffset = new AtomicInteger(0);
-        insertValueContexts = getInsertValueContexts(parameters, parametersOffset);
+        List<List<ExpressionSegment>> allValueExpressions = getAllValueExpressions(sqlStatement);
+        insertValueContexts = getInsertValueContexts(allValueExpressions, parameters, parametersOffset);
         insertSelectContext = getInsertSelectContext(schema, parameters, parametersOffset).orElse(null);
         tablesContext = getTablesContext(sqlStatement);
         onDuplicateKeyUpdateValueContext = getOnDuplicateKeyUpdateValueContext(parameters, parametersOffset).orElse(null);
-        generatedKeyContext = new GeneratedKeyContextEngine(sqlStatement, schema).createGenerateKeyContext(insertColumnNames, getAllValueExpressions(sqlStatement), parameters).orElse(null);
+        generatedKeyContext = new GeneratedKeyContextEngine(sqlStatement, schema).createGenerateKeyContext(insertColumnNames, allValueExpressions, parameters).orElse(null);
     }
     
     private TablesContext getTablesContext(final InsertStatement sqlStatement) {
@@ -87,9 +91,8 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
         return new TablesContext(result);
     }
     
-    private List<InsertValueContext> getInsertValueContexts(final List<Object> parameters, final AtomicInteger parametersOffset) {
-        List<InsertValueContext> result = new LinkedList<>();
-        List<List<ExpressionSegment>> allValueExpressions = getAllValueExpressions(getSqlStatement());
+    private List<InsertValueContext> getInsertValueContexts(final List<List<ExpressionSegment>> allValueExpressions, final List<Object> parameters, final AtomicInteger parametersOffset) {
+        List<InsertValueContext> result = new ArrayList<>(allValueExpressions.size());
         for (Collection<ExpressionSegment> each : allValueExpressions) {
             InsertValueContext insertValueContext = new InsertValueContext(each, parameters, parametersOffset.get());
             result.add(insertValueContext);
@@ -135,7 +138,7 @@ public final class InsertStatementContext extends CommonSQLStatementContext<Inse
      * @return grouped parameters
      */
     public List<List<Object>> getGroupedParameters() {
-        List<List<Object>> result = new LinkedList<>();
+        List<List<Object>> result = new ArrayList<>(insertValueContexts.size() + 1);
         for (InsertValueContext each : insertValueContexts) {
             result.add(each.getParameters());
         }
@@ -121,7 +121,42 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * The length of time in milliseconds an SQL waits for a global lock before giving up.
      */
-    LOCK_WAIT_TIMEOUT_MILLISECONDS("lock-wait-timeout-milliseconds", String.valueOf(50000L), long.class);
+    LOCK_WAIT_TIMEOUT_MILLISECONDS("lock-wait-timeout-milliseconds", String.valueOf(50000L), long.class),
+    
+    /**
+     * Whether coalesce single row insert values of batch which route to same data source and actual table into multiple rows insert values.
+     */
+    BATCH_INSERT_VALUES_COALESCE_ENABLED("batch-insert-values-coalesce-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max estimated packet size in bytes of coalesced multiple rows insert values SQL and parameters.
+     */
+    BATCH_INSERT_VALUES_COALESCE_MAX_PACKET_SIZE("batch-insert-values-coalesce-max-packet-size", String.valueOf(4 * 1024 * 1024L), long.class),
+    
+    /**
+     * Whether route reads after writes in same session to replicas which have applied the replication position of primary, instead of to primary.
+     */
+    READ_WRITE_SPLITTING_READ_YOUR_WRITES_ENABLED("read-write-splitting-read-your-writes-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether parse SQL corpus to warm up SQL parser before ShardingSphere-Proxy accepting connections.
+     */
+    PROXY_SQL_PARSER_WARM_UP_ENABLED("proxy-sql-parser-warm-up-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Path of SQL corpus file to warm up SQL parser, one SQL per line, corpus bundled with SQL parser is used if absent.
+     */
+    PROXY_SQL_PARSER_WARM_UP_CORPUS_FILE("proxy-sql-parser-warm-up-corpus-file", "", String.class),
+    
+    /**
+     * Whether load schema meta data from local snapshot at startup and validate it against databases in background.
+     */
+    METADATA_SNAPSHOT_ENABLED("metadata-snapshot-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Directory of local schema meta data snapshots, ".shardingsphere/metadata-snapshot" under user home is used if absent.
+     */
+    METADATA_SNAPSHOT_DIRECTORY("metadata-snapshot-directory", "", String.class);
     
     private final String key;
     
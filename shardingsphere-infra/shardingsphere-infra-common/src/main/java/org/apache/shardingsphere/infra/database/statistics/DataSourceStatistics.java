@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.statistics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution statistics of data source.
+ */
+public final class DataSourceStatistics {
+    
+    private static final double EWMA_WEIGHT = 0.2D;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong ewmaLatencyNanos = new AtomicLong(-1L);
+    
+    /**
+     * Start execution.
+     * 
+     * @return start time in nanoseconds
+     */
+    public long start() {
+        inFlightCount.incrementAndGet();
+        return System.nanoTime();
+    }
+    
+    /**
+     * Finish execution.
+     * 
+     * @param startNanos start time in nanoseconds returned by {@link #start()}
+     */
+    public void finish(final long startNanos) {
+        inFlightCount.decrementAndGet();
+        long latencyNanos = System.nanoTime() - startNanos;
+        long previous;
+        long next;
+        do {
+            previous = ewmaLatencyNanos.get();
+            next = previous < 0L ? latencyNanos : (long) (previous + EWMA_WEIGHT * (latencyNanos - previous));
+        } while (!ewmaLatencyNanos.compareAndSet(previous, next));
+    }
+    
+    /**
+     * Get count of executions in flight.
+     * 
+     * @return count of executions in flight
+     */
+    public int getInFlightCount() {
+        return Math.max(inFlightCount.get(), 0);
+    }
+    
+    /**
+     * Get exponentially weighted moving average of execution latency.
+     * 
+     * @return average latency in nanoseconds, 0 if no execution finished
+     */
+    public long getLatencyNanos() {
+        return Math.max(ewmaLatencyNanos.get(), 0L);
+    }
+}
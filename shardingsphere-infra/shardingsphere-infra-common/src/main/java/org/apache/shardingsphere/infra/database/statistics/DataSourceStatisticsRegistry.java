@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.statistics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source statistics registry.
+ * 
+ * <p>Statistics are keyed by JDBC URL, so data sources with same name in different schemas will not be mixed up.
+ * Only statistics of registered data sources are collected, and they are removed once the data sources are closed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceStatisticsRegistry {
+    
+    private static final Map<String, DataSourceStatistics> STATISTICS = new ConcurrentHashMap<>();
+    
+    private static final Map<DataSource, String> REGISTERED_URLS = new ConcurrentHashMap<>();
+    
+    /**
+     * Register data source to collect statistics.
+     * 
+     * @param dataSource data source
+     * @param url JDBC URL of data source
+     */
+    public static void register(final DataSource dataSource, final String url) {
+        String previousURL = REGISTERED_URLS.put(dataSource, url);
+        if (null != previousURL && !previousURL.equals(url)) {
+            removeUnreferencedStatistics(previousURL);
+        }
+        STATISTICS.computeIfAbsent(url, key -> new DataSourceStatistics());
+    }
+    
+    /**
+     * Unregister data source and remove its statistics.
+     * 
+     * @param dataSource data source
+     */
+    public static void unregister(final DataSource dataSource) {
+        String url = REGISTERED_URLS.remove(dataSource);
+        if (null != url) {
+            removeUnreferencedStatistics(url);
+        }
+    }
+    
+    private static void removeUnreferencedStatistics(final String url) {
+        if (!REGISTERED_URLS.containsValue(url)) {
+            STATISTICS.remove(url);
+        }
+    }
+    
+    /**
+     * Find data source statistics.
+     * 
+     * @param url JDBC URL of data source
+     * @return data source statistics, empty if no registered data source has the URL
+     */
+    public static Optional<DataSourceStatistics> findStatistics(final String url) {
+        return STATISTICS.isEmpty() ? Optional.empty() : Optional.ofNullable(STATISTICS.get(url));
+    }
+}
@@ -26,6 +26,8 @@ import org.apache.shardingsphere.infra.metadata.auth.refresher.event.Authenticat
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.SchemaRefresher;
 import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshotFingerprint;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshotRepository;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.SQLException;
@@ -70,7 +72,11 @@ public final class MetadataRefreshEngine {
     
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void refreshSchema(final SQLStatement sqlStatement, final Collection<String> routeDataSourceNames, final SchemaRefresher refresher) throws SQLException {
-        refresher.refresh(metaData.getSchema(), routeDataSourceNames, sqlStatement, materials);
+        synchronized (metaData.getSchema()) {
+            refresher.refresh(metaData.getSchema(), routeDataSourceNames, sqlStatement, materials);
+            SchemaSnapshotRepository.newInstance(materials.getProps()).ifPresent(optional -> optional.persist(
+                    metaData.getName(), SchemaSnapshotFingerprint.calculate(metaData.getResource(), metaData.getRuleMetaData().getConfigurations()), metaData.getSchema()));
+        }
         ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent(metaData.getName(), metaData.getSchema()));
     }
     
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.metadata.resource;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.statistics.DataSourceStatisticsRegistry;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 
 import javax.sql.DataSource;
@@ -65,6 +66,7 @@ public final class ShardingSphereResource {
     }
     
     private void close(final DataSource dataSource) throws SQLException {
+        DataSourceStatisticsRegistry.unregister(dataSource);
         if (dataSource instanceof AutoCloseable) {
             try {
                 ((AutoCloseable) dataSource).close();
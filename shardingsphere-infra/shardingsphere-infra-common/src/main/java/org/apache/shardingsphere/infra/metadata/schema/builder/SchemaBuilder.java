@@ -37,6 +37,7 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -69,20 +70,51 @@ public final class SchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static ShardingSphereSchema build(final SchemaBuilderMaterials materials) throws SQLException {
+        return build(materials, Collections.emptyMap());
+    }
+    
+    /**
+     * Build ShardingSphere schema with reusable table meta data.
+     * 
+     * <p>Reusable table meta data are put into schema directly, only tables which are not reusable are loaded from data sources.</p>
+     *
+     * @param materials schema builder materials
+     * @param reusableTables reusable table meta data, key is lower case table name
+     * @return ShardingSphere schema
+     * @throws SQLException SQL exception
+     */
+    public static ShardingSphereSchema build(final SchemaBuilderMaterials materials, final Map<String, TableMetaData> reusableTables) throws SQLException {
         ShardingSphereSchema result = new ShardingSphereSchema();
-        addRuleConfiguredTables(materials, result);
+        addRuleConfiguredTables(materials, reusableTables, result);
+        appendReusableRemainTables(materials, reusableTables, result);
         appendRemainTables(materials, result);
         return result;
     }
     
-    private static void addRuleConfiguredTables(final SchemaBuilderMaterials materials, final ShardingSphereSchema schema) throws SQLException {
+    private static void addRuleConfiguredTables(final SchemaBuilderMaterials materials, final Map<String, TableMetaData> reusableTables, final ShardingSphereSchema schema) throws SQLException {
         for (ShardingSphereRule rule : materials.getRules()) {
             if (rule instanceof TableContainedRule) {
-                for (String table : ((TableContainedRule) rule).getTables()) {
-                    if (!schema.containsTable(table)) {
-                        TableMetaDataBuilder.build(table, materials).ifPresent(optional -> schema.put(table, optional));
+                Collection<String> tableNames = new LinkedList<>();
+                for (String each : ((TableContainedRule) rule).getTables()) {
+                    if (reusableTables.containsKey(each.toLowerCase())) {
+                        schema.put(each, reusableTables.get(each.toLowerCase()));
+                    } else if (!schema.containsTable(each)) {
+                        tableNames.add(each);
                     }
                 }
+                schema.putAll(TableMetaDataBuilder.build(tableNames, materials));
+            }
+        }
+    }
+    
+    private static void appendReusableRemainTables(final SchemaBuilderMaterials materials, final Map<String, TableMetaData> reusableTables, final ShardingSphereSchema schema) {
+        if (reusableTables.isEmpty()) {
+            return;
+        }
+        Collection<String> existedTables = getExistedTables(materials.getRules(), schema).stream().map(String::toLowerCase).collect(Collectors.toSet());
+        for (Entry<String, TableMetaData> entry : reusableTables.entrySet()) {
+            if (!existedTables.contains(entry.getKey())) {
+                schema.put(entry.getKey(), entry.getValue());
             }
         }
     }
@@ -29,6 +29,9 @@ import org.apache.shardingsphere.infra.spi.ordered.OrderedSPIRegistry;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 
@@ -55,6 +58,22 @@ public final class TableMetaDataBuilder {
         return tableMetaData.map(optional -> decorate(tableName, optional, materials.getRules()));
     }
     
+    /**
+     * Build table meta data of multiple tables.
+     *
+     * @param tableNames table names
+     * @param materials schema builder materials
+     * @return table meta data map, tables which cannot be loaded are absent
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, TableMetaData> build(final Collection<String> tableNames, final SchemaBuilderMaterials materials) throws SQLException {
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tableNames.size(), 1);
+        for (Entry<String, TableMetaData> entry : load(tableNames, materials).entrySet()) {
+            result.put(entry.getKey(), decorate(entry.getKey(), entry.getValue(), materials.getRules()));
+        }
+        return result;
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static Optional<TableMetaData> load(final String tableName, final SchemaBuilderMaterials materials) throws SQLException {
         DataNodes dataNodes = new DataNodes(materials.getRules());
@@ -71,6 +90,26 @@ public final class TableMetaDataBuilder {
         return Optional.empty();
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<String, TableMetaData> load(final Collection<String> tableNames, final SchemaBuilderMaterials materials) throws SQLException {
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tableNames.size(), 1);
+        Collection<String> remainTableNames = new LinkedHashSet<>(tableNames);
+        DataNodes dataNodes = new DataNodes(materials.getRules());
+        for (Entry<ShardingSphereRule, RuleBasedTableMetaDataBuilder> entry : OrderedSPIRegistry.getRegisteredServices(materials.getRules(), RuleBasedTableMetaDataBuilder.class).entrySet()) {
+            if (remainTableNames.isEmpty()) {
+                break;
+            }
+            if (entry.getKey() instanceof TableContainedRule) {
+                TableContainedRule rule = (TableContainedRule) entry.getKey();
+                RuleBasedTableMetaDataBuilder loader = entry.getValue();
+                Map<String, TableMetaData> tableMetaDataMap = loader.load(remainTableNames, materials.getDatabaseType(), materials.getDataSourceMap(), dataNodes, rule, materials.getProps());
+                result.putAll(tableMetaDataMap);
+                remainTableNames.removeAll(tableMetaDataMap.keySet());
+            }
+        }
+        return result;
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static TableMetaData decorate(final String tableName, final TableMetaData tableMetaData, final Collection<ShardingSphereRule> rules) {
         TableMetaData result = null;
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.builder.loader;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.metadata.schema.builder.spi.DialectTableMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Table meta data loader engine.
+ * 
+ * <p>
+ *     Load table meta data of data sources in parallel with a shared bounded executor.
+ *     Tables of same data source are loaded in bulk by dialect table meta data loader if present,
+ *     tables which are not loaded in bulk are loaded by JDBC database meta data one table per task on the same executor.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableMetaDataLoaderEngine {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors() * 2, new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-TableMetaDataLoader-%d").build());
+    
+    static {
+        ShardingSphereServiceLoader.register(DialectTableMetaDataLoader.class);
+    }
+    
+    /**
+     * Load table meta data.
+     *
+     * @param dataSourceTables actual table names grouped by data source name
+     * @param databaseType database type
+     * @param dataSourceMap data source map
+     * @return table meta data grouped by data source name, table names of each data source are case insensitive
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, Map<String, TableMetaData>> load(final Map<String, Collection<String>> dataSourceTables, 
+                                                                 final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) throws SQLException {
+        Map<String, Map<String, TableMetaData>> result = new LinkedHashMap<>(dataSourceTables.size(), 1);
+        for (String each : dataSourceTables.keySet()) {
+            result.put(each, new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        }
+        Optional<DialectTableMetaDataLoader> dialectLoader = findDialectTableMetaDataLoader(databaseType);
+        if (dialectLoader.isPresent()) {
+            Map<String, Future<Map<String, TableMetaData>>> futures = new LinkedHashMap<>(dataSourceTables.size(), 1);
+            for (Entry<String, Collection<String>> entry : dataSourceTables.entrySet()) {
+                DataSource dataSource = dataSourceMap.get(entry.getKey());
+                futures.put(entry.getKey(), EXECUTOR_SERVICE.submit(() -> dialectLoader.get().loadWithTables(dataSource, entry.getValue())));
+            }
+            for (Entry<String, Future<Map<String, TableMetaData>>> entry : futures.entrySet()) {
+                result.get(entry.getKey()).putAll(getFutureValue(entry.getValue()));
+            }
+        }
+        loadAbsentTableMetaData(dataSourceTables, databaseType, dataSourceMap, result);
+        return result;
+    }
+    
+    private static void loadAbsentTableMetaData(final Map<String, Collection<String>> dataSourceTables, final DatabaseType databaseType, 
+                                                final Map<String, DataSource> dataSourceMap, final Map<String, Map<String, TableMetaData>> loadedTableMetaDataMap) throws SQLException {
+        Map<String, Map<String, Future<Optional<TableMetaData>>>> futures = new LinkedHashMap<>(dataSourceTables.size(), 1);
+        for (Entry<String, Collection<String>> entry : dataSourceTables.entrySet()) {
+            DataSource dataSource = dataSourceMap.get(entry.getKey());
+            Map<String, TableMetaData> loadedTables = loadedTableMetaDataMap.get(entry.getKey());
+            for (String each : entry.getValue()) {
+                if (!loadedTables.containsKey(each)) {
+                    futures.computeIfAbsent(entry.getKey(), key -> new LinkedHashMap<>()).put(each, EXECUTOR_SERVICE.submit(() -> TableMetaDataLoader.load(dataSource, each, databaseType)));
+                }
+            }
+        }
+        for (Entry<String, Map<String, Future<Optional<TableMetaData>>>> entry : futures.entrySet()) {
+            Map<String, TableMetaData> loadedTables = loadedTableMetaDataMap.get(entry.getKey());
+            for (Entry<String, Future<Optional<TableMetaData>>> tableEntry : entry.getValue().entrySet()) {
+                getFutureValue(tableEntry.getValue()).ifPresent(optional -> loadedTables.put(tableEntry.getKey(), optional));
+            }
+        }
+    }
+    
+    private static <T> T getFutureValue(final Future<T> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException | ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new ShardingSphereException(ex);
+        }
+    }
+    
+    private static Optional<DialectTableMetaDataLoader> findDialectTableMetaDataLoader(final DatabaseType databaseType) {
+        for (DialectTableMetaDataLoader each : ShardingSphereServiceLoader.getSingletonServiceInstances(DialectTableMetaDataLoader.class)) {
+            if (each.getDatabaseType().equals(databaseType.getName())) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.empty();
+    }
+}
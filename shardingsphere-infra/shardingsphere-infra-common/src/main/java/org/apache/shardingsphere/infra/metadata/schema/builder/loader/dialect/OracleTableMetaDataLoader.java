@@ -28,13 +28,16 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -48,11 +51,89 @@ public final class OracleTableMetaDataLoader implements DialectTableMetaDataLoad
     
     private static final String INDEX_META_DATA_SQL = "SELECT TABLE_NAME, INDEX_NAME FROM information_schema.statistics WHERE TABLE_SCHEMA=? and TABLE_NAME IN (%s)";
     
+    private static final String TABLE_META_DATA_SQL_IN_TABLES = "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE FROM ALL_TAB_COLUMNS WHERE OWNER = ? AND TABLE_NAME IN (%s) ORDER BY COLUMN_ID";
+    
+    private static final String TABLE_META_DATA_SQL_WITH_IDENTITY_IN_TABLES
+            = "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, IDENTITY_COLUMN FROM ALL_TAB_COLUMNS WHERE OWNER = ? AND TABLE_NAME IN (%s) ORDER BY COLUMN_ID";
+    
+    private static final String PRIMARY_KEY_META_DATA_SQL_IN_TABLES = "SELECT A.TABLE_NAME, A.COLUMN_NAME FROM ALL_CONSTRAINTS B JOIN ALL_CONS_COLUMNS A"
+            + " ON A.OWNER = B.OWNER AND A.CONSTRAINT_NAME = B.CONSTRAINT_NAME WHERE B.CONSTRAINT_TYPE = 'P' AND A.OWNER = ? AND A.TABLE_NAME IN (%s)";
+    
+    private static final String INDEX_META_DATA_SQL_IN_TABLES = "SELECT TABLE_NAME, INDEX_NAME FROM ALL_INDEXES WHERE OWNER = ? AND TABLE_NAME IN (%s)";
+    
+    private static final int IDENTITY_COLUMN_START_MAJOR_VERSION = 12;
+    
     @Override
     public Map<String, TableMetaData> load(final DataSource dataSource, final Collection<String> existedTables) throws SQLException {
         return loadTableMetaDataMap(dataSource, existedTables);
     }
     
+    @Override
+    public Map<String, TableMetaData> loadWithTables(final DataSource dataSource, final Collection<String> tableNames) throws SQLException {
+        if (tableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String joinedTableNames = tableNames.stream().map(each -> String.format("'%s'", each.toUpperCase())).collect(Collectors.joining(","));
+        Map<String, TableMetaData> result = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            String owner = connection.getMetaData().getUserName().toUpperCase();
+            Map<String, Collection<ColumnMetaData>> columnMetaDataMap = loadColumnMetaDataMapInTables(connection, owner, joinedTableNames);
+            Map<String, Collection<IndexMetaData>> indexMetaDataMap = columnMetaDataMap.isEmpty() ? Collections.emptyMap() : loadIndexMetaDataMapInTables(connection, owner, joinedTableNames);
+            for (Entry<String, Collection<ColumnMetaData>> entry : columnMetaDataMap.entrySet()) {
+                result.put(entry.getKey(), new TableMetaData(entry.getValue(), indexMetaDataMap.getOrDefault(entry.getKey(), Collections.emptyList())));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<ColumnMetaData>> loadColumnMetaDataMapInTables(final Connection connection, final String owner, final String joinedTableNames) throws SQLException {
+        Map<String, Collection<ColumnMetaData>> result = new HashMap<>();
+        boolean identitySupported = connection.getMetaData().getDatabaseMajorVersion() >= IDENTITY_COLUMN_START_MAJOR_VERSION;
+        Set<String> primaryKeys = loadPrimaryKeysInTables(connection, owner, joinedTableNames);
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                String.format(identitySupported ? TABLE_META_DATA_SQL_WITH_IDENTITY_IN_TABLES : TABLE_META_DATA_SQL_IN_TABLES, joinedTableNames))) {
+            Map<String, Integer> dataTypes = DataTypeLoader.load(connection.getMetaData());
+            preparedStatement.setString(1, owner);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String tableName = resultSet.getString("TABLE_NAME");
+                    String columnName = resultSet.getString("COLUMN_NAME");
+                    String dataType = resultSet.getString("DATA_TYPE").replaceAll("\\(\\d+\\)", "");
+                    boolean primaryKey = primaryKeys.contains(tableName + "," + columnName);
+                    boolean generated = identitySupported && "YES".equals(resultSet.getString("IDENTITY_COLUMN"));
+                    result.computeIfAbsent(tableName, key -> new LinkedList<>()).add(new ColumnMetaData(columnName, dataTypes.getOrDefault(dataType, Types.OTHER), primaryKey, generated, true));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Set<String> loadPrimaryKeysInTables(final Connection connection, final String owner, final String joinedTableNames) throws SQLException {
+        Set<String> result = new HashSet<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(PRIMARY_KEY_META_DATA_SQL_IN_TABLES, joinedTableNames))) {
+            preparedStatement.setString(1, owner);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getString("TABLE_NAME") + "," + resultSet.getString("COLUMN_NAME"));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<IndexMetaData>> loadIndexMetaDataMapInTables(final Connection connection, final String owner, final String joinedTableNames) throws SQLException {
+        Map<String, Collection<IndexMetaData>> result = new HashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(String.format(INDEX_META_DATA_SQL_IN_TABLES, joinedTableNames))) {
+            preparedStatement.setString(1, owner);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.computeIfAbsent(resultSet.getString("TABLE_NAME"), key -> new LinkedList<>()).add(new IndexMetaData(resultSet.getString("INDEX_NAME")));
+                }
+            }
+        }
+        return result;
+    }
+    
     private Map<String, TableMetaData> loadTableMetaDataMap(final DataSource dataSource, final Collection<String> existedTables) throws SQLException {
         Map<String, TableMetaData> result = new LinkedHashMap<>();
         Map<String, Collection<ColumnMetaData>> columnMetaDataMap = loadColumnMetaDataMap(dataSource, existedTables);
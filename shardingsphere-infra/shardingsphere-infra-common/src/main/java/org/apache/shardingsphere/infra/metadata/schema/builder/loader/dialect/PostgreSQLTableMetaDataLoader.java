@@ -48,18 +48,39 @@ public final class PostgreSQLTableMetaDataLoader implements DialectTableMetaData
     
     private static final String TABLE_META_DATA_SQL_WITH_EXISTED_TABLES = BASIC_TABLE_META_DATA_SQL + " AND table_name NOT IN (%s)";
     
+    private static final String TABLE_META_DATA_SQL_IN_TABLES = BASIC_TABLE_META_DATA_SQL + " AND table_name IN (%s)";
+    
     private static final String PRIMARY_KEY_META_DATA_SQL = "SELECT tc.table_name, kc.column_name FROM information_schema.table_constraints tc"
             + " JOIN information_schema.key_column_usage kc"
             + " ON kc.table_schema = tc.table_schema AND kc.table_name = tc.table_name AND kc.constraint_name = tc.constraint_name"
             + " WHERE tc.constraint_type = 'PRIMARY KEY' AND kc.ordinal_position IS NOT NULL AND kc.table_schema = ?";
     
+    private static final String PRIMARY_KEY_META_DATA_SQL_IN_TABLES = PRIMARY_KEY_META_DATA_SQL + " AND tc.table_name IN (%s)";
+    
     private static final String BASIC_INDEX_META_DATA_SQL = "SELECT tablename, indexname FROM pg_indexes WHERE schemaname = ?";
     
+    private static final String INDEX_META_DATA_SQL_IN_TABLES = BASIC_INDEX_META_DATA_SQL + " AND tablename IN (%s)";
+    
     @Override
     public Map<String, TableMetaData> load(final DataSource dataSource, final Collection<String> existedTables) throws SQLException {
+        return loadTableMetaDataMap(dataSource, getTableMetaDataSQL(existedTables), PRIMARY_KEY_META_DATA_SQL, BASIC_INDEX_META_DATA_SQL);
+    }
+    
+    @Override
+    public Map<String, TableMetaData> loadWithTables(final DataSource dataSource, final Collection<String> tableNames) throws SQLException {
+        if (tableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String joinedTableNames = joinTableNames(tableNames);
+        return loadTableMetaDataMap(dataSource, String.format(TABLE_META_DATA_SQL_IN_TABLES, joinedTableNames),
+                String.format(PRIMARY_KEY_META_DATA_SQL_IN_TABLES, joinedTableNames), String.format(INDEX_META_DATA_SQL_IN_TABLES, joinedTableNames));
+    }
+    
+    private Map<String, TableMetaData> loadTableMetaDataMap(final DataSource dataSource, final String tableMetaDataSQL, final String primaryKeyMetaDataSQL,
+                                                            final String indexMetaDataSQL) throws SQLException {
         Map<String, TableMetaData> result = new LinkedHashMap<>();
-        Map<String, Collection<IndexMetaData>> indexMetaDataMap = loadIndexMetaDataMap(dataSource);
-        for (Entry<String, Collection<ColumnMetaData>> entry : loadColumnMetaDataMap(dataSource, existedTables).entrySet()) {
+        Map<String, Collection<IndexMetaData>> indexMetaDataMap = loadIndexMetaDataMap(dataSource, indexMetaDataSQL);
+        for (Entry<String, Collection<ColumnMetaData>> entry : loadColumnMetaDataMap(dataSource, tableMetaDataSQL, primaryKeyMetaDataSQL).entrySet()) {
             Collection<IndexMetaData> indexMetaDataList = indexMetaDataMap.get(entry.getKey());
             if (null == indexMetaDataList) {
                 indexMetaDataList = Collections.emptyList();
@@ -69,12 +90,12 @@ public final class PostgreSQLTableMetaDataLoader implements DialectTableMetaData
         return result;
     }
     
-    private Map<String, Collection<ColumnMetaData>> loadColumnMetaDataMap(final DataSource dataSource, final Collection<String> existedTables) throws SQLException {
+    private Map<String, Collection<ColumnMetaData>> loadColumnMetaDataMap(final DataSource dataSource, final String tableMetaDataSQL, final String primaryKeyMetaDataSQL) throws SQLException {
         Map<String, Collection<ColumnMetaData>> result = new HashMap<>();
         try (Connection connection = dataSource.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(getTableMetaDataSQL(existedTables))) {
+             PreparedStatement preparedStatement = connection.prepareStatement(tableMetaDataSQL)) {
             Map<String, Integer> dataTypes = DataTypeLoader.load(connection.getMetaData());
-            Set<String> primaryKeys = loadPrimaryKeys(connection);
+            Set<String> primaryKeys = loadPrimaryKeys(connection, primaryKeyMetaDataSQL);
             preparedStatement.setString(1, connection.getSchema());
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
@@ -88,9 +109,9 @@ public final class PostgreSQLTableMetaDataLoader implements DialectTableMetaData
         return result;
     }
     
-    private Set<String> loadPrimaryKeys(final Connection connection) throws SQLException {
+    private Set<String> loadPrimaryKeys(final Connection connection, final String primaryKeyMetaDataSQL) throws SQLException {
         Set<String> result = new HashSet<>();
-        try (PreparedStatement preparedStatement = connection.prepareStatement(PRIMARY_KEY_META_DATA_SQL)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(primaryKeyMetaDataSQL)) {
             preparedStatement.setString(1, connection.getSchema());
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
@@ -116,14 +137,17 @@ public final class PostgreSQLTableMetaDataLoader implements DialectTableMetaData
     }
     
     private String getTableMetaDataSQL(final Collection<String> existedTables) {
-        return existedTables.isEmpty() ? BASIC_TABLE_META_DATA_SQL
-                : String.format(TABLE_META_DATA_SQL_WITH_EXISTED_TABLES, existedTables.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(",")));
+        return existedTables.isEmpty() ? BASIC_TABLE_META_DATA_SQL : String.format(TABLE_META_DATA_SQL_WITH_EXISTED_TABLES, joinTableNames(existedTables));
+    }
+    
+    private String joinTableNames(final Collection<String> tableNames) {
+        return tableNames.stream().map(each -> String.format("'%s'", each)).collect(Collectors.joining(","));
     }
     
-    private Map<String, Collection<IndexMetaData>> loadIndexMetaDataMap(final DataSource dataSource) throws SQLException {
+    private Map<String, Collection<IndexMetaData>> loadIndexMetaDataMap(final DataSource dataSource, final String indexMetaDataSQL) throws SQLException {
         Map<String, Collection<IndexMetaData>> result = new HashMap<>();
         try (Connection connection = dataSource.getConnection();
-             PreparedStatement preparedStatement = connection.prepareStatement(BASIC_INDEX_META_DATA_SQL)) {
+             PreparedStatement preparedStatement = connection.prepareStatement(indexMetaDataSQL)) {
             preparedStatement.setString(1, connection.getSchema());
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -39,4 +40,19 @@ public interface DialectTableMetaDataLoader extends DatabaseTypeAwareSPI {
      * @throws SQLException SQL exception
      */
     Map<String, TableMetaData> load(DataSource dataSource, Collection<String> existedTables) throws SQLException;
+    
+    /**
+     * Load table meta data of specified tables in bulk.
+     * 
+     * <p>Nothing is loaded in bulk by default, so tables are loaded one by one by JDBC meta data instead of loading all tables of data source,
+     * dialect loader should override it to query specified tables only.</p>
+     *
+     * @param dataSource data source
+     * @param tableNames table names to be loaded
+     * @return table meta data map, tables which are not existed are absent
+     * @throws SQLException SQL exception
+     */
+    default Map<String, TableMetaData> loadWithTables(DataSource dataSource, Collection<String> tableNames) throws SQLException {
+        return Collections.emptyMap();
+    }
 }
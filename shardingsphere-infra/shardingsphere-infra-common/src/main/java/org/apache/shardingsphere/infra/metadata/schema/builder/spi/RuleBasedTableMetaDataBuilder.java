@@ -26,6 +26,8 @@ import org.apache.shardingsphere.infra.spi.ordered.OrderedSPI;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -50,6 +52,30 @@ public interface RuleBasedTableMetaDataBuilder<T extends TableContainedRule> ext
      */
     Optional<TableMetaData> load(String tableName, DatabaseType databaseType, Map<String, DataSource> dataSourceMap, DataNodes dataNodes, T rule, ConfigurationProperties props) throws SQLException;
     
+    /**
+     * Load table meta data of multiple tables.
+     * 
+     * <p>Load table one by one by default, builder should override it if tables can be loaded in bulk.</p>
+     *
+     * @param tableNames table names
+     * @param databaseType database type
+     * @param dataSourceMap data source map
+     * @param dataNodes data nodes
+     * @param rule ShardingSphere rule
+     * @param props configuration properties
+     * @return table meta data map, tables which cannot be loaded by current builder are absent
+     * @throws SQLException SQL exception
+     */
+    default Map<String, TableMetaData> load(Collection<String> tableNames, DatabaseType databaseType, Map<String, DataSource> dataSourceMap, DataNodes dataNodes,
+                                            T rule, ConfigurationProperties props) throws SQLException {
+        Map<String, TableMetaData> result = new LinkedHashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            Optional<TableMetaData> tableMetaData = load(each, databaseType, dataSourceMap, dataNodes, rule, props);
+            tableMetaData.ifPresent(optional -> result.put(each, optional));
+        }
+        return result;
+    }
+    
     /**
      * Decorate table meta data.
      *
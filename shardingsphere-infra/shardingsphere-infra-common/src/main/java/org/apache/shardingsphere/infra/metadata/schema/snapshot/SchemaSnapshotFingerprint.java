@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapperEngine;
+
+import java.util.Collection;
+import java.util.TreeSet;
+
+/**
+ * Schema snapshot fingerprint.
+ * 
+ * <p>Fingerprint changes if database type, storage locations of data sources or rule configurations change, snapshot with different fingerprint is stale.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SchemaSnapshotFingerprint {
+    
+    /**
+     * Calculate fingerprint.
+     *
+     * @param resource ShardingSphere resource
+     * @param ruleConfigs rule configurations
+     * @return fingerprint
+     */
+    public static String calculate(final ShardingSphereResource resource, final Collection<RuleConfiguration> ruleConfigs) {
+        StringBuilder result = new StringBuilder();
+        result.append(resource.getDatabaseType().getName()).append(System.lineSeparator());
+        for (String each : new TreeSet<>(resource.getDataSources().keySet())) {
+            DataSourceMetaData dataSourceMetaData = resource.getDataSourcesMetaData().getDataSourceMetaData(each);
+            result.append(each);
+            if (null != dataSourceMetaData) {
+                result.append('=').append(dataSourceMetaData.getHostName()).append(':').append(dataSourceMetaData.getPort())
+                        .append('/').append(dataSourceMetaData.getCatalog()).append('/').append(dataSourceMetaData.getSchema());
+            }
+            result.append(System.lineSeparator());
+        }
+        result.append(YamlEngine.marshal(new YamlRuleConfigurationSwapperEngine().swapToYamlRuleConfigurations(ruleConfigs)));
+        return DigestUtils.sha256Hex(result.toString());
+    }
+}
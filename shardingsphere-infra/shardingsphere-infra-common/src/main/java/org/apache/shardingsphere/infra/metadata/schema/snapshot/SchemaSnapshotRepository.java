@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Schema snapshot repository.
+ * 
+ * <p>Snapshot of each schema is stored in local file named by schema name, failures of loading or persisting snapshot never break callers.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+@Slf4j
+public final class SchemaSnapshotRepository {
+    
+    private static final String FILE_SUFFIX = ".snapshot";
+    
+    private final Path directory;
+    
+    /**
+     * Create new instance of schema snapshot repository.
+     *
+     * @param props configuration properties
+     * @return schema snapshot repository, empty if metadata snapshot is disabled
+     */
+    public static Optional<SchemaSnapshotRepository> newInstance(final ConfigurationProperties props) {
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED)) {
+            return Optional.empty();
+        }
+        String directory = props.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_DIRECTORY);
+        return Optional.of(new SchemaSnapshotRepository(Strings.isNullOrEmpty(directory)
+                ? Paths.get(System.getProperty("user.home"), ".shardingsphere", "metadata-snapshot") : Paths.get(directory)));
+    }
+    
+    /**
+     * Load schema from snapshot.
+     *
+     * @param schemaName schema name
+     * @param fingerprint expected fingerprint
+     * @return schema, empty if snapshot is absent, stale or unreadable
+     */
+    public Optional<ShardingSphereSchema> load(final String schemaName, final String fingerprint) {
+        Path file = getFile(schemaName);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            SchemaSnapshot snapshot = SchemaSnapshotSerializer.deserialize(input);
+            return fingerprint.equals(snapshot.getFingerprint()) ? Optional.of(snapshot.getSchema()) : Optional.empty();
+        } catch (final IOException ex) {
+            log.warn("Load schema snapshot `{}` failed, ignore it.", file, ex);
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Persist schema to snapshot.
+     *
+     * @param schemaName schema name
+     * @param fingerprint fingerprint of schema
+     * @param schema schema to be persisted
+     */
+    public void persist(final String schemaName, final String fingerprint, final ShardingSphereSchema schema) {
+        Path file = getFile(schemaName);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, schemaName, FILE_SUFFIX + ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                SchemaSnapshotSerializer.serialize(fingerprint, schema, output);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Persist schema snapshot `{}` failed.", file, ex);
+            deleteQuietly(tempFile);
+        }
+    }
+    
+    private void deleteQuietly(final Path file) {
+        if (null == file) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private Path getFile(final String schemaName) {
+        return directory.resolve(schemaName + FILE_SUFFIX);
+    }
+}
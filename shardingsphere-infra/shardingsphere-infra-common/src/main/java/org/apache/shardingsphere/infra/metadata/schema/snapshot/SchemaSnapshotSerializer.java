@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Schema snapshot serializer.
+ * 
+ * <p>Snapshot is a compact binary of magic number, format version, fingerprint and tables with their columns and indexes.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SchemaSnapshotSerializer {
+    
+    private static final int MAGIC_NUMBER = 0x53535353;
+    
+    private static final int FORMAT_VERSION = 1;
+    
+    /**
+     * Serialize schema snapshot.
+     *
+     * @param fingerprint fingerprint of schema
+     * @param schema schema to be serialized
+     * @param output data output
+     * @throws IOException IO exception
+     */
+    public static void serialize(final String fingerprint, final ShardingSphereSchema schema, final DataOutput output) throws IOException {
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeUTF(fingerprint);
+        Map<String, TableMetaData> tables = getTables(schema);
+        output.writeInt(tables.size());
+        for (Entry<String, TableMetaData> entry : tables.entrySet()) {
+            output.writeUTF(entry.getKey());
+            serializeTable(entry.getValue(), output);
+        }
+    }
+    
+    private static Map<String, TableMetaData> getTables(final ShardingSphereSchema schema) {
+        Map<String, TableMetaData> result = new LinkedHashMap<>();
+        for (String each : schema.getAllTableNames()) {
+            TableMetaData tableMetaData = schema.get(each);
+            if (null != tableMetaData) {
+                result.put(each, tableMetaData);
+            }
+        }
+        return result;
+    }
+    
+    private static void serializeTable(final TableMetaData tableMetaData, final DataOutput output) throws IOException {
+        Collection<ColumnMetaData> columns = new ArrayList<>(tableMetaData.getColumns().values());
+        output.writeInt(columns.size());
+        for (ColumnMetaData each : columns) {
+            output.writeUTF(each.getName());
+            output.writeInt(each.getDataType());
+            output.writeBoolean(each.isPrimaryKey());
+            output.writeBoolean(each.isGenerated());
+            output.writeBoolean(each.isCaseSensitive());
+        }
+        Collection<IndexMetaData> indexes = new ArrayList<>(tableMetaData.getIndexes().values());
+        output.writeInt(indexes.size());
+        for (IndexMetaData each : indexes) {
+            output.writeUTF(each.getName());
+        }
+    }
+    
+    /**
+     * Deserialize schema snapshot.
+     *
+     * @param input data input
+     * @return schema snapshot
+     * @throws IOException IO exception
+     */
+    public static SchemaSnapshot deserialize(final DataInput input) throws IOException {
+        if (MAGIC_NUMBER != input.readInt()) {
+            throw new IOException("Invalid schema snapshot.");
+        }
+        int formatVersion = input.readInt();
+        if (FORMAT_VERSION != formatVersion) {
+            throw new IOException(String.format("Unsupported schema snapshot format version `%s`.", formatVersion));
+        }
+        String fingerprint = input.readUTF();
+        int tableCount = input.readInt();
+        Map<String, TableMetaData> tables = new HashMap<>(tableCount, 1);
+        for (int i = 0; i < tableCount; i++) {
+            String tableName = input.readUTF();
+            tables.put(tableName, deserializeTable(input));
+        }
+        return new SchemaSnapshot(fingerprint, new ShardingSphereSchema(tables));
+    }
+    
+    private static TableMetaData deserializeTable(final DataInput input) throws IOException {
+        int columnCount = input.readInt();
+        Collection<ColumnMetaData> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columns.add(new ColumnMetaData(input.readUTF(), input.readInt(), input.readBoolean(), input.readBoolean(), input.readBoolean()));
+        }
+        int indexCount = input.readInt();
+        Collection<IndexMetaData> indexes = new ArrayList<>(indexCount);
+        for (int i = 0; i < indexCount; i++) {
+            indexes.add(new IndexMetaData(input.readUTF()));
+        }
+        return new TableMetaData(columns, indexes);
+    }
+}
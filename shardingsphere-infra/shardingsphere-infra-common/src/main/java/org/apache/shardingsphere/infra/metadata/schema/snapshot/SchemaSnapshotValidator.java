@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.eventbus.ShardingSphereEventBus;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.refresher.event.SchemaAlteredEvent;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Schema snapshot validator.
+ * 
+ * <p>Rebuild schema from databases in background, and correct schema loaded from snapshot in place if they are different.
+ * Tables changed by DDL refresh since validation started are up to date already, so only tables unchanged since then are corrected.
+ * Schema is locked while copying and correcting, as same as DDL refresh.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class SchemaSnapshotValidator {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaSnapshotValidator-%d").build());
+    
+    /**
+     * Validate schema loaded from snapshot in background.
+     *
+     * @param schemaName schema name
+     * @param fingerprint fingerprint of schema
+     * @param snapshotSchema schema loaded from snapshot
+     * @param materials schema builder materials
+     * @param repository schema snapshot repository
+     */
+    public static void validateAsync(final String schemaName, final String fingerprint, final ShardingSphereSchema snapshotSchema,
+                                     final SchemaBuilderMaterials materials, final SchemaSnapshotRepository repository) {
+        EXECUTOR_SERVICE.execute(() -> validate(schemaName, fingerprint, snapshotSchema, materials, repository));
+    }
+    
+    private static void validate(final String schemaName, final String fingerprint, final ShardingSphereSchema snapshotSchema,
+                                 final SchemaBuilderMaterials materials, final SchemaSnapshotRepository repository) {
+        ShardingSphereSchema expectedSchema = copy(snapshotSchema);
+        ShardingSphereSchema actualSchema;
+        try {
+            actualSchema = SchemaBuilder.build(materials);
+        } catch (final SQLException ex) {
+            log.warn("Validate schema snapshot of `{}` failed.", schemaName, ex);
+            return;
+        }
+        synchronized (snapshotSchema) {
+            if (!correct(snapshotSchema, expectedSchema, actualSchema)) {
+                return;
+            }
+            log.info("Schema snapshot of `{}` is stale, corrected by meta data of databases.", schemaName);
+            repository.persist(schemaName, fingerprint, snapshotSchema);
+        }
+        ShardingSphereEventBus.getInstance().post(new SchemaAlteredEvent(schemaName, snapshotSchema));
+    }
+    
+    /**
+     * Copy schema.
+     * 
+     * @param schema schema to be copied
+     * @return copied schema
+     */
+    public static ShardingSphereSchema copy(final ShardingSphereSchema schema) {
+        ShardingSphereSchema result = new ShardingSphereSchema();
+        synchronized (schema) {
+            for (String each : schema.getAllTableNames()) {
+                TableMetaData tableMetaData = schema.get(each);
+                result.put(each, new TableMetaData(new ArrayList<>(tableMetaData.getColumns().values()), new ArrayList<>(tableMetaData.getIndexes().values())));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Correct snapshot schema by actual schema.
+     * 
+     * <p>Only tables which are same as expected schema copied before building actual schema are corrected, others have been refreshed by DDL.</p>
+     *
+     * @param snapshotSchema schema loaded from snapshot
+     * @param expectedSchema copy of snapshot schema before building actual schema
+     * @param actualSchema schema built from databases
+     * @return whether snapshot schema is changed
+     */
+    public static boolean correct(final ShardingSphereSchema snapshotSchema, final ShardingSphereSchema expectedSchema, final ShardingSphereSchema actualSchema) {
+        boolean result = false;
+        for (String each : actualSchema.getAllTableNames()) {
+            TableMetaData actualTableMetaData = actualSchema.get(each);
+            TableMetaData snapshotTableMetaData = snapshotSchema.get(each);
+            if (!actualTableMetaData.equals(snapshotTableMetaData) && Objects.equals(snapshotTableMetaData, expectedSchema.get(each))) {
+                snapshotSchema.put(each, actualTableMetaData);
+                result = true;
+            }
+        }
+        for (String each : new ArrayList<>(snapshotSchema.getAllTableNames())) {
+            if (!actualSchema.containsTable(each) && expectedSchema.containsTable(each) && snapshotSchema.get(each).equals(expectedSchema.get(each))) {
+                snapshotSchema.remove(each);
+                result = true;
+            }
+        }
+        return result;
+    }
+}
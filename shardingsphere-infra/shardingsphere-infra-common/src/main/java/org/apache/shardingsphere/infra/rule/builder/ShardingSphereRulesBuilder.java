@@ -21,13 +21,23 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.infra.spi.ordered.OrderedSPIRegistry;
+import org.apache.shardingsphere.infra.yaml.config.YamlRuleConfiguration;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.swapper.YamlRuleConfigurationSwapperEngine;
 
 import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -55,4 +65,46 @@ public final class ShardingSphereRulesBuilder {
         Map<RuleConfiguration, ShardingSphereRuleBuilder> builders = OrderedSPIRegistry.getRegisteredServices(ruleConfigurations, ShardingSphereRuleBuilder.class);
         return builders.entrySet().stream().map(entry -> entry.getValue().build(schemaName, dataSourceMap, databaseType, entry.getKey())).collect(Collectors.toList());
     }
+    
+    /**
+     * Build rules, rules of original rule meta data are reused if their rule configurations are not changed.
+     *
+     * @param ruleConfigurations rule configurations
+     * @param databaseType database type
+     * @param dataSourceMap data source map
+     * @param schemaName schema name
+     * @param originalRuleMetaData original rule meta data
+     * @return rules
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Collection<ShardingSphereRule> build(final Collection<RuleConfiguration> ruleConfigurations, final DatabaseType databaseType,
+                                                       final Map<String, DataSource> dataSourceMap, final String schemaName, final ShardingSphereRuleMetaData originalRuleMetaData) {
+        Map<String, ShardingSphereRule> reusableRules = getReusableRules(originalRuleMetaData);
+        Map<RuleConfiguration, ShardingSphereRuleBuilder> builders = OrderedSPIRegistry.getRegisteredServices(ruleConfigurations, ShardingSphereRuleBuilder.class);
+        Collection<ShardingSphereRule> result = new LinkedList<>();
+        for (Entry<RuleConfiguration, ShardingSphereRuleBuilder> entry : builders.entrySet()) {
+            Optional<ShardingSphereRule> reusableRule = marshal(entry.getKey()).map(reusableRules::get);
+            result.add(reusableRule.orElseGet(() -> entry.getValue().build(schemaName, dataSourceMap, databaseType, entry.getKey())));
+        }
+        return result;
+    }
+    
+    private static Map<String, ShardingSphereRule> getReusableRules(final ShardingSphereRuleMetaData ruleMetaData) {
+        Collection<RuleConfiguration> ruleConfigurations = OrderedSPIRegistry.getRegisteredServices(ruleMetaData.getConfigurations(), ShardingSphereRuleBuilder.class).keySet();
+        if (ruleConfigurations.size() != ruleMetaData.getRules().size()) {
+            return Collections.emptyMap();
+        }
+        Map<String, ShardingSphereRule> result = new HashMap<>(ruleConfigurations.size(), 1);
+        Iterator<ShardingSphereRule> rules = ruleMetaData.getRules().iterator();
+        for (RuleConfiguration each : ruleConfigurations) {
+            ShardingSphereRule rule = rules.next();
+            marshal(each).ifPresent(optional -> result.put(optional, rule));
+        }
+        return result;
+    }
+    
+    private static Optional<String> marshal(final RuleConfiguration ruleConfiguration) {
+        Collection<YamlRuleConfiguration> yamlRuleConfigs = new YamlRuleConfigurationSwapperEngine().swapToYamlRuleConfigurations(Collections.singletonList(ruleConfiguration));
+        return yamlRuleConfigs.isEmpty() ? Optional.empty() : Optional.of(YamlEngine.marshal(yamlRuleConfigs));
+    }
 }
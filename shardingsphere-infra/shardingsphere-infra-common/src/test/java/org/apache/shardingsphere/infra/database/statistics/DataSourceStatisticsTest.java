@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.statistics;
+
+import org.junit.Test;
+
+import javax.sql.DataSource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class DataSourceStatisticsTest {
+    
+    @Test
+    public void assertStartAndFinish() throws InterruptedException {
+        DataSourceStatistics actual = new DataSourceStatistics();
+        assertThat(actual.getLatencyNanos(), is(0L));
+        long startNanos = actual.start();
+        assertThat(actual.getInFlightCount(), is(1));
+        Thread.sleep(1L);
+        actual.finish(startNanos);
+        assertThat(actual.getInFlightCount(), is(0));
+        assertTrue(actual.getLatencyNanos() > 0L);
+    }
+    
+    @Test
+    public void assertLatencyMovesTowardsRecentExecutions() throws InterruptedException {
+        DataSourceStatistics actual = new DataSourceStatistics();
+        long startNanos = actual.start();
+        Thread.sleep(20L);
+        actual.finish(startNanos);
+        long slowLatencyNanos = actual.getLatencyNanos();
+        for (int i = 0; i < 10; i++) {
+            actual.finish(actual.start());
+        }
+        assertTrue(actual.getLatencyNanos() < slowLatencyNanos / 2);
+    }
+    
+    @Test
+    public void assertRegisterAndUnregisterDataSource() {
+        assertFalse(DataSourceStatisticsRegistry.findStatistics("jdbc:h2:mem:statistics_registry").isPresent());
+        DataSource dataSource = mock(DataSource.class);
+        DataSource anotherDataSource = mock(DataSource.class);
+        DataSourceStatisticsRegistry.register(dataSource, "jdbc:h2:mem:statistics_registry");
+        DataSourceStatisticsRegistry.register(anotherDataSource, "jdbc:h2:mem:statistics_registry");
+        assertTrue(DataSourceStatisticsRegistry.findStatistics("jdbc:h2:mem:statistics_registry").isPresent());
+        DataSourceStatisticsRegistry.unregister(dataSource);
+        assertTrue(DataSourceStatisticsRegistry.findStatistics("jdbc:h2:mem:statistics_registry").isPresent());
+        DataSourceStatisticsRegistry.unregister(anotherDataSource);
+        assertFalse(DataSourceStatisticsRegistry.findStatistics("jdbc:h2:mem:statistics_registry").isPresent());
+    }
+}
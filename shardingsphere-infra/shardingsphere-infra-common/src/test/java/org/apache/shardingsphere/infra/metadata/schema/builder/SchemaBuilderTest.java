@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.CommonFixtureRule;
 import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.DataNodeContainedFixtureRule;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -37,6 +38,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -84,6 +87,20 @@ public final class SchemaBuilderTest {
         assertSchemaOfShardingTables(actual);
     }
     
+    @Test
+    public void assertBuildWithReusableTables() throws SQLException {
+        TableMetaData reusableShardingTable = new TableMetaData();
+        TableMetaData reusableSingleTable = new TableMetaData();
+        Map<String, TableMetaData> reusableTables = new LinkedHashMap<>(2, 1);
+        reusableTables.put("data_node_routed_table1", reusableShardingTable);
+        reusableTables.put(singleTableNames[0], reusableSingleTable);
+        ShardingSphereSchema actual = SchemaBuilder.build(schemaBuilderMaterials, reusableTables);
+        assertThat(actual.getAllTableNames().size(), is(3));
+        assertThat(actual.get("data_node_routed_table1"), is(reusableShardingTable));
+        assertTrue(actual.get("data_node_routed_table2").getColumns().containsKey("id"));
+        assertThat(actual.get(singleTableNames[0]), is(reusableSingleTable));
+    }
+    
     private void assertSchemaOfShardingTables(final ShardingSphereSchema actual) {
         assertTrue(actual.containsTable("data_node_routed_table1"));
         assertTrue(actual.get("data_node_routed_table1").getColumns().containsKey("id"));
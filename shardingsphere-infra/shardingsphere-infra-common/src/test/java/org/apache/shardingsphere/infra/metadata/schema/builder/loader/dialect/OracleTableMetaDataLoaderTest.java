@@ -70,6 +70,29 @@ public final class OracleTableMetaDataLoaderTest {
         assertTableMetaDataMap(getTableMetaDataLoader().load(dataSource, Collections.singletonList("existed_tbl")));
     }
     
+    @Test
+    public void assertLoadWithTables() throws SQLException {
+        DataSource dataSource = mockDataSource();
+        when(dataSource.getConnection().getMetaData().getUserName()).thenReturn("test");
+        when(dataSource.getConnection().getMetaData().getDatabaseMajorVersion()).thenReturn(12);
+        ResultSet resultSet = mockCatalogTableMetaDataResultSet();
+        when(dataSource.getConnection().prepareStatement(
+                "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, IDENTITY_COLUMN FROM ALL_TAB_COLUMNS WHERE OWNER = ? AND TABLE_NAME IN ('TBL') ORDER BY COLUMN_ID").executeQuery()).thenReturn(resultSet);
+        ResultSet primaryKeyResultSet = mockCatalogPrimaryKeyMetaDataResultSet();
+        when(dataSource.getConnection().prepareStatement("SELECT A.TABLE_NAME, A.COLUMN_NAME FROM ALL_CONSTRAINTS B JOIN ALL_CONS_COLUMNS A"
+                + " ON A.OWNER = B.OWNER AND A.CONSTRAINT_NAME = B.CONSTRAINT_NAME WHERE B.CONSTRAINT_TYPE = 'P' AND A.OWNER = ? AND A.TABLE_NAME IN ('TBL')").executeQuery())
+                .thenReturn(primaryKeyResultSet);
+        ResultSet indexResultSet = mockCatalogIndexMetaDataResultSet();
+        when(dataSource.getConnection().prepareStatement("SELECT TABLE_NAME, INDEX_NAME FROM ALL_INDEXES WHERE OWNER = ? AND TABLE_NAME IN ('TBL')").executeQuery()).thenReturn(indexResultSet);
+        Map<String, TableMetaData> actual = getTableMetaDataLoader().loadWithTables(dataSource, Collections.singletonList("tbl"));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("TBL").getColumns().size(), is(2));
+        assertThat(actual.get("TBL").getColumnMetaData(0), is(new ColumnMetaData("ID", 4, true, true, true)));
+        assertThat(actual.get("TBL").getColumnMetaData(1), is(new ColumnMetaData("NAME", 12, false, false, true)));
+        assertThat(actual.get("TBL").getIndexes().size(), is(1));
+        assertThat(actual.get("TBL").getIndexes().get("id"), is(new IndexMetaData("ID")));
+    }
+    
     private DataSource mockDataSource() throws SQLException {
         DataSource result = mock(DataSource.class, RETURNS_DEEP_STUBS);
         ResultSet typeInfoResultSet = mockTypeInfoResultSet();
@@ -97,6 +120,32 @@ public final class OracleTableMetaDataLoaderTest {
         return result;
     }
     
+    private ResultSet mockCatalogTableMetaDataResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, false);
+        when(result.getString("TABLE_NAME")).thenReturn("TBL");
+        when(result.getString("COLUMN_NAME")).thenReturn("ID", "NAME");
+        when(result.getString("DATA_TYPE")).thenReturn("int", "varchar(20)");
+        when(result.getString("IDENTITY_COLUMN")).thenReturn("YES", "NO");
+        return result;
+    }
+    
+    private ResultSet mockCatalogPrimaryKeyMetaDataResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getString("TABLE_NAME")).thenReturn("TBL");
+        when(result.getString("COLUMN_NAME")).thenReturn("ID");
+        return result;
+    }
+    
+    private ResultSet mockCatalogIndexMetaDataResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getString("INDEX_NAME")).thenReturn("ID");
+        when(result.getString("TABLE_NAME")).thenReturn("TBL");
+        return result;
+    }
+    
     private ResultSet mockIndexMetaDataResultSet() throws SQLException {
         ResultSet result = mock(ResultSet.class);
         when(result.next()).thenReturn(true, false);
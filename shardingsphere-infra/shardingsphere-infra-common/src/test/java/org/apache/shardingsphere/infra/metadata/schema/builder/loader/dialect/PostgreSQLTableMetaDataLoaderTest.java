@@ -79,6 +79,18 @@ public final class PostgreSQLTableMetaDataLoaderTest {
         assertTableMetaDataMap(getTableMetaDataLoader().load(dataSource, Collections.singletonList("existed_tbl")));
     }
     
+    @Test
+    public void assertLoadWithTables() throws SQLException {
+        DataSource dataSource = mockDataSource();
+        ResultSet resultSet = mockTableMetaDataResultSet();
+        when(dataSource.getConnection().prepareStatement(BASIC_TABLE_META_DATA_SQL + " AND table_name IN ('tbl')").executeQuery()).thenReturn(resultSet);
+        ResultSet primaryKeyResultSet = mockPrimaryKeyMetaDataResultSet();
+        when(dataSource.getConnection().prepareStatement(PRIMARY_KEY_META_DATA_SQL + " AND tc.table_name IN ('tbl')").executeQuery()).thenReturn(primaryKeyResultSet);
+        ResultSet indexResultSet = mockIndexMetaDataResultSet();
+        when(dataSource.getConnection().prepareStatement(BASIC_INDEX_META_DATA_SQL + " AND tablename IN ('tbl')").executeQuery()).thenReturn(indexResultSet);
+        assertTableMetaDataMap(getTableMetaDataLoader().loadWithTables(dataSource, Collections.singletonList("tbl")));
+    }
+    
     private DataSource mockDataSource() throws SQLException {
         DataSource result = mock(DataSource.class, RETURNS_DEEP_STUBS);
         ResultSet typeInfoResultSet = mockTypeInfoResultSet();
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SchemaSnapshotRepositoryTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @Test
+    public void assertNewInstanceWhenDisabled() {
+        assertFalse(SchemaSnapshotRepository.newInstance(new ConfigurationProperties(new Properties())).isPresent());
+    }
+    
+    @Test
+    public void assertNewInstanceWhenEnabled() throws IOException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED.getKey(), Boolean.TRUE.toString());
+        props.setProperty(ConfigurationPropertyKey.METADATA_SNAPSHOT_DIRECTORY.getKey(), temporaryFolder.getRoot().getPath());
+        Optional<SchemaSnapshotRepository> actual = SchemaSnapshotRepository.newInstance(new ConfigurationProperties(props));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getDirectory(), is(temporaryFolder.getRoot().toPath()));
+    }
+    
+    @Test
+    public void assertPersistAndLoad() throws IOException {
+        SchemaSnapshotRepository repository = new SchemaSnapshotRepository(temporaryFolder.newFolder().toPath());
+        ShardingSphereSchema schema = createSchema();
+        repository.persist("logic_db", "fingerprint", schema);
+        Optional<ShardingSphereSchema> actual = repository.load("logic_db", "fingerprint");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getAllTableNames().size(), is(2));
+        assertThat(actual.get().get("t_order"), is(schema.get("t_order")));
+        assertThat(actual.get().get("t_order").getColumnMetaData(1).getName(), is("user_id"));
+        assertThat(actual.get().get("t_order").getIndexes().get("idx_user_id").getName(), is("IDX_USER_ID"));
+        assertThat(actual.get().get("t_config"), is(schema.get("t_config")));
+    }
+    
+    @Test
+    public void assertLoadWithDifferentFingerprint() throws IOException {
+        SchemaSnapshotRepository repository = new SchemaSnapshotRepository(temporaryFolder.newFolder().toPath());
+        repository.persist("logic_db", "fingerprint", createSchema());
+        assertFalse(repository.load("logic_db", "changed_fingerprint").isPresent());
+    }
+    
+    @Test
+    public void assertLoadWithoutSnapshot() throws IOException {
+        assertFalse(new SchemaSnapshotRepository(temporaryFolder.newFolder().toPath()).load("logic_db", "fingerprint").isPresent());
+    }
+    
+    @Test
+    public void assertLoadWithCorruptedSnapshot() throws IOException {
+        Path directory = temporaryFolder.newFolder().toPath();
+        Files.write(directory.resolve("logic_db.snapshot"), new byte[]{1, 2, 3});
+        assertFalse(new SchemaSnapshotRepository(directory).load("logic_db", "fingerprint").isPresent());
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        ShardingSphereSchema result = new ShardingSphereSchema();
+        result.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", 4, true, true, false), new ColumnMetaData("user_id", 12, false, false, true)),
+                Collections.singletonList(new IndexMetaData("IDX_USER_ID"))));
+        result.put("t_config", new TableMetaData());
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.snapshot;
+
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SchemaSnapshotValidatorTest {
+    
+    @Test
+    public void assertCorrectWithSameSchema() {
+        ShardingSphereSchema snapshotSchema = new ShardingSphereSchema(Collections.singletonMap("t_order", createTableMetaData("order_id")));
+        ShardingSphereSchema actualSchema = new ShardingSphereSchema(Collections.singletonMap("t_order", createTableMetaData("order_id")));
+        assertFalse(SchemaSnapshotValidator.correct(snapshotSchema, SchemaSnapshotValidator.copy(snapshotSchema), actualSchema));
+        assertThat(snapshotSchema.get("t_order"), is(createTableMetaData("order_id")));
+    }
+    
+    @Test
+    public void assertCorrectWithDifferentSchema() {
+        ShardingSphereSchema snapshotSchema = new ShardingSphereSchema();
+        snapshotSchema.put("t_order", createTableMetaData("order_id"));
+        snapshotSchema.put("t_dropped", createTableMetaData("id"));
+        ShardingSphereSchema actualSchema = new ShardingSphereSchema();
+        actualSchema.put("t_order", createTableMetaData("new_order_id"));
+        actualSchema.put("t_created", createTableMetaData("id"));
+        assertTrue(SchemaSnapshotValidator.correct(snapshotSchema, SchemaSnapshotValidator.copy(snapshotSchema), actualSchema));
+        assertThat(snapshotSchema.getAllTableNames().size(), is(2));
+        assertThat(snapshotSchema.get("t_order"), is(createTableMetaData("new_order_id")));
+        assertTrue(snapshotSchema.containsTable("t_created"));
+        assertFalse(snapshotSchema.containsTable("t_dropped"));
+    }
+    
+    @Test
+    public void assertCorrectWithTablesRefreshedAfterCopy() {
+        ShardingSphereSchema snapshotSchema = new ShardingSphereSchema();
+        snapshotSchema.put("t_order", createTableMetaData("order_id"));
+        snapshotSchema.put("t_user", createTableMetaData("user_id"));
+        ShardingSphereSchema actualSchema = new ShardingSphereSchema();
+        actualSchema.put("t_order", createTableMetaData("order_id"));
+        actualSchema.put("t_user", createTableMetaData("user_id"));
+        ShardingSphereSchema expectedSchema = SchemaSnapshotValidator.copy(snapshotSchema);
+        snapshotSchema.put("t_order", createTableMetaData("refreshed_order_id"));
+        snapshotSchema.remove("t_user");
+        assertFalse(SchemaSnapshotValidator.correct(snapshotSchema, expectedSchema, actualSchema));
+        assertThat(snapshotSchema.get("t_order"), is(createTableMetaData("refreshed_order_id")));
+        assertFalse(snapshotSchema.containsTable("t_user"));
+    }
+    
+    private TableMetaData createTableMetaData(final String columnName) {
+        return new TableMetaData(Collections.singletonList(new ColumnMetaData(columnName, 4, true, false, false)), Collections.emptyList());
+    }
+}
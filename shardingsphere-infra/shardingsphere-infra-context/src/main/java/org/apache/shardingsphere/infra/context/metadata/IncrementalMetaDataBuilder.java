@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshotFingerprint;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshotRepository;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.builder.ShardingSphereRulesBuilder;
+import org.apache.shardingsphere.infra.rule.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.type.DataSourceContainedRule;
+import org.apache.shardingsphere.infra.rule.type.TableContainedRule;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Incremental meta data builder.
+ * 
+ * <p>Build new meta data from original meta data, unchanged rules, resource and table meta data are reused instead of reloading from data sources.</p>
+ */
+@RequiredArgsConstructor
+public final class IncrementalMetaDataBuilder {
+    
+    private final ConfigurationProperties props;
+    
+    /**
+     * Build meta data with changed rule configurations.
+     * 
+     * <p>Resource is reused, rules whose configurations are not changed are reused, 
+     * and only tables of changed rules are reloaded.</p>
+     *
+     * @param originalMetaData original meta data
+     * @param ruleConfigs changed rule configurations
+     * @return meta data
+     * @throws SQLException SQL exception
+     */
+    public ShardingSphereMetaData build(final ShardingSphereMetaData originalMetaData, final Collection<RuleConfiguration> ruleConfigs) throws SQLException {
+        ShardingSphereResource resource = originalMetaData.getResource();
+        ShardingSphereRuleMetaData originalRuleMetaData = originalMetaData.getRuleMetaData();
+        Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.build(ruleConfigs, resource.getDatabaseType(), resource.getDataSources(), originalMetaData.getName(), originalRuleMetaData);
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(ruleConfigs, rules);
+        Collection<String> changedTables = getTables(getChangedRules(originalRuleMetaData.getRules(), rules));
+        Map<String, TableMetaData> reusableTables = new LinkedHashMap<>();
+        for (String each : originalMetaData.getSchema().getAllTableNames()) {
+            if (!changedTables.contains(each)) {
+                reusableTables.put(each, originalMetaData.getSchema().get(each));
+            }
+        }
+        return new ShardingSphereMetaData(originalMetaData.getName(), resource, ruleMetaData, buildSchema(originalMetaData.getName(), resource, ruleMetaData, reusableTables));
+    }
+    
+    /**
+     * Build meta data with changed data sources.
+     * 
+     * <p>Rules are rebuilt with new data sources. Tables with data nodes are reused if their data nodes are not changed and not located on changed data sources,
+     * tables without data nodes are reused if no data source is modified or deleted.</p>
+     *
+     * @param originalMetaData original meta data
+     * @param dataSources data sources
+     * @param changedDataSourceNames names of modified, added and deleted data sources
+     * @return meta data
+     * @throws SQLException SQL exception
+     */
+    public ShardingSphereMetaData build(final ShardingSphereMetaData originalMetaData, final Map<String, DataSource> dataSources, 
+                                        final Collection<String> changedDataSourceNames) throws SQLException {
+        DatabaseType databaseType = MetaDataContextsBuilder.getDatabaseType(dataSources);
+        ShardingSphereResource resource = MetaDataContextsBuilder.buildResource(databaseType, dataSources);
+        Collection<RuleConfiguration> ruleConfigs = originalMetaData.getRuleMetaData().getConfigurations();
+        Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.build(ruleConfigs, databaseType, dataSources, originalMetaData.getName());
+        ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(ruleConfigs, rules);
+        Map<String, TableMetaData> reusableTables = databaseType.equals(originalMetaData.getResource().getDatabaseType())
+                ? getReusableTables(originalMetaData, rules, changedDataSourceNames, dataSources.keySet()) : Collections.emptyMap();
+        return new ShardingSphereMetaData(originalMetaData.getName(), resource, ruleMetaData, buildSchema(originalMetaData.getName(), resource, ruleMetaData, reusableTables));
+    }
+    
+    private Collection<ShardingSphereRule> getChangedRules(final Collection<ShardingSphereRule> originalRules, final Collection<ShardingSphereRule> rules) {
+        Set<ShardingSphereRule> originalRuleSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        originalRuleSet.addAll(originalRules);
+        Set<ShardingSphereRule> ruleSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        ruleSet.addAll(rules);
+        Collection<ShardingSphereRule> result = new LinkedList<>();
+        originalRules.stream().filter(each -> !ruleSet.contains(each)).forEach(result::add);
+        rules.stream().filter(each -> !originalRuleSet.contains(each)).forEach(result::add);
+        return result;
+    }
+    
+    private Collection<String> getTables(final Collection<ShardingSphereRule> rules) {
+        Collection<String> result = new HashSet<>();
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof TableContainedRule) {
+                ((TableContainedRule) each).getTables().forEach(table -> result.add(table.toLowerCase()));
+            }
+            if (each instanceof DataNodeContainedRule) {
+                ((DataNodeContainedRule) each).getAllActualTables().forEach(table -> result.add(table.toLowerCase()));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, TableMetaData> getReusableTables(final ShardingSphereMetaData originalMetaData, final Collection<ShardingSphereRule> rules, 
+                                                         final Collection<String> changedDataSourceNames, final Collection<String> dataSourceNames) {
+        Collection<ShardingSphereRule> originalRules = originalMetaData.getRuleMetaData().getRules();
+        Map<String, Collection<DataNode>> originalDataNodes = getDataNodes(originalRules);
+        Map<String, Collection<DataNode>> dataNodes = getDataNodes(rules);
+        Collection<String> changedLogicDataSourceNames = getLogicDataSourceNames(changedDataSourceNames, originalRules, rules);
+        boolean onlyAddedDataSources = originalMetaData.getResource().getDataSources().keySet().stream().noneMatch(each -> changedDataSourceNames.contains(each) || !dataSourceNames.contains(each));
+        Map<String, TableMetaData> result = new LinkedHashMap<>();
+        for (String each : originalMetaData.getSchema().getAllTableNames()) {
+            boolean reusable = originalDataNodes.containsKey(each) || dataNodes.containsKey(each)
+                    ? isUnchangedDataNodes(originalDataNodes.get(each), dataNodes.get(each), changedLogicDataSourceNames) : onlyAddedDataSources;
+            if (reusable) {
+                result.put(each, originalMetaData.getSchema().get(each));
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<DataNode>> getDataNodes(final Collection<ShardingSphereRule> rules) {
+        Map<String, Collection<DataNode>> result = new HashMap<>();
+        for (ShardingSphereRule each : rules) {
+            if (each instanceof DataNodeContainedRule) {
+                for (Entry<String, Collection<DataNode>> entry : ((DataNodeContainedRule) each).getAllDataNodes().entrySet()) {
+                    result.computeIfAbsent(entry.getKey().toLowerCase(), key -> new LinkedList<>()).addAll(entry.getValue());
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> getLogicDataSourceNames(final Collection<String> dataSourceNames, final Collection<ShardingSphereRule> originalRules, final Collection<ShardingSphereRule> rules) {
+        Collection<String> result = new HashSet<>(dataSourceNames);
+        Collection<ShardingSphereRule> allRules = new LinkedList<>(originalRules);
+        allRules.addAll(rules);
+        for (ShardingSphereRule each : allRules) {
+            if (each instanceof DataSourceContainedRule) {
+                for (Entry<String, Collection<String>> entry : ((DataSourceContainedRule) each).getDataSourceMapper().entrySet()) {
+                    if (entry.getValue().stream().anyMatch(dataSourceNames::contains)) {
+                        result.add(entry.getKey());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
+    private boolean isUnchangedDataNodes(final Collection<DataNode> originalDataNodes, final Collection<DataNode> dataNodes, final Collection<String> changedDataSourceNames) {
+        if (null == originalDataNodes || null == dataNodes || !new HashSet<>(originalDataNodes).equals(new HashSet<>(dataNodes))) {
+            return false;
+        }
+        return dataNodes.stream().noneMatch(each -> changedDataSourceNames.contains(each.getDataSourceName()));
+    }
+    
+    private ShardingSphereSchema buildSchema(final String schemaName, final ShardingSphereResource resource, 
+                                             final ShardingSphereRuleMetaData ruleMetaData, final Map<String, TableMetaData> reusableTables) throws SQLException {
+        ShardingSphereSchema result = SchemaBuilder.build(new SchemaBuilderMaterials(resource.getDatabaseType(), resource.getDataSources(), ruleMetaData.getRules(), props), reusableTables);
+        SchemaSnapshotRepository.newInstance(props).ifPresent(optional -> optional.persist(schemaName, SchemaSnapshotFingerprint.calculate(resource, ruleMetaData.getConfigurations()), result));
+        return result;
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.context.metadata;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.apache.shardingsphere.infra.lock.ShardingSphereLock;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.auth.Authentication;
@@ -27,6 +28,7 @@ import org.apache.shardingsphere.infra.state.StateContext;
 
 import java.io.Closeable;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -97,4 +99,11 @@ public interface MetaDataContexts extends Closeable {
      * @return state context
      */
     StateContext getStateContext();
+    
+    /**
+     * Get in-flight execute processes.
+     * 
+     * @return execute process contexts, key is instance id and value is in-flight processes of the instance
+     */
+    Map<String, Collection<ExecuteProcessContext>> getExecuteProcessContexts();
 }
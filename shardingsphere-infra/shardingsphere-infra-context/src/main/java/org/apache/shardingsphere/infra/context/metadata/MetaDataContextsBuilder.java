@@ -38,6 +38,9 @@ import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshotFingerprint;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshotRepository;
+import org.apache.shardingsphere.infra.metadata.schema.snapshot.SchemaSnapshotValidator;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.builder.ShardingSphereRulesBuilder;
 
@@ -103,10 +106,11 @@ public final class MetaDataContextsBuilder {
         DatabaseType databaseType = getDatabaseType(dataSourceMap);
         Collection<ShardingSphereRule> rules = ShardingSphereRulesBuilder.build(ruleConfigs, databaseType, dataSourceMap, schemaName);
         ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(ruleConfigs, rules);
-        return new ShardingSphereMetaData(schemaName, buildResource(databaseType, dataSourceMap), ruleMetaData, buildSchema(databaseType, dataSourceMap, rules));
+        ShardingSphereResource resource = buildResource(databaseType, dataSourceMap);
+        return new ShardingSphereMetaData(schemaName, resource, ruleMetaData, buildSchema(schemaName, resource, ruleMetaData));
     }
     
-    private DatabaseType getDatabaseType(final Map<String, DataSource> dataSourceMap) {
+    static DatabaseType getDatabaseType(final Map<String, DataSource> dataSourceMap) {
         DatabaseType result = null;
         for (DataSource each : dataSourceMap.values()) {
             DatabaseType databaseType = getDatabaseType(each);
@@ -116,7 +120,7 @@ public final class MetaDataContextsBuilder {
         return null == result ? DatabaseTypeRegistry.getDefaultDatabaseType() : result;
     }
     
-    private DatabaseType getDatabaseType(final DataSource dataSource) {
+    private static DatabaseType getDatabaseType(final DataSource dataSource) {
         try (Connection connection = dataSource.getConnection()) {
             return DatabaseTypeRegistry.getDatabaseTypeByURL(connection.getMetaData().getURL());
         } catch (final SQLException ex) {
@@ -124,13 +128,13 @@ public final class MetaDataContextsBuilder {
         }
     }
     
-    private ShardingSphereResource buildResource(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) throws SQLException {
+    static ShardingSphereResource buildResource(final DatabaseType databaseType, final Map<String, DataSource> dataSourceMap) throws SQLException {
         DataSourcesMetaData dataSourceMetas = new DataSourcesMetaData(databaseType, getDatabaseAccessConfigurationMap(dataSourceMap));
         CachedDatabaseMetaData cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap).orElse(null);
         return new ShardingSphereResource(dataSourceMap, dataSourceMetas, cachedDatabaseMetaData, databaseType);
     }
     
-    private Map<String, DatabaseAccessConfiguration> getDatabaseAccessConfigurationMap(final Map<String, DataSource> dataSourceMap) throws SQLException {
+    private static Map<String, DatabaseAccessConfiguration> getDatabaseAccessConfigurationMap(final Map<String, DataSource> dataSourceMap) throws SQLException {
         Map<String, DatabaseAccessConfiguration> result = new LinkedHashMap<>(dataSourceMap.size(), 1);
         for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
             DataSource dataSource = entry.getValue();
@@ -142,7 +146,7 @@ public final class MetaDataContextsBuilder {
         return result;
     }
     
-    private Optional<CachedDatabaseMetaData> createCachedDatabaseMetaData(final Map<String, DataSource> dataSources) throws SQLException {
+    private static Optional<CachedDatabaseMetaData> createCachedDatabaseMetaData(final Map<String, DataSource> dataSources) throws SQLException {
         if (dataSources.isEmpty()) {
             return Optional.empty();
         }
@@ -151,9 +155,21 @@ public final class MetaDataContextsBuilder {
         }
     }
     
-    private ShardingSphereSchema buildSchema(final DatabaseType databaseType,
-                                             final Map<String, DataSource> dataSourceMap, final Collection<ShardingSphereRule> rules) throws SQLException {
-        return SchemaBuilder.build(new SchemaBuilderMaterials(databaseType, dataSourceMap, rules, props));
+    private ShardingSphereSchema buildSchema(final String schemaName, final ShardingSphereResource resource, final ShardingSphereRuleMetaData ruleMetaData) throws SQLException {
+        SchemaBuilderMaterials materials = new SchemaBuilderMaterials(resource.getDatabaseType(), resource.getDataSources(), ruleMetaData.getRules(), props);
+        Optional<SchemaSnapshotRepository> snapshotRepository = SchemaSnapshotRepository.newInstance(props);
+        if (!snapshotRepository.isPresent()) {
+            return SchemaBuilder.build(materials);
+        }
+        String fingerprint = SchemaSnapshotFingerprint.calculate(resource, ruleMetaData.getConfigurations());
+        Optional<ShardingSphereSchema> snapshotSchema = snapshotRepository.get().load(schemaName, fingerprint);
+        if (snapshotSchema.isPresent()) {
+            SchemaSnapshotValidator.validateAsync(schemaName, fingerprint, snapshotSchema.get(), materials, snapshotRepository.get());
+            return snapshotSchema.get();
+        }
+        ShardingSphereSchema result = SchemaBuilder.build(materials);
+        snapshotRepository.get().persist(schemaName, fingerprint, result);
+        return result;
     }
     
     private Authentication buildAuthentication(final Collection<ShardingSphereUser> users, final Map<String, ShardingSphereMetaData> metaDataMap) {
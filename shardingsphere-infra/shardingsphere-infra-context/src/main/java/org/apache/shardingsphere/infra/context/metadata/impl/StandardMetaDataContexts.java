@@ -22,6 +22,8 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessRegistry;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.apache.shardingsphere.infra.lock.ShardingSphereLock;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.auth.Authentication;
@@ -31,6 +33,7 @@ import org.apache.shardingsphere.infra.optimize.context.CalciteContextFactory;
 import org.apache.shardingsphere.infra.state.StateContext;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -42,6 +45,8 @@ import java.util.Properties;
 @Getter
 public final class StandardMetaDataContexts implements MetaDataContexts {
     
+    private static final String LOCAL_INSTANCE_ID = "localhost";
+    
     private final Map<String, ShardingSphereMetaData> metaDataMap;
     
     private final ExecutorEngine executorEngine;
@@ -88,6 +93,11 @@ public final class StandardMetaDataContexts implements MetaDataContexts {
         return Optional.empty();
     }
     
+    @Override
+    public Map<String, Collection<ExecuteProcessContext>> getExecuteProcessContexts() {
+        return Collections.singletonMap(LOCAL_INSTANCE_ID, ExecuteProcessRegistry.getAllProcessContexts());
+    }
+    
     @Override
     public void close() {
         executorEngine.close();
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.metadata;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.fixture.FixtureRuleConfiguration;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.test.mock.MockedDataSource;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class IncrementalMetaDataBuilderTest {
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @Test
+    public void assertBuildWithRuleConfigurations() throws SQLException {
+        ShardingSphereMetaData originalMetaData = createOriginalMetaData(Collections.emptyMap());
+        TableMetaData tableMetaData = new TableMetaData();
+        originalMetaData.getSchema().put("t_single", tableMetaData);
+        ShardingSphereMetaData actual = new IncrementalMetaDataBuilder(props).build(originalMetaData, Collections.singleton(new FixtureRuleConfiguration()));
+        assertThat(actual.getName(), is("logic_db"));
+        assertThat(actual.getResource(), is(originalMetaData.getResource()));
+        assertThat(actual.getRuleMetaData().getRules().size(), is(1));
+        assertThat(actual.getRuleMetaData().getRules().iterator().next(), not(originalMetaData.getRuleMetaData().getRules().iterator().next()));
+        assertThat(actual.getSchema().get("t_single"), is(tableMetaData));
+    }
+    
+    @Test
+    public void assertBuildWithAddedDataSources() throws SQLException {
+        DataSource originalDataSource = new MockedDataSource();
+        ShardingSphereMetaData originalMetaData = createOriginalMetaData(Collections.singletonMap("ds_0", originalDataSource));
+        TableMetaData tableMetaData = new TableMetaData();
+        originalMetaData.getSchema().put("t_single", tableMetaData);
+        Map<String, DataSource> dataSources = new LinkedHashMap<>(2, 1);
+        dataSources.put("ds_0", originalDataSource);
+        dataSources.put("ds_1", new MockedDataSource());
+        ShardingSphereMetaData actual = new IncrementalMetaDataBuilder(props).build(originalMetaData, dataSources, Collections.singleton("ds_1"));
+        assertThat(actual.getResource().getDataSources(), is(dataSources));
+        assertThat(actual.getSchema().get("t_single"), is(tableMetaData));
+    }
+    
+    @Test
+    public void assertBuildWithModifiedDataSources() throws SQLException {
+        ShardingSphereMetaData originalMetaData = createOriginalMetaData(Collections.singletonMap("ds_0", new MockedDataSource()));
+        originalMetaData.getSchema().put("t_single", new TableMetaData());
+        ShardingSphereMetaData actual = new IncrementalMetaDataBuilder(props).build(originalMetaData, Collections.singletonMap("ds_0", new MockedDataSource()), Collections.singleton("ds_0"));
+        assertFalse(actual.getSchema().containsTable("t_single"));
+    }
+    
+    private ShardingSphereMetaData createOriginalMetaData(final Map<String, DataSource> dataSources) throws SQLException {
+        return new MetaDataContextsBuilder(Collections.singletonMap("logic_db", dataSources),
+                Collections.singletonMap("logic_db", Collections.singleton(new FixtureRuleConfiguration())), new Properties()).build().getMetaData("logic_db");
+    }
+}
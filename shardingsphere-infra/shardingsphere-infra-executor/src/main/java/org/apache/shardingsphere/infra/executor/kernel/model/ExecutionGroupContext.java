@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Execution group context.
@@ -34,12 +35,5 @@ public final class ExecutionGroupContext<T> {
     
     private final Collection<ExecutionGroup<T>> inputGroups;
     
-    /**
-     * Get execution ID.
-     *
-     * @return execution ID
-     */
-    public String getExecutionID() {
-        return UUID.randomUUID().toString();
-    }
+    private final String executionID = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString();
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.sql.context;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 
@@ -32,13 +33,22 @@ import java.util.Collections;
 @Getter
 public final class ExecutionContext {
     
-    private final SQLStatementContext<?> sqlStatementContext;
+    private final LogicSQL logicSQL;
     
     private final Collection<ExecutionUnit> executionUnits;
     
     private final RouteContext routeContext;
     
-    public ExecutionContext(final SQLStatementContext<?> sqlStatementContext, final ExecutionUnit executionUnit, final RouteContext routeContext) {
-        this(sqlStatementContext, Collections.singletonList(executionUnit), routeContext);
+    public ExecutionContext(final LogicSQL logicSQL, final ExecutionUnit executionUnit, final RouteContext routeContext) {
+        this(logicSQL, Collections.singletonList(executionUnit), routeContext);
+    }
+    
+    /**
+     * Get SQL statement context.
+     * 
+     * @return SQL statement context
+     */
+    public SQLStatementContext<?> getSqlStatementContext() {
+        return logicSQL.getSqlStatementContext();
     }
 }
@@ -17,14 +17,17 @@
 
 package org.apache.shardingsphere.infra.executor.sql.context;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.shardingsphere.infra.rewrite.engine.result.InsertValuesRange;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL unit.
@@ -32,7 +35,7 @@ import java.util.List;
 @RequiredArgsConstructor
 @Getter
 @EqualsAndHashCode(of = "sql")
-@ToString
+@ToString(exclude = "insertValuesRange")
 public final class SQLUnit {
     
     private final String sql;
@@ -41,7 +44,23 @@ public final class SQLUnit {
     
     private final List<RouteMapper> tableRouteMappers;
     
+    @Getter(AccessLevel.NONE)
+    private final InsertValuesRange insertValuesRange;
+    
     public SQLUnit(final String sql, final List<Object> parameters) {
         this(sql, parameters, Collections.emptyList());
     }
+    
+    public SQLUnit(final String sql, final List<Object> parameters, final List<RouteMapper> tableRouteMappers) {
+        this(sql, parameters, tableRouteMappers, null);
+    }
+    
+    /**
+     * Find range of insert values in SQL.
+     *
+     * @return range of insert values, empty if SQL has no rewritten insert values
+     */
+    public Optional<InsertValuesRange> findInsertValuesRange() {
+        return Optional.ofNullable(insertValuesRange);
+    }
 }
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.database.statistics.DataSourceStatistics;
+import org.apache.shardingsphere.infra.database.statistics.DataSourceStatisticsRegistry;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
@@ -77,14 +79,17 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
      */
     private T execute(final JDBCExecutionUnit jdbcExecutionUnit, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
         SQLExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
-        DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(jdbcExecutionUnit.getStorageResource().getConnection().getMetaData());
+        DatabaseMetaData databaseMetaData = jdbcExecutionUnit.getStorageResource().getConnection().getMetaData();
+        String url = databaseMetaData.getURL();
+        DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(url, databaseMetaData);
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        Optional<DataSourceStatistics> dataSourceStatistics = DataSourceStatisticsRegistry.findStatistics(url);
+        long startNanos = dataSourceStatistics.map(DataSourceStatistics::start).orElse(0L);
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
             sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), dataSourceMetaData, isTrunkThread, dataMap);
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode());
             sqlExecutionHook.finishSuccess();
-            finishReport(dataMap, jdbcExecutionUnit);
             return result;
         } catch (final SQLException ex) {
             if (!isTrunkThread) {
@@ -97,11 +102,13 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             sqlExecutionHook.finishFailure(ex);
             SQLExecutorExceptionHandler.handleException(ex);
             return null;
+        } finally {
+            dataSourceStatistics.ifPresent(optional -> optional.finish(startNanos));
+            finishReport(dataMap, jdbcExecutionUnit);
         }
     }
     
-    private DataSourceMetaData getDataSourceMetaData(final DatabaseMetaData metaData) throws SQLException {
-        String url = metaData.getURL();
+    private DataSourceMetaData getDataSourceMetaData(final String url, final DatabaseMetaData metaData) throws SQLException {
         if (CACHED_DATASOURCE_METADATA.containsKey(url)) {
             return CACHED_DATASOURCE_METADATA.get(url);
         }
@@ -19,15 +19,17 @@ package org.apache.shardingsphere.infra.executor.sql.process;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
 import org.apache.shardingsphere.infra.executor.sql.process.spi.ExecuteProcessReporter;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Execute process engine.
@@ -45,13 +47,19 @@ public final class ExecuteProcessEngine {
     /**
      * Initialize.
      *
-     * @param context context
+     * @param schemaName schema name
+     * @param logicSQL logic SQL
      * @param executionGroupContext execution group context
      */
-    public static void initialize(final SQLStatementContext<?> context, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext) {
-        if (!HANDLERS.isEmpty() && ExecuteProcessStrategyEvaluator.evaluate(context, executionGroupContext)) {
-            ExecutorDataMap.getValue().put(ExecuteProcessConstants.EXECUTE_ID.name(), executionGroupContext.getExecutionID());
-            HANDLERS.iterator().next().report(context, executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
+    public static void initialize(final String schemaName, final LogicSQL logicSQL, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext) {
+        if (!ExecuteProcessStrategyEvaluator.evaluate(logicSQL, executionGroupContext)
+                || !ExecuteProcessRegistry.register(new ExecuteProcessContext(schemaName, logicSQL.getSql(), executionGroupContext))) {
+            ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_ID.name());
+            return;
+        }
+        ExecutorDataMap.getValue().put(ExecuteProcessConstants.EXECUTE_ID.name(), executionGroupContext.getExecutionID());
+        for (ExecuteProcessReporter each : HANDLERS) {
+            each.report(schemaName, logicSQL.getSqlStatementContext(), executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START);
         }
     }
     
@@ -62,8 +70,39 @@ public final class ExecuteProcessEngine {
      * @param executionUnit execution unit
      */
     public static void finish(final String executionID, final SQLExecutionUnit executionUnit) {
-        if (!HANDLERS.isEmpty()) {
-            HANDLERS.iterator().next().report(executionID, executionUnit, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
+        ExecuteProcessRegistry.finish(executionID, executionUnit);
+        for (ExecuteProcessReporter each : HANDLERS) {
+            each.report(executionID, executionUnit, ExecuteProcessConstants.EXECUTE_STATUS_DONE);
         }
     }
+    
+    /**
+     * Clean execute process of current thread.
+     */
+    public static void clean() {
+        Object executionID = ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_ID.name());
+        if (null != executionID) {
+            ExecuteProcessRegistry.unregister(executionID.toString());
+        }
+    }
+    
+    /**
+     * Clean execute process.
+     *
+     * @param executionID execution ID
+     */
+    public static void clean(final String executionID) {
+        ExecuteProcessRegistry.unregister(executionID);
+    }
+    
+    /**
+     * Detach execute process from current thread without cleaning it.
+     * 
+     * <p>Streaming results are still fetched after execution returns, so the holder of results cleans the process by execution ID when they are closed.</p>
+     *
+     * @return execution ID of detached execute process
+     */
+    public static Optional<String> detach() {
+        return Optional.ofNullable(ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_ID.name())).map(Object::toString);
+    }
 }
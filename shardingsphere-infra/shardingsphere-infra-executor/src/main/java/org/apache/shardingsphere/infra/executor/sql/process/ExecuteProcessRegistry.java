@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.process;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Execute process registry.
+ * 
+ * <p>Holds in-flight processes of current instance only. Registration is rejected when the registry is full, so tracking never grows unbounded under load.</p>
+ * 
+ * <p>Tracking is disabled until a consumer of process lists is present, such as governance or SHOW PROCESSLIST of proxy.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecuteProcessRegistry {
+    
+    public static final int MAX_PROCESS_COUNT = 1024;
+    
+    private static final Map<String, ExecuteProcessContext> PROCESSES = new ConcurrentHashMap<>();
+    
+    private static final AtomicInteger PROCESS_COUNT = new AtomicInteger();
+    
+    private static volatile boolean enabled;
+    
+    /**
+     * Judge whether execute processes are tracked.
+     * 
+     * @return execute processes are tracked or not
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Set whether execute processes are tracked.
+     * 
+     * @param enabled execute processes are tracked or not
+     */
+    public static void setEnabled(final boolean enabled) {
+        ExecuteProcessRegistry.enabled = enabled;
+    }
+    
+    /**
+     * Register execute process.
+     * 
+     * @param processContext execute process context
+     * @return registered or not
+     */
+    public static boolean register(final ExecuteProcessContext processContext) {
+        int current;
+        do {
+            current = PROCESS_COUNT.get();
+            if (current >= MAX_PROCESS_COUNT) {
+                return false;
+            }
+        } while (!PROCESS_COUNT.compareAndSet(current, current + 1));
+        if (null != PROCESSES.putIfAbsent(processContext.getExecutionID(), processContext)) {
+            PROCESS_COUNT.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Finish execution unit of execute process.
+     * 
+     * @param executionID execution ID
+     * @param executionUnit SQL execution unit
+     */
+    public static void finish(final String executionID, final SQLExecutionUnit executionUnit) {
+        ExecuteProcessContext processContext = PROCESSES.get(executionID);
+        if (null != processContext) {
+            processContext.finish(executionUnit);
+        }
+    }
+    
+    /**
+     * Unregister execute process.
+     * 
+     * @param executionID execution ID
+     */
+    public static void unregister(final String executionID) {
+        if (null != PROCESSES.remove(executionID)) {
+            PROCESS_COUNT.decrementAndGet();
+        }
+    }
+    
+    /**
+     * Get all in-flight execute processes.
+     * 
+     * @return execute process contexts
+     */
+    public static Collection<ExecuteProcessContext> getAllProcessContexts() {
+        return new ArrayList<>(PROCESSES.values());
+    }
+}
@@ -19,7 +19,7 @@ package org.apache.shardingsphere.infra.executor.sql.process;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 
@@ -32,12 +32,12 @@ public final class ExecuteProcessStrategyEvaluator {
     /**
      * Evaluate.
      *
-     * @param context context
+     * @param logicSQL logic SQL
      * @param executionGroupContext execution group context
      * @return submit or not
      */
-    public static boolean evaluate(final SQLStatementContext<?> context, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext) {
+    public static boolean evaluate(final LogicSQL logicSQL, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext) {
         // TODO : Add more conditions to evaluate whether to submit this process task or not
-        return false;
+        return ExecuteProcessRegistry.isEnabled() && !executionGroupContext.getInputGroups().isEmpty();
     }
 }
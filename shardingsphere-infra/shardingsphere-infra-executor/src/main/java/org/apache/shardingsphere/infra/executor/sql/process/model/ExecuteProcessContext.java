@@ -23,30 +23,90 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Execute process context.
  */
-@Getter
 public final class ExecuteProcessContext {
     
+    @Getter
     private final String executionID;
     
-    private final Collection<ExecuteProcessUnit> unitStatuses;
+    @Getter
+    private final String schemaName;
     
-    public ExecuteProcessContext(final ExecutionGroupContext<SQLExecutionUnit> executionGroupContext) {
-        this.executionID = executionGroupContext.getExecutionID();
-        unitStatuses = createExecutionUnitStatuses(executionGroupContext);
+    @Getter
+    private final String sql;
+    
+    @Getter
+    private final long startTimeMillis;
+    
+    private final Map<String, ExecuteProcessUnit> unitStatuses;
+    
+    private final Map<SQLExecutionUnit, ExecuteProcessUnit> executionUnitStatuses;
+    
+    public ExecuteProcessContext(final String executionID, final String schemaName, final String sql, final long startTimeMillis, final Collection<ExecuteProcessUnit> unitStatuses) {
+        this.executionID = executionID;
+        this.schemaName = schemaName;
+        this.sql = sql;
+        this.startTimeMillis = startTimeMillis;
+        this.unitStatuses = new LinkedHashMap<>(unitStatuses.size(), 1);
+        for (ExecuteProcessUnit each : unitStatuses) {
+            this.unitStatuses.put(each.getUnitID(), each);
+        }
+        executionUnitStatuses = Collections.emptyMap();
     }
     
-    private Collection<ExecuteProcessUnit> createExecutionUnitStatuses(final ExecutionGroupContext<SQLExecutionUnit> executionGroupContext) {
-        Collection<ExecuteProcessUnit> result = new LinkedList<>();
-        for (ExecutionGroup<SQLExecutionUnit> group : executionGroupContext.getInputGroups()) {
+    public ExecuteProcessContext(final String schemaName, final String sql, final ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext) {
+        executionID = executionGroupContext.getExecutionID();
+        this.schemaName = schemaName;
+        this.sql = sql;
+        startTimeMillis = System.currentTimeMillis();
+        unitStatuses = new LinkedHashMap<>();
+        executionUnitStatuses = new IdentityHashMap<>();
+        for (ExecutionGroup<? extends SQLExecutionUnit> group : executionGroupContext.getInputGroups()) {
             for (SQLExecutionUnit each : group.getInputs()) {
-                result.add(new ExecuteProcessUnit(String.valueOf(each.getExecutionUnit().hashCode()), ExecuteProcessConstants.EXECUTE_STATUS_START));
+                ExecuteProcessUnit processUnit = new ExecuteProcessUnit(String.valueOf(unitStatuses.size()), each.getExecutionUnit());
+                unitStatuses.put(processUnit.getUnitID(), processUnit);
+                executionUnitStatuses.put(each, processUnit);
             }
         }
-        return result;
+    }
+    
+    /**
+     * Get execution unit statuses.
+     * 
+     * @return execution unit statuses
+     */
+    public Collection<ExecuteProcessUnit> getUnitStatuses() {
+        return unitStatuses.values();
+    }
+    
+    /**
+     * Mark execution unit as done.
+     * 
+     * @param unitID unit ID
+     */
+    public void finish(final String unitID) {
+        ExecuteProcessUnit processUnit = unitStatuses.get(unitID);
+        if (null != processUnit) {
+            processUnit.finish();
+        }
+    }
+    
+    /**
+     * Mark execution unit as done.
+     * 
+     * @param executionUnit SQL execution unit which is executed by this process
+     */
+    public void finish(final SQLExecutionUnit executionUnit) {
+        ExecuteProcessUnit processUnit = executionUnitStatuses.get(executionUnit);
+        if (null != processUnit) {
+            processUnit.finish();
+        }
     }
 }
@@ -17,17 +17,36 @@
 
 package org.apache.shardingsphere.infra.executor.sql.process.model;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
 /**
  * Execute process unit.
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 @Getter
 public final class ExecuteProcessUnit {
     
     private final String unitID;
     
-    private final ExecuteProcessConstants status;
+    private final String dataSourceName;
+    
+    private final String sql;
+    
+    private volatile ExecuteProcessConstants status;
+    
+    private volatile long finishTimeMillis;
+    
+    public ExecuteProcessUnit(final String unitID, final ExecutionUnit executionUnit) {
+        this(unitID, executionUnit.getDataSourceName(), executionUnit.getSqlUnit().getSql(), ExecuteProcessConstants.EXECUTE_STATUS_START, 0L);
+    }
+    
+    /**
+     * Mark this unit as done.
+     */
+    public void finish() {
+        finishTimeMillis = System.currentTimeMillis();
+        status = ExecuteProcessConstants.EXECUTE_STATUS_DONE;
+    }
 }
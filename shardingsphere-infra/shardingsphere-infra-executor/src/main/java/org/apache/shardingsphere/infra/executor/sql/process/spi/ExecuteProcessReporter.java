@@ -29,11 +29,12 @@ public interface ExecuteProcessReporter {
     
     /**
      * Report the summary of this task.
+     * @param schemaName schema name
      * @param context context
      * @param executionGroupContext execution group context
      * @param constants constants
      */
-    void report(SQLStatementContext<?> context, ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, ExecuteProcessConstants constants);
+    void report(String schemaName, SQLStatementContext<?> context, ExecutionGroupContext<? extends SQLExecutionUnit> executionGroupContext, ExecuteProcessConstants constants);
     
     /**
      * Report a unit of this task.
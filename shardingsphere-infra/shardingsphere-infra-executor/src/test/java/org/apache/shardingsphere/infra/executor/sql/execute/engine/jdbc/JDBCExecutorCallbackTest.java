@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.jdbc;
 
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.database.statistics.DataSourceStatistics;
+import org.apache.shardingsphere.infra.database.statistics.DataSourceStatisticsRegistry;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
@@ -32,6 +34,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import javax.sql.DataSource;
 import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -44,7 +47,9 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -94,5 +99,33 @@ public final class JDBCExecutorCallbackTest {
         assertThat(cachedDataSourceMetaData.size(), is(1));
         jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
         assertThat(cachedDataSourceMetaData.size(), is(1));
+        assertFalse(DataSourceStatisticsRegistry.findStatistics("jdbc:mysql://localhost:3306/test").isPresent());
+    }
+    
+    @Test
+    public void assertExecuteWithRegisteredDataSource() throws SQLException {
+        JDBCExecutorCallback<?> jdbcExecutorCallback = new JDBCExecutorCallback<Integer>(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), mock(SelectStatement.class), true) {
+            
+            @Override
+            protected Integer executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+                return ((PreparedStatement) statement).executeUpdate();
+            }
+            
+            @Override
+            protected Optional<Integer> getSaneResult(final SQLStatement sqlStatement) {
+                return Optional.of(0);
+            }
+        };
+        DataSource dataSource = mock(DataSource.class);
+        DataSourceStatisticsRegistry.register(dataSource, "jdbc:mysql://localhost:3306/test");
+        try {
+            jdbcExecutorCallback.execute(units, true, Collections.emptyMap());
+            Optional<DataSourceStatistics> dataSourceStatistics = DataSourceStatisticsRegistry.findStatistics("jdbc:mysql://localhost:3306/test");
+            assertTrue(dataSourceStatistics.isPresent());
+            assertThat(dataSourceStatistics.get().getInFlightCount(), is(0));
+            assertTrue(dataSourceStatistics.get().getLatencyNanos() > 0L);
+        } finally {
+            DataSourceStatisticsRegistry.unregister(dataSource);
+        }
     }
 }
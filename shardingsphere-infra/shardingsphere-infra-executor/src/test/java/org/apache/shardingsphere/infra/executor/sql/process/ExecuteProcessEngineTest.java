@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.process;
+
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ExecuteProcessEngineTest {
+    
+    private final LogicSQL logicSQL = new LogicSQL(mock(SQLStatementContext.class), "SELECT 1", Collections.emptyList());
+    
+    @Before
+    public void setUp() {
+        ExecuteProcessRegistry.setEnabled(true);
+    }
+    
+    @After
+    public void tearDown() {
+        ExecuteProcessEngine.clean();
+        ExecuteProcessRegistry.setEnabled(false);
+    }
+    
+    @Test
+    public void assertExecuteProcessLifecycle() {
+        JDBCExecutionUnit executionUnit = createExecutionUnit();
+        JDBCExecutionUnit sameExecutionUnit = createExecutionUnit();
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Arrays.asList(executionUnit, sameExecutionUnit))));
+        ExecuteProcessEngine.initialize("foo_db", logicSQL, executionGroupContext);
+        assertThat(ExecutorDataMap.getValue().get(ExecuteProcessConstants.EXECUTE_ID.name()), is(executionGroupContext.getExecutionID()));
+        Collection<ExecuteProcessContext> actual = ExecuteProcessRegistry.getAllProcessContexts();
+        assertThat(actual.size(), is(1));
+        ExecuteProcessContext processContext = actual.iterator().next();
+        assertThat(processContext.getSchemaName(), is("foo_db"));
+        assertThat(processContext.getSql(), is("SELECT 1"));
+        assertThat(processContext.getUnitStatuses().size(), is(2));
+        ExecuteProcessEngine.finish(executionGroupContext.getExecutionID(), sameExecutionUnit);
+        Iterator<ExecuteProcessUnit> unitStatuses = processContext.getUnitStatuses().iterator();
+        ExecuteProcessUnit firstUnit = unitStatuses.next();
+        assertThat(firstUnit.getUnitID(), is("0"));
+        assertThat(firstUnit.getDataSourceName(), is("ds_0"));
+        assertThat(firstUnit.getStatus(), is(ExecuteProcessConstants.EXECUTE_STATUS_START));
+        ExecuteProcessUnit secondUnit = unitStatuses.next();
+        assertThat(secondUnit.getUnitID(), is("1"));
+        assertThat(secondUnit.getStatus(), is(ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        ExecuteProcessEngine.clean();
+        assertFalse(ExecutorDataMap.getValue().containsKey(ExecuteProcessConstants.EXECUTE_ID.name()));
+        assertTrue(ExecuteProcessRegistry.getAllProcessContexts().isEmpty());
+    }
+    
+    @Test
+    public void assertDetachAndCleanByExecutionID() {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(createExecutionUnit()))));
+        ExecuteProcessEngine.initialize("foo_db", logicSQL, executionGroupContext);
+        Optional<String> actual = ExecuteProcessEngine.detach();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(executionGroupContext.getExecutionID()));
+        assertFalse(ExecutorDataMap.getValue().containsKey(ExecuteProcessConstants.EXECUTE_ID.name()));
+        assertThat(ExecuteProcessRegistry.getAllProcessContexts().size(), is(1));
+        ExecuteProcessEngine.clean(actual.get());
+        assertTrue(ExecuteProcessRegistry.getAllProcessContexts().isEmpty());
+    }
+    
+    @Test
+    public void assertInitializeWithoutExecutionGroup() {
+        ExecuteProcessEngine.initialize("foo_db", logicSQL, new ExecutionGroupContext<>(Collections.emptyList()));
+        assertFalse(ExecutorDataMap.getValue().containsKey(ExecuteProcessConstants.EXECUTE_ID.name()));
+        assertTrue(ExecuteProcessRegistry.getAllProcessContexts().isEmpty());
+    }
+    
+    @Test
+    public void assertInitializeWhenDisabled() {
+        ExecuteProcessRegistry.setEnabled(false);
+        ExecuteProcessEngine.initialize("foo_db", logicSQL, new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(createExecutionUnit())))));
+        assertFalse(ExecutorDataMap.getValue().containsKey(ExecuteProcessConstants.EXECUTE_ID.name()));
+        assertTrue(ExecuteProcessRegistry.getAllProcessContexts().isEmpty());
+    }
+    
+    private JDBCExecutionUnit createExecutionUnit() {
+        return new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.process;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ExecuteProcessRegistryTest {
+    
+    private final Collection<String> executionIDs = new LinkedList<>();
+    
+    @After
+    public void tearDown() {
+        executionIDs.forEach(ExecuteProcessRegistry::unregister);
+    }
+    
+    @Test
+    public void assertRegisterAndFinish() {
+        JDBCExecutionUnit executionUnit = new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class));
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(executionUnit))));
+        ExecuteProcessContext processContext = new ExecuteProcessContext("foo_db", "SELECT 1", executionGroupContext);
+        executionIDs.add(processContext.getExecutionID());
+        assertTrue(ExecuteProcessRegistry.register(processContext));
+        assertThat(ExecuteProcessRegistry.getAllProcessContexts().size(), is(1));
+        ExecuteProcessRegistry.finish(processContext.getExecutionID(), executionUnit);
+        ExecuteProcessUnit actual = processContext.getUnitStatuses().iterator().next();
+        assertThat(actual.getStatus(), is(ExecuteProcessConstants.EXECUTE_STATUS_DONE));
+        assertTrue(actual.getFinishTimeMillis() > 0L);
+        ExecuteProcessRegistry.unregister(processContext.getExecutionID());
+        assertTrue(ExecuteProcessRegistry.getAllProcessContexts().isEmpty());
+    }
+    
+    @Test
+    public void assertRegisterDuplicated() {
+        assertTrue(ExecuteProcessRegistry.register(createProcessContext("foo_id")));
+        assertFalse(ExecuteProcessRegistry.register(createProcessContext("foo_id")));
+        assertThat(ExecuteProcessRegistry.getAllProcessContexts().size(), is(1));
+    }
+    
+    @Test
+    public void assertRegisterWhenFull() {
+        for (int i = 0; i < ExecuteProcessRegistry.MAX_PROCESS_COUNT; i++) {
+            assertTrue(ExecuteProcessRegistry.register(createProcessContext("id_" + i)));
+        }
+        assertFalse(ExecuteProcessRegistry.register(createProcessContext("overflow_id")));
+        ExecuteProcessRegistry.unregister("id_0");
+        assertTrue(ExecuteProcessRegistry.register(createProcessContext("overflow_id")));
+    }
+    
+    private ExecuteProcessContext createProcessContext(final String executionID) {
+        executionIDs.add(executionID);
+        ExecuteProcessUnit unit = new ExecuteProcessUnit("unit_id", "ds_0", "SELECT 1", ExecuteProcessConstants.EXECUTE_STATUS_START, 0L);
+        return new ExecuteProcessContext(executionID, "foo_db", "SELECT 1", System.currentTimeMillis(), Collections.singletonList(unit));
+    }
+}
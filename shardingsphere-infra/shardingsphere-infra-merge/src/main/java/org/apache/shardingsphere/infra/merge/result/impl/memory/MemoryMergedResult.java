@@ -30,9 +30,11 @@ import java.sql.Clob;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLXML;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * Memory merged result.
@@ -41,6 +43,8 @@ import java.util.List;
  */
 public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult {
     
+    private final List<MemoryQueryResultRow> memoryQueryResultRowList;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     private MemoryQueryResultRow currentResultSetRow;
@@ -48,7 +52,7 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     private boolean wasNull;
     
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        List<MemoryQueryResultRow> memoryQueryResultRowList = init(rule, schema, sqlStatementContext, queryResults);
+        memoryQueryResultRowList = init(rule, schema, sqlStatementContext, queryResults);
         memoryResultSetRows = memoryQueryResultRowList.iterator();
         if (!memoryQueryResultRowList.isEmpty()) {
             currentResultSetRow = memoryQueryResultRowList.get(0);
@@ -57,6 +61,23 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     
     protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
+    /**
+     * Update values of one column in all rows.
+     *
+     * @param columnIndex column index
+     * @param updater updater to convert values of the column in all rows, values are in the order of rows
+     */
+    public final void updateColumnValues(final int columnIndex, final UnaryOperator<List<Object>> updater) {
+        List<Object> values = new ArrayList<>(memoryQueryResultRowList.size());
+        for (MemoryQueryResultRow each : memoryQueryResultRowList) {
+            values.add(each.getCell(columnIndex));
+        }
+        Iterator<Object> updatedValues = updater.apply(values).iterator();
+        for (MemoryQueryResultRow each : memoryQueryResultRowList) {
+            each.setCell(columnIndex, updatedValues.next());
+        }
+    }
+    
     @Override
     public final boolean next() {
         if (memoryResultSetRows.hasNext()) {
@@ -29,12 +29,14 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLXML;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class MemoryMergedResultTest {
@@ -61,6 +63,16 @@ public final class MemoryMergedResultTest {
         assertThat(memoryMergedResult.getValue(1, Object.class).toString(), is("1"));
     }
     
+    @Test
+    public void assertUpdateColumnValues() {
+        when(memoryResultSetRow.getCell(1)).thenReturn("1");
+        memoryMergedResult.updateColumnValues(1, values -> {
+            assertThat(values, is(Collections.<Object>singletonList("1")));
+            return Collections.singletonList("2");
+        });
+        verify(memoryResultSetRow).setCell(1, "2");
+    }
+    
     @Test(expected = SQLFeatureNotSupportedException.class)
     public void assertGetValueForBlob() throws SQLException {
         memoryMergedResult.getValue(1, Blob.class);
@@ -48,7 +48,7 @@ public final class CalciteExecutionContextGenerator {
      */
     public ExecutionContext generate() {
         RouteContext routeContext = getRouteContext(initialExecutionContext.getRouteContext());
-        return new ExecutionContext(initialExecutionContext.getSqlStatementContext(),
+        return new ExecutionContext(initialExecutionContext.getLogicSQL(),
                 getExecutionUnits(routeContext.getRouteUnits(), filter), routeContext);
     }
     
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.optimize.schema.table.execute;
 
 import org.apache.calcite.DataContext;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
@@ -43,7 +44,7 @@ public final class CalciteExecutionContextGeneratorTest {
     public void setUp() {
         RouteContext routeContext = new RouteContext();
         routeContext.getRouteUnits().addAll(getRouteUnits());
-        initialExecutionContext = new ExecutionContext(mock(SQLStatementContext.class), Collections.emptyList(), routeContext);
+        initialExecutionContext = new ExecutionContext(new LogicSQL(mock(SQLStatementContext.class), "", Collections.emptyList()), Collections.emptyList(), routeContext);
     }
     
     private Collection<RouteUnit> getRouteUnits() {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import org.apache.shardingsphere.sql.parser.api.SQLFastPathParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -28,11 +29,14 @@ import java.util.Properties;
  */
 public final class SQLStatementParserExecutor {
     
+    private final SQLFastPathParserEngine fastPathParserEngine;
+    
     private final SQLParserEngine parserEngine;
     
     private final SQLVisitorEngine visitorEngine;
     
     public SQLStatementParserExecutor(final String databaseType) {
+        fastPathParserEngine = new SQLFastPathParserEngine(databaseType);
         parserEngine = new SQLParserEngine(databaseType);
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties());
     }
@@ -44,6 +48,6 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        return fastPathParserEngine.parse(sql).orElseGet(() -> visitorEngine.visit(parserEngine.parse(sql, false)));
     }
 }
@@ -19,9 +19,16 @@ package org.apache.shardingsphere.infra.rewrite.engine;
 
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.InsertValuesRange;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.DefaultSQLBuilder;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Generic SQL rewrite engine.
  */
@@ -34,6 +41,18 @@ public final class GenericSQLRewriteEngine {
      * @return SQL rewrite result
      */
     public GenericSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext) {
-        return new GenericSQLRewriteResult(new SQLRewriteUnit(new DefaultSQLBuilder(sqlRewriteContext).toSQL(), sqlRewriteContext.getParameterBuilder().getParameters()));
+        DefaultSQLBuilder sqlBuilder = new DefaultSQLBuilder(sqlRewriteContext);
+        String sql = sqlBuilder.toSQL();
+        return new GenericSQLRewriteResult(new SQLRewriteUnit(sql, sqlRewriteContext.getParameterBuilder().getParameters(),
+                findInsertValuesRange(sqlBuilder, sqlRewriteContext.getParameterBuilder()).orElse(null)));
+    }
+    
+    private Optional<InsertValuesRange> findInsertValuesRange(final DefaultSQLBuilder sqlBuilder, final ParameterBuilder parameterBuilder) {
+        if (sqlBuilder.getInsertValuesStartIndex() < 0 || !(parameterBuilder instanceof GroupedParameterBuilder)) {
+            return Optional.empty();
+        }
+        List<StandardParameterBuilder> parameterBuilders = ((GroupedParameterBuilder) parameterBuilder).getParameterBuilders();
+        int parameterCount = parameterBuilders.stream().mapToInt(each -> each.getParameters().size()).sum();
+        return Optional.of(new InsertValuesRange(sqlBuilder.getInsertValuesStartIndex(), sqlBuilder.getInsertValuesStopIndex(), parameterBuilders.size(), parameterCount));
     }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.rewrite.engine;
 
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.engine.result.InsertValuesRange;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
@@ -33,6 +34,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Route SQL rewrite engine.
@@ -49,7 +51,10 @@ public final class RouteSQLRewriteEngine {
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1);
         for (RouteUnit each : routeContext.getRouteUnits()) {
-            result.put(each, new SQLRewriteUnit(new RouteSQLBuilder(sqlRewriteContext, each).toSQL(), getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each)));
+            RouteSQLBuilder sqlBuilder = new RouteSQLBuilder(sqlRewriteContext, each);
+            String sql = sqlBuilder.toSQL();
+            result.put(each, new SQLRewriteUnit(sql, getParameters(sqlRewriteContext.getParameterBuilder(), routeContext, each),
+                    findInsertValuesRange(sqlBuilder, sqlRewriteContext.getParameterBuilder(), routeContext, each).orElse(null)));
         }
         return new RouteSQLRewriteResult(result);
     }
@@ -75,6 +80,29 @@ public final class RouteSQLRewriteEngine {
         return result;
     }
     
+    private Optional<InsertValuesRange> findInsertValuesRange(final RouteSQLBuilder sqlBuilder, final ParameterBuilder parameterBuilder, final RouteContext routeContext, final RouteUnit routeUnit) {
+        if (sqlBuilder.getInsertValuesStartIndex() < 0 || !(parameterBuilder instanceof GroupedParameterBuilder)) {
+            return Optional.empty();
+        }
+        GroupedParameterBuilder groupedParameterBuilder = (GroupedParameterBuilder) parameterBuilder;
+        if (routeContext.getOriginalDataNodes().isEmpty()) {
+            int parameterCount = groupedParameterBuilder.getParameterBuilders().stream().mapToInt(each -> each.getParameters().size()).sum();
+            return Optional.of(new InsertValuesRange(
+                    sqlBuilder.getInsertValuesStartIndex(), sqlBuilder.getInsertValuesStopIndex(), groupedParameterBuilder.getParameterBuilders().size(), parameterCount));
+        }
+        int insertValueCount = 0;
+        int parameterCount = 0;
+        int count = 0;
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            if (isInSameDataNode(each, routeUnit)) {
+                insertValueCount++;
+                parameterCount += groupedParameterBuilder.getParameters(count).size();
+            }
+            count++;
+        }
+        return Optional.of(new InsertValuesRange(sqlBuilder.getInsertValuesStartIndex(), sqlBuilder.getInsertValuesStopIndex(), insertValueCount, parameterCount));
+    }
+    
     private boolean isInSameDataNode(final Collection<DataNode> dataNodes, final RouteUnit routeUnit) {
         if (dataNodes.isEmpty()) {
             return true;
@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.infra.rewrite.engine.result;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL rewrite unit.
@@ -32,4 +34,20 @@ public final class SQLRewriteUnit {
     private final String sql;
     
     private final List<Object> parameters;
+    
+    @Getter(AccessLevel.NONE)
+    private final InsertValuesRange insertValuesRange;
+    
+    public SQLRewriteUnit(final String sql, final List<Object> parameters) {
+        this(sql, parameters, null);
+    }
+    
+    /**
+     * Find range of insert values in SQL.
+     *
+     * @return range of insert values, empty if SQL has no rewritten insert values
+     */
+    public Optional<InsertValuesRange> findInsertValuesRange() {
+        return Optional.ofNullable(insertValuesRange);
+    }
 }
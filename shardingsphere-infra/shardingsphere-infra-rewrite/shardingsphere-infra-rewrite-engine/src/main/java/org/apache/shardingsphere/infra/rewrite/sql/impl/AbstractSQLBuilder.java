@@ -17,22 +17,32 @@
 
 package org.apache.shardingsphere.infra.rewrite.sql.impl;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.SQLBuilder;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
 
 import java.util.Collections;
 
 /**
  * Abstract SQL builder.
+ * 
+ * <p>Start and stop index of insert values token in built SQL are recorded, -1 if SQL has no insert values token.</p>
  */
 @RequiredArgsConstructor
 public abstract class AbstractSQLBuilder implements SQLBuilder {
     
     private final SQLRewriteContext context;
     
+    @Getter
+    private int insertValuesStartIndex = -1;
+    
+    @Getter
+    private int insertValuesStopIndex = -1;
+    
     @Override
     public final String toSQL() {
         if (context.getSqlTokens().isEmpty()) {
@@ -42,7 +52,12 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
         StringBuilder result = new StringBuilder();
         result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
         for (SQLToken each : context.getSqlTokens()) {
+            int tokenStartIndex = result.length();
             result.append(getSQLTokenText(each));
+            if (each instanceof InsertValuesToken) {
+                insertValuesStartIndex = tokenStartIndex;
+                insertValuesStopIndex = result.length() - 1;
+            }
             result.append(getConjunctionText(each));
         }
         return result.toString();
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.infra.rewrite.engine;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.InsertValuesToken;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -28,9 +30,11 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -109,4 +113,41 @@ public final class RouteSQLRewriteEngineTest {
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
         assertTrue(actual.getSqlRewriteUnits().get(routeUnit).getParameters().isEmpty());
     }
+    
+    @Test
+    public void assertRewriteWithInsertValuesToken() {
+        InsertStatementContext statementContext = mock(InsertStatementContext.class);
+        when(statementContext.getGroupedParameters()).thenReturn(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2)));
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(mock(ShardingSphereSchema.class), statementContext, "INSERT INTO tbl VALUES (?), (?)", Arrays.asList(1, 2));
+        sqlRewriteContext.getSqlTokens().add(new InsertValuesToken(23, 30) {
+            
+            @Override
+            public String toString() {
+                return "(?)";
+            }
+        });
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(routeUnit);
+        routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds.tbl_0")));
+        routeContext.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_1.tbl_1")));
+        SQLRewriteUnit actual = new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext).getSqlRewriteUnits().get(routeUnit);
+        assertThat(actual.getSql(), is("INSERT INTO tbl VALUES (?)"));
+        assertTrue(actual.findInsertValuesRange().isPresent());
+        assertThat(actual.findInsertValuesRange().get().getStartIndex(), is(23));
+        assertThat(actual.findInsertValuesRange().get().getStopIndex(), is(25));
+        assertThat(actual.findInsertValuesRange().get().getInsertValueCount(), is(1));
+        assertThat(actual.findInsertValuesRange().get().getParameterCount(), is(1));
+    }
+    
+    @Test
+    public void assertRewriteWithoutInsertValuesToken() {
+        InsertStatementContext statementContext = mock(InsertStatementContext.class);
+        when(statementContext.getGroupedParameters()).thenReturn(Collections.singletonList(Collections.singletonList(1)));
+        SQLRewriteContext sqlRewriteContext = new SQLRewriteContext(mock(ShardingSphereSchema.class), statementContext, "INSERT INTO tbl VALUES (?)", Collections.singletonList(1));
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(routeUnit);
+        assertFalse(new RouteSQLRewriteEngine().rewrite(sqlRewriteContext, routeContext).getSqlRewriteUnits().get(routeUnit).findInsertValuesRange().isPresent());
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.driver.executor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
@@ -67,31 +68,35 @@ public final class DriverJDBCExecutor {
      * Execute query.
      *
      * @param executionGroupContext execution group context
-     * @param sqlStatementContext SQL statement context
+     * @param logicSQL logic SQL
      * @param callback execute query callback
      * @return query results
      * @throws SQLException SQL exception
      */
     public List<QueryResult> executeQuery(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, 
-                                          final SQLStatementContext<?> sqlStatementContext, final ExecuteQueryCallback callback) throws SQLException {
-        ExecuteProcessEngine.initialize(sqlStatementContext, executionGroupContext);
-        return jdbcExecutor.execute(executionGroupContext, callback);
+                                          final LogicSQL logicSQL, final ExecuteQueryCallback callback) throws SQLException {
+        ExecuteProcessEngine.initialize(metaDataContexts.getDefaultMetaData().getName(), logicSQL, executionGroupContext);
+        try {
+            return jdbcExecutor.execute(executionGroupContext, callback);
+        } finally {
+            ExecuteProcessEngine.clean();
+        }
     }
     
     /**
      * Execute update.
      *
      * @param executionGroupContext execution group context
-     * @param sqlStatementContext SQL statement context
+     * @param logicSQL logic SQL
      * @param routeUnits route units
      * @param callback JDBC executor callback
      * @return effected records count
      * @throws SQLException SQL exception
      */
     public int executeUpdate(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
-                             final SQLStatementContext<?> sqlStatementContext, final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<Integer> callback) throws SQLException {
-        List<Integer> results = doExecute(executionGroupContext, sqlStatementContext.getSqlStatement(), routeUnits, callback);
-        return isNeedAccumulate(metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules(), sqlStatementContext) ? accumulate(results) : results.get(0);
+                             final LogicSQL logicSQL, final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<Integer> callback) throws SQLException {
+        List<Integer> results = doExecute(executionGroupContext, logicSQL, routeUnits, callback);
+        return isNeedAccumulate(metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules(), logicSQL.getSqlStatementContext()) ? accumulate(results) : results.get(0);
     }
     
     private boolean isNeedAccumulate(final Collection<ShardingSphereRule> rules, final SQLStatementContext<?> sqlStatementContext) {
@@ -106,23 +111,28 @@ public final class DriverJDBCExecutor {
      * Execute SQL.
      *
      * @param executionGroupContext execution group context
-     * @param sqlStatementContext SQL statement context
+     * @param logicSQL logic SQL
      * @param routeUnits route units
      * @param callback JDBC executor callback
      * @return return true if is DQL, false if is DML
      * @throws SQLException SQL exception
      */
-    public boolean execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final SQLStatementContext<?> sqlStatementContext,
+    public boolean execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final LogicSQL logicSQL,
                            final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<Boolean> callback) throws SQLException {
-        ExecuteProcessEngine.initialize(sqlStatementContext, executionGroupContext);
-        List<Boolean> results = doExecute(executionGroupContext, sqlStatementContext.getSqlStatement(), routeUnits, callback);
+        List<Boolean> results = doExecute(executionGroupContext, logicSQL, routeUnits, callback);
         return null != results && !results.isEmpty() && null != results.get(0) && results.get(0);
     }
     
-    private <T> List<T> doExecute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final SQLStatement sqlStatement,
+    private <T> List<T> doExecute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final LogicSQL logicSQL,
                                   final Collection<RouteUnit> routeUnits, final JDBCExecutorCallback<T> callback) throws SQLException {
-        List<T> results = jdbcExecutor.execute(executionGroupContext, callback);
-        refreshSchema(metaDataContexts.getDefaultMetaData(), sqlStatement, routeUnits);
+        ExecuteProcessEngine.initialize(metaDataContexts.getDefaultMetaData().getName(), logicSQL, executionGroupContext);
+        List<T> results;
+        try {
+            results = jdbcExecutor.execute(executionGroupContext, callback);
+        } finally {
+            ExecuteProcessEngine.clean();
+        }
+        refreshSchema(metaDataContexts.getDefaultMetaData(), logicSQL.getSqlStatementContext().getSqlStatement(), routeUnits);
         return results;
     }
     
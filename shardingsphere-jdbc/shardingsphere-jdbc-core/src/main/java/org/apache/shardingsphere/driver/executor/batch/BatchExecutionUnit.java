@@ -17,43 +17,139 @@
 
 package org.apache.shardingsphere.driver.executor.batch;
 
-import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Batch execution unit.
  */
-@RequiredArgsConstructor
 @Getter
 @EqualsAndHashCode(of = "executionUnit")
-@ToString
+@ToString(of = {"executionUnit", "actualCallAddBatchTimes"})
 public final class BatchExecutionUnit {
     
+    private static final int DEFAULT_CAPACITY = 16;
+    
     private final ExecutionUnit executionUnit;
     
-    private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
+    private final int insertValueCount;
+    
+    @Getter(AccessLevel.NONE)
+    private int[] jdbcAddBatchTimes = new int[DEFAULT_CAPACITY];
     
     @Getter(AccessLevel.NONE)
+    private Object[][] parameterSets = new Object[DEFAULT_CAPACITY][];
+    
+    private int rowCount;
+    
     private int actualCallAddBatchTimes;
     
+    public BatchExecutionUnit(final ExecutionUnit executionUnit) {
+        this(executionUnit, 1);
+    }
+    
+    public BatchExecutionUnit(final ExecutionUnit executionUnit, final int insertValueCount) {
+        this.executionUnit = executionUnit;
+        this.insertValueCount = insertValueCount;
+    }
+    
     /**
-     * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
+     * Map times of use JDBC API call addBatch and times of actual call addBatch after route with parameters of current execution unit.
      *
      * @param jdbcAddBatchTimes times of use JDBC API call addBatch
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
-        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        mapAddBatchCount(jdbcAddBatchTimes, executionUnit.getSqlUnit().getParameters());
+    }
+    
+    /**
+     * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
+     *
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch
+     * @param parameters parameters of actual call addBatch
+     */
+    public void mapAddBatchCount(final int jdbcAddBatchTimes, final List<Object> parameters) {
+        mapAddBatchCount(jdbcAddBatchTimes, parameters.toArray());
+    }
+    
+    private void mapAddBatchCount(final int jdbcAddBatchTimes, final Object[] parameters) {
+        if (rowCount == this.jdbcAddBatchTimes.length) {
+            this.jdbcAddBatchTimes = Arrays.copyOf(this.jdbcAddBatchTimes, rowCount << 1);
+            parameterSets = Arrays.copyOf(parameterSets, rowCount << 1);
+        }
+        this.jdbcAddBatchTimes[rowCount] = jdbcAddBatchTimes;
+        parameterSets[rowCount] = parameters;
+        rowCount++;
+        if (0 == rowCount % insertValueCount) {
+            actualCallAddBatchTimes++;
+        }
+    }
+    
+    /**
+     * Copy rows of other batch execution unit, every row will be an insert value of actual call addBatch.
+     *
+     * @param other other batch execution unit
+     * @param startRow start row index of other batch execution unit, inclusive
+     * @param stopRow stop row index of other batch execution unit, exclusive
+     */
+    public void copyRows(final BatchExecutionUnit other, final int startRow, final int stopRow) {
+        for (int i = startRow; i < stopRow; i++) {
+            mapAddBatchCount(other.jdbcAddBatchTimes[i], other.parameterSets[i]);
+        }
+    }
+    
+    /**
+     * Get parameter count of first row.
+     *
+     * @return parameter count of first row
+     */
+    public int getParameterCount() {
+        return 0 == rowCount ? 0 : parameterSets[0].length;
+    }
+    
+    /**
+     * Get estimated max size of parameters in one row.
+     *
+     * @return estimated max size of parameters in one row
+     */
+    public long getMaxRowParameterSize() {
+        long result = 0;
+        for (int i = 0; i < rowCount; i++) {
+            long rowSize = 0;
+            for (Object each : parameterSets[i]) {
+                rowSize += estimateParameterSize(each);
+            }
+            result = Math.max(result, rowSize);
+        }
+        return result;
+    }
+    
+    private long estimateParameterSize(final Object parameter) {
+        if (null == parameter) {
+            return 4;
+        }
+        if (parameter instanceof byte[]) {
+            return ((byte[]) parameter).length * 2 + 3;
+        }
+        return parameter.toString().length() + 2;
+    }
+    
+    /**
+     * Get times of use JDBC API call addBatch.
+     *
+     * @param row row index, which equals times of actual call addBatch after route if insert values are not coalesced
+     * @return times of use JDBC API call addBatch
+     */
+    public int getJdbcAddBatchTimes(final int row) {
+        return jdbcAddBatchTimes[row];
     }
     
     /**
@@ -62,11 +158,22 @@ public final class BatchExecutionUnit {
      * @return parameter sets
      */
     public List<List<Object>> getParameterSets() {
-        List<List<Object>> result = new LinkedList<>();
-        if (executionUnit.getSqlUnit().getParameters().isEmpty() || 0 == actualCallAddBatchTimes) {
-            result.add(Collections.emptyList());
-        } else {
-            result.addAll(Lists.partition(executionUnit.getSqlUnit().getParameters(), executionUnit.getSqlUnit().getParameters().size() / actualCallAddBatchTimes));
+        if (0 == actualCallAddBatchTimes || 0 == parameterSets[0].length) {
+            return Collections.singletonList(Collections.emptyList());
+        }
+        List<List<Object>> result = new ArrayList<>(actualCallAddBatchTimes);
+        if (1 == insertValueCount) {
+            for (int i = 0; i < actualCallAddBatchTimes; i++) {
+                result.add(Arrays.asList(parameterSets[i]));
+            }
+            return result;
+        }
+        for (int i = 0; i < actualCallAddBatchTimes; i++) {
+            List<Object> parameters = new ArrayList<>(parameterSets[i * insertValueCount].length * insertValueCount);
+            for (int j = i * insertValueCount; j < (i + 1) * insertValueCount; j++) {
+                parameters.addAll(Arrays.asList(parameterSets[j]));
+            }
+            result.add(parameters);
         }
         return result;
     }
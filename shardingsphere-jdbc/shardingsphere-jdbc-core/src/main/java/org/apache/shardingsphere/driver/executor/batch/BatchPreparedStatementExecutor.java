@@ -18,12 +18,13 @@
 package org.apache.shardingsphere.driver.executor.batch;
 
 import com.google.common.base.Preconditions;
-import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -37,10 +38,11 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -49,22 +51,25 @@ import java.util.stream.Collectors;
  */
 public final class BatchPreparedStatementExecutor {
     
+    private static final int MAX_PARAMETER_COUNT = 65535;
+    
     private final MetaDataContexts metaDataContexts;
     
     private final JDBCExecutor jdbcExecutor;
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits;
     
     private int batchCount;
     
+    private boolean insertValuesCoalesced;
+    
     public BatchPreparedStatementExecutor(final MetaDataContexts metaDataContexts, final JDBCExecutor jdbcExecutor) {
         this.metaDataContexts = metaDataContexts;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>());
-        batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnits = new LinkedHashMap<>();
     }
     
     /**
@@ -82,33 +87,76 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
+        for (ExecutionUnit each : executionUnits) {
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(each);
+                batchExecutionUnits.put(each, batchExecutionUnit);
+            }
+            batchExecutionUnit.mapAddBatchCount(batchCount, each.getSqlUnit().getParameters());
+        }
         batchCount++;
     }
     
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        return executionUnits.stream().map(BatchExecutionUnit::new).collect(Collectors.toList());
-    }
-    
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        batchExecutionUnits.stream().filter(each -> each.equals(batchExecutionUnit)).forEach(each -> reviseBatchExecutionUnit(each, batchExecutionUnit));
+    /**
+     * Coalesce single row insert values which route to same data source and actual table into multiple rows insert values.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param maxPacketSize max estimated packet size of coalesced insert SQL and parameters
+     */
+    public void coalesceInsertValues(final SQLStatementContext<?> sqlStatementContext, final long maxPacketSize) {
+        if (!(sqlStatementContext instanceof InsertStatementContext) || null != ((InsertStatementContext) sqlStatementContext).getInsertSelectContext()) {
+            return;
+        }
+        Map<ExecutionUnit, BatchExecutionUnit> coalescedBatchExecutionUnits = new LinkedHashMap<>(batchExecutionUnits.size() << 1, 1);
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            SQLUnit sqlUnit = each.getExecutionUnit().getSqlUnit();
+            Optional<InsertValuesSQLTemplate> sqlTemplate = 1 < each.getRowCount() && 0 < each.getParameterCount()
+                    ? sqlUnit.findInsertValuesRange().flatMap(optional -> InsertValuesSQLTemplate.create(sqlUnit.getSql(), optional, each.getParameterCount())) : Optional.empty();
+            if (sqlTemplate.isPresent()) {
+                coalesceInsertValues(each, sqlTemplate.get(), maxPacketSize).forEach(unit -> coalescedBatchExecutionUnits.put(unit.getExecutionUnit(), unit));
+                insertValuesCoalesced = true;
+            } else {
+                coalescedBatchExecutionUnits.put(each.getExecutionUnit(), each);
+            }
+        }
+        batchExecutionUnits.clear();
+        batchExecutionUnits.putAll(coalescedBatchExecutionUnits);
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
+    private Collection<BatchExecutionUnit> coalesceInsertValues(final BatchExecutionUnit batchExecutionUnit, final InsertValuesSQLTemplate sqlTemplate, final long maxPacketSize) {
+        long fixedSize = sqlTemplate.getPrefix().length() + sqlTemplate.getSuffix().length();
+        long rowSize = sqlTemplate.getInsertValue().length() + 2 + batchExecutionUnit.getMaxRowParameterSize();
+        int insertValueCount = (int) Math.min(batchExecutionUnit.getRowCount(), Math.max(1, (maxPacketSize - fixedSize) / rowSize));
+        insertValueCount = Math.max(1, Math.min(insertValueCount, MAX_PARAMETER_COUNT / batchExecutionUnit.getParameterCount()));
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        int coalescedRowCount = batchExecutionUnit.getRowCount() / insertValueCount * insertValueCount;
+        if (0 < coalescedRowCount) {
+            result.add(createCoalescedBatchExecutionUnit(batchExecutionUnit, sqlTemplate, insertValueCount, 0, coalescedRowCount));
+        }
+        if (coalescedRowCount < batchExecutionUnit.getRowCount()) {
+            int remainRowCount = batchExecutionUnit.getRowCount() - coalescedRowCount;
+            result.add(createCoalescedBatchExecutionUnit(batchExecutionUnit, sqlTemplate, remainRowCount, coalescedRowCount, batchExecutionUnit.getRowCount()));
+        }
+        return result;
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        newExecutionUnits.forEach(each -> each.mapAddBatchCount(batchCount));
-        batchExecutionUnits.addAll(newExecutionUnits);
+    private BatchExecutionUnit createCoalescedBatchExecutionUnit(final BatchExecutionUnit batchExecutionUnit, final InsertValuesSQLTemplate sqlTemplate,
+                                                                 final int insertValueCount, final int startRow, final int stopRow) {
+        ExecutionUnit executionUnit = batchExecutionUnit.getExecutionUnit();
+        SQLUnit sqlUnit = new SQLUnit(sqlTemplate.build(insertValueCount), new LinkedList<>(), executionUnit.getSqlUnit().getTableRouteMappers());
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), sqlUnit), insertValueCount);
+        result.copyRows(batchExecutionUnit, startRow, stopRow);
+        return result;
     }
     
     /**
@@ -138,7 +186,7 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(
+        return insertValuesCoalesced || isNeedAccumulate(
                 metaDataContexts.getDefaultMetaData().getRuleMetaData().getRules().stream().filter(rule -> rule instanceof DataNodeContainedRule).collect(Collectors.toList()), sqlStatementContext)
                 ? accumulate(results) : results.get(0);
     }
@@ -149,29 +197,36 @@ public final class BatchPreparedStatementExecutor {
     
     private int[] accumulate(final List<int[]> results) {
         int[] result = new int[batchCount];
-        int count = 0;
+        Iterator<int[]> resultIterator = results.iterator();
         for (ExecutionGroup<JDBCExecutionUnit> each : executionGroupContext.getInputGroups()) {
             for (JDBCExecutionUnit eachUnit : each.getInputs()) {
-                Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = Collections.emptyMap();
-                for (BatchExecutionUnit eachExecutionUnit : batchExecutionUnits) {
-                    if (isSameDataSourceAndSQL(eachExecutionUnit, eachUnit)) {
-                        jdbcAndActualAddBatchCallTimesMap = eachExecutionUnit.getJdbcAndActualAddBatchCallTimesMap();
-                        break;
-                    }
+                int[] actualResult = resultIterator.next();
+                BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(eachUnit.getExecutionUnit());
+                if (null != batchExecutionUnit) {
+                    accumulate(result, batchExecutionUnit, actualResult);
                 }
-                for (Entry<Integer, Integer> entry : jdbcAndActualAddBatchCallTimesMap.entrySet()) {
-                    int value = null == results.get(count) ? 0 : results.get(count)[entry.getValue()];
-                    result[entry.getKey()] += value;
-                }
-                count++;
             }
         }
         return result;
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+    private void accumulate(final int[] result, final BatchExecutionUnit batchExecutionUnit, final int[] actualResult) {
+        int insertValueCount = batchExecutionUnit.getInsertValueCount();
+        for (int i = 0; i < batchExecutionUnit.getActualCallAddBatchTimes(); i++) {
+            int updateCount = null == actualResult ? 0 : getRowUpdateCount(actualResult[i], insertValueCount);
+            for (int j = i * insertValueCount; j < (i + 1) * insertValueCount; j++) {
+                int jdbcAddBatchTimes = batchExecutionUnit.getJdbcAddBatchTimes(j);
+                result[jdbcAddBatchTimes] = Statement.SUCCESS_NO_INFO == updateCount || Statement.SUCCESS_NO_INFO == result[jdbcAddBatchTimes]
+                        ? Statement.SUCCESS_NO_INFO : result[jdbcAddBatchTimes] + updateCount;
+            }
+        }
+    }
+    
+    private int getRowUpdateCount(final int updateCount, final int insertValueCount) {
+        if (1 == insertValueCount || 0 == updateCount) {
+            return updateCount;
+        }
+        return insertValueCount == updateCount ? 1 : Statement.SUCCESS_NO_INFO;
     }
     
     /**
@@ -203,9 +258,9 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        Optional<BatchExecutionUnit> batchExecutionUnit = batchExecutionUnits.stream().filter(each -> isSameDataSourceAndSQL(each, executionUnit)).findFirst();
-        Preconditions.checkState(batchExecutionUnit.isPresent());
-        return batchExecutionUnit.get().getParameterSets();
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        Preconditions.checkState(null != batchExecutionUnit);
+        return batchExecutionUnit.getParameterSets();
     }
     
     /**
@@ -218,6 +273,7 @@ public final class BatchPreparedStatementExecutor {
         getStatements().clear();
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
+        insertValuesCoalesced = false;
         batchExecutionUnits.clear();
     }
     
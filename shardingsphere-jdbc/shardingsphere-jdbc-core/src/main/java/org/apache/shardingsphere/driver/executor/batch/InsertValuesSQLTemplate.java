@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.rewrite.engine.result.InsertValuesRange;
+
+import java.util.Optional;
+
+/**
+ * Template of single row insert values SQL, which can be expanded to multiple rows insert values SQL.
+ * 
+ * <p>Insert value is located by range of insert values token written by SQL rewrite, so SQL is never scanned again.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class InsertValuesSQLTemplate {
+    
+    private final String prefix;
+    
+    private final String insertValue;
+    
+    private final String suffix;
+    
+    /**
+     * Create insert values SQL template.
+     *
+     * @param sql actual insert SQL
+     * @param insertValuesRange range of insert values in actual insert SQL
+     * @param parameterCount parameter count of actual insert SQL
+     * @return insert values SQL template, empty if SQL has more than one insert value or has parameters out of insert value
+     */
+    public static Optional<InsertValuesSQLTemplate> create(final String sql, final InsertValuesRange insertValuesRange, final int parameterCount) {
+        if (1 != insertValuesRange.getInsertValueCount() || parameterCount != insertValuesRange.getParameterCount()) {
+            return Optional.empty();
+        }
+        int startIndex = insertValuesRange.getStartIndex();
+        int stopIndex = insertValuesRange.getStopIndex();
+        return Optional.of(new InsertValuesSQLTemplate(sql.substring(0, startIndex), sql.substring(startIndex, stopIndex + 1), sql.substring(stopIndex + 1)));
+    }
+    
+    /**
+     * Build insert SQL with multiple insert values.
+     *
+     * @param insertValueCount insert value count
+     * @return insert SQL with multiple insert values
+     */
+    public String build(final int insertValueCount) {
+        StringBuilder result = new StringBuilder(prefix.length() + suffix.length() + (insertValue.length() + 2) * insertValueCount);
+        result.append(prefix).append(insertValue);
+        for (int i = 1; i < insertValueCount; i++) {
+            result.append(", ").append(insertValue);
+        }
+        return result.append(suffix).toString();
+    }
+}
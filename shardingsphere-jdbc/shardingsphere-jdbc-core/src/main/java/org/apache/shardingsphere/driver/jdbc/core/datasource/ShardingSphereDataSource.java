@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKe
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContextsBuilder;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
+import org.apache.shardingsphere.infra.database.statistics.DataSourceStatisticsRegistry;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.context.TransactionContexts;
@@ -101,6 +102,7 @@ public final class ShardingSphereDataSource extends AbstractUnsupportedOperation
     }
     
     private void close(final DataSource dataSource) throws Exception {
+        DataSourceStatisticsRegistry.unregister(dataSource);
         if (dataSource instanceof AutoCloseable) {
             ((AutoCloseable) dataSource).close();
         }
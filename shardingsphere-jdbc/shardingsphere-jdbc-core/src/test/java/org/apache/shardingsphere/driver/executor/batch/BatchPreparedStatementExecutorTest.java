@@ -23,6 +23,16 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.driver.executor.AbstractBaseExecutorTest;
 import org.apache.shardingsphere.infra.binder.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rewrite.engine.result.InsertValuesRange;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
@@ -36,11 +46,15 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -127,16 +141,83 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement2).executeBatch();
     }
     
+    @Test
+    public void assertAddBatchForExecutionUnitsAcrossShards() {
+        int shardCount = 16;
+        int rowCount = 10000;
+        for (int i = 0; i < rowCount; i++) {
+            List<Object> parameters = new LinkedList<>();
+            parameters.add(i);
+            actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_" + i % shardCount, new SQLUnit(SQL, parameters))));
+        }
+        Collection<BatchExecutionUnit> batchExecutionUnits = actual.getBatchExecutionUnits();
+        assertThat(batchExecutionUnits.size(), is(shardCount));
+        int shardIndex = 0;
+        for (BatchExecutionUnit each : batchExecutionUnits) {
+            assertThat(each.getExecutionUnit().getDataSourceName(), is("ds_" + shardIndex));
+            assertThat(each.getActualCallAddBatchTimes(), is(rowCount / shardCount));
+            assertThat(each.getExecutionUnit().getSqlUnit().getParameters().size(), is(1));
+            List<List<Object>> parameterSets = each.getParameterSets();
+            assertThat(parameterSets.size(), is(rowCount / shardCount));
+            for (int i = 0; i < parameterSets.size(); i++) {
+                assertThat(each.getJdbcAddBatchTimes(i), is(i * shardCount + shardIndex));
+                assertThat(parameterSets.get(i), is(Collections.<Object>singletonList(i * shardCount + shardIndex)));
+            }
+            shardIndex++;
+        }
+    }
+    
+    @Test
+    public void assertExecuteBatchWithCoalescedInsertValues() throws SQLException {
+        String sql = "INSERT INTO t (id) VALUES (?)";
+        for (int i = 0; i < 7; i++) {
+            List<Object> parameters = new LinkedList<>();
+            parameters.add(i);
+            SQLUnit sqlUnit = new SQLUnit(sql, parameters, Collections.emptyList(), new InsertValuesRange(26, 28, 1, 1));
+            actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit(i < 5 ? "ds_0" : "ds_1", sqlUnit)));
+        }
+        InsertStatementContext insertStatementContext = createInsertStatementContext();
+        actual.coalesceInsertValues(insertStatementContext, 42L);
+        List<BatchExecutionUnit> batchExecutionUnits = new ArrayList<>(actual.getBatchExecutionUnits());
+        assertThat(batchExecutionUnits.size(), is(3));
+        assertThat(batchExecutionUnits.get(0).getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t (id) VALUES (?), (?)"));
+        assertThat(batchExecutionUnits.get(0).getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(0, 1), Arrays.<Object>asList(2, 3))));
+        assertThat(batchExecutionUnits.get(1).getExecutionUnit().getSqlUnit().getSql(), is(sql));
+        assertThat(batchExecutionUnits.get(1).getParameterSets(), is(Collections.singletonList(Collections.<Object>singletonList(4))));
+        assertThat(batchExecutionUnits.get(2).getExecutionUnit().getDataSourceName(), is("ds_1"));
+        assertThat(batchExecutionUnits.get(2).getParameterSets(), is(Collections.singletonList(Arrays.<Object>asList(5, 6))));
+        List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
+        executionUnits.add(createJDBCExecutionUnit(batchExecutionUnits.get(0), new int[] {2, 2}));
+        executionUnits.add(createJDBCExecutionUnit(batchExecutionUnits.get(1), new int[] {1}));
+        executionUnits.add(createJDBCExecutionUnit(batchExecutionUnits.get(2), new int[] {4}));
+        actual.init(new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(executionUnits))));
+        assertThat(actual.executeBatch(insertStatementContext), is(new int[] {1, 1, 1, 1, 1, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}));
+    }
+    
+    private InsertStatementContext createInsertStatementContext() {
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.setTable(new SimpleTableSegment(0, 0, new IdentifierValue("t")));
+        insertStatement.setInsertColumns(new InsertColumnsSegment(0, 0, Collections.singletonList(new ColumnSegment(0, 0, new IdentifierValue("id")))));
+        insertStatement.getValues().add(new InsertValuesSegment(0, 0, Collections.singletonList(new ParameterMarkerExpressionSegment(0, 0, 0))));
+        return new InsertStatementContext(mock(ShardingSphereSchema.class), Collections.singletonList(6), insertStatement);
+    }
+    
+    private JDBCExecutionUnit createJDBCExecutionUnit(final BatchExecutionUnit batchExecutionUnit, final int[] updateCounts) throws SQLException {
+        PreparedStatement preparedStatement = getPreparedStatement();
+        when(preparedStatement.executeBatch()).thenReturn(updateCounts);
+        return new JDBCExecutionUnit(batchExecutionUnit.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, preparedStatement);
+    }
+    
     private void setExecutionGroups(final List<PreparedStatement> preparedStatements) {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))),
                     ConnectionMode.MEMORY_STRICTLY, each));
         }
@@ -144,13 +225,14 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    @SuppressWarnings("unchecked")
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         Field field = BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext");
         field.setAccessible(true);
         field.set(actual, new ExecutionGroupContext<>(executionGroups));
         field = BatchPreparedStatementExecutor.class.getDeclaredField("batchExecutionUnits");
         field.setAccessible(true);
-        field.set(actual, batchExecutionUnits);
+        ((Map<ExecutionUnit, BatchExecutionUnit>) field.get(actual)).putAll(batchExecutionUnits);
         field = BatchPreparedStatementExecutor.class.getDeclaredField("batchCount");
         field.setAccessible(true);
         field.set(actual, 2);
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.rewrite.engine.result.InsertValuesRange;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InsertValuesSQLTemplateTest {
+    
+    @Test
+    public void assertCreateAndBuild() {
+        Optional<InsertValuesSQLTemplate> actual = InsertValuesSQLTemplate.create("INSERT INTO t_order_0 (order_id, user_id, status) VALUES (?, ?, 'init')", new InsertValuesRange(57, 70, 1, 2), 2);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getPrefix(), is("INSERT INTO t_order_0 (order_id, user_id, status) VALUES "));
+        assertThat(actual.get().getInsertValue(), is("(?, ?, 'init')"));
+        assertThat(actual.get().getSuffix(), is(""));
+        assertThat(actual.get().build(3), is("INSERT INTO t_order_0 (order_id, user_id, status) VALUES (?, ?, 'init'), (?, ?, 'init'), (?, ?, 'init')"));
+    }
+    
+    @Test
+    public void assertCreateWithCommentsAndQuotedCharacters() {
+        String sql = "INSERT /* VALUES (?) */ INTO t_order_0 (order_id, remark) VALUES (?, 'a) VALUES (?') -- VALUES (?)";
+        Optional<InsertValuesSQLTemplate> actual = InsertValuesSQLTemplate.create(sql, new InsertValuesRange(65, 83, 1, 1), 1);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getInsertValue(), is("(?, 'a) VALUES (?')"));
+        assertThat(actual.get().getSuffix(), is(" -- VALUES (?)"));
+    }
+    
+    @Test
+    public void assertCreateWithOnDuplicateKeyUpdateWithoutParameter() {
+        Optional<InsertValuesSQLTemplate> actual = InsertValuesSQLTemplate.create(
+                "INSERT INTO t_order_0 (order_id, status) VALUE (?, ?) ON DUPLICATE KEY UPDATE status = VALUES(status)", new InsertValuesRange(47, 52, 1, 2), 2);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().build(2), is("INSERT INTO t_order_0 (order_id, status) VALUE (?, ?), (?, ?) ON DUPLICATE KEY UPDATE status = VALUES(status)"));
+    }
+    
+    @Test
+    public void assertCreateWithParameterOutOfInsertValue() {
+        assertFalse(InsertValuesSQLTemplate.create("INSERT INTO t_order_0 (order_id, status) VALUES (?, ?) ON DUPLICATE KEY UPDATE status = ?", new InsertValuesRange(48, 53, 1, 2), 3).isPresent());
+    }
+    
+    @Test
+    public void assertCreateWithMultipleInsertValues() {
+        assertFalse(InsertValuesSQLTemplate.create("INSERT INTO t_order_0 (order_id) VALUES (?), (?)", new InsertValuesRange(40, 47, 2, 2), 2).isPresent());
+    }
+}
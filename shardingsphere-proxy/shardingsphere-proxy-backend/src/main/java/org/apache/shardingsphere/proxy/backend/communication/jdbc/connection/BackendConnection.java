@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.metadata.auth.model.user.Grantee;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.optimize.execute.CalciteExecutor;
@@ -35,6 +36,7 @@ import org.apache.shardingsphere.infra.spi.typed.TypedSPIRegistry;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.StatementMemoryStrictlyFetchSizeSetter;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.TransactionStatus;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.readwrite.splitting.route.engine.impl.PrimaryWrittenContext;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.Connection;
@@ -78,12 +80,16 @@ public final class BackendConnection implements ExecutorJDBCManager {
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<String> executeProcessIDs = new CopyOnWriteArrayList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new LinkedList<>();
     
     private final ResourceLock resourceLock = new ResourceLock();
     
     private final ConnectionStatus connectionStatus = new ConnectionStatus();
     
+    private final PrimaryWrittenContext primaryWrittenContext = new PrimaryWrittenContext();
+    
     private final TransactionStatus transactionStatus;
     
     public BackendConnection(final TransactionType initialTransactionType) {
@@ -230,6 +236,15 @@ public final class BackendConnection implements ExecutorJDBCManager {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add execute process which is cleaned when result sets close.
+     *
+     * @param executionID execution ID of execute process
+     */
+    public void addExecuteProcess(final String executionID) {
+        executeProcessIDs.add(executionID);
+    }
+    
     /**
      * Close result sets.
      *
@@ -245,6 +260,10 @@ public final class BackendConnection implements ExecutorJDBCManager {
             }
         }
         cachedResultSets.clear();
+        for (String each : executeProcessIDs) {
+            ExecuteProcessEngine.clean(each);
+        }
+        executeProcessIDs.clear();
         return result;
     }
     
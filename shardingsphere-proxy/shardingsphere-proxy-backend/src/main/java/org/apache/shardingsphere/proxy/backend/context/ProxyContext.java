@@ -21,6 +21,7 @@ import com.google.common.base.Strings;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessRegistry;
 import org.apache.shardingsphere.infra.lock.ShardingSphereLock;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.state.StateContext;
@@ -65,12 +66,15 @@ public final class ProxyContext {
     /**
      * Initialize proxy meta data contexts.
      *
+     * <p>Execute processes are tracked from now on, because proxy answers SHOW PROCESSLIST.</p>
+     *
      * @param metaDataContexts meta data contexts
      * @param transactionContexts transaction manager engine contexts
      */
     public void init(final MetaDataContexts metaDataContexts, final TransactionContexts transactionContexts) {
         this.metaDataContexts = metaDataContexts;
         this.transactionContexts = transactionContexts;
+        ExecuteProcessRegistry.setEnabled(true);
     }
     
     /**
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
+import org.apache.shardingsphere.infra.metadata.auth.model.privilege.PrivilegeType;
+import org.apache.shardingsphere.infra.metadata.auth.model.privilege.ShardingSpherePrivilege;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.text.admin.executor.DatabaseAdminQueryExecutor;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Show process list executor.
+ * 
+ * <p>One row is returned for each execution unit of in-flight processes, so slow data sources of one logic SQL are easy to find.
+ * Info is the logic SQL, and ActualSQL is the SQL executed on the data source.</p>
+ */
+@Getter
+public final class ShowProcessListExecutor implements DatabaseAdminQueryExecutor {
+    
+    private QueryResultMetaData queryResultMetaData;
+    
+    private MergedResult mergedResult;
+    
+    @Override
+    public void execute(final BackendConnection backendConnection) {
+        queryResultMetaData = createQueryResultMetaData();
+        mergedResult = new TransparentMergedResult(getQueryResult(backendConnection));
+    }
+    
+    private QueryResult getQueryResult(final BackendConnection backendConnection) {
+        Optional<ShardingSpherePrivilege> privilege = ProxyContext.getInstance().getMetaDataContexts().getAuthentication().findPrivilege(backendConnection.getGrantee());
+        if (!privilege.isPresent() || !privilege.get().hasPrivileges(Collections.singletonList(PrivilegeType.PROCESS))) {
+            return new RawMemoryQueryResult(queryResultMetaData, Collections.emptyList());
+        }
+        List<MemoryQueryResultDataRow> rows = new LinkedList<>();
+        long currentTimeMillis = System.currentTimeMillis();
+        for (Entry<String, Collection<ExecuteProcessContext>> entry : ProxyContext.getInstance().getMetaDataContexts().getExecuteProcessContexts().entrySet()) {
+            for (ExecuteProcessContext each : entry.getValue()) {
+                rows.addAll(createRows(entry.getKey(), each, currentTimeMillis));
+            }
+        }
+        return new RawMemoryQueryResult(queryResultMetaData, rows);
+    }
+    
+    private Collection<MemoryQueryResultDataRow> createRows(final String instanceId, final ExecuteProcessContext processContext, final long currentTimeMillis) {
+        Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+        for (ExecuteProcessUnit each : processContext.getUnitStatuses()) {
+            boolean isDone = ExecuteProcessConstants.EXECUTE_STATUS_DONE == each.getStatus();
+            long elapsedSeconds = ((isDone ? each.getFinishTimeMillis() : currentTimeMillis) - processContext.getStartTimeMillis()) / 1000L;
+            result.add(new MemoryQueryResultDataRow(Arrays.asList(
+                    processContext.getExecutionID(), instanceId, processContext.getSchemaName(), each.getDataSourceName(), "Execute", elapsedSeconds, isDone ? "Done" : "Executing",
+                    processContext.getSql(), each.getSql())));
+        }
+        return result;
+    }
+    
+    private QueryResultMetaData createQueryResultMetaData() {
+        return new RawQueryResultMetaData(Arrays.asList(
+                createColumnMetaData("Id", Types.VARCHAR, "VARCHAR", 64), createColumnMetaData("Host", Types.VARCHAR, "VARCHAR", 255),
+                createColumnMetaData("db", Types.VARCHAR, "VARCHAR", 64), createColumnMetaData("DataSource", Types.VARCHAR, "VARCHAR", 64),
+                createColumnMetaData("Command", Types.VARCHAR, "VARCHAR", 16), createColumnMetaData("Time", Types.BIGINT, "BIGINT", 20),
+                createColumnMetaData("State", Types.VARCHAR, "VARCHAR", 16), createColumnMetaData("Info", Types.VARCHAR, "VARCHAR", 65535),
+                createColumnMetaData("ActualSQL", Types.VARCHAR, "VARCHAR", 65535)));
+    }
+    
+    private RawQueryResultColumnMetaData createColumnMetaData(final String columnName, final int dataType, final String dataTypeName, final int length) {
+        return new RawQueryResultColumnMetaData("PROCESSLIST", columnName, columnName, dataType, dataTypeName, length, 0);
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.text.distsql.ral;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.distsql.parser.statement.ral.impl.AlterScalingJobRateLimitStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.impl.CheckScalingJobStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.impl.DropScalingJobStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.impl.ResetScalingJobStatement;
@@ -27,6 +28,7 @@ import org.apache.shardingsphere.distsql.parser.statement.ral.impl.ShowScalingJo
 import org.apache.shardingsphere.distsql.parser.statement.ral.impl.StartScalingJobStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.impl.StopScalingJobStatement;
 import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl.AlterScalingJobRateLimitBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl.CheckScalingJobBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl.DropScalingJobBackendHandler;
 import org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl.ResetScalingJobBackendHandler;
@@ -72,6 +74,9 @@ public final class RALBackendHandlerFactory {
         if (sqlStatement instanceof CheckScalingJobStatement) {
             return Optional.of(new CheckScalingJobBackendHandler((CheckScalingJobStatement) sqlStatement));
         }
+        if (sqlStatement instanceof AlterScalingJobRateLimitStatement) {
+            return Optional.of(new AlterScalingJobRateLimitBackendHandler((AlterScalingJobRateLimitStatement) sqlStatement));
+        }
         return Optional.empty();
     }
 }
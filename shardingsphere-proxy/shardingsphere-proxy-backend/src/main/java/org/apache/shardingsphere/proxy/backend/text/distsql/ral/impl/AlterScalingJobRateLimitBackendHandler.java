@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.distsql.ral.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.distsql.parser.statement.ral.impl.AlterScalingJobRateLimitStatement;
+import org.apache.shardingsphere.proxy.backend.exception.ScalingJobOperateException;
+import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.scaling.core.api.ScalingAPI;
+import org.apache.shardingsphere.scaling.core.api.ScalingAPIFactory;
+import org.apache.shardingsphere.scaling.core.config.RateLimitConfiguration;
+
+/**
+ * Alter scaling job rate limit backend handler.
+ */
+@RequiredArgsConstructor
+public final class AlterScalingJobRateLimitBackendHandler implements TextProtocolBackendHandler {
+    
+    private final AlterScalingJobRateLimitStatement sqlStatement;
+    
+    private final ScalingAPI scalingAPI = ScalingAPIFactory.getScalingAPI();
+    
+    @Override
+    public ResponseHeader execute() {
+        RateLimitConfiguration rateLimitConfig = scalingAPI.getJobConfig(sqlStatement.getJobId()).getHandleConfig().getRateLimitConfig();
+        if (null == rateLimitConfig) {
+            rateLimitConfig = new RateLimitConfiguration();
+        }
+        for (String each : sqlStatement.getProps().stringPropertyNames()) {
+            setRateLimit(rateLimitConfig, each, Long.parseLong(sqlStatement.getProps().getProperty(each)));
+        }
+        scalingAPI.updateRateLimit(sqlStatement.getJobId(), rateLimitConfig);
+        return new UpdateResponseHeader(sqlStatement);
+    }
+    
+    private void setRateLimit(final RateLimitConfiguration rateLimitConfig, final String key, final long value) {
+        switch (key.toLowerCase()) {
+            case "max_rows_per_second":
+                rateLimitConfig.setMaxRowsPerSecond(value);
+                break;
+            case "max_bytes_per_second":
+                rateLimitConfig.setMaxBytesPerSecond(value);
+                break;
+            case "max_latency_milliseconds":
+                rateLimitConfig.setMaxLatencyMilliseconds(value);
+                break;
+            case "max_lag_milliseconds":
+                rateLimitConfig.setMaxLagMilliseconds(value);
+                break;
+            case "max_threads_running":
+                rateLimitConfig.setMaxThreadsRunning(value);
+                break;
+            default:
+                throw new ScalingJobOperateException(String.format("Unsupported rate limit property `%s`", key));
+        }
+    }
+}
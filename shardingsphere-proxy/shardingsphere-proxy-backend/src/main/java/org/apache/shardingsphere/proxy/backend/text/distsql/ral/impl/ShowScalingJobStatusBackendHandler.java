@@ -59,6 +59,8 @@ public final class ShowScalingJobStatusBackendHandler implements TextProtocolBac
         result.add(new QueryHeader("", "", "status", "", Types.CHAR, "CHAR", 255, 0, false, false, false, false));
         result.add(new QueryHeader("", "", "inventory_finished_percentage", "", Types.TINYINT, "TINYINT", 255, 0, false, false, false, false));
         result.add(new QueryHeader("", "", "incremental_delay_milliseconds", "", Types.BIGINT, "BIGINT", 255, 0, false, false, false, false));
+        result.add(new QueryHeader("", "", "rows_per_second", "", Types.BIGINT, "BIGINT", 255, 0, false, false, false, false));
+        result.add(new QueryHeader("", "", "bytes_per_second", "", Types.BIGINT, "BIGINT", 255, 0, false, false, false, false));
         return result;
     }
     
@@ -78,6 +80,8 @@ public final class ShowScalingJobStatusBackendHandler implements TextProtocolBac
                         map.put("data_source", entry.getValue().getDataSource());
                         map.put("inventory_finished_percentage", entry.getValue().getInventoryFinishedPercentage());
                         map.put("incremental_delay_milliseconds", entry.getValue().getIncrementalDelayMilliseconds());
+                        map.put("rows_per_second", entry.getValue().getRowsPerSecond());
+                        map.put("bytes_per_second", entry.getValue().getBytesPerSecond());
                     }
                     return map;
                 })
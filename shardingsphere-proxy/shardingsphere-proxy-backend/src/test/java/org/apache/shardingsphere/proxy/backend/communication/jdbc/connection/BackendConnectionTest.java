@@ -19,13 +19,22 @@ package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 
 import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.metadata.auth.builtin.DefaultAuthentication;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
+import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessRegistry;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.BackendTransactionManager;
@@ -48,6 +57,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -289,6 +299,22 @@ public final class BackendConnectionTest {
         assertTrue(cachedResultSets.isEmpty());
     }
     
+    @Test
+    public void assertCloseResultSetsWithExecuteProcess() {
+        ExecuteProcessRegistry.setEnabled(true);
+        try {
+            ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(
+                    new JDBCExecutionUnit(new ExecutionUnit("ds1", new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class))))));
+            ExecuteProcessEngine.initialize("schema", new LogicSQL(mock(SQLStatementContext.class), "SELECT 1", Collections.emptyList()), executionGroupContext);
+            ExecuteProcessEngine.detach().ifPresent(backendConnection::addExecuteProcess);
+            assertThat(ExecuteProcessRegistry.getAllProcessContexts().size(), is(1));
+            backendConnection.closeResultSets();
+            assertTrue(ExecuteProcessRegistry.getAllProcessContexts().isEmpty());
+        } finally {
+            ExecuteProcessRegistry.setEnabled(false);
+        }
+    }
+    
     @Test
     public void assertCloseResultSetsWithExceptionThrown() throws NoSuchFieldException, SQLException, IllegalAccessException {
         Field field = backendConnection.getClass().getDeclaredField("cachedResultSets");
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.text.admin.mysql.executor;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.metadata.impl.StandardMetaDataContexts;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessRegistry;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessContext;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessUnit;
+import org.apache.shardingsphere.infra.metadata.auth.builtin.DefaultAuthentication;
+import org.apache.shardingsphere.infra.metadata.auth.model.privilege.ShardingSpherePrivilege;
+import org.apache.shardingsphere.infra.metadata.auth.model.user.Grantee;
+import org.apache.shardingsphere.infra.metadata.auth.model.user.ShardingSphereUser;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ShowProcessListExecutorTest {
+    
+    @Before
+    public void setUp() throws NoSuchFieldException, IllegalAccessException {
+        Field metaDataContexts = ProxyContext.getInstance().getClass().getDeclaredField("metaDataContexts");
+        metaDataContexts.setAccessible(true);
+        metaDataContexts.set(ProxyContext.getInstance(),
+                new StandardMetaDataContexts(new LinkedHashMap<>(), mock(ExecutorEngine.class), getAuthentication(), new ConfigurationProperties(new Properties())));
+        ExecuteProcessUnit doneUnit = new ExecuteProcessUnit("unit_0", "ds_0", "SELECT * FROM t_order_0", ExecuteProcessConstants.EXECUTE_STATUS_DONE, 2000L);
+        ExecuteProcessUnit executingUnit = new ExecuteProcessUnit("unit_1", "ds_1", "SELECT * FROM t_order_1", ExecuteProcessConstants.EXECUTE_STATUS_START, 0L);
+        ExecuteProcessRegistry.register(new ExecuteProcessContext("foo_id", "sharding_db", "SELECT * FROM t_order", 0L, Arrays.asList(doneUnit, executingUnit)));
+    }
+    
+    private DefaultAuthentication getAuthentication() {
+        DefaultAuthentication result = new DefaultAuthentication();
+        ShardingSpherePrivilege privilege = new ShardingSpherePrivilege();
+        privilege.setSuperPrivilege();
+        result.getAuthentication().put(new ShardingSphereUser("root", "root", ""), privilege);
+        result.getAuthentication().put(new ShardingSphereUser("user", "user", ""), new ShardingSpherePrivilege());
+        return result;
+    }
+    
+    @After
+    public void tearDown() {
+        ExecuteProcessRegistry.unregister("foo_id");
+    }
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        ShowProcessListExecutor executor = new ShowProcessListExecutor();
+        executor.execute(mockBackendConnection("root"));
+        assertThat(executor.getQueryResultMetaData().getColumnCount(), is(9));
+        assertTrue(executor.getMergedResult().next());
+        assertThat(executor.getMergedResult().getValue(1, Object.class), is("foo_id"));
+        assertThat(executor.getMergedResult().getValue(3, Object.class), is("sharding_db"));
+        assertThat(executor.getMergedResult().getValue(4, Object.class), is("ds_0"));
+        assertThat(executor.getMergedResult().getValue(6, Object.class), is(2L));
+        assertThat(executor.getMergedResult().getValue(7, Object.class), is("Done"));
+        assertTrue(executor.getMergedResult().next());
+        assertThat(executor.getMergedResult().getValue(4, Object.class), is("ds_1"));
+        assertThat(executor.getMergedResult().getValue(7, Object.class), is("Executing"));
+        assertThat(executor.getMergedResult().getValue(8, Object.class), is("SELECT * FROM t_order"));
+        assertThat(executor.getMergedResult().getValue(9, Object.class), is("SELECT * FROM t_order_1"));
+        assertFalse(executor.getMergedResult().next());
+    }
+    
+    @Test
+    public void assertExecuteWithoutProcessPrivilege() throws SQLException {
+        ShowProcessListExecutor executor = new ShowProcessListExecutor();
+        executor.execute(mockBackendConnection("user"));
+        assertFalse(executor.getMergedResult().next());
+    }
+    
+    private BackendConnection mockBackendConnection(final String username) {
+        BackendConnection result = mock(BackendConnection.class);
+        when(result.getGrantee()).thenReturn(new Grantee(username, ""));
+        return result;
+    }
+}
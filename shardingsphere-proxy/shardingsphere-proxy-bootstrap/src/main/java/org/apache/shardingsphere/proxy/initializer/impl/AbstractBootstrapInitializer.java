@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.proxy.initializer.impl;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLServerInfo;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceParameter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContexts;
 import org.apache.shardingsphere.infra.context.metadata.MetaDataContextsBuilder;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource.factory.JDBCRawBackendDataSourceFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -32,17 +34,25 @@ import org.apache.shardingsphere.proxy.database.DatabaseServerInfo;
 import org.apache.shardingsphere.proxy.frontend.ShardingSphereProxy;
 import org.apache.shardingsphere.proxy.initializer.BootstrapInitializer;
 import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.sql.parser.api.SQLParserWarmUpEngine;
 import org.apache.shardingsphere.transaction.ShardingTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.context.TransactionContexts;
 import org.apache.shardingsphere.transaction.context.impl.StandardTransactionContexts;
 
 import javax.sql.DataSource;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -51,6 +61,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public abstract class AbstractBootstrapInitializer implements BootstrapInitializer {
     
+    private static final long SQL_PARSER_FALLBACK_REPORT_INTERVAL_MINUTES = 10L;
+    
     private final ShardingSphereProxy shardingSphereProxy = new ShardingSphereProxy();
     
     @Override
@@ -62,6 +74,8 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
         ProxyContext.getInstance().init(metaDataContexts, transactionContexts);
         setDatabaseServerInfo();
         initScalingWorker(yamlConfig);
+        warmUpSQLParser(metaDataContexts);
+        startSQLParserFallbackStatisticsReport();
         shardingSphereProxy.start(port);
     }
     
@@ -117,6 +131,41 @@ public abstract class AbstractBootstrapInitializer implements BootstrapInitializ
         return Optional.empty();
     }
     
+    private void warmUpSQLParser(final MetaDataContexts metaDataContexts) {
+        if (!metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_ENABLED)) {
+            return;
+        }
+        String corpusFile = metaDataContexts.getProps().getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_CORPUS_FILE);
+        for (String each : getTrunkDatabaseTypeNames(metaDataContexts)) {
+            long startTimeMillis = System.currentTimeMillis();
+            SQLParserWarmUpEngine warmUpEngine = new SQLParserWarmUpEngine(each);
+            int parsedCount;
+            try {
+                parsedCount = corpusFile.isEmpty() ? warmUpEngine.warmUp() : warmUpEngine.warmUp(Paths.get(corpusFile));
+            } catch (final InvalidPathException ex) {
+                log.warn("Skip warm up SQL parser, corpus file `{}` is invalid.", corpusFile, ex);
+                return;
+            }
+            log.info("Warm up SQL parser of {} with {} SQL in {} ms.", each, parsedCount, System.currentTimeMillis() - startTimeMillis);
+        }
+    }
+    
+    private void startSQLParserFallbackStatisticsReport() {
+        SQLParserFallbackStatisticsReporter reporter = new SQLParserFallbackStatisticsReporter();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SQLParserFallbackReport-%d").build());
+        executor.scheduleWithFixedDelay(reporter, SQL_PARSER_FALLBACK_REPORT_INTERVAL_MINUTES, SQL_PARSER_FALLBACK_REPORT_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        Runtime.getRuntime().addShutdownHook(new Thread(reporter));
+    }
+    
+    private Collection<String> getTrunkDatabaseTypeNames(final MetaDataContexts metaDataContexts) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (String each : metaDataContexts.getAllSchemaNames()) {
+            result.add(DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getMetaData(each).getResource().getDatabaseType()));
+        }
+        return result;
+    }
+    
     protected Optional<ServerConfiguration> getScalingConfiguration(final YamlProxyConfiguration yamlConfig) {
         if (null != yamlConfig.getServerConfiguration().getScaling()) {
             ServerConfiguration result = new ServerConfiguration();
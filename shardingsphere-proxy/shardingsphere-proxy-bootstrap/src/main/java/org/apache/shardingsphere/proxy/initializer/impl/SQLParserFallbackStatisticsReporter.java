@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.initializer.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.sql.parser.api.SQLParserFallbackStatistics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * SQL parser fallback statistics reporter.
+ * 
+ * <p>Log SLL to LL fallback counts of SQL parser if changed since last report.</p>
+ */
+@Slf4j
+final class SQLParserFallbackStatisticsReporter implements Runnable {
+    
+    private Map<String, Map<String, Long>> reportedFallbackCounts = Collections.emptyMap();
+    
+    @Override
+    public void run() {
+        report();
+    }
+    
+    synchronized boolean report() {
+        Map<String, Map<String, Long>> fallbackCounts = SQLParserFallbackStatistics.getAllFallbackCounts();
+        if (fallbackCounts.isEmpty() || fallbackCounts.equals(reportedFallbackCounts)) {
+            return false;
+        }
+        reportedFallbackCounts = fallbackCounts;
+        for (Entry<String, Map<String, Long>> entry : fallbackCounts.entrySet()) {
+            log.info("SQL parser of {} fell back from SLL to LL prediction mode, counts by statement type: {}.", entry.getKey(), entry.getValue());
+        }
+        return true;
+    }
+}
@@ -68,6 +68,7 @@ public final class CommandExecutorTask implements Runnable {
                 connectionStatus.waitUntilConnectionRelease();
                 connectionStatus.switchToUsing();
             }
+            PrimaryVisitedManager.setPrimaryWrittenContext(backendConnection.getPrimaryWrittenContext());
             isNeedFlush = executeCommand(context, payload, backendConnection);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
@@ -113,6 +114,7 @@ public final class CommandExecutorTask implements Runnable {
     
     private Collection<SQLException> closeExecutionResources() {
         Collection<SQLException> result = new LinkedList<>();
+        backendConnection.getPrimaryWrittenContext().completeWrites();
         PrimaryVisitedManager.clear();
         result.addAll(backendConnection.closeResultSets());
         result.addAll(backendConnection.closeStatements());
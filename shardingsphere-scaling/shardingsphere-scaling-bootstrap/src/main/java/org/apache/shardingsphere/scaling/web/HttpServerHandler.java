@@ -19,6 +19,7 @@ package org.apache.shardingsphere.scaling.web;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.LongSerializationPolicy;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.scaling.core.api.ScalingAPI;
 import org.apache.shardingsphere.scaling.core.api.ScalingAPIFactory;
 import org.apache.shardingsphere.scaling.core.common.exception.ScalingJobNotFoundException;
 import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
+import org.apache.shardingsphere.scaling.core.config.RateLimitConfiguration;
 import org.apache.shardingsphere.scaling.util.ResponseContentUtil;
 
 import java.sql.SQLException;
@@ -85,6 +87,10 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
             resetJob(context, requestPath);
             return;
         }
+        if (requestPath.startsWith("/scaling/job/ratelimit/") && request.method().equals(HttpMethod.POST)) {
+            updateRateLimit(context, requestPath, requestBody);
+            return;
+        }
         response(ResponseContentUtil.handleBadRequest("Not support request!"), context, HttpResponseStatus.BAD_REQUEST);
     }
     
@@ -132,6 +138,22 @@ public final class HttpServerHandler extends SimpleChannelInboundHandler<FullHtt
         }
     }
     
+    private void updateRateLimit(final ChannelHandlerContext context, final String requestPath, final String requestBody) {
+        try {
+            RateLimitConfiguration rateLimitConfig = GSON.fromJson(requestBody, RateLimitConfiguration.class);
+            if (null == rateLimitConfig) {
+                response(ResponseContentUtil.handleBadRequest("Rate limit config is required!"), context, HttpResponseStatus.BAD_REQUEST);
+                return;
+            }
+            scalingAPI.updateRateLimit(getJobId(requestPath), rateLimitConfig);
+            response(ResponseContentUtil.success(), context, HttpResponseStatus.OK);
+        } catch (final ScalingJobNotFoundException ex) {
+            response(ResponseContentUtil.handleBadRequest(ex.getMessage()), context, HttpResponseStatus.BAD_REQUEST);
+        } catch (final JsonParseException | NumberFormatException ex) {
+            response(ResponseContentUtil.handleBadRequest(String.format("Invalid rate limit request: %s", ex.getMessage())), context, HttpResponseStatus.BAD_REQUEST);
+        }
+    }
+    
     private long getJobId(final String requestPath) {
         return Long.parseLong(requestPath.split("/")[4]);
     }
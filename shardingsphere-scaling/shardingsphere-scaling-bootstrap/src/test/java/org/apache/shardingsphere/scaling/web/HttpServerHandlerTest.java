@@ -33,6 +33,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.scaling.core.api.JobInfo;
 import org.apache.shardingsphere.scaling.core.api.ScalingAPI;
 import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
+import org.apache.shardingsphere.scaling.core.config.RateLimitConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
@@ -55,7 +56,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -128,6 +132,27 @@ public final class HttpServerHandlerTest {
         assertTrue(responseContent.isSuccess());
     }
     
+    @Test
+    public void assertUpdateRateLimit() {
+        ResponseContent<?> responseContent = execute("/scaling/job/ratelimit/1");
+        assertTrue(responseContent.isSuccess());
+        verify(scalingAPI).updateRateLimit(eq(1L), any(RateLimitConfiguration.class));
+    }
+    
+    @Test
+    public void assertUpdateRateLimitWithMalformedBody() {
+        ResponseContent<?> responseContent = execute("/scaling/job/ratelimit/1", HttpMethod.POST, "{\"maxRowsPerSecond\":\"abc\"}");
+        assertFalse(responseContent.isSuccess());
+        verify(scalingAPI, never()).updateRateLimit(anyLong(), any(RateLimitConfiguration.class));
+    }
+    
+    @Test
+    public void assertUpdateRateLimitWithoutBody() {
+        ResponseContent<?> responseContent = execute("/scaling/job/ratelimit/1", HttpMethod.POST, "");
+        assertFalse(responseContent.isSuccess());
+        verify(scalingAPI, never()).updateRateLimit(anyLong(), any(RateLimitConfiguration.class));
+    }
+    
     @Test
     public void assertChannelReadUnsupportedUrl() {
         ResponseContent<?> responseContent = execute("/scaling/1");
@@ -152,7 +177,11 @@ public final class HttpServerHandlerTest {
     }
     
     private ResponseContent<?> execute(final String uri, final HttpMethod httpMethod) {
-        ByteBuf byteBuf = Unpooled.copiedBuffer("{}", CharsetUtil.UTF_8);
+        return execute(uri, httpMethod, "{}");
+    }
+    
+    private ResponseContent<?> execute(final String uri, final HttpMethod httpMethod, final String requestBody) {
+        ByteBuf byteBuf = Unpooled.copiedBuffer(requestBody, CharsetUtil.UTF_8);
         FullHttpRequest fullHttpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, httpMethod, uri, byteBuf);
         httpServerHandler.channelRead0(channelHandlerContext, fullHttpRequest);
         ArgumentCaptor<FullHttpResponse> argumentCaptor = ArgumentCaptor.forClass(FullHttpResponse.class);
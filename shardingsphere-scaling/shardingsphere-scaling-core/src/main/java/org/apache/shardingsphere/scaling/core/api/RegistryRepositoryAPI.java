@@ -21,6 +21,7 @@ import org.apache.shardingsphere.governance.repository.api.listener.DataChangedE
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -35,6 +36,13 @@ public interface RegistryRepositoryAPI {
      */
     void persistJobProgress(JobContext jobContext);
     
+    /**
+     * Persist progresses of jobs in one transaction.
+     *
+     * @param jobContexts job contexts
+     */
+    void persistJobProgresses(Collection<JobContext> jobContexts);
+    
     /**
      * Get job progress.
      *
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.scaling.core.api;
 
 import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
+import org.apache.shardingsphere.scaling.core.config.RateLimitConfiguration;
 import org.apache.shardingsphere.scaling.core.job.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
 
@@ -60,6 +61,14 @@ public interface ScalingAPI {
      */
     void stop(long jobId);
     
+    /**
+     * Update rate limit of scaling job, running job will take effect immediately.
+     *
+     * @param jobId job id
+     * @param rateLimitConfig rate limit configuration
+     */
+    void updateRateLimit(long jobId, RateLimitConfiguration rateLimitConfig);
+    
     /**
      * Remove scaling job.
      *
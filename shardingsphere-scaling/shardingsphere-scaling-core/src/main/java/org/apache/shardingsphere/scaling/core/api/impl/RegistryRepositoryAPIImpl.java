@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.governance.repository.api.RegistryRepository;
 import org.apache.shardingsphere.governance.repository.api.listener.DataChangedEventListener;
+import org.apache.shardingsphere.governance.repository.api.transaction.TransactionOperation;
 import org.apache.shardingsphere.scaling.core.api.RegistryRepositoryAPI;
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
@@ -31,7 +32,9 @@ import org.apache.shardingsphere.scaling.core.job.task.incremental.IncrementalTa
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTask;
 import org.apache.shardingsphere.scaling.core.job.task.inventory.InventoryTaskProgress;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -46,12 +49,33 @@ public final class RegistryRepositoryAPIImpl implements RegistryRepositoryAPI {
     
     @Override
     public void persistJobProgress(final JobContext jobContext) {
-        JobProgress jobProgress = new JobProgress();
-        jobProgress.setStatus(jobContext.getStatus());
-        jobProgress.setDatabaseType(jobContext.getJobConfig().getHandleConfig().getDatabaseType());
-        jobProgress.setIncrementalTaskProgressMap(getIncrementalTaskProgressMap(jobContext));
-        jobProgress.setInventoryTaskProgressMap(getInventoryTaskProgressMap(jobContext));
-        registryRepository.persist(getOffsetPath(jobContext.getJobId(), jobContext.getShardingItem()), jobProgress.toString());
+        registryRepository.persist(getOffsetPath(jobContext.getJobId(), jobContext.getShardingItem()), createJobProgress(jobContext).toString());
+    }
+    
+    @Override
+    public void persistJobProgresses(final Collection<JobContext> jobContexts) {
+        List<TransactionOperation> operations = new LinkedList<>();
+        for (JobContext each : jobContexts) {
+            try {
+                operations.add(TransactionOperation.persist(getOffsetPath(each.getJobId(), each.getShardingItem()), createJobProgress(each).toString()));
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.error("create job {} progress failed.", each.getJobId(), ex);
+            }
+        }
+        registryRepository.executeInTransaction(operations);
+    }
+    
+    private JobProgress createJobProgress(final JobContext jobContext) {
+        JobProgress result = new JobProgress();
+        result.setStatus(jobContext.getStatus());
+        result.setDatabaseType(jobContext.getJobConfig().getHandleConfig().getDatabaseType());
+        result.setIncrementalTaskProgressMap(getIncrementalTaskProgressMap(jobContext));
+        result.setInventoryTaskProgressMap(getInventoryTaskProgressMap(jobContext));
+        result.setRowsPerSecond(jobContext.getRateLimiter().getRowsPerSecond());
+        result.setBytesPerSecond(jobContext.getRateLimiter().getBytesPerSecond());
+        return result;
     }
     
     private Map<String, IncrementalTaskProgress> getIncrementalTaskProgressMap(final JobContext jobContext) {
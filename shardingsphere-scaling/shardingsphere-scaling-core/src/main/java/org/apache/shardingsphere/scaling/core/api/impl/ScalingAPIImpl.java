@@ -26,6 +26,7 @@ import org.apache.shardingsphere.scaling.core.api.ScalingAPIFactory;
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.common.exception.ScalingJobNotFoundException;
 import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
+import org.apache.shardingsphere.scaling.core.config.RateLimitConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 import org.apache.shardingsphere.scaling.core.job.ScalingJob;
 import org.apache.shardingsphere.scaling.core.job.check.EnvironmentCheckerFactory;
@@ -110,6 +111,16 @@ public final class ScalingAPIImpl implements ScalingAPI {
         ScalingAPIFactory.getJobConfigurationAPI().updateJobConfiguration(jobConfigPOJO);
     }
     
+    @Override
+    public void updateRateLimit(final long jobId, final RateLimitConfiguration rateLimitConfig) {
+        log.info("Update scaling job {} rate limit", jobId);
+        JobConfigurationPOJO jobConfigPOJO = getElasticJobConfigPOJO(jobId);
+        JobConfiguration jobConfig = getJobConfig(jobConfigPOJO);
+        jobConfig.getHandleConfig().setRateLimitConfig(rateLimitConfig);
+        jobConfigPOJO.setJobParameter(YamlEngine.marshal(jobConfig));
+        ScalingAPIFactory.getJobConfigurationAPI().updateJobConfiguration(jobConfigPOJO);
+    }
+    
     @Override
     public void remove(final long jobId) {
         log.info("Remove scaling job {}", jobId);
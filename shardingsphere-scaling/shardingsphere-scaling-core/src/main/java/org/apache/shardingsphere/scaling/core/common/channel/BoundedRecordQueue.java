@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel;
+
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded record queue, records of one batch are put with one lock acquisition.
+ *
+ * <p>
+ * A batch larger than the capacity is accepted once the queue is empty, so it never blocks forever.
+ * </p>
+ */
+public final class BoundedRecordQueue {
+    
+    private final int capacity;
+    
+    private final Deque<Record> records = new ArrayDeque<>();
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    public BoundedRecordQueue(final int capacity) {
+        this.capacity = capacity;
+    }
+    
+    /**
+     * Put records in order, waiting for free space if necessary.
+     *
+     * @param batch records
+     * @throws InterruptedException if thread interrupted while waiting
+     */
+    public void putAll(final Collection<Record> batch) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (!records.isEmpty() && records.size() + batch.size() > capacity) {
+                notFull.await();
+            }
+            records.addAll(batch);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Remove at most the given number of records and add them to target collection.
+     *
+     * @param target target collection
+     * @param maxElements max count of records to drain
+     * @return count of drained records
+     */
+    public int drainTo(final Collection<Record> target, final int maxElements) {
+        lock.lock();
+        try {
+            int result = 0;
+            while (result < maxElements && !records.isEmpty()) {
+                target.add(records.poll());
+                result++;
+            }
+            if (result > 0) {
+                notFull.signalAll();
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Get count of records in queue.
+     *
+     * @return count of records
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return records.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Remove all records.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            records.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
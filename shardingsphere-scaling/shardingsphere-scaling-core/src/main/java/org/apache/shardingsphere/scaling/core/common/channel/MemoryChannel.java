@@ -22,17 +22,16 @@ import org.apache.shardingsphere.scaling.core.config.ScalingContext;
 import org.apache.shardingsphere.scaling.core.util.ThreadUtil;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 
 /**
  * Memory channel.
  */
 public final class MemoryChannel implements Channel {
     
-    private final BlockingQueue<Record> queue = new ArrayBlockingQueue<>(ScalingContext.getInstance().getServerConfig().getBlockQueueSize());
+    private final BoundedRecordQueue queue = new BoundedRecordQueue(ScalingContext.getInstance().getServerConfig().getBlockQueueSize());
     
     private final AckCallback ackCallback;
     
@@ -44,7 +43,12 @@ public final class MemoryChannel implements Channel {
     
     @Override
     public void pushRecord(final Record dataRecord) throws InterruptedException {
-        queue.put(dataRecord);
+        queue.putAll(Collections.singletonList(dataRecord));
+    }
+    
+    @Override
+    public void pushRecords(final List<Record> records) throws InterruptedException {
+        queue.putAll(records);
     }
     
     @Override
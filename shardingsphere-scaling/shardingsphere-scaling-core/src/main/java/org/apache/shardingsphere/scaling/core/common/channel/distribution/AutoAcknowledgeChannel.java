@@ -33,6 +33,13 @@ public final class AutoAcknowledgeChannel extends AbstractBitSetChannel {
         setAcknowledgedIndex(index + 1);
     }
     
+    @Override
+    public void pushRecords(final List<Record> records, final List<Long> indexes) {
+        getManualBitSet().set(indexes);
+        getToBeAckRecords().addAll(records);
+        setAcknowledgedIndex(indexes.get(indexes.size() - 1) + 1);
+    }
+    
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
         throw new UnsupportedOperationException("Auto ack channel can not fetch records.");
@@ -36,6 +36,15 @@ public interface BitSetChannel {
      */
     void pushRecord(Record dataRecord, long index) throws InterruptedException;
     
+    /**
+     * Push records as one batch.
+     *
+     * @param records records
+     * @param indexes bit set index of each record
+     * @throws InterruptedException if thread interrupted
+     */
+    void pushRecords(List<Record> records, List<Long> indexes) throws InterruptedException;
+    
     /**
      * Fetch {@code Record} from channel, if the timeout also returns the record.
      *
@@ -17,46 +17,81 @@
 
 package org.apache.shardingsphere.scaling.core.common.channel.distribution;
 
+import org.apache.shardingsphere.scaling.core.common.channel.BoundedRecordQueue;
+import org.apache.shardingsphere.scaling.core.common.record.CommitRecord;
+import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
 import org.apache.shardingsphere.scaling.core.config.ScalingContext;
 import org.apache.shardingsphere.scaling.core.util.ThreadUtil;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 
 /**
  * Blocking queue BitSet channel.
+ *
+ * <p>
+ * Once a {@code CommitRecord} has been seen, records are only handed out up to the last transaction boundary,
+ * unless a single transaction exceeds the batch size.
+ * </p>
  */
 public final class BlockingQueueChannel extends AbstractBitSetChannel {
     
-    private final BlockingQueue<Record> queue = new ArrayBlockingQueue<>(ScalingContext.getInstance().getServerConfig().getBlockQueueSize());
+    private final BoundedRecordQueue queue = new BoundedRecordQueue(ScalingContext.getInstance().getServerConfig().getBlockQueueSize());
+    
+    private final List<Record> uncommittedRecords = new ArrayList<>();
     
     private long fetchedIndex;
     
+    private boolean transactional;
+    
     @Override
     public void pushRecord(final Record dataRecord, final long index) throws InterruptedException {
         getManualBitSet().set(index);
-        queue.put(dataRecord);
+        queue.putAll(Collections.singletonList(dataRecord));
+    }
+    
+    @Override
+    public void pushRecords(final List<Record> records, final List<Long> indexes) throws InterruptedException {
+        getManualBitSet().set(indexes);
+        queue.putAll(records);
     }
     
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
-        List<Record> result = new ArrayList<>(batchSize);
         long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
+        while (batchSize > queue.size() + uncommittedRecords.size()) {
             if (timeout * 1000L <= System.currentTimeMillis() - start) {
                 break;
             }
             ThreadUtil.sleep(100L);
         }
-        queue.drainTo(result, batchSize);
+        queue.drainTo(uncommittedRecords, batchSize - uncommittedRecords.size());
+        List<Record> result = takeCommittedRecords(batchSize);
         getToBeAckRecords().addAll(result);
         fetchedIndex = getManualBitSet().getEndIndex(fetchedIndex, result.size());
         return result;
     }
     
+    private List<Record> takeCommittedRecords(final int batchSize) {
+        int lastBoundaryIndex = -1;
+        for (int i = 0; i < uncommittedRecords.size(); i++) {
+            Record each = uncommittedRecords.get(i);
+            if (each instanceof CommitRecord) {
+                transactional = true;
+                lastBoundaryIndex = i;
+            } else if (each instanceof FinishedRecord) {
+                lastBoundaryIndex = i;
+            }
+        }
+        int count = transactional && uncommittedRecords.size() < batchSize ? lastBoundaryIndex + 1 : uncommittedRecords.size();
+        List<Record> committedRecords = uncommittedRecords.subList(0, count);
+        List<Record> result = new ArrayList<>(committedRecords);
+        committedRecords.clear();
+        return result;
+    }
+    
     @Override
     public void ack() {
         setAcknowledgedIndex(fetchedIndex);
@@ -65,6 +100,7 @@ public final class BlockingQueueChannel extends AbstractBitSetChannel {
     @Override
     public void close() {
         queue.clear();
+        uncommittedRecords.clear();
         super.close();
     }
 }
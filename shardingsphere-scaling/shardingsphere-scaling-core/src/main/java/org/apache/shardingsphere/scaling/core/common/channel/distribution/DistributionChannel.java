@@ -17,20 +17,32 @@
 
 package org.apache.shardingsphere.scaling.core.common.channel.distribution;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.common.channel.AckCallback;
 import org.apache.shardingsphere.scaling.core.common.channel.Channel;
+import org.apache.shardingsphere.scaling.core.common.record.Column;
+import org.apache.shardingsphere.scaling.core.common.record.CommitRecord;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
 
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -39,17 +51,28 @@ import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Distribution channel.
+ *
+ * <p>
+ * Once a {@code CommitRecord} has been seen, records are buffered until the end of the source transaction,
+ * and the whole transaction is pushed to one channel, so the importer of that channel applies it in one target transaction.
+ * Primary keys of pushed transactions, including before-image keys of primary key updates, are tracked until their channel acknowledged them.
+ * A transaction touching keys which are still in flight goes to the channel which holds them,
+ * and waits for acknowledgement if they are held by more than one channel, so records of the same row are always applied in source order.
+ * A transaction larger than the block queue size is pushed in parts to the same channel, and may be applied in several target transactions.
+ * </p>
  */
 @Slf4j
 public final class DistributionChannel implements Channel {
     
+    private static final long WAIT_ACK_MILLISECONDS = 100L;
+    
     private final int channelNumber;
     
     private final BitSetChannel[] channels;
     
     private final BitSetChannel autoAckChannel = new AutoAcknowledgeChannel();
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final Map<String, Integer> channelAssignment = new ConcurrentHashMap<>();
     
     private final AckCallback ackCallback;
     
@@ -57,6 +80,24 @@ public final class DistributionChannel implements Channel {
     
     private final Queue<Integer> toBeAckBitSetIndexes = new ConcurrentLinkedQueue<>();
     
+    private final int maxBufferedRecordCount = ScalingContext.getInstance().getServerConfig().getBlockQueueSize();
+    
+    private final List<Record> bufferedRecords = new ArrayList<>();
+    
+    private final Map<DataRecord.Key, InFlightKey> inFlightKeys = new HashMap<>();
+    
+    private final List<Deque<InFlightTransaction>> inFlightTransactions;
+    
+    private final long[] pushedCounts;
+    
+    private final long[] fetchedCounts;
+    
+    private boolean transactional;
+    
+    private int pinnedChannelIndex = -1;
+    
+    private volatile boolean closed;
+    
     private long lastAckIndex;
     
     private ScheduledExecutorService scheduleAckRecordsExecutor;
@@ -65,8 +106,12 @@ public final class DistributionChannel implements Channel {
         this.channelNumber = channelNumber;
         this.ackCallback = ackCallback;
         channels = new BitSetChannel[channelNumber];
+        inFlightTransactions = new ArrayList<>(channelNumber);
+        pushedCounts = new long[channelNumber];
+        fetchedCounts = new long[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
             channels[i] = new BlockingQueueChannel();
+            inFlightTransactions.add(new LinkedList<>());
         }
         scheduleAckRecords();
     }
@@ -78,32 +123,192 @@ public final class DistributionChannel implements Channel {
     
     @Override
     public void pushRecord(final Record record) throws InterruptedException {
-        if (FinishedRecord.class.equals(record.getClass())) {
-            for (int i = 0; i < channels.length; i++) {
-                pushRecord(record, i);
+        pushRecords(Collections.singletonList(record));
+    }
+    
+    @Override
+    public void pushRecords(final List<Record> records) throws InterruptedException {
+        for (Record each : records) {
+            if (FinishedRecord.class.equals(each.getClass())) {
+                flush();
+                broadcast(each);
+            } else if (CommitRecord.class.equals(each.getClass())) {
+                transactional = true;
+                bufferedRecords.add(each);
+                flush();
+            } else if (PlaceholderRecord.class.equals(each.getClass())) {
+                if (bufferedRecords.isEmpty()) {
+                    push(Collections.singletonList(each), -1);
+                } else {
+                    bufferedRecords.add(each);
+                }
+            } else if (DataRecord.class.equals(each.getClass())) {
+                bufferedRecords.add(each);
+                if (!transactional) {
+                    flush();
+                } else if (bufferedRecords.size() >= maxBufferedRecordCount) {
+                    pinnedChannelIndex = flush();
+                }
+            } else {
+                throw new RuntimeException("Not Support Record Type");
+            }
+        }
+    }
+    
+    private int flush() throws InterruptedException {
+        if (bufferedRecords.isEmpty()) {
+            return -1;
+        }
+        Collection<DataRecord.Key> keys = getKeys(bufferedRecords);
+        int result = keys.isEmpty() && -1 == pinnedChannelIndex ? -1 : acquireChannel(keys);
+        push(bufferedRecords, result);
+        bufferedRecords.clear();
+        pinnedChannelIndex = -1;
+        return result;
+    }
+    
+    private Collection<DataRecord.Key> getKeys(final List<Record> records) {
+        Collection<DataRecord.Key> result = new LinkedHashSet<>();
+        for (Record each : records) {
+            if (each instanceof DataRecord) {
+                result.add(((DataRecord) each).getKey());
+                result.add(getBeforeImageKey((DataRecord) each));
+            }
+        }
+        return result;
+    }
+    
+    private DataRecord.Key getBeforeImageKey(final DataRecord record) {
+        List<Object> primaryKeyValues = new ArrayList<>();
+        for (Column each : record.getColumns()) {
+            if (each.isPrimaryKey()) {
+                primaryKeyValues.add(null == each.getOldValue() ? each.getValue() : each.getOldValue());
+            }
+        }
+        return new DataRecord.Key(record.getTableName(), primaryKeyValues);
+    }
+    
+    private int acquireChannel(final Collection<DataRecord.Key> keys) throws InterruptedException {
+        synchronized (inFlightKeys) {
+            while (true) {
+                Set<Integer> dependentChannelIndexes = getDependentChannelIndexes(keys);
+                if (closed || isAcquirable(dependentChannelIndexes)) {
+                    int result = selectChannel(keys, dependentChannelIndexes);
+                    if (!keys.isEmpty()) {
+                        for (DataRecord.Key each : keys) {
+                            inFlightKeys.computeIfAbsent(each, key -> new InFlightKey(result)).count++;
+                        }
+                        inFlightTransactions.get(result).add(new InFlightTransaction(keys));
+                    }
+                    return result;
+                }
+                inFlightKeys.wait(WAIT_ACK_MILLISECONDS);
+            }
+        }
+    }
+    
+    private Set<Integer> getDependentChannelIndexes(final Collection<DataRecord.Key> keys) {
+        Set<Integer> result = new HashSet<>();
+        for (DataRecord.Key each : keys) {
+            InFlightKey inFlightKey = inFlightKeys.get(each);
+            if (null != inFlightKey) {
+                result.add(inFlightKey.channelIndex);
             }
-        } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
-        } else if (PlaceholderRecord.class.equals(record.getClass())) {
-            pushRecord(record, -1);
-        } else {
-            throw new RuntimeException("Not Support Record Type");
         }
+        return result;
+    }
+    
+    private boolean isAcquirable(final Set<Integer> dependentChannelIndexes) {
+        if (dependentChannelIndexes.isEmpty()) {
+            return true;
+        }
+        if (1 != dependentChannelIndexes.size()) {
+            return false;
+        }
+        return -1 == pinnedChannelIndex || dependentChannelIndexes.contains(pinnedChannelIndex);
+    }
+    
+    private int selectChannel(final Collection<DataRecord.Key> keys, final Set<Integer> dependentChannelIndexes) {
+        if (-1 != pinnedChannelIndex) {
+            return pinnedChannelIndex;
+        }
+        if (!dependentChannelIndexes.isEmpty()) {
+            return dependentChannelIndexes.iterator().next();
+        }
+        return keys.isEmpty() ? 0 : Math.abs(keys.iterator().next().hashCode() % channelNumber);
     }
     
-    private void pushRecord(final Record record, final int index) throws InterruptedException {
-        toBeAckBitSetIndexes.add(index);
-        getBitSetChannel(index).pushRecord(record, indexAutoIncreaseGenerator.getAndIncrement());
+    private void push(final List<Record> records, final int channelIndex) throws InterruptedException {
+        List<Record> channelRecords = new ArrayList<>(records.size());
+        List<Long> channelIndexes = new ArrayList<>(records.size());
+        List<Record> placeholderRecords = new ArrayList<>();
+        List<Long> placeholderIndexes = new ArrayList<>();
+        for (Record each : records) {
+            if (-1 == channelIndex || PlaceholderRecord.class.equals(each.getClass())) {
+                toBeAckBitSetIndexes.add(-1);
+                placeholderRecords.add(each);
+                placeholderIndexes.add(indexAutoIncreaseGenerator.getAndIncrement());
+            } else {
+                toBeAckBitSetIndexes.add(channelIndex);
+                channelRecords.add(each);
+                channelIndexes.add(indexAutoIncreaseGenerator.getAndIncrement());
+            }
+        }
+        if (!placeholderRecords.isEmpty()) {
+            autoAckChannel.pushRecords(placeholderRecords, placeholderIndexes);
+        }
+        if (!channelRecords.isEmpty()) {
+            increasePushedCount(channelIndex, channelRecords.size());
+            channels[channelIndex].pushRecords(channelRecords, channelIndexes);
+        }
+    }
+    
+    private void broadcast(final Record record) throws InterruptedException {
+        for (int i = 0; i < channelNumber; i++) {
+            toBeAckBitSetIndexes.add(i);
+            increasePushedCount(i, 1);
+            channels[i].pushRecord(record, indexAutoIncreaseGenerator.getAndIncrement());
+        }
+    }
+    
+    private void increasePushedCount(final int channelIndex, final int count) {
+        synchronized (inFlightKeys) {
+            pushedCounts[channelIndex] += count;
+            InFlightTransaction lastTransaction = inFlightTransactions.get(channelIndex).peekLast();
+            if (null != lastTransaction && 0 == lastTransaction.endCount) {
+                lastTransaction.endCount = pushedCounts[channelIndex];
+            }
+        }
     }
     
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeout) {
-        return findChannel().fetchRecords(batchSize, timeout);
+        int channelIndex = findChannelIndex();
+        List<Record> result = channels[channelIndex].fetchRecords(batchSize, timeout);
+        fetchedCounts[channelIndex] += result.size();
+        return result;
     }
     
     @Override
     public void ack() {
-        findChannel().ack();
+        int channelIndex = findChannelIndex();
+        channels[channelIndex].ack();
+        releaseKeys(channelIndex, fetchedCounts[channelIndex]);
+    }
+    
+    private void releaseKeys(final int channelIndex, final long ackedCount) {
+        synchronized (inFlightKeys) {
+            Deque<InFlightTransaction> transactions = inFlightTransactions.get(channelIndex);
+            while (!transactions.isEmpty() && 0 != transactions.peek().endCount && transactions.peek().endCount <= ackedCount) {
+                for (DataRecord.Key each : transactions.poll().keys) {
+                    InFlightKey inFlightKey = inFlightKeys.get(each);
+                    if (0 == --inFlightKey.count) {
+                        inFlightKeys.remove(each);
+                    }
+                }
+            }
+            inFlightKeys.notifyAll();
+        }
     }
     
     private synchronized void ackRecords0() {
@@ -144,10 +349,10 @@ public final class DistributionChannel implements Channel {
         return index == -1 ? autoAckChannel : channels[index];
     }
     
-    private BitSetChannel findChannel() {
+    private int findChannelIndex() {
         String threadId = Long.toString(Thread.currentThread().getId());
         checkAssignment(threadId);
-        return channels[channelAssignment.get(threadId)];
+        return channelAssignment.get(threadId);
     }
     
     private void checkAssignment(final String threadId) {
@@ -171,6 +376,10 @@ public final class DistributionChannel implements Channel {
     
     @Override
     public void close() {
+        closed = true;
+        synchronized (inFlightKeys) {
+            inFlightKeys.notifyAll();
+        }
         scheduleAckRecordsExecutor.shutdown();
         ackRecords0();
         for (BitSetChannel each : channels) {
@@ -178,4 +387,20 @@ public final class DistributionChannel implements Channel {
         }
         toBeAckBitSetIndexes.clear();
     }
+    
+    @RequiredArgsConstructor
+    private static final class InFlightKey {
+        
+        private final int channelIndex;
+        
+        private int count;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class InFlightTransaction {
+        
+        private final Collection<DataRecord.Key> keys;
+        
+        private long endCount;
+    }
 }
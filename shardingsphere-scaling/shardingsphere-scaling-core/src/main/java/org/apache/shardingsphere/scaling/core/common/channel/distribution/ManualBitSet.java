@@ -46,6 +46,17 @@ public final class ManualBitSet {
         bitSets.get(listIndex).set(correctIndex % BIT_SET_SIZE);
     }
     
+    /**
+     * Sets the bits at the specified indexes to true.
+     *
+     * @param bitIndexes bit indexes
+     */
+    public synchronized void set(final List<Long> bitIndexes) {
+        for (long each : bitIndexes) {
+            set(each);
+        }
+    }
+    
     /**
      * Get BitSet with specified range.
      *
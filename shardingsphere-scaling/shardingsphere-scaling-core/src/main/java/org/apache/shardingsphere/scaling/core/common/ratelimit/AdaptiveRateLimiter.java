@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.ratelimit;
+
+import lombok.Getter;
+import org.apache.shardingsphere.scaling.core.config.RateLimitConfiguration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Adaptive rate limiter.
+ *
+ * <p>
+ * Caps rows and bytes per second, and backs off multiplicatively when observed latency or replication lag exceeds the configured threshold,
+ * then recovers additively once the source is healthy again.
+ * </p>
+ */
+public final class AdaptiveRateLimiter {
+    
+    private static final long ADJUST_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    
+    private static final double MIN_FACTOR = 0.05;
+    
+    private static final double RECOVER_STEP = 0.05;
+    
+    private final LongAdder rows = new LongAdder();
+    
+    private final LongAdder bytes = new LongAdder();
+    
+    private final AtomicLong maxLatencyMilliseconds = new AtomicLong();
+    
+    @Getter
+    private volatile RateLimitConfiguration rateLimitConfig;
+    
+    private volatile long lagMilliseconds = -1;
+    
+    private volatile long threadsRunning = -1;
+    
+    private volatile long windowStartNanos = System.nanoTime();
+    
+    @Getter
+    private volatile double factor = 1;
+    
+    private volatile double rowsLimit;
+    
+    private volatile double bytesLimit;
+    
+    private double backoffBaseRowsPerSecond;
+    
+    private long nextFreeNanos;
+    
+    @Getter
+    private volatile long rowsPerSecond;
+    
+    @Getter
+    private volatile long bytesPerSecond;
+    
+    public AdaptiveRateLimiter() {
+        this(new RateLimitConfiguration());
+    }
+    
+    public AdaptiveRateLimiter(final RateLimitConfiguration rateLimitConfig) {
+        updateConfig(rateLimitConfig);
+    }
+    
+    /**
+     * Update rate limit configuration.
+     *
+     * @param rateLimitConfig rate limit configuration
+     */
+    public synchronized void updateConfig(final RateLimitConfiguration rateLimitConfig) {
+        this.rateLimitConfig = null == rateLimitConfig ? new RateLimitConfiguration() : rateLimitConfig;
+        refreshLimits();
+    }
+    
+    /**
+     * Whether replication lag or threads running of source should be probed.
+     *
+     * @return source probe enabled or not
+     */
+    public boolean isSourceProbeEnabled() {
+        return rateLimitConfig.getMaxLagMilliseconds() > 0 || rateLimitConfig.getMaxThreadsRunning() > 0;
+    }
+    
+    /**
+     * Acquire permits for rows and bytes, block until they are available.
+     *
+     * @param rowCount row count
+     * @param byteCount byte count
+     */
+    public void acquire(final int rowCount, final long byteCount) {
+        rows.add(rowCount);
+        bytes.add(byteCount);
+        long now = System.nanoTime();
+        if (now - windowStartNanos >= ADJUST_INTERVAL_NANOS) {
+            adjust(now);
+        }
+        double currentRowsLimit = rowsLimit;
+        double currentBytesLimit = bytesLimit;
+        if (currentRowsLimit <= 0 && currentBytesLimit <= 0) {
+            return;
+        }
+        long costNanos = Math.max(getCostNanos(rowCount, currentRowsLimit), getCostNanos(byteCount, currentBytesLimit));
+        long waitNanos;
+        synchronized (this) {
+            long start = Math.max(nextFreeNanos, now);
+            nextFreeNanos = start + costNanos;
+            waitNanos = start - now;
+        }
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+    }
+    
+    private long getCostNanos(final long amount, final double limit) {
+        return limit <= 0 ? 0L : (long) (amount * TimeUnit.SECONDS.toNanos(1) / limit);
+    }
+    
+    /**
+     * Report latency of one source query.
+     *
+     * <p>Only latency of reading source is compared with max latency, latency of writing target grows with batch size and is not a signal of source load.</p>
+     *
+     * @param latencyMilliseconds latency milliseconds
+     */
+    public void reportLatency(final long latencyMilliseconds) {
+        maxLatencyMilliseconds.accumulateAndGet(latencyMilliseconds, Math::max);
+    }
+    
+    /**
+     * Report replication lag of source.
+     *
+     * @param lagMilliseconds lag milliseconds, negative means unknown
+     */
+    public void reportLag(final long lagMilliseconds) {
+        this.lagMilliseconds = lagMilliseconds;
+    }
+    
+    /**
+     * Report count of threads running on source.
+     *
+     * @param threadsRunning threads running, negative means unknown
+     */
+    public void reportThreadsRunning(final long threadsRunning) {
+        this.threadsRunning = threadsRunning;
+    }
+    
+    private synchronized void adjust(final long now) {
+        long elapsedNanos = now - windowStartNanos;
+        if (elapsedNanos < ADJUST_INTERVAL_NANOS) {
+            return;
+        }
+        windowStartNanos = now;
+        rowsPerSecond = rows.sumThenReset() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        bytesPerSecond = bytes.sumThenReset() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        if (isOverloaded(maxLatencyMilliseconds.getAndSet(0))) {
+            if (1 == factor) {
+                backoffBaseRowsPerSecond = Math.max(1, rowsPerSecond);
+            }
+            factor = Math.max(MIN_FACTOR, factor / 2);
+        } else {
+            factor = Math.min(1, factor + RECOVER_STEP);
+        }
+        refreshLimits();
+    }
+    
+    private boolean isOverloaded(final long latency) {
+        RateLimitConfiguration config = rateLimitConfig;
+        return config.getMaxLatencyMilliseconds() > 0 && latency > config.getMaxLatencyMilliseconds()
+                || config.getMaxLagMilliseconds() > 0 && lagMilliseconds > config.getMaxLagMilliseconds()
+                || config.getMaxThreadsRunning() > 0 && threadsRunning > config.getMaxThreadsRunning();
+    }
+    
+    private void refreshLimits() {
+        long maxRowsPerSecond = rateLimitConfig.getMaxRowsPerSecond();
+        if (maxRowsPerSecond > 0) {
+            rowsLimit = maxRowsPerSecond * factor;
+        } else {
+            rowsLimit = factor < 1 ? backoffBaseRowsPerSecond * factor : 0;
+        }
+        long maxBytesPerSecond = rateLimitConfig.getMaxBytesPerSecond();
+        bytesLimit = maxBytesPerSecond > 0 ? maxBytesPerSecond * factor : 0;
+    }
+}
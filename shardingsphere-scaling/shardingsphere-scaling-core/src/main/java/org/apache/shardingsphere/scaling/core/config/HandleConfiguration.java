@@ -35,6 +35,10 @@ public final class HandleConfiguration {
     
     private int retryTimes = 3;
     
+    private boolean bulkLoad;
+    
+    private RateLimitConfiguration rateLimitConfig;
+    
     private String[] shardingTables;
     
     private String logicTables;
@@ -36,4 +36,6 @@ public final class ImporterConfiguration {
     private Map<String, Set<String>> shardingColumnsMap;
     
     private int retryTimes;
+    
+    private boolean bulkLoad;
 }
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.common.datasource.MetaDataManager;
 import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
+import org.apache.shardingsphere.scaling.core.common.ratelimit.AdaptiveRateLimiter;
 import org.apache.shardingsphere.scaling.core.common.record.Column;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
@@ -44,6 +45,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract JDBC dumper implement.
@@ -51,6 +53,8 @@ import java.sql.SQLException;
 @Slf4j
 public abstract class AbstractInventoryDumper extends AbstractScalingExecutor implements InventoryDumper {
     
+    private static final long SOURCE_PROBE_INTERVAL_MILLIS = 5000L;
+    
     @Getter(AccessLevel.PROTECTED)
     private final InventoryDumperConfiguration inventoryDumperConfig;
     
@@ -61,6 +65,11 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
     @Setter
     private Channel channel;
     
+    @Setter
+    private AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter();
+    
+    private long lastSourceProbeMillis;
+    
     protected AbstractInventoryDumper(final InventoryDumperConfiguration inventoryDumperConfig, final DataSourceManager dataSourceManager) {
         if (!StandardJDBCDataSourceConfiguration.class.equals(inventoryDumperConfig.getDataSourceConfig().getClass())) {
             throw new UnsupportedOperationException("AbstractInventoryDumper only support StandardJDBCDataSourceConfiguration");
@@ -87,13 +96,17 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
             PreparedStatement ps = createPreparedStatement(conn, sql);
             ResultSet rs = ps.executeQuery();
             ResultSetMetaData metaData = rs.getMetaData();
-            while (isRunning() && rs.next()) {
+            while (isRunning() && next(rs)) {
                 DataRecord record = new DataRecord(newPosition(rs), metaData.getColumnCount());
                 record.setType(ScalingConstant.INSERT);
                 record.setTableName(inventoryDumperConfig.getTableNameMap().get(inventoryDumperConfig.getTableName()));
+                long bytes = 0;
                 for (int i = 1; i <= metaData.getColumnCount(); i++) {
-                    record.addColumn(new Column(metaData.getColumnName(i), readValue(rs, i), true, tableMetaData.isPrimaryKey(i - 1)));
+                    Object value = readValue(rs, i);
+                    bytes += estimateSize(value);
+                    record.addColumn(new Column(metaData.getColumnName(i), value, true, tableMetaData.isPrimaryKey(i - 1)));
                 }
+                rateLimiter.acquire(1, bytes);
                 pushRecord(record);
             }
             pushRecord(new FinishedRecord(new FinishedPosition()));
@@ -106,6 +119,41 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
         }
     }
     
+    private boolean next(final ResultSet resultSet) throws SQLException {
+        long startNanos = System.nanoTime();
+        boolean result = resultSet.next();
+        rateLimiter.reportLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        if (rateLimiter.isSourceProbeEnabled() && System.currentTimeMillis() - lastSourceProbeMillis >= SOURCE_PROBE_INTERVAL_MILLIS) {
+            lastSourceProbeMillis = System.currentTimeMillis();
+            probeSource();
+        }
+        return result;
+    }
+    
+    private void probeSource() {
+        try (Connection connection = dataSourceManager.getDataSource(inventoryDumperConfig.getDataSourceConfig()).getConnection()) {
+            rateLimiter.reportLag(queryReplicationLagMilliseconds(connection));
+            rateLimiter.reportThreadsRunning(queryThreadsRunning(connection));
+        } catch (final SQLException ex) {
+            log.warn("Probe source replication lag and threads running failed.", ex);
+            rateLimiter.reportLag(-1L);
+            rateLimiter.reportThreadsRunning(-1L);
+        }
+    }
+    
+    private long estimateSize(final Object value) {
+        if (null == value) {
+            return 1L;
+        }
+        if (value instanceof String) {
+            return ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        return 8L;
+    }
+    
     private String getWhereCondition(final String primaryKey, final ScalingPosition<?> position) {
         if (null == primaryKey || null == position) {
             return "";
@@ -127,6 +175,29 @@ public abstract class AbstractInventoryDumper extends AbstractScalingExecutor im
         return resultSet.getObject(index);
     }
     
+    /**
+     * Query replication lag of the source being dumped.
+     * If source is a replica, it is the lag of source itself, otherwise the max lag of its replicas if available.
+     *
+     * @param connection connection to source
+     * @return replication lag milliseconds, negative means unknown
+     * @throws SQLException SQL exception
+     */
+    protected long queryReplicationLagMilliseconds(final Connection connection) throws SQLException {
+        return -1L;
+    }
+    
+    /**
+     * Query count of threads running on the source being dumped, which reflects load of primary.
+     *
+     * @param connection connection to source
+     * @return threads running, negative means unknown
+     * @throws SQLException SQL exception
+     */
+    protected long queryThreadsRunning(final Connection connection) throws SQLException {
+        return -1L;
+    }
+    
     private void pushRecord(final Record record) {
         try {
             channel.pushRecord(record);
@@ -17,8 +17,18 @@
 
 package org.apache.shardingsphere.scaling.core.executor.dumper;
 
+import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
+
 /**
  * Incremental dumper.
  */
 public interface IncrementalDumper extends Dumper {
+    
+    /**
+     * Notify the position which all records before have been imported, source log before it could be released.
+     *
+     * @param position acknowledged position
+     */
+    default void ackPosition(ScalingPosition<?> position) {
+    }
 }
@@ -17,8 +17,17 @@
 
 package org.apache.shardingsphere.scaling.core.executor.dumper;
 
+import org.apache.shardingsphere.scaling.core.common.ratelimit.AdaptiveRateLimiter;
+
 /**
  * Inventory dumper.
  */
 public interface InventoryDumper extends Dumper {
+    
+    /**
+     * Set rate limiter.
+     *
+     * @param rateLimiter rate limiter
+     */
+    void setRateLimiter(AdaptiveRateLimiter rateLimiter);
 }
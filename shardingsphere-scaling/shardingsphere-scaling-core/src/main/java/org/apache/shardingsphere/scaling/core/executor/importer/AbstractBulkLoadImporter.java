@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.executor.importer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Savepoint;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abstract bulk load importer, loads inventory data by database native bulk load protocol.
+ * Falls back to batch insert once bulk load failed, and retries bulk load after a cool-down unless it is not supported at all.
+ */
+@Slf4j
+public abstract class AbstractBulkLoadImporter extends AbstractImporter {
+    
+    private static final long BULK_LOAD_COOL_DOWN_MILLIS = TimeUnit.MINUTES.toMillis(1L);
+    
+    private volatile long bulkLoadDisabledUntilMillis;
+    
+    protected AbstractBulkLoadImporter(final ImporterConfiguration importerConfig, final DataSourceManager dataSourceManager) {
+        super(importerConfig, dataSourceManager);
+    }
+    
+    @Override
+    protected final void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        if (System.currentTimeMillis() < bulkLoadDisabledUntilMillis || !isBulkLoadSupported(dataRecords)) {
+            super.executeBatchInsert(connection, dataRecords);
+            return;
+        }
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            bulkLoad(connection, dataRecords.get(0), new RowsInputStream(dataRecords.iterator()));
+            connection.releaseSavepoint(savepoint);
+        } catch (final SQLException ex) {
+            log.warn("bulk load into {} failed, fall back to batch insert.", dataRecords.get(0).getTableName(), ex);
+            connection.rollback(savepoint);
+            bulkLoadDisabledUntilMillis = ex instanceof SQLFeatureNotSupportedException ? Long.MAX_VALUE : System.currentTimeMillis() + BULK_LOAD_COOL_DOWN_MILLIS;
+            super.executeBatchInsert(connection, dataRecords);
+        }
+    }
+    
+    private byte[] encode(final DataRecord dataRecord) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (i > 0) {
+                result.append('\t');
+            }
+            Object value = dataRecord.getColumn(i).getValue();
+            if (null == value) {
+                result.append("\\N");
+            } else {
+                escape(result, formatValue(value));
+            }
+        }
+        result.append('\n');
+        return result.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private void escape(final StringBuilder builder, final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+    }
+    
+    /**
+     * Whether data records could be bulk loaded.
+     *
+     * @param dataRecords insert data records of same table
+     * @return supported or not
+     */
+    protected boolean isBulkLoadSupported(final List<DataRecord> dataRecords) {
+        return true;
+    }
+    
+    /**
+     * Format not null column value as text.
+     *
+     * @param value column value
+     * @return text value
+     */
+    protected String formatValue(final Object value) {
+        return value.toString();
+    }
+    
+    /**
+     * Bulk load tab separated rows, escaped by backslash and null written as \N.
+     *
+     * @param connection connection
+     * @param sampleRecord sample data record of the table
+     * @param rows rows input stream
+     * @throws SQLException SQL exception
+     */
+    protected abstract void bulkLoad(Connection connection, DataRecord sampleRecord, InputStream rows) throws SQLException;
+    
+    /**
+     * Rows input stream, encodes data records one by one while being read.
+     */
+    private final class RowsInputStream extends InputStream {
+        
+        private final Iterator<DataRecord> dataRecords;
+        
+        private byte[] row = new byte[0];
+        
+        private int position;
+        
+        RowsInputStream(final Iterator<DataRecord> dataRecords) {
+            this.dataRecords = dataRecords;
+        }
+        
+        @Override
+        public int read() {
+            return nextRow() ? row[position++] & 0xff : -1;
+        }
+        
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) {
+            if (0 == length) {
+                return 0;
+            }
+            if (!nextRow()) {
+                return -1;
+            }
+            int result = Math.min(length, row.length - position);
+            System.arraycopy(row, position, buffer, offset, result);
+            position += result;
+            return result;
+        }
+        
+        private boolean nextRow() {
+            while (position >= row.length) {
+                if (!dataRecords.hasNext()) {
+                    return false;
+                }
+                row = encode(dataRecords.next());
+                position = 0;
+            }
+            return true;
+        }
+    }
+}
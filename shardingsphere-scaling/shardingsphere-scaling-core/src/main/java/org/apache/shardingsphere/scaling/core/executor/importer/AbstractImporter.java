@@ -17,11 +17,12 @@
 
 package org.apache.shardingsphere.scaling.core.executor.importer;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shardingsphere.scaling.core.common.channel.Channel;
-import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
 import org.apache.shardingsphere.scaling.core.common.record.Column;
@@ -56,6 +57,7 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
     
     private final DataSourceManager dataSourceManager;
     
+    @Getter(AccessLevel.PROTECTED)
     private final ScalingSQLBuilder scalingSqlBuilder;
     
     @Setter
@@ -101,30 +103,19 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
                 .filter(each -> each instanceof DataRecord)
                 .map(each -> (DataRecord) each)
                 .collect(Collectors.toList()));
-        groupedDataRecords.forEach(each -> {
-            if (CollectionUtils.isNotEmpty(each.getDeleteDataRecords())) {
-                flushInternal(dataSource, each.getDeleteDataRecords());
-            }
-            if (CollectionUtils.isNotEmpty(each.getInsertDataRecords())) {
-                flushInternal(dataSource, each.getInsertDataRecords());
-            }
-            if (CollectionUtils.isNotEmpty(each.getUpdateDataRecords())) {
-                flushInternal(dataSource, each.getUpdateDataRecords());
-            }
-        });
-    }
-    
-    private void flushInternal(final DataSource dataSource, final List<DataRecord> buffer) {
-        boolean success = tryFlush(dataSource, buffer);
+        if (groupedDataRecords.isEmpty()) {
+            return;
+        }
+        boolean success = tryFlush(dataSource, groupedDataRecords);
         if (isRunning() && !success) {
             throw new ScalingTaskExecuteException("write failed.");
         }
     }
     
-    private boolean tryFlush(final DataSource dataSource, final List<DataRecord> buffer) {
+    private boolean tryFlush(final DataSource dataSource, final List<GroupedDataRecord> groupedDataRecords) {
         for (int i = 0; isRunning() && i <= importerConfig.getRetryTimes(); i++) {
             try {
-                doFlush(dataSource, buffer);
+                doFlush(dataSource, groupedDataRecords);
                 return true;
             } catch (final SQLException ex) {
                 log.error("flush failed {}/{} times.", i, importerConfig.getRetryTimes(), ex);
@@ -134,27 +125,32 @@ public abstract class AbstractImporter extends AbstractScalingExecutor implement
         return false;
     }
     
-    private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
+    private void doFlush(final DataSource dataSource, final List<GroupedDataRecord> groupedDataRecords) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
-            switch (buffer.get(0).getType()) {
-                case ScalingConstant.INSERT:
-                    executeBatchInsert(connection, buffer);
-                    break;
-                case ScalingConstant.UPDATE:
-                    executeUpdate(connection, buffer);
-                    break;
-                case ScalingConstant.DELETE:
-                    executeBatchDelete(connection, buffer);
-                    break;
-                default:
-                    break;
+            for (GroupedDataRecord each : groupedDataRecords) {
+                if (CollectionUtils.isNotEmpty(each.getDeleteDataRecords())) {
+                    executeBatchDelete(connection, each.getDeleteDataRecords());
+                }
+                if (CollectionUtils.isNotEmpty(each.getInsertDataRecords())) {
+                    executeBatchInsert(connection, each.getInsertDataRecords());
+                }
+                if (CollectionUtils.isNotEmpty(each.getUpdateDataRecords())) {
+                    executeUpdate(connection, each.getUpdateDataRecords());
+                }
             }
             connection.commit();
         }
     }
     
-    private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+    /**
+     * Execute batch insert.
+     *
+     * @param connection connection
+     * @param dataRecords insert data records of same table
+     * @throws SQLException SQL exception
+     */
+    protected void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         String insertSql = scalingSqlBuilder.buildInsertSQL(dataRecords.get(0));
         try (PreparedStatement ps = connection.prepareStatement(insertSql)) {
             ps.setQueryTimeout(30);
@@ -55,4 +55,17 @@ public final class ImporterFactory {
         ScalingEntry scalingEntry = ScalingEntryLoader.getInstance(databaseType);
         return scalingEntry.getImporterClass().getConstructor(ImporterConfiguration.class, DataSourceManager.class).newInstance(importerConfig, dataSourceManager);
     }
+    
+    /**
+     * New instance of bulk load importer.
+     *
+     * @param importerConfig rdbms configuration
+     * @param dataSourceManager data source factory
+     * @return bulk load importer
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static Importer newBulkLoadInstance(final ImporterConfiguration importerConfig, final DataSourceManager dataSourceManager) {
+        ScalingEntry scalingEntry = ScalingEntryLoader.getInstance(importerConfig.getDataSourceConfig().getDatabaseType().getName());
+        return scalingEntry.getBulkLoadImporterClass().getConstructor(ImporterConfiguration.class, DataSourceManager.class).newInstance(importerConfig, dataSourceManager);
+    }
 }
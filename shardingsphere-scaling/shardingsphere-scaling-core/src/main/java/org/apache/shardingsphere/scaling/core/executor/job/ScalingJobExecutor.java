@@ -25,6 +25,7 @@ import org.apache.shardingsphere.governance.repository.api.listener.DataChangedE
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.scaling.core.api.ScalingAPIFactory;
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
+import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
 import org.apache.shardingsphere.scaling.core.executor.AbstractScalingExecutor;
 import org.apache.shardingsphere.scaling.core.job.ScalingJob;
 import org.apache.shardingsphere.scaling.core.job.schedule.JobSchedulerCenter;
@@ -65,6 +66,7 @@ public final class ScalingJobExecutor extends AbstractScalingExecutor {
             switch (event.getType()) {
                 case ADDED:
                 case UPDATED:
+                    updateRateLimit(jobConfigPOJO);
                     execute(jobConfigPOJO);
                     break;
                 default:
@@ -87,6 +89,11 @@ public final class ScalingJobExecutor extends AbstractScalingExecutor {
         return Optional.empty();
     }
     
+    private void updateRateLimit(final JobConfigurationPOJO jobConfigPOJO) {
+        JobConfiguration jobConfig = YamlEngine.unmarshal(jobConfigPOJO.getJobParameter(), JobConfiguration.class);
+        JobSchedulerCenter.updateRateLimit(Long.parseLong(jobConfigPOJO.getJobName()), jobConfig.getHandleConfig().getRateLimitConfig());
+    }
+    
     private void execute(final JobConfigurationPOJO jobConfigPOJO) {
         if (EXECUTING_JOBS.add(jobConfigPOJO.getJobName())) {
             new OneOffJobBootstrap(ScalingAPIFactory.getRegistryCenter(), new ScalingJob(), jobConfigPOJO.toJobConfiguration()).execute();
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.scaling.core.job;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.scaling.core.common.ratelimit.AdaptiveRateLimiter;
 import org.apache.shardingsphere.scaling.core.config.JobConfiguration;
 import org.apache.shardingsphere.scaling.core.config.TaskConfiguration;
 import org.apache.shardingsphere.scaling.core.job.progress.JobProgress;
@@ -52,11 +53,14 @@ public final class JobContext {
     
     private JobConfiguration jobConfig;
     
+    private final AdaptiveRateLimiter rateLimiter;
+    
     public JobContext(final JobConfiguration jobConfig) {
         this.jobConfig = jobConfig;
         JobConfigurationUtil.fillInProperties(jobConfig);
         jobId = jobConfig.getHandleConfig().getJobId();
         shardingItem = jobConfig.getHandleConfig().getShardingItem();
         taskConfigs = JobConfigurationUtil.toTaskConfigs(jobConfig);
+        rateLimiter = new AdaptiveRateLimiter(jobConfig.getHandleConfig().getRateLimitConfig());
     }
 }
@@ -62,7 +62,7 @@ public final class InventoryTaskSplitter {
     public List<InventoryTask> splitInventoryData(final JobContext jobContext, final TaskConfiguration taskConfig, final DataSourceManager dataSourceManager) {
         List<InventoryTask> result = new LinkedList<>();
         for (InventoryDumperConfiguration each : splitDumperConfig(jobContext, taskConfig.getDumperConfig(), dataSourceManager)) {
-            result.add(ScalingTaskFactory.createInventoryTask(each, taskConfig.getImporterConfig()));
+            result.add(ScalingTaskFactory.createInventoryTask(each, taskConfig.getImporterConfig(), jobContext.getRateLimiter()));
         }
         return result;
     }
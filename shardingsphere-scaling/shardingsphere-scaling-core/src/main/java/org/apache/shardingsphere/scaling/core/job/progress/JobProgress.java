@@ -51,6 +51,9 @@ public final class JobProgress {
     
     private Map<String, IncrementalTaskProgress> incrementalTaskProgressMap;
     
+    private long rowsPerSecond;
+    
+    private long bytesPerSecond;
     
     /**
      * Init by string data.
@@ -51,6 +51,8 @@ public final class JobProgressYamlSwapper {
         result.setDatabaseType(jobProgress.getDatabaseType());
         result.setInventory(getYamlInventory(jobProgress.getInventoryTaskProgressMap()));
         result.setIncremental(getYamlIncremental(jobProgress.getIncrementalTaskProgressMap()));
+        result.setRowsPerSecond(jobProgress.getRowsPerSecond());
+        result.setBytesPerSecond(jobProgress.getBytesPerSecond());
         return result;
     }
     
@@ -96,6 +98,8 @@ public final class JobProgressYamlSwapper {
         result.setDatabaseType(yamlJobProgress.getDatabaseType());
         result.setInventoryTaskProgressMap(getInventoryTaskProgressMap(yamlJobProgress.getInventory()));
         result.setIncrementalTaskProgressMap(getIncrementalTaskProgressMap(yamlJobProgress.getDatabaseType(), yamlJobProgress.getIncremental()));
+        result.setRowsPerSecond(yamlJobProgress.getRowsPerSecond());
+        result.setBytesPerSecond(yamlJobProgress.getBytesPerSecond());
         return result;
     }
     
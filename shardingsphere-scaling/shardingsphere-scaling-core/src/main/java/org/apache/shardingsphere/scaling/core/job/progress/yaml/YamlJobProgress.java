@@ -39,6 +39,10 @@ public final class YamlJobProgress {
     
     private Map<String, YamlIncremental> incremental;
     
+    private long rowsPerSecond;
+    
+    private long bytesPerSecond;
+    
     @Getter
     @Setter
     public static final class YamlInventory {
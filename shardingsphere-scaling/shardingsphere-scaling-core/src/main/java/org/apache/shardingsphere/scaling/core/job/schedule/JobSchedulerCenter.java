@@ -24,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.scaling.core.api.RegistryRepositoryAPI;
 import org.apache.shardingsphere.scaling.core.api.ScalingAPIFactory;
+import org.apache.shardingsphere.scaling.core.config.RateLimitConfiguration;
 import org.apache.shardingsphere.scaling.core.job.JobContext;
 
 import java.util.Iterator;
@@ -32,6 +33,7 @@ import java.util.Map.Entry;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Job scheduler center.
@@ -81,18 +83,30 @@ public final class JobSchedulerCenter {
         }
     }
     
+    /**
+     * Update rate limit of running job.
+     *
+     * @param jobId job id
+     * @param rateLimitConfig rate limit configuration
+     */
+    public static void updateRateLimit(final long jobId, final RateLimitConfiguration rateLimitConfig) {
+        for (Entry<String, JobScheduler> entry : JOB_SCHEDULER_MAP.entrySet()) {
+            if (entry.getKey().startsWith(String.format("%d-", jobId))) {
+                entry.getValue().getJobContext().getRateLimiter().updateConfig(rateLimitConfig);
+            }
+        }
+    }
+    
     private static final class PersistJobContextRunnable implements Runnable {
         
         @Override
         public void run() {
-            for (Map.Entry<String, JobScheduler> entry : JOB_SCHEDULER_MAP.entrySet()) {
-                try {
-                    REGISTRY_REPOSITORY_API.persistJobProgress(entry.getValue().getJobContext());
-                    // CHECKSTYLE:OFF
-                } catch (final Exception ex) {
-                    // CHECKSTYLE:ON
-                    log.error("persist job {} context failed.", entry.getKey(), ex);
-                }
+            try {
+                REGISTRY_REPOSITORY_API.persistJobProgresses(JOB_SCHEDULER_MAP.values().stream().map(JobScheduler::getJobContext).collect(Collectors.toList()));
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.error("persist job contexts failed.", ex);
             }
         }
     }
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.scaling.core.job.task;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.common.ratelimit.AdaptiveRateLimiter;
 import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
@@ -42,6 +44,18 @@ public final class ScalingTaskFactory {
         return new InventoryTask(inventoryDumperConfig, importerConfig);
     }
     
+    /**
+     * Create inventory task.
+     *
+     * @param inventoryDumperConfig inventory dumper configuration
+     * @param importerConfig importer configuration
+     * @param rateLimiter rate limiter shared by the tasks of one job
+     * @return inventory task
+     */
+    public static InventoryTask createInventoryTask(final InventoryDumperConfiguration inventoryDumperConfig, final ImporterConfiguration importerConfig, final AdaptiveRateLimiter rateLimiter) {
+        return new InventoryTask(inventoryDumperConfig, importerConfig, new DataSourceManager(), rateLimiter);
+    }
+    
     /**
      * Create incremental task.
      *
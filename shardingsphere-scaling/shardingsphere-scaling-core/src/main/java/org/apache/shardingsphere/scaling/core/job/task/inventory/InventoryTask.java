@@ -22,13 +22,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.common.channel.MemoryChannel;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
+import org.apache.shardingsphere.scaling.core.common.ratelimit.AdaptiveRateLimiter;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
 import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
 import org.apache.shardingsphere.scaling.core.config.InventoryDumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.ScalingContext;
 import org.apache.shardingsphere.scaling.core.executor.AbstractScalingExecutor;
-import org.apache.shardingsphere.scaling.core.executor.dumper.Dumper;
 import org.apache.shardingsphere.scaling.core.executor.dumper.DumperFactory;
+import org.apache.shardingsphere.scaling.core.executor.dumper.InventoryDumper;
 import org.apache.shardingsphere.scaling.core.executor.engine.ExecuteCallback;
 import org.apache.shardingsphere.scaling.core.executor.importer.Importer;
 import org.apache.shardingsphere.scaling.core.executor.importer.ImporterFactory;
@@ -55,7 +56,9 @@ public final class InventoryTask extends AbstractScalingExecutor implements Scal
     
     private final DataSourceManager dataSourceManager;
     
-    private Dumper dumper;
+    private final AdaptiveRateLimiter rateLimiter;
+    
+    private InventoryDumper dumper;
     
     private ScalingPosition<?> position;
     
@@ -64,9 +67,15 @@ public final class InventoryTask extends AbstractScalingExecutor implements Scal
     }
     
     public InventoryTask(final InventoryDumperConfiguration inventoryDumperConfig, final ImporterConfiguration importerConfig, final DataSourceManager dataSourceManager) {
+        this(inventoryDumperConfig, importerConfig, dataSourceManager, new AdaptiveRateLimiter());
+    }
+    
+    public InventoryTask(final InventoryDumperConfiguration inventoryDumperConfig, final ImporterConfiguration importerConfig,
+            final DataSourceManager dataSourceManager, final AdaptiveRateLimiter rateLimiter) {
         this.inventoryDumperConfig = inventoryDumperConfig;
         this.importerConfig = importerConfig;
         this.dataSourceManager = dataSourceManager;
+        this.rateLimiter = rateLimiter;
         taskId = generateTaskId(inventoryDumperConfig);
         position = inventoryDumperConfig.getPosition();
     }
@@ -79,7 +88,8 @@ public final class InventoryTask extends AbstractScalingExecutor implements Scal
     @Override
     public void start() {
         instanceDumper();
-        Importer importer = ImporterFactory.newInstance(importerConfig, dataSourceManager);
+        Importer importer = importerConfig.isBulkLoad()
+                ? ImporterFactory.newBulkLoadInstance(importerConfig, dataSourceManager) : ImporterFactory.newInstance(importerConfig, dataSourceManager);
         instanceChannel(importer);
         Future<?> future = ScalingContext.getInstance().getImporterExecuteEngine().submit(importer, new ExecuteCallback() {
             
@@ -100,6 +110,7 @@ public final class InventoryTask extends AbstractScalingExecutor implements Scal
     
     private void instanceDumper() {
         dumper = DumperFactory.newInstanceJdbcDumper(inventoryDumperConfig, dataSourceManager);
+        dumper.setRateLimiter(rateLimiter);
     }
     
     private void instanceChannel(final Importer importer) {
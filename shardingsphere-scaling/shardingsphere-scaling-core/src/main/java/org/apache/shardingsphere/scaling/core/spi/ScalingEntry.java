@@ -58,6 +58,13 @@ public interface ScalingEntry extends DatabaseTypeAwareSPI {
      */
     Class<? extends Importer> getImporterClass();
     
+    /**
+     * Get bulk load importer type, only used in inventory phase.
+     *
+     * @return bulk load importer type
+     */
+    Class<? extends Importer> getBulkLoadImporterClass();
+    
     /**
      * Get environment checker type.
      *
@@ -358,6 +358,7 @@ public final class JobConfigurationUtil {
         result.setDataSourceConfig(jobConfig.getRuleConfig().getTarget().unwrap());
         result.setShardingColumnsMap(shardingColumnsMap);
         result.setRetryTimes(jobConfig.getHandleConfig().getRetryTimes());
+        result.setBulkLoad(jobConfig.getHandleConfig().isBulkLoad());
         return result;
     }
 }
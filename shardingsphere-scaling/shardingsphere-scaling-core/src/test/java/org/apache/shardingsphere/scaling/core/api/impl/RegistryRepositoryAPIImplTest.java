@@ -40,6 +40,7 @@ import org.apache.shardingsphere.scaling.core.util.ResourceUtil;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
@@ -67,6 +68,14 @@ public final class RegistryRepositoryAPIImplTest {
         assertThat(actual.toString(), is(mockYamlJobProgress()));
     }
     
+    @Test
+    public void assertPersistJobProgresses() {
+        JobContext jobContext = mockJobContext();
+        registryRepositoryAPI.persistJobProgresses(Collections.singletonList(jobContext));
+        JobProgress actual = registryRepositoryAPI.getJobProgress(jobContext.getJobId(), jobContext.getShardingItem());
+        assertThat(actual.toString(), is(mockYamlJobProgress()));
+    }
+    
     @Test
     public void assertDeleteJob() {
         registryRepositoryAPI.persist(ScalingConstant.SCALING_ROOT + "/1", "");
@@ -126,7 +135,8 @@ public final class RegistryRepositoryAPIImplTest {
     }
     
     private String mockYamlJobProgress() {
-        return "databaseType: H2\n"
+        return "bytesPerSecond: 0\n"
+                + "databaseType: H2\n"
                 + "incremental:\n"
                 + "  ds_0:\n"
                 + "    delay:\n"
@@ -136,6 +146,7 @@ public final class RegistryRepositoryAPIImplTest {
                 + "inventory:\n"
                 + "  unfinished:\n"
                 + "    ds_0.t_order#0: ''\n"
+                + "rowsPerSecond: 0\n"
                 + "status: RUNNING\n";
     }
 }
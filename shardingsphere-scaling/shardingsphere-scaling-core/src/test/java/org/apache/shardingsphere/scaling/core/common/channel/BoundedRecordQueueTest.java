@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel;
+
+import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BoundedRecordQueueTest {
+    
+    @Test
+    public void assertPutAllAndDrainTo() throws InterruptedException {
+        BoundedRecordQueue queue = new BoundedRecordQueue(10);
+        queue.putAll(createRecords(3));
+        assertThat(queue.size(), is(3));
+        List<Record> actual = new ArrayList<>();
+        assertThat(queue.drainTo(actual, 2), is(2));
+        assertThat(actual.size(), is(2));
+        assertThat(queue.size(), is(1));
+    }
+    
+    @Test
+    public void assertPutAllLargerThanCapacityIntoEmptyQueue() throws InterruptedException {
+        BoundedRecordQueue queue = new BoundedRecordQueue(2);
+        queue.putAll(createRecords(3));
+        assertThat(queue.size(), is(3));
+    }
+    
+    @Test
+    public void assertPutAllWaitForFreeSpace() throws InterruptedException {
+        BoundedRecordQueue queue = new BoundedRecordQueue(2);
+        queue.putAll(createRecords(2));
+        CountDownLatch putLatch = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            try {
+                queue.putAll(createRecords(1));
+                putLatch.countDown();
+            } catch (final InterruptedException ignored) {
+            }
+        });
+        thread.start();
+        assertFalse(putLatch.await(100L, TimeUnit.MILLISECONDS));
+        queue.drainTo(new ArrayList<>(), 1);
+        assertTrue(putLatch.await(1L, TimeUnit.SECONDS));
+        assertThat(queue.size(), is(2));
+    }
+    
+    private List<Record> createRecords(final int count) {
+        Record[] result = new Record[count];
+        Arrays.fill(result, new PlaceholderRecord(new PlaceholderPosition()));
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+}
@@ -25,9 +25,11 @@ import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public final class MemoryChannelTest {
@@ -46,6 +48,19 @@ public final class MemoryChannelTest {
         assertThat(records.size(), is(1));
     }
     
+    @Test
+    public void assertPushRecords() throws InterruptedException {
+        MemoryChannel memoryChannel = new MemoryChannel(records -> {
+        });
+        DataRecord firstRecord = new DataRecord(new PlaceholderPosition(), 1);
+        DataRecord secondRecord = new DataRecord(new PlaceholderPosition(), 1);
+        memoryChannel.pushRecords(Arrays.asList(firstRecord, secondRecord));
+        List<Record> actual = memoryChannel.fetchRecords(10, 0);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), sameInstance((Record) firstRecord));
+        assertThat(actual.get(1), sameInstance((Record) secondRecord));
+    }
+    
     @Test
     public void assertAck() throws InterruptedException {
         MemoryChannel memoryChannel = new MemoryChannel(records -> assertThat(records.size(), is(1)));
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.channel.distribution;
+
+import org.apache.shardingsphere.scaling.core.common.record.CommitRecord;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.config.ScalingContext;
+import org.apache.shardingsphere.scaling.core.config.ServerConfiguration;
+import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class BlockingQueueChannelTest {
+    
+    private BlockingQueueChannel channel;
+    
+    @Before
+    public void setUp() {
+        ScalingContext.getInstance().init(new ServerConfiguration());
+        channel = new BlockingQueueChannel();
+    }
+    
+    @Test
+    public void assertFetchRecordsWithoutTransaction() throws InterruptedException {
+        channel.pushRecord(new DataRecord(new PlaceholderPosition(), 1), 0);
+        channel.pushRecord(new DataRecord(new PlaceholderPosition(), 1), 1);
+        assertThat(channel.fetchRecords(100, 0).size(), is(2));
+    }
+    
+    @Test
+    public void assertFetchRecordsUntilLastCommit() throws InterruptedException {
+        channel.pushRecord(new DataRecord(new PlaceholderPosition(), 1), 0);
+        channel.pushRecord(new CommitRecord(new PlaceholderPosition()), 1);
+        channel.pushRecord(new DataRecord(new PlaceholderPosition(), 1), 2);
+        List<Record> actual = channel.fetchRecords(100, 0);
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.get(1) instanceof CommitRecord);
+        assertTrue(channel.fetchRecords(100, 0).isEmpty());
+        channel.pushRecord(new CommitRecord(new PlaceholderPosition()), 3);
+        assertThat(channel.fetchRecords(100, 0).size(), is(2));
+    }
+    
+    @Test
+    public void assertFetchRecordsSplitLargeTransaction() throws InterruptedException {
+        channel.pushRecord(new CommitRecord(new PlaceholderPosition()), 0);
+        channel.pushRecord(new DataRecord(new PlaceholderPosition(), 1), 1);
+        channel.pushRecord(new DataRecord(new PlaceholderPosition(), 1), 2);
+        assertThat(channel.fetchRecords(1, 0).size(), is(1));
+        assertThat(channel.fetchRecords(2, 0).size(), is(2));
+    }
+    
+    @Test
+    public void assertPushRecords() throws InterruptedException {
+        channel.pushRecords(Arrays.asList(new DataRecord(new PlaceholderPosition(), 1), new CommitRecord(new PlaceholderPosition())), Arrays.asList(0L, 1L));
+        assertThat(channel.fetchRecords(100, 0).size(), is(2));
+        channel.ack();
+        assertThat(channel.getAckBitSet(0).cardinality(), is(2));
+    }
+    
+    @Test
+    public void assertAck() throws InterruptedException {
+        channel.pushRecord(new DataRecord(new PlaceholderPosition(), 1), 0);
+        channel.pushRecord(new CommitRecord(new PlaceholderPosition()), 1);
+        channel.fetchRecords(100, 0);
+        channel.ack();
+        assertThat(channel.getAckBitSet(0).cardinality(), is(2));
+    }
+}
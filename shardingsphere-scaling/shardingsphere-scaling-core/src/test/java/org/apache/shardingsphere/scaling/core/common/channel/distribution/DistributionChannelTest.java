@@ -21,6 +21,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.scaling.core.common.channel.AckCallback;
+import org.apache.shardingsphere.scaling.core.common.record.Column;
+import org.apache.shardingsphere.scaling.core.common.record.CommitRecord;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
@@ -33,12 +35,18 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -68,6 +76,155 @@ public final class DistributionChannelTest {
         execute(records -> assertThat(records.size(), is(2)), 2, new FinishedRecord(new PlaceholderPosition()));
     }
     
+    @Test
+    public void assertCommitRecordWithoutDataRecordAutoAcknowledged() {
+        execute(records -> assertThat(records.size(), is(1)), 0, new CommitRecord(new PlaceholderPosition()));
+    }
+    
+    @Test
+    public void assertCommitRecordFollowsDataRecord() {
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 0);
+        dataRecord.setTableName("t_order");
+        execute(records -> assertThat(records.size(), is(3)), 2, new CommitRecord(new PlaceholderPosition()), dataRecord, new CommitRecord(new PlaceholderPosition()));
+    }
+    
+    @Test
+    @SneakyThrows(InterruptedException.class)
+    public void assertPushRecords() {
+        Record[] records = mockRecords();
+        CountDownLatch countDownLatch = new CountDownLatch(countDataRecord(records));
+        AtomicInteger ackCount = new AtomicInteger();
+        DistributionChannel distributionChannel = new DistributionChannel(2, ackRecords -> ackCount.addAndGet(ackRecords.size()));
+        fetchWithMultiThreading(distributionChannel, new ConcurrentHashMap<>(), countDownLatch);
+        distributionChannel.pushRecords(Arrays.asList(records));
+        countDownLatch.await();
+        distributionChannel.close();
+        assertThat(ackCount.get(), is(records.length));
+    }
+    
+    @Test
+    @SneakyThrows(InterruptedException.class)
+    public void assertTransactionPushedToOneChannel() {
+        DistributionChannel distributionChannel = new DistributionChannel(2, ackRecords -> { });
+        distributionChannel.pushRecord(new CommitRecord(new PlaceholderPosition()));
+        for (int i = 0; i < 10; i++) {
+            distributionChannel.pushRecord(createDataRecord("INSERT", new Column("id", i, true, true)));
+        }
+        distributionChannel.pushRecord(new CommitRecord(new PlaceholderPosition()));
+        Map<Long, List<Record>> fetchedRecords = new ConcurrentHashMap<>();
+        CountDownLatch countDownLatch = new CountDownLatch(11);
+        fetchWithMultiThreading(distributionChannel, fetchedRecords, countDownLatch);
+        countDownLatch.await();
+        distributionChannel.close();
+        List<List<Record>> nonEmptyRecords = fetchedRecords.values().stream().filter(each -> !each.isEmpty()).collect(Collectors.toList());
+        assertThat(nonEmptyRecords.size(), is(1));
+        assertThat(nonEmptyRecords.get(0).size(), is(11));
+        assertThat(nonEmptyRecords.get(0).get(10), instanceOf(CommitRecord.class));
+    }
+    
+    @Test
+    @SneakyThrows(InterruptedException.class)
+    public void assertTransactionWaitsForKeysInFlightOnOtherChannels() {
+        int otherPrimaryKey = findPrimaryKeyOnOtherChannel(1);
+        DataRecord firstRecord = createDataRecord("UPDATE", new Column("id", 1, false, true));
+        DataRecord secondRecord = createDataRecord("UPDATE", new Column("id", otherPrimaryKey, false, true));
+        DataRecord dependentRecord = createDataRecord("DELETE", new Column("id", 1, false, true));
+        DistributionChannel distributionChannel = new DistributionChannel(2, ackRecords -> { });
+        distributionChannel.pushRecord(new CommitRecord(new PlaceholderPosition()));
+        distributionChannel.pushRecords(Arrays.asList(firstRecord, new CommitRecord(new PlaceholderPosition()), secondRecord, new CommitRecord(new PlaceholderPosition())));
+        Thread pushThread = new Thread(() -> pushRecords(distributionChannel,
+                Arrays.asList(dependentRecord, createDataRecord("DELETE", new Column("id", otherPrimaryKey, false, true)), new CommitRecord(new PlaceholderPosition()))));
+        pushThread.start();
+        pushThread.join(300L);
+        assertTrue(pushThread.isAlive());
+        List<Record> globalFetchedRecords = new CopyOnWriteArrayList<>();
+        CountDownLatch countDownLatch = new CountDownLatch(7);
+        fetchWithMultiThreading(distributionChannel, new ConcurrentHashMap<>(), countDownLatch, globalFetchedRecords);
+        countDownLatch.await();
+        pushThread.join();
+        distributionChannel.close();
+        assertTrue(indexOf(globalFetchedRecords, firstRecord) < indexOf(globalFetchedRecords, dependentRecord));
+        assertTrue(indexOf(globalFetchedRecords, secondRecord) < indexOf(globalFetchedRecords, dependentRecord));
+    }
+    
+    @Test
+    @SneakyThrows(InterruptedException.class)
+    public void assertPrimaryKeyUpdateKeepsRowOrder() {
+        int newPrimaryKey = findPrimaryKeyOnOtherChannel(1);
+        DataRecord insertRecord = createDataRecord("INSERT", new Column("id", 1, true, true));
+        DataRecord updatePrimaryKeyRecord = createDataRecord("UPDATE", new Column("id", 1, newPrimaryKey, true, true));
+        DataRecord updateRecord = createDataRecord("UPDATE", new Column("id", newPrimaryKey, false, true));
+        List<Record> globalFetchedRecords = new CopyOnWriteArrayList<>();
+        CountDownLatch countDownLatch = new CountDownLatch(6);
+        DistributionChannel distributionChannel = new DistributionChannel(2, ackRecords -> { });
+        fetchWithMultiThreading(distributionChannel, new ConcurrentHashMap<>(), countDownLatch, globalFetchedRecords);
+        distributionChannel.pushRecord(new CommitRecord(new PlaceholderPosition()));
+        for (DataRecord each : Arrays.asList(insertRecord, updatePrimaryKeyRecord, updateRecord)) {
+            distributionChannel.pushRecord(each);
+            distributionChannel.pushRecord(new CommitRecord(new PlaceholderPosition()));
+        }
+        countDownLatch.await();
+        distributionChannel.close();
+        assertTrue(indexOf(globalFetchedRecords, insertRecord) < indexOf(globalFetchedRecords, updatePrimaryKeyRecord));
+        assertTrue(indexOf(globalFetchedRecords, updatePrimaryKeyRecord) < indexOf(globalFetchedRecords, updateRecord));
+    }
+    
+    private int indexOf(final List<Record> records, final Record record) {
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i) == record) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void pushRecords(final DistributionChannel distributionChannel, final List<Record> records) {
+        distributionChannel.pushRecords(records);
+    }
+    
+    private void fetchWithMultiThreading(final DistributionChannel distributionChannel, final Map<Long, List<Record>> fetchedRecords, final CountDownLatch countDownLatch) {
+        fetchWithMultiThreading(distributionChannel, fetchedRecords, countDownLatch, new CopyOnWriteArrayList<>());
+    }
+    
+    private void fetchWithMultiThreading(final DistributionChannel distributionChannel, final Map<Long, List<Record>> fetchedRecords,
+                                         final CountDownLatch countDownLatch, final List<Record> globalFetchedRecords) {
+        for (int i = 0; i < 2; i++) {
+            Thread thread = new Thread(() -> {
+                List<Record> threadRecords = fetchedRecords.computeIfAbsent(Thread.currentThread().getId(), key -> new CopyOnWriteArrayList<>());
+                while (true) {
+                    List<Record> records = distributionChannel.fetchRecords(100, 0);
+                    threadRecords.addAll(records);
+                    globalFetchedRecords.addAll(records);
+                    distributionChannel.ack();
+                    records.forEach(each -> countDownLatch.countDown());
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+    
+    private int findPrimaryKeyOnOtherChannel(final int primaryKey) {
+        int result = primaryKey + 1;
+        while (getPartition(primaryKey) == getPartition(result)) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int getPartition(final int primaryKey) {
+        return Math.abs(new DataRecord.Key("t_order", Collections.singletonList(primaryKey)).hashCode() % 2);
+    }
+    
+    private DataRecord createDataRecord(final String type, final Column primaryKeyColumn) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 1);
+        result.setType(type);
+        result.setTableName("t_order");
+        result.addColumn(primaryKeyColumn);
+        return result;
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void execute(final AckCallback ackCallback, final int count, final Record... records) {
         CountDownLatch countDownLatch = new CountDownLatch(count);
@@ -76,7 +233,7 @@ public final class DistributionChannelTest {
             ackCallback.onAck(ackRecords);
             acknowledged.set(true);
         });
-        fetchWithMultiThreading(distributionChannel, countDownLatch);
+        fetchWithMultiThreading(distributionChannel, new ConcurrentHashMap<>(), countDownLatch);
         for (Record record : records) {
             distributionChannel.pushRecord(record);
         }
@@ -85,18 +242,6 @@ public final class DistributionChannelTest {
         assertTrue(acknowledged.get());
     }
     
-    private void fetchWithMultiThreading(final DistributionChannel distributionChannel, final CountDownLatch countDownLatch) {
-        for (int i = 0; i < 2; i++) {
-            new Thread(() -> {
-                while (true) {
-                    List<Record> records = distributionChannel.fetchRecords(100, 0);
-                    distributionChannel.ack();
-                    records.forEach(each -> countDownLatch.countDown());
-                }
-            }).start();
-        }
-    }
-    
     private Record[] mockRecords() {
         Record[] result = new Record[100];
         Random random = new Random();
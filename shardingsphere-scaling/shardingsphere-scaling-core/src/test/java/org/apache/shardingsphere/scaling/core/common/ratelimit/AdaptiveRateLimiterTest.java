@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.common.ratelimit;
+
+import org.apache.shardingsphere.scaling.core.config.RateLimitConfiguration;
+import org.apache.shardingsphere.scaling.core.util.ReflectionUtil;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class AdaptiveRateLimiterTest {
+    
+    @Test
+    public void assertAcquireWithoutLimit() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter();
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < 10000; i++) {
+            rateLimiter.acquire(1, 100L);
+        }
+        assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(1));
+        assertFalse(rateLimiter.isSourceProbeEnabled());
+    }
+    
+    @Test
+    public void assertAcquireWithRowsLimit() {
+        RateLimitConfiguration rateLimitConfig = new RateLimitConfiguration();
+        rateLimitConfig.setMaxRowsPerSecond(100L);
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(rateLimitConfig);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < 21; i++) {
+            rateLimiter.acquire(1, 0L);
+        }
+        assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(180));
+    }
+    
+    @Test
+    public void assertAcquireWithBytesLimit() {
+        RateLimitConfiguration rateLimitConfig = new RateLimitConfiguration();
+        rateLimitConfig.setMaxBytesPerSecond(1000L);
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(rateLimitConfig);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire(1, 100L);
+        }
+        assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(180));
+    }
+    
+    @Test
+    public void assertBackoffAndRecoverByLatency() throws ReflectiveOperationException {
+        RateLimitConfiguration rateLimitConfig = new RateLimitConfiguration();
+        rateLimitConfig.setMaxLatencyMilliseconds(10L);
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(rateLimitConfig);
+        rateLimiter.reportLatency(100L);
+        expireWindow(rateLimiter);
+        rateLimiter.acquire(1, 0L);
+        assertThat(rateLimiter.getFactor(), is(0.5));
+        expireWindow(rateLimiter);
+        rateLimiter.acquire(1, 0L);
+        assertThat(rateLimiter.getFactor(), is(0.55));
+    }
+    
+    @Test
+    public void assertBackoffByLag() throws ReflectiveOperationException {
+        RateLimitConfiguration rateLimitConfig = new RateLimitConfiguration();
+        rateLimitConfig.setMaxRowsPerSecond(1000000L);
+        rateLimitConfig.setMaxLagMilliseconds(1000L);
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(rateLimitConfig);
+        assertTrue(rateLimiter.isSourceProbeEnabled());
+        rateLimiter.reportLag(5000L);
+        expireWindow(rateLimiter);
+        rateLimiter.acquire(10, 0L);
+        assertThat(rateLimiter.getFactor(), is(0.5));
+        assertTrue(rateLimiter.getRowsPerSecond() > 0L);
+    }
+    
+    @Test
+    public void assertBackoffByThreadsRunning() throws ReflectiveOperationException {
+        RateLimitConfiguration rateLimitConfig = new RateLimitConfiguration();
+        rateLimitConfig.setMaxThreadsRunning(32L);
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter(rateLimitConfig);
+        assertTrue(rateLimiter.isSourceProbeEnabled());
+        rateLimiter.reportLag(-1L);
+        rateLimiter.reportThreadsRunning(64L);
+        expireWindow(rateLimiter);
+        rateLimiter.acquire(10, 0L);
+        assertThat(rateLimiter.getFactor(), is(0.5));
+    }
+    
+    @Test
+    public void assertUpdateConfig() {
+        AdaptiveRateLimiter rateLimiter = new AdaptiveRateLimiter();
+        RateLimitConfiguration rateLimitConfig = new RateLimitConfiguration();
+        rateLimitConfig.setMaxLagMilliseconds(1000L);
+        rateLimiter.updateConfig(rateLimitConfig);
+        assertThat(rateLimiter.getRateLimitConfig(), is(rateLimitConfig));
+        assertTrue(rateLimiter.isSourceProbeEnabled());
+    }
+    
+    private void expireWindow(final AdaptiveRateLimiter rateLimiter) throws ReflectiveOperationException {
+        ReflectionUtil.setFieldValue(rateLimiter, "windowStartNanos", System.nanoTime() - TimeUnit.SECONDS.toNanos(2));
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.core.executor.importer;
+
+import com.google.common.collect.Maps;
+import org.apache.shardingsphere.scaling.core.common.channel.Channel;
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.common.record.Column;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
+import org.apache.shardingsphere.scaling.core.common.record.Record;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
+import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
+import org.apache.shardingsphere.scaling.core.config.datasource.ScalingDataSourceConfiguration;
+import org.apache.shardingsphere.scaling.core.job.position.PlaceholderPosition;
+import org.apache.shardingsphere.scaling.core.util.ReflectionUtil;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Savepoint;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class AbstractBulkLoadImporterTest {
+    
+    private static final String INSERT_SQL = "INSERT INTO test_table (id,user,status) VALUES(?,?,?)";
+    
+    @Mock
+    private DataSourceManager dataSourceManager;
+    
+    @Mock
+    private ScalingSQLBuilder scalingSqlBuilder;
+    
+    @Mock
+    private ScalingDataSourceConfiguration dataSourceConfig;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private DataSource dataSource;
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock
+    private PreparedStatement preparedStatement;
+    
+    @Mock
+    private Savepoint savepoint;
+    
+    private String loadedRows;
+    
+    private SQLException bulkLoadException;
+    
+    private AbstractBulkLoadImporter bulkLoadImporter;
+    
+    @Before
+    public void setUp() throws SQLException {
+        bulkLoadImporter = new AbstractBulkLoadImporter(mockImporterConfiguration(), dataSourceManager) {
+            
+            @Override
+            protected ScalingSQLBuilder createSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
+                return scalingSqlBuilder;
+            }
+            
+            @Override
+            protected void bulkLoad(final Connection connection, final DataRecord sampleRecord, final InputStream rows) throws SQLException {
+                if (null != bulkLoadException) {
+                    throw bulkLoadException;
+                }
+                loadedRows = read(rows);
+            }
+        };
+        bulkLoadImporter.setChannel(channel);
+        when(dataSourceManager.getDataSource(dataSourceConfig)).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.setSavepoint()).thenReturn(savepoint);
+    }
+    
+    @Test
+    public void assertBulkLoad() throws SQLException {
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(getDataRecord(1, "a\tb"), getDataRecord(2, null)));
+        bulkLoadImporter.run();
+        assertThat(loadedRows.length(), is("1\ta\\tb\n2\t\\N\n".length()));
+        assertThat(loadedRows, containsString("1\ta\\tb\n"));
+        assertThat(loadedRows, containsString("2\t\\N\n"));
+        verify(connection).releaseSavepoint(savepoint);
+        verify(connection, never()).prepareStatement(INSERT_SQL);
+        verify(connection).commit();
+    }
+    
+    @Test
+    public void assertFallbackToBatchInsert() throws SQLException {
+        bulkLoadException = new SQLException("duplicate key");
+        DataRecord insertRecord = getDataRecord(1, "a");
+        when(scalingSqlBuilder.buildInsertSQL(insertRecord)).thenReturn(INSERT_SQL);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(insertRecord));
+        bulkLoadImporter.run();
+        verify(connection).rollback(savepoint);
+        verify(preparedStatement).setObject(1, 1);
+        verify(preparedStatement).setObject(2, "a");
+        verify(preparedStatement).executeBatch();
+        verify(connection).commit();
+    }
+    
+    @Test
+    public void assertRetryBulkLoadAfterCoolDown() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        bulkLoadException = new SQLException("lock wait timeout");
+        DataRecord insertRecord = getDataRecord(1, "a");
+        when(scalingSqlBuilder.buildInsertSQL(insertRecord)).thenReturn(INSERT_SQL);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(insertRecord));
+        bulkLoadImporter.run();
+        bulkLoadException = null;
+        bulkLoadImporter.run();
+        assertThat(loadedRows, nullValue());
+        Field bulkLoadDisabledUntilMillis = ReflectionUtil.getField(AbstractBulkLoadImporter.class, "bulkLoadDisabledUntilMillis", true);
+        assertTrue((long) bulkLoadDisabledUntilMillis.get(bulkLoadImporter) < Long.MAX_VALUE);
+        bulkLoadDisabledUntilMillis.set(bulkLoadImporter, 0L);
+        bulkLoadImporter.run();
+        assertThat(loadedRows, is("1\ta\n"));
+    }
+    
+    @Test
+    public void assertDisableBulkLoadIfNotSupported() throws SQLException, NoSuchFieldException, IllegalAccessException {
+        bulkLoadException = new SQLFeatureNotSupportedException("not supported");
+        DataRecord insertRecord = getDataRecord(1, "a");
+        when(scalingSqlBuilder.buildInsertSQL(insertRecord)).thenReturn(INSERT_SQL);
+        when(connection.prepareStatement(INSERT_SQL)).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(mockRecords(insertRecord));
+        bulkLoadImporter.run();
+        assertThat(ReflectionUtil.getField(AbstractBulkLoadImporter.class, "bulkLoadDisabledUntilMillis", true).get(bulkLoadImporter), is((Object) Long.MAX_VALUE));
+    }
+    
+    private static String read(final InputStream rows) throws SQLException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        try {
+            for (int length = rows.read(buffer); -1 != length; length = rows.read(buffer)) {
+                result.write(buffer, 0, length);
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        return new String(result.toByteArray(), StandardCharsets.UTF_8);
+    }
+    
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
+        result.add(new FinishedRecord(new PlaceholderPosition()));
+        return result;
+    }
+    
+    private DataRecord getDataRecord(final int id, final String name) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 2);
+        result.setTableName("test_table");
+        result.setType("INSERT");
+        result.addColumn(new Column("id", id, false, true));
+        result.addColumn(new Column("name", name, true, false));
+        return result;
+    }
+    
+    private ImporterConfiguration mockImporterConfiguration() {
+        ImporterConfiguration result = new ImporterConfiguration();
+        result.setDataSourceConfig(dataSourceConfig);
+        result.setShardingColumnsMap(Maps.newHashMap());
+        result.setBulkLoad(true);
+        return result;
+    }
+}
@@ -47,6 +47,11 @@ public final class FixtureScalingEntry implements ScalingEntry {
         return FixtureImporter.class;
     }
     
+    @Override
+    public Class<? extends Importer> getBulkLoadImporterClass() {
+        return FixtureImporter.class;
+    }
+    
     @Override
     public Class<? extends EnvironmentChecker> getEnvironmentCheckerClass() {
         return FixtureEnvironmentChecker.class;
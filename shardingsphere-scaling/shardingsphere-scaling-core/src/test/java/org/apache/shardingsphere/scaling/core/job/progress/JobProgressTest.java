@@ -84,7 +84,8 @@ public final class JobProgressTest {
     }
     
     private String mockJobProgressYamlString() {
-        return "databaseType: H2\n"
+        return "bytesPerSecond: 0\n"
+                + "databaseType: H2\n"
                 + "incremental:\n"
                 + "  ds0:\n"
                 + "    delay:\n"
@@ -98,6 +99,7 @@ public final class JobProgressTest {
                 + "  unfinished:\n"
                 + "    ds1.t_2: 1,2\n"
                 + "    ds1.t_1: ''\n"
+                + "rowsPerSecond: 0\n"
                 + "status: RUNNING\n";
     }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.scaling.mysql;
 
 import org.apache.shardingsphere.scaling.core.spi.ScalingEntry;
+import org.apache.shardingsphere.scaling.mysql.component.MySQLBulkLoadImporter;
 import org.apache.shardingsphere.scaling.mysql.component.MySQLImporter;
 import org.apache.shardingsphere.scaling.mysql.component.MySQLIncrementalDumper;
 import org.apache.shardingsphere.scaling.mysql.component.MySQLInventoryDumper;
@@ -50,6 +51,11 @@ public final class MySQLScalingEntry implements ScalingEntry {
         return MySQLImporter.class;
     }
     
+    @Override
+    public Class<MySQLBulkLoadImporter> getBulkLoadImporterClass() {
+        return MySQLBulkLoadImporter.class;
+    }
+    
     @Override
     public Class<MySQLEnvironmentChecker> getEnvironmentCheckerClass() {
         return MySQLEnvironmentChecker.class;
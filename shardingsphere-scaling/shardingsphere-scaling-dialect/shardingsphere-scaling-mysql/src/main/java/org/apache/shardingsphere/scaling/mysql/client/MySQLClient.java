@@ -38,15 +38,23 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLCo
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.scaling.mysql.client.netty.MySQLBinlogEventPacketDecoder;
 import org.apache.shardingsphere.scaling.mysql.client.netty.MySQLCommandPacketDecoder;
 import org.apache.shardingsphere.scaling.mysql.client.netty.MySQLNegotiateHandler;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -56,6 +64,8 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public final class MySQLClient {
     
+    private static final int ROWS_DECODE_THREAD_NUMBER = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    
     private final ConnectInfo connectInfo;
     
     private EventLoopGroup eventLoopGroup;
@@ -64,10 +74,14 @@ public final class MySQLClient {
     
     private Promise<Object> responseCallback;
     
-    private final ArrayBlockingQueue<AbstractBinlogEvent> blockingEventQueue = new ArrayBlockingQueue<>(10000);
+    private final ArrayBlockingQueue<Future<AbstractBinlogEvent>> blockingEventQueue = new ArrayBlockingQueue<>(10000);
+    
+    private ExecutorService rowsDecodeExecutor;
     
     private ServerInfo serverInfo;
     
+    private volatile boolean running = true;
+    
     /**
      * Connect to MySQL.
      */
@@ -176,21 +190,55 @@ public final class MySQLClient {
         responseCallback = null;
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength));
+        if (null == rowsDecodeExecutor) {
+            rowsDecodeExecutor = Executors.newFixedThreadPool(ROWS_DECODE_THREAD_NUMBER, ExecutorThreadFactoryBuilder.build("MySQL-Binlog-Decode-%d"));
+        }
+        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, rowsDecodeExecutor));
         channel.pipeline().addLast(new MySQLBinlogEventHandler());
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
     }
     
     /**
-     * Poll binlog event.
+     * Poll binlog events in binlog order.
+     * Wait at most 100 milliseconds for the first event, then take the arrived events without waiting.
      *
-     * @return binlog event
+     * @param maxSize max size of events
+     * @return binlog events
      */
-    public synchronized AbstractBinlogEvent poll() {
+    public List<AbstractBinlogEvent> poll(final int maxSize) {
+        List<Future<AbstractBinlogEvent>> futures = new ArrayList<>(maxSize);
         try {
-            return blockingEventQueue.poll(100, TimeUnit.MILLISECONDS);
+            Future<AbstractBinlogEvent> first = blockingEventQueue.poll(100, TimeUnit.MILLISECONDS);
+            if (null == first) {
+                return Collections.emptyList();
+            }
+            futures.add(first);
+            blockingEventQueue.drainTo(futures, maxSize - 1);
+            List<AbstractBinlogEvent> result = new ArrayList<>(futures.size());
+            for (Future<AbstractBinlogEvent> each : futures) {
+                result.add(each.get());
+            }
+            return result;
         } catch (final InterruptedException ignored) {
-            return null;
+            return Collections.emptyList();
+        } catch (final ExecutionException ex) {
+            throw new RuntimeException("decode binlog rows event failed", ex.getCause());
+        }
+    }
+    
+    /**
+     * Close connection and release decode threads.
+     */
+    public synchronized void close() {
+        running = false;
+        if (null != channel) {
+            channel.close();
+        }
+        if (null != eventLoopGroup) {
+            eventLoopGroup.shutdownGracefully();
+        }
+        if (null != rowsDecodeExecutor) {
+            rowsDecodeExecutor.shutdownNow();
         }
     }
     
@@ -236,10 +284,13 @@ public final class MySQLClient {
         private AbstractBinlogEvent lastBinlogEvent;
         
         @Override
+        @SuppressWarnings("unchecked")
         public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
             if (msg instanceof AbstractBinlogEvent) {
                 lastBinlogEvent = (AbstractBinlogEvent) msg;
-                blockingEventQueue.put(lastBinlogEvent);
+                blockingEventQueue.put(CompletableFuture.completedFuture(lastBinlogEvent));
+            } else if (msg instanceof Future) {
+                blockingEventQueue.put((Future<AbstractBinlogEvent>) msg);
             }
         }
         
@@ -256,6 +307,9 @@ public final class MySQLClient {
         }
         
         private void reconnect() {
+            if (!running) {
+                return;
+            }
             log.info("reconnect mysql client.");
             closeOldChannel();
             connect();
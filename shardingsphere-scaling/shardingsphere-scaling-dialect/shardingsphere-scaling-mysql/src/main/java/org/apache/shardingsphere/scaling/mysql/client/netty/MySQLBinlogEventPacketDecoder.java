@@ -30,12 +30,14 @@ import org.apache.shardingsphere.scaling.mysql.binlog.event.DeleteRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.XidEvent;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * MySQL binlog event packet decoder.
@@ -45,9 +47,23 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final BinlogContext binlogContext;
     
+    private final ExecutorService rowsDecodeExecutor;
+    
     public MySQLBinlogEventPacketDecoder(final int checksumLength) {
+        this(checksumLength, null);
+    }
+    
+    /**
+     * Create binlog event packet decoder which decodes rows of rows events in parallel.
+     * Rows events are emitted as {@code Future} in binlog order, other events are emitted directly.
+     *
+     * @param checksumLength checksum length
+     * @param rowsDecodeExecutor rows decode executor, decode rows in event loop if null
+     */
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final ExecutorService rowsDecodeExecutor) {
         binlogContext = new BinlogContext();
         binlogContext.setChecksumLength(checksumLength);
+        this.rowsDecodeExecutor = rowsDecodeExecutor;
     }
     
     @Override
@@ -69,15 +85,14 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 break;
             case WRITE_ROWS_EVENTv1:
             case WRITE_ROWS_EVENTv2:
-                out.add(decodeWriteRowsEventV2(binlogEventHeader, payload));
-                break;
             case UPDATE_ROWS_EVENTv1:
             case UPDATE_ROWS_EVENTv2:
-                out.add(decodeUpdateRowsEventV2(binlogEventHeader, payload));
-                break;
             case DELETE_ROWS_EVENTv1:
             case DELETE_ROWS_EVENTv2:
-                out.add(decodeDeleteRowsEventV2(binlogEventHeader, payload));
+                out.add(decodeRowsEvent(binlogEventHeader, payload));
+                break;
+            case XID_EVENT:
+                out.add(decodeXidEvent(binlogEventHeader, payload));
                 break;
             default:
                 out.add(createPlaceholderEvent(binlogEventHeader));
@@ -126,43 +141,72 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(tableMapEventPacket.getTableId(), tableMapEventPacket);
     }
     
-    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private Object decodeRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
-        DeleteRowsEvent result = new DeleteRowsEvent();
-        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setBeforeRows(rowsEventPacket.getRows());
-        return result;
+        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(rowsEventPacket.getTableId());
+        AbstractRowsEvent rowsEvent = createRowsEvent(binlogEventHeader.getEventType());
+        initRowsEvent(rowsEvent, binlogEventHeader, tableMapEventPacket);
+        if (null == rowsDecodeExecutor) {
+            readRows(rowsEvent, rowsEventPacket, tableMapEventPacket, payload);
+            return rowsEvent;
+        }
+        ByteBuf rowsData = payload.getByteBuf().readRetainedSlice(payload.getByteBuf().readableBytes());
+        return rowsDecodeExecutor.submit(() -> {
+            try {
+                readRows(rowsEvent, rowsEventPacket, tableMapEventPacket, new MySQLPacketPayload(rowsData));
+                return rowsEvent;
+            } finally {
+                rowsData.release();
+            }
+        });
     }
     
-    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
-        UpdateRowsEvent result = new UpdateRowsEvent();
-        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setBeforeRows(rowsEventPacket.getRows());
-        result.setAfterRows(rowsEventPacket.getRows2());
-        return result;
+    private AbstractRowsEvent createRowsEvent(final int eventType) {
+        switch (MySQLBinlogEventType.valueOf(eventType)) {
+            case WRITE_ROWS_EVENTv1:
+            case WRITE_ROWS_EVENTv2:
+                return new WriteRowsEvent();
+            case UPDATE_ROWS_EVENTv1:
+            case UPDATE_ROWS_EVENTv2:
+                return new UpdateRowsEvent();
+            default:
+                return new DeleteRowsEvent();
+        }
     }
     
-    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
-        WriteRowsEvent result = new WriteRowsEvent();
-        initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
-        result.setAfterRows(rowsEventPacket.getRows());
-        return result;
+    private void readRows(final AbstractRowsEvent rowsEvent, final MySQLBinlogRowsEventPacket rowsEventPacket, final MySQLBinlogTableMapEventPacket tableMapEventPacket,
+                          final MySQLPacketPayload payload) {
+        rowsEventPacket.readRows(tableMapEventPacket, payload);
+        if (rowsEvent instanceof WriteRowsEvent) {
+            ((WriteRowsEvent) rowsEvent).setAfterRows(rowsEventPacket.getRows());
+        } else if (rowsEvent instanceof UpdateRowsEvent) {
+            ((UpdateRowsEvent) rowsEvent).setBeforeRows(rowsEventPacket.getRows());
+            ((UpdateRowsEvent) rowsEvent).setAfterRows(rowsEventPacket.getRows2());
+        } else {
+            ((DeleteRowsEvent) rowsEvent).setBeforeRows(rowsEventPacket.getRows());
+        }
     }
     
-    private void initRowsEvent(final AbstractRowsEvent rowsEvent, final MySQLBinlogEventHeader binlogEventHeader, final long tableId) {
-        rowsEvent.setSchemaName(binlogContext.getSchemaName(tableId));
-        rowsEvent.setTableName(binlogContext.getTableName(tableId));
+    private void initRowsEvent(final AbstractRowsEvent rowsEvent, final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogTableMapEventPacket tableMapEventPacket) {
+        rowsEvent.setTableId(tableMapEventPacket.getTableId());
+        rowsEvent.setSchemaName(tableMapEventPacket.getSchemaName());
+        rowsEvent.setTableName(tableMapEventPacket.getTableName());
         rowsEvent.setFileName(binlogContext.getFileName());
         rowsEvent.setPosition(binlogEventHeader.getLogPos());
         rowsEvent.setTimestamp(binlogEventHeader.getTimestamp());
         rowsEvent.setServerId(binlogEventHeader.getServerId());
     }
     
+    private XidEvent decodeXidEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+        XidEvent result = new XidEvent();
+        result.setFileName(binlogContext.getFileName());
+        result.setPosition(binlogEventHeader.getLogPos());
+        result.setTimestamp(binlogEventHeader.getTimestamp());
+        result.setServerId(binlogEventHeader.getServerId());
+        result.setXid(payload.readInt8());
+        return result;
+    }
+    
     private PlaceholderEvent createPlaceholderEvent(final MySQLBinlogEventHeader binlogEventHeader) {
         PlaceholderEvent result = new PlaceholderEvent();
         result.setFileName(binlogContext.getFileName());
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.mysql.component;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
+import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
+import org.apache.shardingsphere.scaling.core.executor.importer.AbstractBulkLoadImporter;
+import org.apache.shardingsphere.scaling.core.util.JDBCUtil;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * MySQL bulk load importer, loads inventory data by LOAD DATA LOCAL INFILE.
+ */
+public final class MySQLBulkLoadImporter extends AbstractBulkLoadImporter {
+    
+    private static final String[] MYSQL_STATEMENT_CLASS_NAMES = {"com.mysql.cj.jdbc.JdbcStatement", "com.mysql.jdbc.Statement"};
+    
+    public MySQLBulkLoadImporter(final ImporterConfiguration importerConfig, final DataSourceManager dataSourceManager) {
+        super(importerConfig, dataSourceManager);
+        JDBCUtil.appendJDBCParameter(importerConfig.getDataSourceConfig(),
+                ImmutableMap.<String, String>builder().put("rewriteBatchedStatements", "true").put("allowLoadLocalInfile", "true").build());
+    }
+    
+    @Override
+    protected ScalingSQLBuilder createSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
+        return new MySQLScalingSQLBuilder(shardingColumnsMap);
+    }
+    
+    @Override
+    protected boolean isBulkLoadSupported(final List<DataRecord> dataRecords) {
+        for (int i = 0; i < dataRecords.get(0).getColumnCount(); i++) {
+            for (DataRecord each : dataRecords) {
+                if (each.getColumn(i).getValue() instanceof byte[]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    protected String formatValue(final Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "1" : "0";
+        }
+        return value.toString();
+    }
+    
+    @Override
+    protected void bulkLoad(final Connection connection, final DataRecord sampleRecord, final InputStream rows) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            setLocalInfileInputStream(statement, rows);
+            statement.execute(((MySQLScalingSQLBuilder) getScalingSqlBuilder()).buildLoadDataSQL(sampleRecord));
+        }
+    }
+    
+    private void setLocalInfileInputStream(final Statement statement, final InputStream rows) throws SQLException {
+        for (String each : MYSQL_STATEMENT_CLASS_NAMES) {
+            Class<?> statementClass = loadClass(each);
+            if (null == statementClass || !statement.isWrapperFor(statementClass)) {
+                continue;
+            }
+            try {
+                statementClass.getMethod("setLocalInfileInputStream", InputStream.class).invoke(statement.unwrap(statementClass), rows);
+                return;
+            } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+                throw new SQLException(ex);
+            }
+        }
+        throw new SQLFeatureNotSupportedException("Local infile input stream is not supported by current MySQL driver.");
+    }
+    
+    private Class<?> loadClass(final String className) {
+        try {
+            return Class.forName(className);
+        } catch (final ClassNotFoundException ex) {
+            return null;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.scaling.mysql.component;
 
 import com.google.common.base.Preconditions;
 import com.zaxxer.hikari.HikariConfig;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
@@ -28,6 +29,7 @@ import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceFactor
 import org.apache.shardingsphere.scaling.core.common.datasource.JdbcUri;
 import org.apache.shardingsphere.scaling.core.common.datasource.MetaDataManager;
 import org.apache.shardingsphere.scaling.core.common.record.Column;
+import org.apache.shardingsphere.scaling.core.common.record.CommitRecord;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.FinishedRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
@@ -45,11 +47,16 @@ import org.apache.shardingsphere.scaling.mysql.binlog.event.DeleteRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.XidEvent;
 import org.apache.shardingsphere.scaling.mysql.client.ConnectInfo;
 import org.apache.shardingsphere.scaling.mysql.client.MySQLClient;
 
 import java.io.Serializable;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 
@@ -59,6 +66,8 @@ import java.util.Random;
 @Slf4j
 public final class MySQLIncrementalDumper extends AbstractScalingExecutor implements IncrementalDumper {
     
+    private static final int POLL_BATCH_SIZE = 1024;
+    
     private final BinlogPosition binlogPosition;
     
     private final DumperConfiguration dumperConfig;
@@ -67,6 +76,8 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
     
     private final Random random = new SecureRandom();
     
+    private final Map<Long, TableColumns> tableColumnsMap = new HashMap<>();
+    
     @Setter
     private Channel channel;
     
@@ -89,26 +100,45 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
         MySQLClient client = new MySQLClient(new ConnectInfo(random.nextInt(), uri.getHostname(), uri.getPort(), hikariConfig.getUsername(), hikariConfig.getPassword()));
         client.connect();
         client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
-        while (isRunning()) {
-            AbstractBinlogEvent event = client.poll();
-            if (null != event) {
-                handleEvent(uri, event);
+        try {
+            while (isRunning()) {
+                List<AbstractBinlogEvent> events = client.poll(POLL_BATCH_SIZE);
+                if (!events.isEmpty()) {
+                    handleEvents(uri, events);
+                }
             }
+        } finally {
+            client.close();
         }
         pushRecord(new FinishedRecord(new PlaceholderPosition()));
     }
     
-    private void handleEvent(final JdbcUri uri, final AbstractBinlogEvent event) {
+    private void handleEvents(final JdbcUri uri, final List<AbstractBinlogEvent> events) {
+        List<Record> records = new ArrayList<>(events.size());
+        for (AbstractBinlogEvent each : events) {
+            handleEvent(uri, each, records);
+        }
+        try {
+            channel.pushRecords(records);
+        } catch (final InterruptedException ignored) {
+        }
+    }
+    
+    private void handleEvent(final JdbcUri uri, final AbstractBinlogEvent event, final List<Record> records) {
+        if (event instanceof XidEvent) {
+            records.add(createCommitRecord(event));
+            return;
+        }
         if (event instanceof PlaceholderEvent || filter(uri.getDatabase(), (AbstractRowsEvent) event)) {
-            createPlaceholderRecord(event);
+            records.add(createPlaceholderRecord(event));
             return;
         }
         if (event instanceof WriteRowsEvent) {
-            handleWriteRowsEvent((WriteRowsEvent) event);
+            handleWriteRowsEvent((WriteRowsEvent) event, records);
         } else if (event instanceof UpdateRowsEvent) {
-            handleUpdateRowsEvent((UpdateRowsEvent) event);
+            handleUpdateRowsEvent((UpdateRowsEvent) event, records);
         } else if (event instanceof DeleteRowsEvent) {
-            handleDeleteRowsEvent((DeleteRowsEvent) event);
+            handleDeleteRowsEvent((DeleteRowsEvent) event, records);
         }
     }
     
@@ -116,20 +146,20 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
         return !event.getSchemaName().equals(database) || !dumperConfig.getTableNameMap().containsKey(event.getTableName());
     }
     
-    private void handleWriteRowsEvent(final WriteRowsEvent event) {
-        TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
+    private void handleWriteRowsEvent(final WriteRowsEvent event, final List<Record> records) {
+        TableColumns tableColumns = getTableColumns(event);
         for (Serializable[] each : event.getAfterRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType(ScalingConstant.INSERT);
             for (int i = 0; i < each.length; i++) {
-                record.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), each[i], true, tableMetaData.isPrimaryKey(i)));
+                record.addColumn(new Column(tableColumns.getColumnName(i), each[i], true, tableColumns.isPrimaryKey(i)));
             }
-            pushRecord(record);
+            records.add(record);
         }
     }
     
-    private void handleUpdateRowsEvent(final UpdateRowsEvent event) {
-        TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
+    private void handleUpdateRowsEvent(final UpdateRowsEvent event, final List<Record> records) {
+        TableColumns tableColumns = getTableColumns(event);
         for (int i = 0; i < event.getBeforeRows().size(); i++) {
             Serializable[] beforeValues = event.getBeforeRows().get(i);
             Serializable[] afterValues = event.getAfterRows().get(i);
@@ -139,26 +169,35 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
                 Object oldValue = beforeValues[j];
                 Object newValue = afterValues[j];
                 boolean updated = !Objects.equals(newValue, oldValue);
-                record.addColumn(new Column(tableMetaData.getColumnMetaData(j).getName(),
-                        (tableMetaData.isPrimaryKey(j) && updated) ? oldValue : null,
-                        newValue, updated, tableMetaData.isPrimaryKey(j)));
+                record.addColumn(new Column(tableColumns.getColumnName(j),
+                        (tableColumns.isPrimaryKey(j) && updated) ? oldValue : null,
+                        newValue, updated, tableColumns.isPrimaryKey(j)));
             }
-            pushRecord(record);
+            records.add(record);
         }
     }
     
-    private void handleDeleteRowsEvent(final DeleteRowsEvent event) {
-        TableMetaData tableMetaData = metaDataManager.getTableMetaData(event.getTableName());
+    private void handleDeleteRowsEvent(final DeleteRowsEvent event, final List<Record> records) {
+        TableColumns tableColumns = getTableColumns(event);
         for (Serializable[] each : event.getBeforeRows()) {
             DataRecord record = createDataRecord(event, each.length);
             record.setType(ScalingConstant.DELETE);
             for (int i = 0; i < each.length; i++) {
-                record.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), each[i], true, tableMetaData.isPrimaryKey(i)));
+                record.addColumn(new Column(tableColumns.getColumnName(i), each[i], true, tableColumns.isPrimaryKey(i)));
             }
-            pushRecord(record);
+            records.add(record);
         }
     }
     
+    private TableColumns getTableColumns(final AbstractRowsEvent event) {
+        TableColumns result = tableColumnsMap.get(event.getTableId());
+        if (null == result || !result.getTableName().equals(event.getTableName())) {
+            result = new TableColumns(event.getTableName(), metaDataManager.getTableMetaData(event.getTableName()));
+            tableColumnsMap.put(event.getTableId(), result);
+        }
+        return result;
+    }
+    
     private DataRecord createDataRecord(final AbstractRowsEvent rowsEvent, final int columnCount) {
         DataRecord result = new DataRecord(new BinlogPosition(rowsEvent.getFileName(), rowsEvent.getPosition(), rowsEvent.getServerId()), columnCount);
         result.setTableName(dumperConfig.getTableNameMap().get(rowsEvent.getTableName()));
@@ -166,10 +205,16 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
         return result;
     }
     
-    private void createPlaceholderRecord(final AbstractBinlogEvent event) {
-        PlaceholderRecord record = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
-        record.setCommitTime(event.getTimestamp() * 1000);
-        pushRecord(record);
+    private PlaceholderRecord createPlaceholderRecord(final AbstractBinlogEvent event) {
+        PlaceholderRecord result = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
+        result.setCommitTime(event.getTimestamp() * 1000);
+        return result;
+    }
+    
+    private CommitRecord createCommitRecord(final AbstractBinlogEvent event) {
+        CommitRecord result = new CommitRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
+        result.setCommitTime(event.getTimestamp() * 1000);
+        return result;
     }
     
     private void pushRecord(final Record record) {
@@ -178,4 +223,33 @@ public final class MySQLIncrementalDumper extends AbstractScalingExecutor implem
         } catch (final InterruptedException ignored) {
         }
     }
+    
+    private static final class TableColumns {
+        
+        @Getter
+        private final String tableName;
+        
+        private final String[] columnNames;
+        
+        private final boolean[] primaryKeys;
+        
+        TableColumns(final String tableName, final TableMetaData tableMetaData) {
+            this.tableName = tableName;
+            int columnCount = tableMetaData.getColumns().size();
+            columnNames = new String[columnCount];
+            primaryKeys = new boolean[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                columnNames[i] = tableMetaData.getColumnMetaData(i).getName();
+                primaryKeys[i] = tableMetaData.isPrimaryKey(i);
+            }
+        }
+        
+        String getColumnName(final int columnIndex) {
+            return columnNames[columnIndex];
+        }
+        
+        boolean isPrimaryKey(final int columnIndex) {
+            return columnIndex < primaryKeys.length && primaryKeys[columnIndex];
+        }
+    }
 }
@@ -27,6 +27,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 
 /**
@@ -58,4 +59,33 @@ public final class MySQLInventoryDumper extends AbstractInventoryDumper {
         result.setFetchSize(Integer.MIN_VALUE);
         return result;
     }
+    
+    @Override
+    protected long queryReplicationLagMilliseconds(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+            if (!resultSet.next()) {
+                return -1L;
+            }
+            long result = resultSet.getLong(getSecondsBehindSourceColumn(resultSet));
+            return resultSet.wasNull() ? -1L : result * 1000L;
+        }
+    }
+    
+    private String getSecondsBehindSourceColumn(final ResultSet resultSet) throws SQLException {
+        for (int i = 1; i <= resultSet.getMetaData().getColumnCount(); i++) {
+            if ("Seconds_Behind_Source".equalsIgnoreCase(resultSet.getMetaData().getColumnLabel(i))) {
+                return "Seconds_Behind_Source";
+            }
+        }
+        return "Seconds_Behind_Master";
+    }
+    
+    @Override
+    protected long queryThreadsRunning(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW GLOBAL STATUS LIKE 'Threads_running'")) {
+            return resultSet.next() ? resultSet.getLong(2) : -1L;
+        }
+    }
 }
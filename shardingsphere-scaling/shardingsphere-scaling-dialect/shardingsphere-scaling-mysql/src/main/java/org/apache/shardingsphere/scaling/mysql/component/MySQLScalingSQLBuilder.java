@@ -77,4 +77,20 @@ public final class MySQLScalingSQLBuilder extends AbstractScalingSQLBuilder {
     public String buildSumCrc32SQL(final String tableName, final String column) {
         return String.format("SELECT SUM(CRC32(%s)) from %s", quote(column), quote(tableName));
     }
+    
+    /**
+     * Build load data local infile SQL.
+     *
+     * @param dataRecord data record
+     * @return load data SQL
+     */
+    public String buildLoadDataSQL(final DataRecord dataRecord) {
+        StringBuilder columnsLiteral = new StringBuilder();
+        for (Column each : dataRecord.getColumns()) {
+            columnsLiteral.append(quote(each.getName())).append(",");
+        }
+        columnsLiteral.setLength(columnsLiteral.length() - 1);
+        return String.format("LOAD DATA LOCAL INFILE 'scaling' REPLACE INTO TABLE %s CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (%s)", quote(dataRecord.getTableName()), columnsLiteral);
+    }
 }
@@ -34,10 +34,16 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -46,6 +52,9 @@ public final class MySQLBinlogEventPacketDecoderTest {
     @Mock
     private ByteBuf byteBuf;
     
+    @Mock
+    private ByteBuf rowsData;
+    
     @Mock
     private MySQLBinlogTableMapEventPacket tableMapEventPacket;
     
@@ -135,4 +144,25 @@ public final class MySQLBinlogEventPacketDecoderTest {
         assertThat(decodedEvents.size(), is(1));
         assertThat(decodedEvents.get(0), instanceOf(DeleteRowsEvent.class));
     }
+    
+    @Test
+    public void assertDecodeWriteRowEventInParallel() throws NoSuchFieldException, IllegalAccessException, InterruptedException, ExecutionException {
+        ExecutorService rowsDecodeExecutor = Executors.newSingleThreadExecutor();
+        try {
+            MySQLBinlogEventPacketDecoder parallelDecoder = new MySQLBinlogEventPacketDecoder(4, rowsDecodeExecutor);
+            ReflectionUtil.getFieldValue(parallelDecoder, "binlogContext", BinlogContext.class).getTableMap().put(0L, tableMapEventPacket);
+            when(byteBuf.readUnsignedByte()).thenReturn((short) 0, (short) 0, (short) MySQLBinlogEventType.WRITE_ROWS_EVENTv2.getValue(), (short) 0);
+            when(byteBuf.readUnsignedShortLE()).thenReturn(2);
+            when(byteBuf.readRetainedSlice(anyInt())).thenReturn(rowsData);
+            when(tableMapEventPacket.getColumnDefs()).thenReturn(Collections.emptyList());
+            List<Object> decodedEvents = new LinkedList<>();
+            parallelDecoder.decode(null, byteBuf, decodedEvents);
+            assertThat(decodedEvents.size(), is(1));
+            assertThat(decodedEvents.get(0), instanceOf(Future.class));
+            assertThat(((Future<?>) decodedEvents.get(0)).get(), instanceOf(WriteRowsEvent.class));
+            verify(rowsData).release();
+        } finally {
+            rowsDecodeExecutor.shutdown();
+        }
+    }
 }
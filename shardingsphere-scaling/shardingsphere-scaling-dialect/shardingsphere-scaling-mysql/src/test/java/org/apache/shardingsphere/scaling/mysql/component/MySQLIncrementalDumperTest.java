@@ -23,6 +23,7 @@ import org.apache.shardingsphere.scaling.core.common.channel.MemoryChannel;
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
 import org.apache.shardingsphere.scaling.core.common.datasource.JdbcUri;
+import org.apache.shardingsphere.scaling.core.common.record.CommitRecord;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
@@ -37,6 +38,7 @@ import org.apache.shardingsphere.scaling.mysql.binlog.event.DeleteRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.scaling.mysql.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.scaling.mysql.binlog.event.XidEvent;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -46,6 +48,8 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -107,6 +111,26 @@ public final class MySQLIncrementalDumperTest {
         assertThat(((DataRecord) records.get(0)).getType(), is(ScalingConstant.INSERT));
     }
     
+    @Test
+    public void assertRowsEventsInBatch() {
+        WriteRowsEvent writeRowsEvent = new WriteRowsEvent();
+        writeRowsEvent.setSchemaName("");
+        writeRowsEvent.setTableName("t_order");
+        List<Serializable[]> rows = new ArrayList<>(2);
+        rows.add(new String[]{"1", "order_1"});
+        rows.add(new String[]{"2", "order_2"});
+        writeRowsEvent.setAfterRows(rows);
+        XidEvent xidEvent = new XidEvent();
+        xidEvent.setFileName("binlog-000001");
+        xidEvent.setPosition(8L);
+        invokeHandleEvents(new JdbcUri(URL), Arrays.asList(writeRowsEvent, xidEvent));
+        List<Record> records = channel.fetchRecords(3, 0);
+        assertThat(records.size(), is(3));
+        assertThat(((DataRecord) records.get(0)).getColumn(0).getName(), is("id"));
+        assertTrue(((DataRecord) records.get(1)).getColumn(0).isPrimaryKey());
+        assertTrue(records.get(2) instanceof CommitRecord);
+    }
+    
     @Test
     public void assertUpdateRowsEvent() {
         UpdateRowsEvent rowsEvent = new UpdateRowsEvent();
@@ -148,6 +172,18 @@ public final class MySQLIncrementalDumperTest {
         assertTrue(records.get(0) instanceof PlaceholderRecord);
     }
     
+    @Test
+    public void assertXidEvent() {
+        XidEvent xidEvent = new XidEvent();
+        xidEvent.setFileName("binlog-000001");
+        xidEvent.setPosition(8L);
+        invokeHandleEvent(new JdbcUri(URL), xidEvent);
+        List<Record> records = channel.fetchRecords(1, 0);
+        assertThat(records.size(), is(1));
+        assertTrue(records.get(0) instanceof CommitRecord);
+        assertThat(((BinlogPosition) records.get(0).getPosition()).getPosition(), is(8L));
+    }
+    
     @Test
     public void assertRowsEventFiltered() {
         WriteRowsEvent rowsEvent = new WriteRowsEvent();
@@ -158,8 +194,12 @@ public final class MySQLIncrementalDumperTest {
         assertTrue(records.get(0) instanceof PlaceholderRecord);
     }
     
-    @SneakyThrows({NoSuchMethodException.class, ReflectiveOperationException.class})
     private void invokeHandleEvent(final JdbcUri uri, final AbstractBinlogEvent event) {
-        ReflectionUtil.invokeMethod(incrementalDumper, "handleEvent", new Class[]{JdbcUri.class, AbstractBinlogEvent.class}, new Object[]{uri, event});
+        invokeHandleEvents(uri, Collections.singletonList(event));
+    }
+    
+    @SneakyThrows({NoSuchMethodException.class, ReflectiveOperationException.class})
+    private void invokeHandleEvents(final JdbcUri uri, final List<AbstractBinlogEvent> events) {
+        ReflectionUtil.invokeMethod(incrementalDumper, "handleEvents", new Class[]{JdbcUri.class, List.class}, new Object[]{uri, events});
     }
 }
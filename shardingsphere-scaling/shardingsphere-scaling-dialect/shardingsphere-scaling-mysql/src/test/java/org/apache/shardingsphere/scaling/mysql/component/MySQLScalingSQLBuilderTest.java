@@ -51,6 +51,13 @@ public final class MySQLScalingSQLBuilderTest {
         assertThat(actual, is("SELECT SUM(CRC32(`id`)) from `t2`"));
     }
     
+    @Test
+    public void assertBuildLoadDataSQL() {
+        String actual = sqlBuilder.buildLoadDataSQL(mockDataRecord("t1"));
+        assertThat(actual, is("LOAD DATA LOCAL INFILE 'scaling' REPLACE INTO TABLE `t1` CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (`id`,`sc`,`c1`,`c2`,`c3`)"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
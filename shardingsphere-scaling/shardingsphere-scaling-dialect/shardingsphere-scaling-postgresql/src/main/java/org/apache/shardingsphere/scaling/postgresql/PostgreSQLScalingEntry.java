@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.scaling.postgresql;
 
 import org.apache.shardingsphere.scaling.core.spi.ScalingEntry;
+import org.apache.shardingsphere.scaling.postgresql.component.PostgreSQLBulkLoadImporter;
 import org.apache.shardingsphere.scaling.postgresql.component.PostgreSQLImporter;
 import org.apache.shardingsphere.scaling.postgresql.component.PostgreSQLInventoryDumper;
 import org.apache.shardingsphere.scaling.postgresql.component.PostgreSQLPositionInitializer;
@@ -50,6 +51,11 @@ public final class PostgreSQLScalingEntry implements ScalingEntry {
         return PostgreSQLImporter.class;
     }
     
+    @Override
+    public Class<PostgreSQLBulkLoadImporter> getBulkLoadImporterClass() {
+        return PostgreSQLBulkLoadImporter.class;
+    }
+    
     @Override
     public Class<PostgreSQLEnvironmentChecker> getEnvironmentCheckerClass() {
         return PostgreSQLEnvironmentChecker.class;
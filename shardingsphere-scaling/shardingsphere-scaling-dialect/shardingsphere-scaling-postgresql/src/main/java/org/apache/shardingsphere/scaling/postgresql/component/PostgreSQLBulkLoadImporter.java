@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.component;
+
+import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
+import org.apache.shardingsphere.scaling.core.common.sqlbuilder.ScalingSQLBuilder;
+import org.apache.shardingsphere.scaling.core.config.ImporterConfiguration;
+import org.apache.shardingsphere.scaling.core.executor.importer.AbstractBulkLoadImporter;
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PostgreSQL bulk load importer, loads inventory data by COPY FROM STDIN.
+ */
+public final class PostgreSQLBulkLoadImporter extends AbstractBulkLoadImporter {
+    
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    public PostgreSQLBulkLoadImporter(final ImporterConfiguration importerConfig, final DataSourceManager dataSourceManager) {
+        super(importerConfig, dataSourceManager);
+    }
+    
+    @Override
+    protected ScalingSQLBuilder createSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
+        return new PostgreSQLScalingSQLBuilder(shardingColumnsMap);
+    }
+    
+    @Override
+    protected String formatValue(final Object value) {
+        if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            StringBuilder result = new StringBuilder(2 + bytes.length * 2).append("\\x");
+            for (byte each : bytes) {
+                result.append(HEX_DIGITS[(each >> 4) & 0x0f]).append(HEX_DIGITS[each & 0x0f]);
+            }
+            return result.toString();
+        }
+        return value.toString();
+    }
+    
+    @Override
+    protected void bulkLoad(final Connection connection, final DataRecord sampleRecord, final InputStream rows) throws SQLException {
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(((PostgreSQLScalingSQLBuilder) getScalingSqlBuilder()).buildCopySQL(sampleRecord), rows);
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+}
@@ -25,12 +25,22 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 /**
  * PostgreSQL JDBC dumper.
  */
 public final class PostgreSQLInventoryDumper extends AbstractInventoryDumper {
     
+    private static final String REPLICA_LAG_SQL = "SELECT CASE WHEN pg_is_in_recovery() "
+            + "THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)::BIGINT ELSE -1 END";
+    
+    private static final String REPLICATION_LAG_SQL = "SELECT CASE WHEN pg_is_in_recovery() "
+            + "THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)::BIGINT "
+            + "ELSE COALESCE((SELECT MAX(EXTRACT(EPOCH FROM replay_lag) * 1000) FROM pg_stat_replication), 0)::BIGINT END";
+    
+    private static final String THREADS_RUNNING_SQL = "SELECT COUNT(*) FROM pg_stat_activity WHERE state = 'active'";
+    
     public PostgreSQLInventoryDumper(final InventoryDumperConfiguration inventoryDumperConfig, final DataSourceManager dataSourceManager) {
         super(inventoryDumperConfig, dataSourceManager);
     }
@@ -41,4 +51,20 @@ public final class PostgreSQLInventoryDumper extends AbstractInventoryDumper {
         result.setFetchSize(1);
         return result;
     }
+    
+    @Override
+    protected long queryReplicationLagMilliseconds(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(10 <= connection.getMetaData().getDatabaseMajorVersion() ? REPLICATION_LAG_SQL : REPLICA_LAG_SQL)) {
+            return resultSet.next() ? resultSet.getLong(1) : -1L;
+        }
+    }
+    
+    @Override
+    protected long queryThreadsRunning(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(THREADS_RUNNING_SQL)) {
+            return resultSet.next() ? resultSet.getLong(1) : -1L;
+        }
+    }
 }
@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.scaling.postgresql.component;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.job.position.PositionInitializer;
+import org.apache.shardingsphere.scaling.postgresql.wal.LogicalReplication;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.util.PSQLException;
@@ -30,12 +32,18 @@ import java.sql.SQLException;
 
 /**
  * PostgreSQL wal position initializer.
+ *
+ * <p>
+ * The replication slot uses {@code pgoutput} if the source is PostgreSQL 10 or later and a publication with the same name of slot exists,
+ * otherwise {@code test_decoding} is used.
+ * </p>
  */
+@Slf4j
 public final class PostgreSQLPositionInitializer implements PositionInitializer {
     
     public static final String SLOT_NAME = "sharding_scaling";
     
-    public static final String DECODE_PLUGIN = "test_decoding";
+    public static final String DECODE_PLUGIN = LogicalReplication.TEST_DECODING_PLUGIN;
     
     public static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
@@ -53,8 +61,10 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     }
     
     private void createIfNotExists(final Connection connection) throws SQLException {
-        try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, DECODE_PLUGIN))) {
+        String decodePlugin = getDecodePlugin(connection);
+        try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", SLOT_NAME, decodePlugin))) {
             ps.execute();
+            log.info("create replication slot {} with decode plugin {}", SLOT_NAME, decodePlugin);
         } catch (final PSQLException ex) {
             if (!DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
                 throw ex;
@@ -62,6 +72,16 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
+    private String getDecodePlugin(final Connection connection) throws SQLException {
+        if (10 > connection.getMetaData().getDatabaseMajorVersion()) {
+            return DECODE_PLUGIN;
+        }
+        try (PreparedStatement ps = connection.prepareStatement(String.format("SELECT COUNT(*) FROM pg_publication WHERE pubname = '%s'", SLOT_NAME));
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() && 0 < rs.getInt(1) ? LogicalReplication.PGOUTPUT_PLUGIN : DECODE_PLUGIN;
+        }
+    }
+    
     private WalPosition getWalPosition(final Connection connection) throws SQLException {
         try (PreparedStatement ps = connection.prepareStatement(getSql(connection));
              ResultSet rs = ps.executeQuery()) {
@@ -58,4 +58,19 @@ public final class PostgreSQLScalingSQLBuilder extends AbstractScalingSQLBuilder
         result.append(") DO NOTHING");
         return result.toString();
     }
+    
+    /**
+     * Build copy from stdin SQL.
+     *
+     * @param dataRecord data record
+     * @return copy SQL
+     */
+    public String buildCopySQL(final DataRecord dataRecord) {
+        StringBuilder columnsLiteral = new StringBuilder();
+        for (Column each : dataRecord.getColumns()) {
+            columnsLiteral.append(quote(each.getName())).append(",");
+        }
+        columnsLiteral.setLength(columnsLiteral.length() - 1);
+        return String.format("COPY %s(%s) FROM STDIN", quote(dataRecord.getTableName()), columnsLiteral);
+    }
 }
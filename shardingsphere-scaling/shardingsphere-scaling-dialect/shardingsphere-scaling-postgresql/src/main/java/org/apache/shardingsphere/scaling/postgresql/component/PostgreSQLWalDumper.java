@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.scaling.postgresql.component;
 
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.scaling.core.common.channel.Channel;
 import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
@@ -26,14 +27,16 @@ import org.apache.shardingsphere.scaling.core.config.datasource.StandardJDBCData
 import org.apache.shardingsphere.scaling.core.executor.AbstractScalingExecutor;
 import org.apache.shardingsphere.scaling.core.executor.dumper.IncrementalDumper;
 import org.apache.shardingsphere.scaling.core.job.position.ScalingPosition;
-import org.apache.shardingsphere.scaling.core.util.ThreadUtil;
 import org.apache.shardingsphere.scaling.postgresql.wal.LogicalReplication;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalEventConverter;
 import org.apache.shardingsphere.scaling.postgresql.wal.WalPosition;
 import org.apache.shardingsphere.scaling.postgresql.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.scaling.postgresql.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.scaling.postgresql.wal.decode.TestDecodingPlugin;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
 import org.postgresql.jdbc.PgConnection;
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
 
 import java.nio.ByteBuffer;
@@ -42,7 +45,14 @@ import java.sql.SQLException;
 
 /**
  * PostgreSQL WAL dumper.
+ *
+ * <p>
+ * The LSN acknowledged by importers is set as applied and flushed LSN of the replication stream,
+ * and the driver reports it back to the replication slot at the status interval while the dumper blocks on reading,
+ * so that the source could recycle WAL which has been migrated.
+ * </p>
  */
+@Slf4j
 public final class PostgreSQLWalDumper extends AbstractScalingExecutor implements IncrementalDumper {
     
     private final WalPosition walPosition;
@@ -56,6 +66,8 @@ public final class PostgreSQLWalDumper extends AbstractScalingExecutor implement
     @Setter
     private Channel channel;
     
+    private volatile PGReplicationStream stream;
+    
     public PostgreSQLWalDumper(final DumperConfiguration dumperConfig, final ScalingPosition<WalPosition> position) {
         walPosition = (WalPosition) position;
         if (!StandardJDBCDataSourceConfiguration.class.equals(dumperConfig.getDataSourceConfig().getClass())) {
@@ -72,21 +84,49 @@ public final class PostgreSQLWalDumper extends AbstractScalingExecutor implement
     }
     
     private void dump() {
-        try {
-            Connection pgConnection = logicalReplication.createPgConnection((StandardJDBCDataSourceConfiguration) dumperConfig.getDataSourceConfig());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(pgConnection.unwrap(PgConnection.class).getTimestampUtils());
-            PGReplicationStream stream = logicalReplication.createReplicationStream(pgConnection, PostgreSQLPositionInitializer.SLOT_NAME, walPosition.getLogSequenceNumber());
+        StandardJDBCDataSourceConfiguration jdbcDataSourceConfig = (StandardJDBCDataSourceConfiguration) dumperConfig.getDataSourceConfig();
+        try (Connection pgConnection = logicalReplication.createPgConnection(jdbcDataSourceConfig)) {
+            String pluginName = logicalReplication.getSlotPlugin(jdbcDataSourceConfig, PostgreSQLPositionInitializer.SLOT_NAME);
+            log.info("decode WAL of replication slot {} with plugin {}", PostgreSQLPositionInitializer.SLOT_NAME, pluginName);
+            DecodingPlugin decodingPlugin = createDecodingPlugin(pluginName, pgConnection.unwrap(PgConnection.class).getTimestampUtils());
+            stream = logicalReplication.createReplicationStream(pgConnection, PostgreSQLPositionInitializer.SLOT_NAME, walPosition.getLogSequenceNumber(), pluginName);
             while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    ThreadUtil.sleep(10L);
-                    continue;
-                }
+                ByteBuffer message = stream.read();
                 AbstractWalEvent event = decodingPlugin.decode(message, stream.getLastReceiveLSN());
                 pushRecord(walEventConverter.convert(event));
             }
         } catch (final SQLException ex) {
-            throw new ScalingTaskExecuteException(ex);
+            if (isRunning()) {
+                throw new ScalingTaskExecuteException(ex);
+            }
+        }
+    }
+    
+    private DecodingPlugin createDecodingPlugin(final String pluginName, final TimestampUtils timestampUtils) {
+        return LogicalReplication.PGOUTPUT_PLUGIN.equals(pluginName) ? new PgOutputDecodingPlugin(timestampUtils) : new TestDecodingPlugin(timestampUtils);
+    }
+    
+    @Override
+    public void ackPosition(final ScalingPosition<?> position) {
+        PGReplicationStream currentStream = stream;
+        if (null != currentStream && position instanceof WalPosition) {
+            LogSequenceNumber acknowledgedLSN = ((WalPosition) position).getLogSequenceNumber();
+            currentStream.setAppliedLSN(acknowledgedLSN);
+            currentStream.setFlushedLSN(acknowledgedLSN);
+        }
+    }
+    
+    @Override
+    public void stop() {
+        super.stop();
+        PGReplicationStream currentStream = stream;
+        if (null == currentStream) {
+            return;
+        }
+        try {
+            currentStream.close();
+        } catch (final SQLException ex) {
+            log.warn("close replication stream failed.", ex);
         }
     }
     
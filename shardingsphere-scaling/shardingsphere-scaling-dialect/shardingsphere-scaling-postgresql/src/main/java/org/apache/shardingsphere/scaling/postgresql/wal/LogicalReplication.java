@@ -22,17 +22,27 @@ import org.postgresql.PGConnection;
 import org.postgresql.PGProperty;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
+import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 /**
  * PostgreSQL logical replication.
  */
 public final class LogicalReplication {
     
+    public static final String TEST_DECODING_PLUGIN = "test_decoding";
+    
+    public static final String PGOUTPUT_PLUGIN = "pgoutput";
+    
+    private static final int STATUS_INTERVAL_SECONDS = 10;
+    
     /**
      * Create PostgreSQL connection.
      *
@@ -54,23 +64,45 @@ public final class LogicalReplication {
         return DriverManager.getConnection(jdbcDataSourceConfig.getHikariConfig().getJdbcUrl(), props);
     }
     
+    /**
+     * Get output plugin of replication slot.
+     *
+     * @param jdbcDataSourceConfig JDBC data source configuration
+     * @param slotName slot name
+     * @return output plugin name, {@code test_decoding} if slot does not exist
+     * @throws SQLException sql exception
+     */
+    public String getSlotPlugin(final StandardJDBCDataSourceConfiguration jdbcDataSourceConfig, final String slotName) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcDataSourceConfig.getHikariConfig().getJdbcUrl(),
+                jdbcDataSourceConfig.getHikariConfig().getUsername(), jdbcDataSourceConfig.getHikariConfig().getPassword());
+             PreparedStatement ps = connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name = ?")) {
+            ps.setString(1, slotName);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getString(1) : TEST_DECODING_PLUGIN;
+            }
+        }
+    }
+    
     /**
      * Create PostgreSQL replication stream.
      *
      * @param pgConnection PostgreSQL connection
      * @param slotName slot name
      * @param startPosition start position
+     * @param pluginName output plugin name of slot
      * @return replication stream
      * @throws SQLException sql exception
      */
-    public PGReplicationStream createReplicationStream(final Connection pgConnection, final String slotName, final LogSequenceNumber startPosition) throws SQLException {
-        return pgConnection.unwrap(PGConnection.class).getReplicationAPI()
+    public PGReplicationStream createReplicationStream(final Connection pgConnection, final String slotName, final LogSequenceNumber startPosition, final String pluginName) throws SQLException {
+        ChainedLogicalStreamBuilder builder = pgConnection.unwrap(PGConnection.class).getReplicationAPI()
                 .replicationStream()
                 .logical()
                 .withStartPosition(startPosition)
                 .withSlotName(slotName)
-                .withSlotOption("include-xids", true)
-                .withSlotOption("skip-empty-xacts", true)
-                .start();
+                .withStatusInterval(STATUS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        if (PGOUTPUT_PLUGIN.equals(pluginName)) {
+            return builder.withSlotOption("proto_version", "1").withSlotOption("publication_names", slotName).start();
+        }
+        return builder.withSlotOption("include-xids", true).withSlotOption("skip-empty-xacts", true).start();
     }
 }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.scaling.core.config.datasource.StandardJDBCData
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceFactory;
 import org.apache.shardingsphere.scaling.core.common.record.Column;
+import org.apache.shardingsphere.scaling.core.common.record.CommitRecord;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
@@ -29,6 +30,8 @@ import org.apache.shardingsphere.scaling.core.common.datasource.JdbcUri;
 import org.apache.shardingsphere.scaling.core.common.datasource.MetaDataManager;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.CommitTXEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
@@ -36,6 +39,7 @@ import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Convert wal event to {@code Record}.
@@ -67,7 +71,9 @@ public final class WalEventConverter {
             return handleUpdateRowsEvent((UpdateRowEvent) event);
         } else if (event instanceof DeleteRowEvent) {
             return handleDeleteRowsEvent((DeleteRowEvent) event);
-        } else if (event instanceof PlaceholderEvent) {
+        } else if (event instanceof CommitTXEvent) {
+            return new CommitRecord(new WalPosition(event.getLogSequenceNumber()));
+        } else if (event instanceof PlaceholderEvent || event instanceof BeginTXEvent) {
             return createPlaceholderRecord(event);
         }
         throw new UnsupportedOperationException("");
@@ -101,7 +107,18 @@ public final class WalEventConverter {
     private DataRecord handleUpdateRowsEvent(final UpdateRowEvent updateRowEvent) {
         DataRecord result = createDataRecord(updateRowEvent, updateRowEvent.getAfterRow().size());
         result.setType(ScalingConstant.UPDATE);
-        putColumnsIntoDataRecord(result, metaDataManager.getTableMetaData(updateRowEvent.getTableName()), updateRowEvent.getAfterRow());
+        TableMetaData tableMetaData = metaDataManager.getTableMetaData(updateRowEvent.getTableName());
+        List<Object> beforeRow = updateRowEvent.getBeforeRow();
+        List<Object> afterRow = updateRowEvent.getAfterRow();
+        for (int i = 0; i < afterRow.size(); i++) {
+            if (tableMetaData.isPrimaryKey(i)) {
+                Object oldValue = null == beforeRow ? null : beforeRow.get(i);
+                boolean updated = null != beforeRow && !Objects.equals(oldValue, afterRow.get(i));
+                result.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), updated ? oldValue : null, afterRow.get(i), updated, true));
+            } else {
+                result.addColumn(new Column(tableMetaData.getColumnMetaData(i).getName(), afterRow.get(i), true, false));
+            }
+        }
         return result;
     }
     
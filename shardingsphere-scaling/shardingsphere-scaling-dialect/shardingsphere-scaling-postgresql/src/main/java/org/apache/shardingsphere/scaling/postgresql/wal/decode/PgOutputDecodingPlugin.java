@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.wal.decode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.util.PGbytea;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin for the binary pgoutput protocol.
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final Object UNCHANGED_TOAST_VALUE = new Object();
+    
+    private final TimestampUtils timestampUtils;
+    
+    private final Map<Integer, Relation> relations = new HashMap<>();
+    
+    private long currentXid;
+    
+    @Override
+    public AbstractWalEvent decode(final ByteBuffer data, final LogSequenceNumber logSequenceNumber) {
+        AbstractWalEvent result;
+        char messageType = (char) data.get();
+        switch (messageType) {
+            case 'B':
+                result = readBeginTXEvent(data);
+                break;
+            case 'C':
+                result = readCommitTXEvent(data);
+                break;
+            case 'R':
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = readWriteRowEvent(data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(data);
+                break;
+            case 'D':
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private BeginTXEvent readBeginTXEvent(final ByteBuffer data) {
+        data.getLong();
+        data.getLong();
+        currentXid = data.getInt() & 0xFFFFFFFFL;
+        BeginTXEvent result = new BeginTXEvent();
+        result.setXid(currentXid);
+        return result;
+    }
+    
+    private CommitTXEvent readCommitTXEvent(final ByteBuffer data) {
+        CommitTXEvent result = new CommitTXEvent();
+        result.setXid(currentXid);
+        return result;
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        int columnCount = data.getShort();
+        List<RelationColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            boolean key = 1 == (data.get() & 1);
+            String columnName = readString(data);
+            int typeOid = data.getInt();
+            data.getInt();
+            columns.add(new RelationColumn(columnName, typeOid, key));
+        }
+        relations.put(relationId, new Relation(schemaName, tableName, columns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        readTupleType(data, 'N');
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation));
+        initRowEvent(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        char tupleType = (char) data.get();
+        boolean fullBeforeRow = 'O' == tupleType;
+        List<Object> beforeRow = null;
+        if ('K' == tupleType || fullBeforeRow) {
+            beforeRow = readTupleData(data, relation);
+            tupleType = (char) data.get();
+        }
+        checkTupleType(tupleType, 'N');
+        List<Object> afterRow = readTupleData(data, relation);
+        for (int i = 0; i < afterRow.size(); i++) {
+            if (UNCHANGED_TOAST_VALUE == afterRow.get(i)) {
+                if (!fullBeforeRow || UNCHANGED_TOAST_VALUE == beforeRow.get(i)) {
+                    throw new ScalingTaskExecuteException(String.format("Unchanged TOAST value of `%s.%s` can not be decoded, please set REPLICA IDENTITY FULL",
+                            relation.getTableName(), relation.getColumns().get(i).getName()));
+                }
+                afterRow.set(i, beforeRow.get(i));
+            }
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setBeforeRow(beforeRow);
+        result.setAfterRow(afterRow);
+        initRowEvent(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> beforeRow = readTupleData(data, relation);
+        List<Object> primaryKeys = new ArrayList<>(beforeRow.size());
+        for (int i = 0; i < beforeRow.size(); i++) {
+            if (relation.getColumns().get(i).isKey()) {
+                primaryKeys.add(beforeRow.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        initRowEvent(result, relation);
+        return result;
+    }
+    
+    private Relation getRelation(final int relationId) {
+        Relation result = relations.get(relationId);
+        if (null == result) {
+            throw new ScalingTaskExecuteException(String.format("Relation %d is not received before row message", relationId));
+        }
+        return result;
+    }
+    
+    private void initRowEvent(final AbstractRowEvent rowEvent, final Relation relation) {
+        rowEvent.setSchemaName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+    }
+    
+    private void readTupleType(final ByteBuffer data, final char expectedTupleType) {
+        checkTupleType((char) data.get(), expectedTupleType);
+    }
+    
+    private void checkTupleType(final char tupleType, final char expectedTupleType) {
+        if (expectedTupleType != tupleType) {
+            throw new ScalingTaskExecuteException(String.format("Unexpected tuple type %s, expected %s", tupleType, expectedTupleType));
+        }
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final Relation relation) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char columnDataType = (char) data.get();
+            switch (columnDataType) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 'u':
+                    result.add(UNCHANGED_TOAST_VALUE);
+                    break;
+                case 't':
+                    byte[] value = new byte[data.getInt()];
+                    data.get(value);
+                    result.add(readColumnData(new String(value, StandardCharsets.UTF_8), relation.getColumns().get(i).getTypeOid()));
+                    break;
+                default:
+                    throw new ScalingTaskExecuteException(String.format("Unsupported column data type %s", columnDataType));
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnData(final String value, final int typeOid) {
+        try {
+            switch (typeOid) {
+                case 16:
+                    return "t".equals(value);
+                case 17:
+                    return PGbytea.toBytes(value.getBytes(StandardCharsets.US_ASCII));
+                case 20:
+                    return Long.parseLong(value);
+                case 21:
+                    return Short.parseShort(value);
+                case 23:
+                    return Integer.parseInt(value);
+                case 700:
+                    return Float.parseFloat(value);
+                case 701:
+                    return Double.parseDouble(value);
+                case 1082:
+                    return Date.valueOf(value);
+                case 1083:
+                    return timestampUtils.toTime(null, value);
+                case 1114:
+                    return timestampUtils.toTimestamp(null, value);
+                case 1700:
+                    return new BigDecimal(value);
+                default:
+                    return value;
+            }
+        } catch (final SQLException ex) {
+            throw new DecodingException(ex);
+        }
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int length = 0;
+        while (0 != data.get(data.position() + length)) {
+            length++;
+        }
+        byte[] result = new byte[length];
+        data.get(result);
+        data.get();
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Relation {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final List<RelationColumn> columns;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RelationColumn {
+        
+        private final String name;
+        
+        private final int typeOid;
+        
+        private final boolean key;
+    }
+}
@@ -22,6 +22,8 @@ import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.CommitTXEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
@@ -50,6 +52,10 @@ public final class TestDecodingPlugin implements DecodingPlugin {
         String eventType = readEventType(data);
         if ("table".equals(eventType)) {
             result = readTableEvent(data);
+        } else if ("BEGIN".equals(eventType)) {
+            result = readBeginTXEvent(data);
+        } else if ("COMMIT".equals(eventType)) {
+            result = readCommitTXEvent(data);
         } else {
             result = new PlaceholderEvent();
         }
@@ -61,6 +67,18 @@ public final class TestDecodingPlugin implements DecodingPlugin {
         return readNextSegment(data);
     }
     
+    private BeginTXEvent readBeginTXEvent(final ByteBuffer data) {
+        BeginTXEvent result = new BeginTXEvent();
+        result.setXid(Long.parseLong(readNextSegment(data)));
+        return result;
+    }
+    
+    private CommitTXEvent readCommitTXEvent(final ByteBuffer data) {
+        CommitTXEvent result = new CommitTXEvent();
+        result.setXid(Long.parseLong(readNextSegment(data)));
+        return result;
+    }
+    
     private AbstractRowEvent readTableEvent(final ByteBuffer data) {
         AbstractRowEvent result;
         String tableName = readTableName(data);
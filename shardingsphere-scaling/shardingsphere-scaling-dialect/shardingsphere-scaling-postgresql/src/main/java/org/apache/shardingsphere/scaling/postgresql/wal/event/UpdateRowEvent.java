@@ -29,5 +29,10 @@ import java.util.List;
 @Getter
 public final class UpdateRowEvent extends AbstractRowEvent {
     
+    /**
+     * Old key values, available only when the replica identity is changed or REPLICA IDENTITY FULL is set.
+     */
+    private List<Object> beforeRow;
+    
     private List<Object> afterRow;
 }
@@ -36,6 +36,7 @@ import java.sql.SQLException;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -76,10 +77,23 @@ public final class PostgreSQLPositionInitializerTest {
     @Test
     public void assertGetCurrentPositionOnPostgreSQL10() throws SQLException {
         when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        PreparedStatement publicationPreparedStatement = mockPublicationCount(0);
+        when(connection.prepareStatement("SELECT COUNT(*) FROM pg_publication WHERE pubname = 'sharding_scaling'")).thenReturn(publicationPreparedStatement);
         WalPosition actual = new PostgreSQLPositionInitializer().init(dataSource);
         assertThat(actual.getLogSequenceNumber(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
     }
     
+    @Test
+    public void assertCreatePgOutputSlotWithPublication() throws SQLException {
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        PreparedStatement publicationPreparedStatement = mockPublicationCount(1);
+        when(connection.prepareStatement("SELECT COUNT(*) FROM pg_publication WHERE pubname = 'sharding_scaling'")).thenReturn(publicationPreparedStatement);
+        PreparedStatement createSlotPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT * FROM pg_create_logical_replication_slot('sharding_scaling', 'pgoutput')")).thenReturn(createSlotPreparedStatement);
+        new PostgreSQLPositionInitializer().init(dataSource);
+        verify(createSlotPreparedStatement).execute();
+    }
+    
     @Test(expected = RuntimeException.class)
     public void assertGetCurrentPositionThrowException() throws SQLException {
         when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(9);
@@ -87,6 +101,16 @@ public final class PostgreSQLPositionInitializerTest {
         new PostgreSQLPositionInitializer().init(dataSource);
     }
     
+    @SneakyThrows(SQLException.class)
+    private PreparedStatement mockPublicationCount(final int count) {
+        PreparedStatement result = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getInt(1)).thenReturn(count);
+        return result;
+    }
+    
     @SneakyThrows(SQLException.class)
     private PreparedStatement mockPostgreSQL96LSN() {
         PreparedStatement result = mock(PreparedStatement.class);
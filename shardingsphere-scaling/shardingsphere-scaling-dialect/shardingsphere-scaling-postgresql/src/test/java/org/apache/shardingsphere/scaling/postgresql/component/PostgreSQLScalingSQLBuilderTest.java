@@ -35,6 +35,12 @@ public final class PostgreSQLScalingSQLBuilderTest {
         assertThat(actual, is("INSERT INTO \"t_order\"(\"id\",\"name\") VALUES(?,?) ON CONFLICT (id) DO NOTHING"));
     }
     
+    @Test
+    public void assertBuildCopySQL() {
+        String actual = new PostgreSQLScalingSQLBuilder(Maps.newHashMap()).buildCopySQL(mockDataRecord());
+        assertThat(actual, is("COPY \"t_order\"(\"id\",\"name\") FROM STDIN"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WalPosition(LogSequenceNumber.valueOf(100L)), 2);
         result.setTableName("t_order");
@@ -40,6 +40,7 @@ import java.sql.SQLException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -86,13 +87,23 @@ public final class PostgreSQLWalDumperTest {
             when(logicalReplication.createPgConnection(jdbcDataSourceConfig)).thenReturn(pgConnection);
             when(pgConnection.unwrap(PgConnection.class)).thenReturn(pgConnection);
             when(pgConnection.getTimestampUtils()).thenReturn(null);
-            when(logicalReplication.createReplicationStream(pgConnection, PostgreSQLPositionInitializer.SLOT_NAME, position.getLogSequenceNumber())).thenReturn(pgReplicationStream);
+            when(logicalReplication.getSlotPlugin(jdbcDataSourceConfig, PostgreSQLPositionInitializer.SLOT_NAME)).thenReturn(LogicalReplication.TEST_DECODING_PLUGIN);
+            when(logicalReplication.createReplicationStream(pgConnection, PostgreSQLPositionInitializer.SLOT_NAME, position.getLogSequenceNumber(), LogicalReplication.TEST_DECODING_PLUGIN))
+                    .thenReturn(pgReplicationStream);
             ByteBuffer data = ByteBuffer.wrap("table public.test: DELETE: data[integer]:1".getBytes());
-            when(pgReplicationStream.readPending()).thenReturn(null).thenReturn(data).thenThrow(new SQLException(""));
+            when(pgReplicationStream.read()).thenReturn(data).thenThrow(new SQLException(""));
             when(pgReplicationStream.getLastReceiveLSN()).thenReturn(LogSequenceNumber.valueOf(101L));
             walDumper.start();
         } catch (final ScalingTaskExecuteException ignored) {
         }
         assertThat(channel.fetchRecords(100, 0).size(), is(1));
     }
+    
+    @Test
+    public void assertAckPosition() throws NoSuchFieldException, IllegalAccessException {
+        ReflectionUtil.setFieldValue(walDumper, "stream", pgReplicationStream);
+        walDumper.ackPosition(new WalPosition(LogSequenceNumber.valueOf(101L)));
+        verify(pgReplicationStream).setAppliedLSN(LogSequenceNumber.valueOf(101L));
+        verify(pgReplicationStream).setFlushedLSN(LogSequenceNumber.valueOf(101L));
+    }
 }
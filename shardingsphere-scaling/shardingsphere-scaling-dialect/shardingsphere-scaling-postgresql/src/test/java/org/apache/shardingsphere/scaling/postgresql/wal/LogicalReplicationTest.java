@@ -33,8 +33,10 @@ import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
@@ -78,8 +80,25 @@ public final class LogicalReplicationTest {
         when(chainedStreamBuilder.logical()).thenReturn(chainedLogicalStreamBuilder);
         when(chainedLogicalStreamBuilder.withStartPosition(startPosition)).thenReturn(chainedLogicalStreamBuilder);
         when(chainedLogicalStreamBuilder.withSlotName("")).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withStatusInterval(anyInt(), eq(TimeUnit.SECONDS))).thenReturn(chainedLogicalStreamBuilder);
         when(chainedLogicalStreamBuilder.withSlotOption(anyString(), eq(true))).thenReturn(chainedLogicalStreamBuilder, chainedLogicalStreamBuilder);
-        logicalReplication.createReplicationStream(pgConnection, "", startPosition);
+        logicalReplication.createReplicationStream(pgConnection, "", startPosition, LogicalReplication.TEST_DECODING_PLUGIN);
+        verify(chainedLogicalStreamBuilder).start();
+    }
+    
+    @Test
+    public void assertCreatePgOutputReplicationStreamSuccess() throws SQLException {
+        LogSequenceNumber startPosition = LogSequenceNumber.valueOf(100L);
+        when(pgConnection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getReplicationAPI()).thenReturn(pgReplicationConnection);
+        when(pgReplicationConnection.replicationStream()).thenReturn(chainedStreamBuilder);
+        when(chainedStreamBuilder.logical()).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withStartPosition(startPosition)).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotName("sharding_scaling")).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withStatusInterval(anyInt(), eq(TimeUnit.SECONDS))).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption(anyString(), anyString())).thenReturn(chainedLogicalStreamBuilder, chainedLogicalStreamBuilder);
+        logicalReplication.createReplicationStream(pgConnection, "sharding_scaling", startPosition, LogicalReplication.PGOUTPUT_PLUGIN);
+        verify(chainedLogicalStreamBuilder).withSlotOption("publication_names", "sharding_scaling");
         verify(chainedLogicalStreamBuilder).start();
     }
     
@@ -87,6 +106,6 @@ public final class LogicalReplicationTest {
     @SneakyThrows(SQLException.class)
     public void assertCreateReplicationStreamFailure() {
         when(pgConnection.unwrap(PGConnection.class)).thenThrow(new SQLException(""));
-        logicalReplication.createReplicationStream(pgConnection, "", LogSequenceNumber.valueOf(100L));
+        logicalReplication.createReplicationStream(pgConnection, "", LogSequenceNumber.valueOf(100L), LogicalReplication.TEST_DECODING_PLUGIN);
     }
 }
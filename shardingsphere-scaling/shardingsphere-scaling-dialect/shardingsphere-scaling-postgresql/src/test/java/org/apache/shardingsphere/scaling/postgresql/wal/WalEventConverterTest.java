@@ -24,10 +24,13 @@ import org.apache.shardingsphere.scaling.core.config.DumperConfiguration;
 import org.apache.shardingsphere.scaling.core.config.datasource.StandardJDBCDataSourceConfiguration;
 import org.apache.shardingsphere.scaling.core.common.constant.ScalingConstant;
 import org.apache.shardingsphere.scaling.core.common.datasource.DataSourceManager;
+import org.apache.shardingsphere.scaling.core.common.record.CommitRecord;
 import org.apache.shardingsphere.scaling.core.common.record.DataRecord;
 import org.apache.shardingsphere.scaling.core.common.record.PlaceholderRecord;
 import org.apache.shardingsphere.scaling.core.common.record.Record;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.CommitTXEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
@@ -90,6 +93,18 @@ public final class WalEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(ScalingConstant.UPDATE));
     }
     
+    @Test
+    public void assertConvertUpdateRowEventWithPrimaryKeyChanged() {
+        UpdateRowEvent updateRowEvent = (UpdateRowEvent) mockUpdateRowEvent();
+        updateRowEvent.setBeforeRow(Lists.newArrayList(1, null));
+        updateRowEvent.setAfterRow(Lists.newArrayList(2, "xxx"));
+        DataRecord actual = (DataRecord) walEventConverter.convert(updateRowEvent);
+        assertTrue(actual.getColumn(0).isUpdated());
+        assertThat(actual.getColumn(0).getOldValue(), is(1));
+        assertThat(actual.getColumn(0).getValue(), is(2));
+        assertThat(actual.getOldPrimaryKeyValues().get(0), is(1));
+    }
+    
     @Test
     public void assertConvertDeleteRowEvent() {
         Record record = walEventConverter.convert(mockDeleteRowEvent());
@@ -103,6 +118,18 @@ public final class WalEventConverterTest {
         assertTrue(record instanceof PlaceholderRecord);
     }
     
+    @Test
+    public void assertConvertBeginTXEvent() {
+        Record record = walEventConverter.convert(new BeginTXEvent());
+        assertTrue(record instanceof PlaceholderRecord);
+    }
+    
+    @Test
+    public void assertConvertCommitTXEvent() {
+        Record record = walEventConverter.convert(new CommitTXEvent());
+        assertTrue(record instanceof CommitRecord);
+    }
+    
     @Test
     public void assertUnknownTable() {
         Record record = walEventConverter.convert(mockUnknownTableEvent());
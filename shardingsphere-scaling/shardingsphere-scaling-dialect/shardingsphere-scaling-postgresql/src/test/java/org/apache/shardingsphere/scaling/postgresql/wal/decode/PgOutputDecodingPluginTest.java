@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.scaling.postgresql.wal.decode;
+
+import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private final LogSequenceNumber logSequenceNumber = LogSequenceNumber.valueOf("0/14EFDB8");
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @Before
+    public void setUp() {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        AbstractWalEvent actual = decodingPlugin.decode(mockRelation(), logSequenceNumber);
+        assertTrue(actual instanceof PlaceholderEvent);
+    }
+    
+    @Test
+    public void assertDecodeBeginAndCommit() {
+        ByteBuffer begin = ByteBuffer.allocate(21);
+        begin.put((byte) 'B').putLong(100L).putLong(0L).putInt(616281);
+        begin.flip();
+        BeginTXEvent actualBegin = (BeginTXEvent) decodingPlugin.decode(begin, logSequenceNumber);
+        assertThat(actualBegin.getXid(), is(616281L));
+        ByteBuffer commit = ByteBuffer.allocate(26);
+        commit.put((byte) 'C').put((byte) 0).putLong(100L).putLong(120L).putLong(0L);
+        commit.flip();
+        CommitTXEvent actualCommit = (CommitTXEvent) decodingPlugin.decode(commit, logSequenceNumber);
+        assertThat(actualCommit.getXid(), is(616281L));
+        assertThat(actualCommit.getLogSequenceNumber(), is(logSequenceNumber));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(64);
+        data.put((byte) 'I').putInt(16385).put((byte) 'N');
+        putTuple(data, "1", "1.50", null);
+        data.flip();
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(1));
+        assertThat(actual.getAfterRow().get(1), is(new BigDecimal("1.50")));
+        assertThat(actual.getAfterRow().get(2), nullValue());
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastValue() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(16385).put((byte) 'O');
+        putTuple(data, "1", "1.50", "old");
+        data.put((byte) 'N').putShort((short) 3);
+        putTextColumn(data, "1");
+        putTextColumn(data, "2.50");
+        data.put((byte) 'u');
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getAfterRow().get(1), is(new BigDecimal("2.50")));
+        assertThat(actual.getAfterRow().get(2), is("old"));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithKeyChanged() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(16385).put((byte) 'K');
+        putTuple(data, "1", null, null);
+        data.put((byte) 'N');
+        putTuple(data, "2", "2.50", "new");
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getBeforeRow().get(0), is(1));
+        assertThat(actual.getAfterRow().get(0), is(2));
+    }
+    
+    @Test(expected = ScalingTaskExecuteException.class)
+    public void assertDecodeUpdateRowEventWithUnchangedToastValueAndKeyOnlyBeforeRow() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(16385).put((byte) 'K');
+        putTuple(data, "1", null, null);
+        data.put((byte) 'N').putShort((short) 3);
+        putTextColumn(data, "2");
+        putTextColumn(data, "2.50");
+        data.put((byte) 'u');
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+    }
+    
+    @Test(expected = ScalingTaskExecuteException.class)
+    public void assertDecodeUpdateRowEventWithoutOldToastValue() {
+        ByteBuffer data = ByteBuffer.allocate(64);
+        data.put((byte) 'U').putInt(16385).put((byte) 'N').putShort((short) 3);
+        putTextColumn(data, "1");
+        putTextColumn(data, "2.50");
+        data.put((byte) 'u');
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(64);
+        data.put((byte) 'D').putInt(16385).put((byte) 'K');
+        putTuple(data, "1", null, null);
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys().size(), is(1));
+        assertThat(actual.getPrimaryKeys().get(0), is(1));
+    }
+    
+    @Test(expected = ScalingTaskExecuteException.class)
+    public void assertDecodeUnknownRelation() {
+        ByteBuffer data = ByteBuffer.allocate(16);
+        data.put((byte) 'I').putInt(1).put((byte) 'N').putShort((short) 0);
+        data.flip();
+        decodingPlugin.decode(data, logSequenceNumber);
+    }
+    
+    @Test
+    public void assertDecodeUnknownMessage() {
+        AbstractWalEvent actual = decodingPlugin.decode(ByteBuffer.wrap(new byte[]{'T'}), logSequenceNumber);
+        assertTrue(actual instanceof PlaceholderEvent);
+    }
+    
+    private ByteBuffer mockRelation() {
+        ByteBuffer result = ByteBuffer.allocate(128);
+        result.put((byte) 'R').putInt(16385);
+        putString(result, "public");
+        putString(result, "t_order");
+        result.put((byte) 'd').putShort((short) 3);
+        putRelationColumn(result, true, "id", 23);
+        putRelationColumn(result, false, "price", 1700);
+        putRelationColumn(result, false, "remark", 25);
+        result.flip();
+        return result;
+    }
+    
+    private void putRelationColumn(final ByteBuffer data, final boolean key, final String name, final int typeOid) {
+        data.put((byte) (key ? 1 : 0));
+        putString(data, name);
+        data.putInt(typeOid).putInt(-1);
+    }
+    
+    private void putString(final ByteBuffer data, final String value) {
+        data.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+    
+    private void putTuple(final ByteBuffer data, final String... values) {
+        data.putShort((short) values.length);
+        for (String each : values) {
+            if (null == each) {
+                data.put((byte) 'n');
+            } else {
+                putTextColumn(data, each);
+            }
+        }
+    }
+    
+    private void putTextColumn(final ByteBuffer data, final String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.put((byte) 't').putInt(bytes.length).put(bytes);
+    }
+}
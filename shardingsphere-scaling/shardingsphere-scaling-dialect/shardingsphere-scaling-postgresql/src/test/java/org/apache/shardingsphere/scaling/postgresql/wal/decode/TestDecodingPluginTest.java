@@ -20,6 +20,8 @@ package org.apache.shardingsphere.scaling.postgresql.wal.decode;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.scaling.core.common.exception.ScalingTaskExecuteException;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.AbstractWalEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.scaling.postgresql.wal.event.CommitTXEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.PlaceholderEvent;
 import org.apache.shardingsphere.scaling.postgresql.wal.event.UpdateRowEvent;
@@ -78,6 +80,22 @@ public final class TestDecodingPluginTest {
         assertThat(actual.getAfterRow().get(0), is(new byte[]{(byte) 0xff, (byte) 0, (byte) 0xab}));
     }
     
+    @Test
+    public void assertDecodeBeginTXEvent() {
+        ByteBuffer data = ByteBuffer.wrap("BEGIN 616281".getBytes());
+        BeginTXEvent actual = (BeginTXEvent) new TestDecodingPlugin(null).decode(data, logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getXid(), is(616281L));
+    }
+    
+    @Test
+    public void assertDecodeCommitTXEvent() {
+        ByteBuffer data = ByteBuffer.wrap("COMMIT 616281".getBytes());
+        CommitTXEvent actual = (CommitTXEvent) new TestDecodingPlugin(null).decode(data, logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getXid(), is(616281L));
+    }
+    
     @Test
     public void assertDecodeUnknownTableType() {
         ByteBuffer data = ByteBuffer.wrap("unknown".getBytes());
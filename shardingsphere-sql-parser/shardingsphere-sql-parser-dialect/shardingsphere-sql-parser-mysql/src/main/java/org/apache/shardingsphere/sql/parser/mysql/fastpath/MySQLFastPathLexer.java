@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.fastpath;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathToken;
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathTokenType;
+
+/**
+ * Fast path lexer for MySQL.
+ * 
+ * <p>Only tokens used by simple point DML are recognized, SQL with comments, double quoted text or any other token should be parsed by ANTLR.</p>
+ * 
+ * <p>Tokens are scanned lazily when parser asks for next one, so that no token list is built for whole SQL.
+ * Values of multiple rows insert are still parsed to expression segments one by one.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLFastPathLexer {
+    
+    private final String sql;
+    
+    private int offset;
+    
+    /**
+     * Scan next token.
+     * 
+     * @return next token, {@code EOF} token if reach end of SQL, null if next token can not be recognized by fast path
+     */
+    public FastPathToken nextToken() {
+        skipWhitespace();
+        return offset >= sql.length() ? new FastPathToken(FastPathTokenType.EOF, "", offset, offset - 1) : scanToken();
+    }
+    
+    private void skipWhitespace() {
+        while (offset < sql.length() && isWhitespace(sql.charAt(offset))) {
+            offset++;
+        }
+    }
+    
+    private boolean isWhitespace(final char ch) {
+        return ' ' == ch || '\t' == ch || '\r' == ch || '\n' == ch;
+    }
+    
+    private FastPathToken scanToken() {
+        char ch = sql.charAt(offset);
+        if (isIdentifierStart(ch)) {
+            return scanIdentifier();
+        }
+        if (isDigit(ch)) {
+            return scanNumber();
+        }
+        switch (ch) {
+            case '`':
+                return scanQuotedIdentifier();
+            case '\'':
+                return scanString();
+            case '?':
+                return createToken(FastPathTokenType.PARAMETER_MARKER, 1);
+            case ',':
+                return createToken(FastPathTokenType.COMMA, 1);
+            case '.':
+                return createToken(FastPathTokenType.DOT, 1);
+            case '(':
+                return createToken(FastPathTokenType.LP, 1);
+            case ')':
+                return createToken(FastPathTokenType.RP, 1);
+            case '*':
+                return createToken(FastPathTokenType.ASTERISK, 1);
+            case ';':
+                return createToken(FastPathTokenType.SEMI, 1);
+            case '=':
+                return createToken(FastPathTokenType.COMPARISON_OPERATOR, 1);
+            case '<':
+                if (isNextChar('>') || isNextChar('=')) {
+                    return isCharAt(offset + 2, '>') ? null : createToken(FastPathTokenType.COMPARISON_OPERATOR, 2);
+                }
+                return isNextChar('<') ? null : createToken(FastPathTokenType.COMPARISON_OPERATOR, 1);
+            case '>':
+                if (isNextChar('=')) {
+                    return createToken(FastPathTokenType.COMPARISON_OPERATOR, 2);
+                }
+                return isNextChar('>') ? null : createToken(FastPathTokenType.COMPARISON_OPERATOR, 1);
+            case '!':
+                return isNextChar('=') ? createToken(FastPathTokenType.COMPARISON_OPERATOR, 2) : null;
+            default:
+                return null;
+        }
+    }
+    
+    private boolean isNextChar(final char expected) {
+        return isCharAt(offset + 1, expected);
+    }
+    
+    private boolean isCharAt(final int index, final char expected) {
+        return index < sql.length() && expected == sql.charAt(index);
+    }
+    
+    private FastPathToken createToken(final FastPathTokenType type, final int length) {
+        FastPathToken result = new FastPathToken(type, sql.substring(offset, offset + length), offset, offset + length - 1);
+        offset += length;
+        return result;
+    }
+    
+    private FastPathToken scanIdentifier() {
+        int end = offset;
+        while (end < sql.length() && isIdentifierPart(sql.charAt(end))) {
+            end++;
+        }
+        if (end < sql.length() && isUnsupportedIdentifierFollower(sql.charAt(end))) {
+            return null;
+        }
+        return createToken(FastPathTokenType.IDENTIFIER, end - offset);
+    }
+    
+    private boolean isUnsupportedIdentifierFollower(final char ch) {
+        return '\'' == ch || '"' == ch || '`' == ch || ch >= 0x80;
+    }
+    
+    private FastPathToken scanNumber() {
+        int end = skipDigits(offset);
+        if (isCharAt(end, '.')) {
+            int fractionEnd = skipDigits(end + 1);
+            if (fractionEnd == end + 1) {
+                return null;
+            }
+            end = fractionEnd;
+        }
+        if (end < sql.length() && (isIdentifierPart(sql.charAt(end)) || '.' == sql.charAt(end) || sql.charAt(end) >= 0x80)) {
+            return null;
+        }
+        return createToken(FastPathTokenType.NUMBER, end - offset);
+    }
+    
+    private int skipDigits(final int start) {
+        int result = start;
+        while (result < sql.length() && isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private FastPathToken scanQuotedIdentifier() {
+        int end = sql.indexOf('`', offset + 1);
+        if (end <= offset + 1 || isCharAt(end + 1, '`')) {
+            return null;
+        }
+        return createToken(FastPathTokenType.QUOTED_IDENTIFIER, end - offset + 1);
+    }
+    
+    private FastPathToken scanString() {
+        int end = offset + 1;
+        while (end < sql.length()) {
+            char ch = sql.charAt(end);
+            if ('\\' == ch) {
+                end += 2;
+            } else if ('\'' == ch) {
+                if (!isCharAt(end + 1, '\'')) {
+                    return createToken(FastPathTokenType.STRING, end - offset + 1);
+                }
+                end += 2;
+            } else {
+                end++;
+            }
+        }
+        return null;
+    }
+    
+    private boolean isIdentifierStart(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || '_' == ch || '$' == ch;
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return isIdentifierStart(ch) || isDigit(ch);
+    }
+    
+    private boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+}
@@ -0,0 +1,391 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.fastpath;
+
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathToken;
+import org.apache.shardingsphere.sql.parser.core.fastpath.FastPathTokenType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.AliasSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.StringLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fast path parser for simple point DML of MySQL.
+ * 
+ * <p>
+ *     Recognize {@code SELECT columns FROM table WHERE conditions}, {@code INSERT INTO table (columns) VALUES (values), ...},
+ *     {@code UPDATE table SET assignments WHERE conditions} and {@code DELETE FROM table WHERE conditions},
+ *     which conditions are column compared with parameter marker, literal or column and combined by {@code AND}.
+ *     The SQL statement created is same as the one created by ANTLR parser and statement visitor, other SQL should be parsed by ANTLR.
+ * </p>
+ */
+public final class MySQLFastPathParser {
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList(
+            "ALL", "AND", "AS", "ASC", "BETWEEN", "BINARY", "BY", "CASE", "COLLATE", "CROSS", "DEFAULT", "DELAYED", "DELETE", "DESC", "DISTINCT", "DISTINCTROW", "DIV", "DUAL",
+            "ELSE", "ESCAPE", "EXISTS", "FALSE", "FOR", "FORCE", "FROM", "GROUP", "HAVING", "HIGH_PRIORITY", "IGNORE", "IN", "INDEX", "INNER", "INSERT", "INTERVAL", "INTO",
+            "IS", "JOIN", "KEY", "LEFT", "LIKE", "LIMIT", "LOCK", "LOW_PRIORITY", "MOD", "NATURAL", "NOT", "NULL", "OJ", "ON", "OR", "ORDER", "OUTER", "PARTITION", "QUICK",
+            "REGEXP", "RIGHT", "RLIKE", "ROW", "SELECT", "SET", "SOUNDS", "SQL_BIG_RESULT", "SQL_BUFFER_RESULT", "SQL_CACHE", "SQL_CALC_FOUND_ROWS", "SQL_NO_CACHE",
+            "SQL_SMALL_RESULT", "STRAIGHT_JOIN", "TABLE", "THEN", "TRUE", "UNION", "UNKNOWN", "UPDATE", "USE", "USING", "VALUE", "VALUES", "WHEN", "WHERE", "WINDOW", "WITH", "XOR"));
+    
+    private static final UnrecognizedSQLException UNRECOGNIZED = new UnrecognizedSQLException();
+    
+    private final String sql;
+    
+    private final MySQLFastPathLexer lexer;
+    
+    private FastPathToken currentToken;
+    
+    private FastPathToken previousToken;
+    
+    private int parameterCount;
+    
+    private MySQLFastPathParser(final String sql) {
+        this.sql = sql;
+        lexer = new MySQLFastPathLexer(sql);
+    }
+    
+    /**
+     * Parse SQL.
+     * 
+     * @param sql SQL to be parsed
+     * @return SQL statement, empty if SQL is not simple point DML
+     */
+    public static Optional<SQLStatement> parse(final String sql) {
+        try {
+            return Optional.of(new MySQLFastPathParser(sql).parseStatement());
+        } catch (final UnrecognizedSQLException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private SQLStatement parseStatement() {
+        advance();
+        AbstractSQLStatement result;
+        if (current().isKeyword("SELECT")) {
+            result = parseSelect();
+        } else if (current().isKeyword("INSERT")) {
+            result = parseInsert();
+        } else if (current().isKeyword("UPDATE")) {
+            result = parseUpdate();
+        } else if (current().isKeyword("DELETE")) {
+            result = parseDelete();
+        } else {
+            throw UNRECOGNIZED;
+        }
+        accept(FastPathTokenType.SEMI);
+        expect(FastPathTokenType.EOF);
+        result.setParameterCount(parameterCount);
+        return result;
+    }
+    
+    private MySQLSelectStatement parseSelect() {
+        expectKeyword("SELECT");
+        MySQLSelectStatement result = new MySQLSelectStatement();
+        result.setProjections(parseProjections());
+        expectKeyword("FROM");
+        result.setFrom(parseTableFactor());
+        if (current().isKeyword("WHERE")) {
+            result.setWhere(parseWhere());
+        }
+        return result;
+    }
+    
+    private ProjectionsSegment parseProjections() {
+        int startIndex = current().getStartIndex();
+        Collection<ProjectionSegment> projections = new LinkedList<>();
+        if (FastPathTokenType.ASTERISK == current().getType()) {
+            FastPathToken asterisk = next();
+            projections.add(new ShorthandProjectionSegment(asterisk.getStartIndex(), asterisk.getStopIndex()));
+        } else {
+            projections.add(parseColumnProjection());
+        }
+        while (accept(FastPathTokenType.COMMA)) {
+            projections.add(parseColumnProjection());
+        }
+        ProjectionsSegment result = new ProjectionsSegment(startIndex, previous().getStopIndex());
+        result.getProjections().addAll(projections);
+        return result;
+    }
+    
+    private ColumnProjectionSegment parseColumnProjection() {
+        ColumnProjectionSegment result = new ColumnProjectionSegment(parseColumn());
+        parseAlias().ifPresent(result::setAlias);
+        return result;
+    }
+    
+    private MySQLInsertStatement parseInsert() {
+        expectKeyword("INSERT");
+        acceptKeyword("INTO");
+        MySQLInsertStatement result = new MySQLInsertStatement();
+        result.setTable(parseTableName());
+        if (FastPathTokenType.LP == current().getType()) {
+            result.setInsertColumns(parseInsertColumns());
+        }
+        FastPathToken values = current();
+        if (!acceptKeyword("VALUES") && !acceptKeyword("VALUE")) {
+            throw UNRECOGNIZED;
+        }
+        if (!result.getInsertColumns().isPresent()) {
+            result.setInsertColumns(new InsertColumnsSegment(values.getStartIndex() - 1, values.getStartIndex() - 1, Collections.emptyList()));
+        }
+        do {
+            result.getValues().add(parseInsertValues());
+        } while (accept(FastPathTokenType.COMMA));
+        return result;
+    }
+    
+    private InsertColumnsSegment parseInsertColumns() {
+        FastPathToken leftParenthesis = expect(FastPathTokenType.LP);
+        List<ColumnSegment> columns = new LinkedList<>();
+        if (FastPathTokenType.RP != current().getType()) {
+            do {
+                columns.add(parseColumn());
+            } while (accept(FastPathTokenType.COMMA));
+        }
+        FastPathToken rightParenthesis = expect(FastPathTokenType.RP);
+        return new InsertColumnsSegment(leftParenthesis.getStartIndex(), rightParenthesis.getStopIndex(), columns);
+    }
+    
+    private InsertValuesSegment parseInsertValues() {
+        FastPathToken leftParenthesis = expect(FastPathTokenType.LP);
+        List<ExpressionSegment> values = new ArrayList<>();
+        if (FastPathTokenType.RP != current().getType()) {
+            do {
+                values.add(parseValue());
+            } while (accept(FastPathTokenType.COMMA));
+        }
+        FastPathToken rightParenthesis = expect(FastPathTokenType.RP);
+        return new InsertValuesSegment(leftParenthesis.getStartIndex(), rightParenthesis.getStopIndex(), values);
+    }
+    
+    private MySQLUpdateStatement parseUpdate() {
+        expectKeyword("UPDATE");
+        MySQLUpdateStatement result = new MySQLUpdateStatement();
+        result.setTableSegment(parseTableFactor());
+        FastPathToken set = expectKeyword("SET");
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (!"=".equals(expect(FastPathTokenType.COMPARISON_OPERATOR).getText())) {
+                throw UNRECOGNIZED;
+            }
+            ExpressionSegment value = parseValue();
+            assignments.add(new AssignmentSegment(column.getStartIndex(), value.getStopIndex(), column, value));
+        } while (accept(FastPathTokenType.COMMA));
+        result.setSetAssignment(new SetAssignmentSegment(set.getStartIndex(), previous().getStopIndex(), assignments));
+        if (current().isKeyword("WHERE")) {
+            result.setWhere(parseWhere());
+        }
+        return result;
+    }
+    
+    private MySQLDeleteStatement parseDelete() {
+        expectKeyword("DELETE");
+        expectKeyword("FROM");
+        MySQLDeleteStatement result = new MySQLDeleteStatement();
+        result.setTableSegment(parseTableFactor());
+        if (current().isKeyword("WHERE")) {
+            result.setWhere(parseWhere());
+        }
+        return result;
+    }
+    
+    private SimpleTableSegment parseTableFactor() {
+        SimpleTableSegment result = parseTableName();
+        parseAlias().ifPresent(result::setAlias);
+        return result;
+    }
+    
+    private SimpleTableSegment parseTableName() {
+        FastPathToken first = expectIdentifier();
+        if (!accept(FastPathTokenType.DOT)) {
+            return new SimpleTableSegment(new TableNameSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        }
+        FastPathToken second = expectIdentifier();
+        SimpleTableSegment result = new SimpleTableSegment(new TableNameSegment(first.getStartIndex(), second.getStopIndex(), new IdentifierValue(second.getText())));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private Optional<AliasSegment> parseAlias() {
+        if (!acceptKeyword("AS") && !isIdentifier(current())) {
+            return Optional.empty();
+        }
+        FastPathToken alias = expectIdentifier();
+        return Optional.of(new AliasSegment(alias.getStartIndex(), alias.getStopIndex(), new IdentifierValue(alias.getText())));
+    }
+    
+    private WhereSegment parseWhere() {
+        FastPathToken where = expectKeyword("WHERE");
+        ExpressionSegment expression = parseExpression();
+        return new WhereSegment(where.getStartIndex(), expression.getStopIndex(), expression);
+    }
+    
+    private ExpressionSegment parseExpression() {
+        ExpressionSegment result = parseComparison();
+        while (current().isKeyword("AND")) {
+            String operator = next().getText();
+            ExpressionSegment right = parseComparison();
+            result = createBinaryOperationExpression(result, right, operator);
+        }
+        return result;
+    }
+    
+    private ExpressionSegment parseComparison() {
+        ColumnSegment left = parseColumn();
+        String operator = expect(FastPathTokenType.COMPARISON_OPERATOR).getText();
+        ExpressionSegment right = isIdentifier(current()) ? parseColumn() : parseValue();
+        return createBinaryOperationExpression(left, right, operator);
+    }
+    
+    private BinaryOperationExpression createBinaryOperationExpression(final ExpressionSegment left, final ExpressionSegment right, final String operator) {
+        return new BinaryOperationExpression(left.getStartIndex(), right.getStopIndex(), left, right, operator, sql.substring(left.getStartIndex(), right.getStopIndex() + 1));
+    }
+    
+    private ExpressionSegment parseValue() {
+        FastPathToken token = next();
+        switch (token.getType()) {
+            case PARAMETER_MARKER:
+                return new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterCount++);
+            case STRING:
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new StringLiteralValue(token.getText()).getValue());
+            case NUMBER:
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+            default:
+                throw UNRECOGNIZED;
+        }
+    }
+    
+    private ColumnSegment parseColumn() {
+        FastPathToken first = expectIdentifier();
+        if (!accept(FastPathTokenType.DOT)) {
+            return new ColumnSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText()));
+        }
+        FastPathToken second = expectIdentifier();
+        ColumnSegment result = new ColumnSegment(first.getStartIndex(), second.getStopIndex(), new IdentifierValue(second.getText()));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private boolean isIdentifier(final FastPathToken token) {
+        return FastPathTokenType.QUOTED_IDENTIFIER == token.getType() || FastPathTokenType.IDENTIFIER == token.getType() && !RESERVED_WORDS.contains(token.getText().toUpperCase());
+    }
+    
+    private FastPathToken expectIdentifier() {
+        if (!isIdentifier(current())) {
+            throw UNRECOGNIZED;
+        }
+        return next();
+    }
+    
+    private FastPathToken expectKeyword(final String keyword) {
+        if (!current().isKeyword(keyword)) {
+            throw UNRECOGNIZED;
+        }
+        return next();
+    }
+    
+    private boolean acceptKeyword(final String keyword) {
+        if (current().isKeyword(keyword)) {
+            advance();
+            return true;
+        }
+        return false;
+    }
+    
+    private FastPathToken expect(final FastPathTokenType type) {
+        if (type != current().getType()) {
+            throw UNRECOGNIZED;
+        }
+        return next();
+    }
+    
+    private boolean accept(final FastPathTokenType type) {
+        if (type == current().getType()) {
+            advance();
+            return true;
+        }
+        return false;
+    }
+    
+    private FastPathToken current() {
+        return currentToken;
+    }
+    
+    private FastPathToken previous() {
+        return previousToken;
+    }
+    
+    private FastPathToken next() {
+        FastPathToken result = currentToken;
+        if (FastPathTokenType.EOF != result.getType()) {
+            advance();
+        }
+        return result;
+    }
+    
+    private void advance() {
+        previousToken = currentToken;
+        currentToken = lexer.nextToken();
+        if (null == currentToken) {
+            throw UNRECOGNIZED;
+        }
+    }
+    
+    private static final class UnrecognizedSQLException extends RuntimeException {
+        
+        private static final long serialVersionUID = -1395538549404339458L;
+        
+        UnrecognizedSQLException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.fastpath;
+
+import com.google.common.collect.Iterables;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLFastPathParserTest {
+    
+    @Test
+    public void assertParseSelectWithShorthandProjection() {
+        Optional<SQLStatement> actual = MySQLFastPathParser.parse("SELECT * FROM t_order WHERE order_id = ?");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(MySQLSelectStatement.class));
+        MySQLSelectStatement selectStatement = (MySQLSelectStatement) actual.get();
+        assertThat(selectStatement.getParameterCount(), is(1));
+        assertThat(selectStatement.getProjections().getStartIndex(), is(7));
+        assertThat(selectStatement.getProjections().getStopIndex(), is(7));
+        assertThat(selectStatement.getProjections().getProjections().iterator().next(), instanceOf(ShorthandProjectionSegment.class));
+        assertThat(((SimpleTableSegment) selectStatement.getFrom()).getTableName().getIdentifier().getValue(), is("t_order"));
+        assertTrue(selectStatement.getWhere().isPresent());
+        assertThat(selectStatement.getWhere().get().getStartIndex(), is(22));
+        assertThat(selectStatement.getWhere().get().getStopIndex(), is(39));
+        BinaryOperationExpression expression = (BinaryOperationExpression) selectStatement.getWhere().get().getExpr();
+        assertThat(expression.getOperator(), is("="));
+        assertThat(expression.getText(), is("order_id = ?"));
+        assertThat(((ColumnSegment) expression.getLeft()).getIdentifier().getValue(), is("order_id"));
+        assertThat(((ParameterMarkerExpressionSegment) expression.getRight()).getParameterMarkerIndex(), is(0));
+    }
+    
+    @Test
+    public void assertParseSelectWithColumnProjectionsAndAndConditions() {
+        Optional<SQLStatement> actual = MySQLFastPathParser.parse("select o.order_id AS id, `status` from db.t_order o where o.user_id = 10 and o.status <> 'init';");
+        assertTrue(actual.isPresent());
+        MySQLSelectStatement selectStatement = (MySQLSelectStatement) actual.get();
+        assertThat(selectStatement.getParameterCount(), is(0));
+        Iterator<?> projections = selectStatement.getProjections().getProjections().iterator();
+        ColumnProjectionSegment first = (ColumnProjectionSegment) projections.next();
+        assertThat(first.getColumn().getOwner().get().getIdentifier().getValue(), is("o"));
+        assertThat(first.getAlias().get(), is("id"));
+        assertThat(((ColumnProjectionSegment) projections.next()).getColumn().getIdentifier().getValue(), is("status"));
+        SimpleTableSegment table = (SimpleTableSegment) selectStatement.getFrom();
+        assertThat(table.getOwner().get().getIdentifier().getValue(), is("db"));
+        assertThat(table.getAlias().get(), is("o"));
+        BinaryOperationExpression expression = (BinaryOperationExpression) selectStatement.getWhere().get().getExpr();
+        assertThat(expression.getOperator(), is("and"));
+        assertThat(((LiteralExpressionSegment) ((BinaryOperationExpression) expression.getLeft()).getRight()).getLiterals(), is(10));
+        assertThat(((LiteralExpressionSegment) ((BinaryOperationExpression) expression.getRight()).getRight()).getLiterals(), is("init"));
+    }
+    
+    @Test
+    public void assertParseInsertWithMultipleValues() {
+        Optional<SQLStatement> actual = MySQLFastPathParser.parse("INSERT INTO t_order (order_id, user_id) VALUES (?, ?), (?, ?)");
+        assertTrue(actual.isPresent());
+        MySQLInsertStatement insertStatement = (MySQLInsertStatement) actual.get();
+        assertThat(insertStatement.getParameterCount(), is(4));
+        assertThat(insertStatement.getTable().getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(insertStatement.getInsertColumns().get().getColumns().size(), is(2));
+        assertThat(insertStatement.getValues().size(), is(2));
+        Iterator<InsertValuesSegment> values = insertStatement.getValues().iterator();
+        values.next();
+        InsertValuesSegment secondValues = values.next();
+        assertThat(secondValues.getStartIndex(), is(55));
+        assertThat(((ParameterMarkerExpressionSegment) secondValues.getValues().get(1)).getParameterMarkerIndex(), is(3));
+    }
+    
+    @Test
+    public void assertParseInsertWithoutColumns() {
+        Optional<SQLStatement> actual = MySQLFastPathParser.parse("INSERT t_order VALUE (1, 'a')");
+        assertTrue(actual.isPresent());
+        MySQLInsertStatement insertStatement = (MySQLInsertStatement) actual.get();
+        assertTrue(insertStatement.getInsertColumns().get().getColumns().isEmpty());
+        assertThat(insertStatement.getInsertColumns().get().getStartIndex(), is(14));
+        assertThat(insertStatement.getValues().iterator().next().getValues().size(), is(2));
+    }
+    
+    @Test
+    public void assertParseInsertWithHugeValues() {
+        StringBuilder sql = new StringBuilder("INSERT INTO t_order (order_id, user_id, status) VALUES ");
+        for (int i = 0; i < 20000; i++) {
+            sql.append(0 == i ? "" : ", ").append("(?, ").append(i).append(", 'init')");
+        }
+        Optional<SQLStatement> actual = MySQLFastPathParser.parse(sql.toString());
+        assertTrue(actual.isPresent());
+        MySQLInsertStatement insertStatement = (MySQLInsertStatement) actual.get();
+        assertThat(insertStatement.getParameterCount(), is(20000));
+        assertThat(insertStatement.getValues().size(), is(20000));
+        InsertValuesSegment lastValues = Iterables.getLast(insertStatement.getValues());
+        assertThat(lastValues.getStopIndex(), is(sql.length() - 1));
+        assertThat(((ParameterMarkerExpressionSegment) lastValues.getValues().get(0)).getParameterMarkerIndex(), is(19999));
+        assertThat(((LiteralExpressionSegment) lastValues.getValues().get(1)).getLiterals(), is(19999));
+    }
+    
+    @Test
+    public void assertParseUpdate() {
+        Optional<SQLStatement> actual = MySQLFastPathParser.parse("UPDATE t_order SET status = ?, price = 1.5 WHERE order_id = ?");
+        assertTrue(actual.isPresent());
+        MySQLUpdateStatement updateStatement = (MySQLUpdateStatement) actual.get();
+        assertThat(updateStatement.getParameterCount(), is(2));
+        assertThat(updateStatement.getSetAssignment().getStartIndex(), is(15));
+        assertThat(updateStatement.getSetAssignment().getStopIndex(), is(41));
+        Iterator<AssignmentSegment> assignments = updateStatement.getSetAssignment().getAssignments().iterator();
+        assertThat(assignments.next().getColumn().getIdentifier().getValue(), is("status"));
+        assertThat(assignments.next().getColumn().getIdentifier().getValue(), is("price"));
+        assertThat(((ParameterMarkerExpressionSegment) ((BinaryOperationExpression) updateStatement.getWhere().get().getExpr()).getRight()).getParameterMarkerIndex(), is(1));
+    }
+    
+    @Test
+    public void assertParseDelete() {
+        Optional<SQLStatement> actual = MySQLFastPathParser.parse("DELETE FROM t_order WHERE order_id >= ?");
+        assertTrue(actual.isPresent());
+        MySQLDeleteStatement deleteStatement = (MySQLDeleteStatement) actual.get();
+        assertThat(((SimpleTableSegment) deleteStatement.getTableSegment()).getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(((BinaryOperationExpression) deleteStatement.getWhere().get().getExpr()).getOperator(), is(">="));
+    }
+    
+    @Test
+    public void assertParseUnrecognizedSQL() {
+        assertFalse(MySQLFastPathParser.parse("SELECT * FROM t_order WHERE order_id = ? OR user_id = ?").isPresent());
+        assertFalse(MySQLFastPathParser.parse("SELECT * FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id").isPresent());
+        assertFalse(MySQLFastPathParser.parse("SELECT * FROM t_order ORDER BY order_id").isPresent());
+        assertFalse(MySQLFastPathParser.parse("SELECT COUNT(*) FROM t_order").isPresent());
+        assertFalse(MySQLFastPathParser.parse("SELECT * FROM t_order WHERE order_id IN (?, ?)").isPresent());
+        assertFalse(MySQLFastPathParser.parse("SELECT * FROM t_order WHERE order_id <=> ?").isPresent());
+        assertFalse(MySQLFastPathParser.parse("SELECT * FROM t_order -- comment").isPresent());
+        assertFalse(MySQLFastPathParser.parse("INSERT INTO t_order VALUES (?) ON DUPLICATE KEY UPDATE status = ?").isPresent());
+        assertFalse(MySQLFastPathParser.parse("UPDATE t_order SET status = status + 1").isPresent());
+        assertFalse(MySQLFastPathParser.parse("DELETE FROM t_order WHERE order_id = ?; DELETE FROM t_order").isPresent());
+        assertFalse(MySQLFastPathParser.parse("CREATE TABLE t_order (order_id INT)").isPresent());
+    }
+}
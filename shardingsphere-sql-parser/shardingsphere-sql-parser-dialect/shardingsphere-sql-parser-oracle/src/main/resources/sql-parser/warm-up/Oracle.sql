@@ -0,0 +1,38 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one or more
+-- contributor license agreements.  See the NOTICE file distributed with
+-- this work for additional information regarding copyright ownership.
+-- The ASF licenses this file to You under the Apache License, Version 2.0
+-- (the "License"); you may not use this file except in compliance with
+-- the License.  You may obtain a copy of the License at
+--
+--     http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing, software
+-- distributed under the License is distributed on an "AS IS" BASIS,
+-- WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+-- See the License for the specific language governing permissions and
+-- limitations under the License.
+--
+
+SELECT * FROM t_order WHERE order_id = ?
+SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?
+SELECT o.order_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id IN (?, ?) ORDER BY o.order_id DESC
+SELECT o.* FROM t_order o LEFT JOIN t_order_item i ON o.order_id = i.order_id WHERE o.status = 'init' OR i.item_id IS NULL
+SELECT user_id, COUNT(*) AS order_count, SUM(price) FROM t_order WHERE order_id BETWEEN ? AND ? GROUP BY user_id HAVING COUNT(*) > 1 ORDER BY user_id
+SELECT DISTINCT status FROM t_order WHERE status LIKE 'in%'
+SELECT * FROM t_order WHERE order_id IN (SELECT order_id FROM t_order_item WHERE item_id = ?) FOR UPDATE
+SELECT CASE WHEN status = 'init' THEN 1 ELSE 0 END AS flag, NVL(remark, '') FROM t_order WHERE order_id = ?
+SELECT * FROM t_order WHERE order_id = ? UNION ALL SELECT * FROM t_order_history WHERE order_id = ?
+SELECT 1 FROM DUAL
+INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)
+UPDATE t_order SET status = ? WHERE order_id = ?
+UPDATE t_order SET status = ?, version = version + 1 WHERE order_id = ? AND version = ?
+DELETE FROM t_order WHERE order_id = ?
+CREATE TABLE t_order (order_id NUMBER(19) NOT NULL, user_id NUMBER(10) NOT NULL, status VARCHAR2(50), PRIMARY KEY (order_id))
+ALTER TABLE t_order ADD (remark VARCHAR2(255))
+CREATE INDEX idx_user_id ON t_order (user_id)
+TRUNCATE TABLE t_order
+DROP TABLE t_order
+COMMIT
+ROLLBACK
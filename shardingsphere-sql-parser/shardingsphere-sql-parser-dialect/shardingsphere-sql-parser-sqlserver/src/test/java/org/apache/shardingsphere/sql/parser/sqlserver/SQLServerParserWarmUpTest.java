@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.sqlserver;
+
+import org.apache.shardingsphere.sql.parser.api.SQLParserWarmUpEngine;
+import org.apache.shardingsphere.sql.parser.core.warmup.SQLWarmUpCorpusLoader;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLServerParserWarmUpTest {
+    
+    @Test
+    public void assertWarmUpWithBundledCorpus() {
+        int corpusSize = SQLWarmUpCorpusLoader.loadBundledCorpus("SQLServer").size();
+        assertTrue(corpusSize > 0);
+        assertThat(new SQLParserWarmUpEngine("SQLServer").warmUp(), is(corpusSize));
+    }
+}
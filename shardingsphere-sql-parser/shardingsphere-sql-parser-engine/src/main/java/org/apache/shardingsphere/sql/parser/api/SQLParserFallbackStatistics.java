@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL parser fallback statistics.
+ * 
+ * <p>Count SQL which can not be parsed in SLL prediction mode and fall back to LL prediction mode, grouped by statement type.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParserFallbackStatistics {
+    
+    private static final Map<String, Map<String, LongAdder>> FALLBACK_COUNTS = new ConcurrentHashMap<>();
+    
+    /**
+     * Increase fallback count.
+     * 
+     * @param databaseType database type
+     * @param statementType statement type
+     */
+    public static void increase(final String databaseType, final String statementType) {
+        FALLBACK_COUNTS.computeIfAbsent(databaseType, key -> new ConcurrentHashMap<>()).computeIfAbsent(statementType, key -> new LongAdder()).increment();
+    }
+    
+    /**
+     * Get fallback counts.
+     * 
+     * @param databaseType database type
+     * @return fallback counts, key is statement type and value is fallback count
+     */
+    public static Map<String, Long> getFallbackCounts(final String databaseType) {
+        Map<String, LongAdder> fallbackCounts = FALLBACK_COUNTS.getOrDefault(databaseType, Collections.emptyMap());
+        Map<String, Long> result = new TreeMap<>();
+        for (Entry<String, LongAdder> entry : fallbackCounts.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().sum());
+        }
+        return result;
+    }
+    
+    /**
+     * Get fallback counts of all database types.
+     * 
+     * @return fallback counts, key is database type and value is fallback counts grouped by statement type
+     */
+    public static Map<String, Map<String, Long>> getAllFallbackCounts() {
+        Map<String, Map<String, Long>> result = new TreeMap<>();
+        for (String each : FALLBACK_COUNTS.keySet()) {
+            result.put(each, getFallbackCounts(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Clear fallback counts.
+     */
+    public static void clear() {
+        FALLBACK_COUNTS.clear();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.warmup.SQLWarmUpCorpusLoader;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * SQL parser warm up engine.
+ * 
+ * <p>
+ *     ANTLR caches adaptive prediction DFA of parser in static fields, which are empty after JVM started.
+ *     Parse corpus of SQL before serving to fill the DFA, so that the first SQL of users would not run in slow full context prediction.
+ * </p>
+ */
+@Slf4j
+public final class SQLParserWarmUpEngine {
+    
+    private final String databaseType;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    public SQLParserWarmUpEngine(final String databaseType) {
+        this.databaseType = databaseType;
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+    }
+    
+    /**
+     * Warm up with corpus bundled with SQL parser of database type.
+     * 
+     * @return count of SQL parsed successfully
+     */
+    public int warmUp() {
+        return warmUp(SQLWarmUpCorpusLoader.loadBundledCorpus(databaseType));
+    }
+    
+    /**
+     * Warm up with corpus file.
+     * 
+     * @param corpusFile corpus file, one SQL per line
+     * @return count of SQL parsed successfully
+     */
+    public int warmUp(final Path corpusFile) {
+        return warmUp(SQLWarmUpCorpusLoader.loadCorpus(corpusFile));
+    }
+    
+    /**
+     * Warm up with corpus.
+     * 
+     * @param sqls SQL corpus
+     * @return count of SQL parsed successfully
+     */
+    public int warmUp(final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                sqlParserExecutor.parse(each);
+                result++;
+            } catch (final SQLParsingException ex) {
+                log.debug("Skip unsupported SQL `{}` of warm up corpus.", each);
+            }
+        }
+        return result;
+    }
+}
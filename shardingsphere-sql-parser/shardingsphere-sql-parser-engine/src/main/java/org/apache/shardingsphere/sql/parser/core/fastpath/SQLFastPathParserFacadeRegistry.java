@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.fastpath;
+
+import org.apache.shardingsphere.sql.parser.spi.SQLFastPathParserFacade;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * SQL fast path parser facade registry.
+ */
+public final class SQLFastPathParserFacadeRegistry {
+    
+    private static final SQLFastPathParserFacadeRegistry INSTANCE = new SQLFastPathParserFacadeRegistry();
+    
+    private final Map<String, SQLFastPathParserFacade> facades = new LinkedHashMap<>();
+    
+    private SQLFastPathParserFacadeRegistry() {
+        for (SQLFastPathParserFacade each : ServiceLoader.load(SQLFastPathParserFacade.class)) {
+            facades.put(each.getDatabaseType(), each);
+        }
+    }
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static SQLFastPathParserFacadeRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Find SQL fast path parser facade.
+     * 
+     * @param databaseType database type
+     * @return SQL fast path parser facade, empty if database type has no fast path parser
+     */
+    public Optional<SQLFastPathParserFacade> findSQLFastPathParserFacade(final String databaseType) {
+        return Optional.ofNullable(facades.get(databaseType));
+    }
+}
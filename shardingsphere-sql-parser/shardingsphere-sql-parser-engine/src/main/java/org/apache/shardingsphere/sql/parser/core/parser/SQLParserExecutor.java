@@ -24,6 +24,7 @@ import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.api.SQLParserFallbackStatistics;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 
@@ -57,14 +58,22 @@ public final class SQLParserExecutor {
         } catch (final ParseCancellationException ex) {
             ((Parser) sqlParser).reset();
             setPredictionMode((Parser) sqlParser, PredictionMode.LL);
+            ParseASTNode result;
             try {
-                return (ParseASTNode) sqlParser.parse();
+                result = (ParseASTNode) sqlParser.parse();
             } catch (final ParseCancellationException e) {
                 throw new SQLParsingException("You have an error in your SQL syntax");
             }
+            SQLParserFallbackStatistics.increase(databaseType, getStatementType(result.getRootNode()));
+            return result;
         }
     }
     
+    private String getStatementType(final ParseTree rootNode) {
+        String result = rootNode.getClass().getSimpleName();
+        return result.endsWith("Context") ? result.substring(0, result.length() - "Context".length()) : result;
+    }
+    
     private void setPredictionMode(final Parser sqlParser, final PredictionMode mode) {
         sqlParser.setErrorHandler(new BailErrorStrategy());
         sqlParser.getInterpreter().setPredictionMode(mode);
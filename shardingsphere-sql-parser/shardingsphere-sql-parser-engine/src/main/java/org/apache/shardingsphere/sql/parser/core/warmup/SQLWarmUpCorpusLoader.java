@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.warmup;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+
+/**
+ * SQL warm up corpus loader.
+ * 
+ * <p>Corpus contains one SQL per line, blank lines and lines started with {@code --} or {@code #} are ignored.
+ * Warm up is an optimization only, so corpus which can not be read is skipped with a warning.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class SQLWarmUpCorpusLoader {
+    
+    private static final String BUNDLED_CORPUS_PATH = "sql-parser/warm-up/%s.sql";
+    
+    /**
+     * Load corpus bundled with SQL parser of database type.
+     * 
+     * @param databaseType database type
+     * @return SQL corpus, empty if no corpus bundled or fail to read
+     */
+    public static Collection<String> loadBundledCorpus(final String databaseType) {
+        String path = String.format(BUNDLED_CORPUS_PATH, databaseType);
+        InputStream inputStream = SQLWarmUpCorpusLoader.class.getClassLoader().getResourceAsStream(path);
+        if (null == inputStream) {
+            return Collections.emptyList();
+        }
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return load(reader);
+        } catch (final IOException ex) {
+            log.warn("Skip warm up corpus `{}` which can not be read.", path, ex);
+            return Collections.emptyList();
+        }
+    }
+    
+    /**
+     * Load corpus from file.
+     * 
+     * @param file corpus file, such as SQL captured from traffic
+     * @return SQL corpus, empty if fail to read
+     */
+    public static Collection<String> loadCorpus(final Path file) {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return load(reader);
+        } catch (final IOException ex) {
+            log.warn("Skip warm up corpus file `{}` which can not be read.", file, ex);
+            return Collections.emptyList();
+        }
+    }
+    
+    private static Collection<String> load(final Reader reader) throws IOException {
+        Collection<String> result = new LinkedList<>();
+        BufferedReader bufferedReader = new BufferedReader(reader);
+        String line;
+        while (null != (line = bufferedReader.readLine())) {
+            String sql = line.trim();
+            if (!sql.isEmpty() && !sql.startsWith("--") && !sql.startsWith("#")) {
+                result.add(sql);
+            }
+        }
+        return result;
+    }
+}
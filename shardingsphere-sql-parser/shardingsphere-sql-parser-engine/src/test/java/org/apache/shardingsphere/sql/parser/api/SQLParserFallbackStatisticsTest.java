@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.api;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParserFallbackStatisticsTest {
+    
+    @After
+    public void tearDown() {
+        SQLParserFallbackStatistics.clear();
+    }
+    
+    @Test
+    public void assertIncrease() {
+        SQLParserFallbackStatistics.increase("MySQL", "Select");
+        SQLParserFallbackStatistics.increase("MySQL", "Select");
+        SQLParserFallbackStatistics.increase("MySQL", "Insert");
+        SQLParserFallbackStatistics.increase("PostgreSQL", "Select");
+        Map<String, Long> actual = SQLParserFallbackStatistics.getFallbackCounts("MySQL");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("Select"), is(2L));
+        assertThat(actual.get("Insert"), is(1L));
+        assertThat(SQLParserFallbackStatistics.getFallbackCounts("PostgreSQL").get("Select"), is(1L));
+    }
+    
+    @Test
+    public void assertGetAllFallbackCounts() {
+        SQLParserFallbackStatistics.increase("MySQL", "Select");
+        SQLParserFallbackStatistics.increase("PostgreSQL", "Insert");
+        Map<String, Map<String, Long>> actual = SQLParserFallbackStatistics.getAllFallbackCounts();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("MySQL").get("Select"), is(1L));
+        assertThat(actual.get("PostgreSQL").get("Insert"), is(1L));
+    }
+    
+    @Test
+    public void assertGetFallbackCountsWithoutFallback() {
+        assertTrue(SQLParserFallbackStatistics.getFallbackCounts("Oracle").isEmpty());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.warmup;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLWarmUpCorpusLoaderTest {
+    
+    @Test
+    public void assertLoadBundledCorpusWithoutCorpus() {
+        assertTrue(SQLWarmUpCorpusLoader.loadBundledCorpus("Unknown").isEmpty());
+    }
+    
+    @Test
+    public void assertLoadCorpus() throws IOException {
+        Path file = Files.createTempFile("warm-up", ".sql");
+        try {
+            Files.write(file, Arrays.asList("-- comment", "", "# comment", "  SELECT * FROM t_order WHERE order_id = ?  ", "DELETE FROM t_order"), StandardCharsets.UTF_8);
+            Collection<String> actual = SQLWarmUpCorpusLoader.loadCorpus(file);
+            assertThat(actual, is((Collection<String>) Arrays.asList("SELECT * FROM t_order WHERE order_id = ?", "DELETE FROM t_order")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test
+    public void assertLoadCorpusWithoutFile() throws IOException {
+        Path directory = Files.createTempDirectory("warm-up");
+        try {
+            assertTrue(SQLWarmUpCorpusLoader.loadCorpus(directory.resolve("absent.sql")).isEmpty());
+        } finally {
+            Files.delete(directory);
+        }
+    }
+    
+    @Test
+    public void assertLoadEmptyCorpus() throws IOException {
+        Path file = Files.createTempFile("warm-up", ".sql");
+        try {
+            assertThat(SQLWarmUpCorpusLoader.loadCorpus(file), is((Collection<String>) Collections.<String>emptyList()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
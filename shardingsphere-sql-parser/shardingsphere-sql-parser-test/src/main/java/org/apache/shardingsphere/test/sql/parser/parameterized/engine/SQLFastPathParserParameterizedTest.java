@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.sql.parser.parameterized.engine;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sql.parser.api.SQLFastPathParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.SQLParserTestCasesRegistry;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.cases.SQLParserTestCasesRegistryFactory;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.sql.loader.SQLCasesLoader;
+import org.apache.shardingsphere.test.sql.parser.parameterized.jaxb.sql.loader.SQLCasesRegistry;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Differential test to make sure SQL statement parsed by fast path is same as the one parsed by ANTLR.
+ */
+@RequiredArgsConstructor
+public abstract class SQLFastPathParserParameterizedTest {
+    
+    private static final SQLCasesLoader SQL_CASES_LOADER = SQLCasesRegistry.getInstance().getSqlCasesLoader();
+    
+    private static final SQLParserTestCasesRegistry SQL_PARSER_TEST_CASES_REGISTRY = SQLParserTestCasesRegistryFactory.getInstance().getRegistry();
+    
+    private final String sqlCaseId;
+    
+    private final String databaseType;
+    
+    private final SQLCaseType sqlCaseType;
+    
+    protected static Collection<Object[]> getTestParameters(final String... databaseTypes) {
+        Collection<Object[]> result = new LinkedList<>();
+        for (Object[] each : SQL_CASES_LOADER.getSQLTestParameters(Arrays.asList(databaseTypes))) {
+            if (SQLCaseType.Placeholder != each[2] || !SQL_PARSER_TEST_CASES_REGISTRY.get(each[0].toString()).getParameters().isEmpty()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    @Test
+    public final void assertFastPathParseResultSameAsANTLR() {
+        String sql = SQL_CASES_LOADER.getSQL(sqlCaseId, sqlCaseType, SQL_PARSER_TEST_CASES_REGISTRY.get(sqlCaseId).getParameters());
+        Optional<SQLStatement> actual = new SQLFastPathParserEngine(databaseType).parse(sql);
+        if (!actual.isPresent()) {
+            return;
+        }
+        SQLStatement expected = new SQLVisitorEngine(databaseType, "STATEMENT", new Properties()).visit(new SQLParserEngine(databaseType).parse(sql, false));
+        Optional<String> difference = findDifference("statement", actual.get(), expected);
+        if (difference.isPresent()) {
+            fail(String.format("SQL case `%s` (%s): fast path parse result is different from ANTLR at `%s`, SQL is `%s`", sqlCaseId, sqlCaseType, difference.get(), sql));
+        }
+    }
+    
+    @SneakyThrows(IllegalAccessException.class)
+    private Optional<String> findDifference(final String path, final Object actual, final Object expected) {
+        if (null == actual || null == expected) {
+            return actual == expected ? Optional.empty() : Optional.of(path);
+        }
+        if (actual instanceof Optional && expected instanceof Optional) {
+            return findDifference(path, ((Optional<?>) actual).orElse(null), ((Optional<?>) expected).orElse(null));
+        }
+        if (actual instanceof Collection && expected instanceof Collection) {
+            return findDifference(path, (Collection<?>) actual, (Collection<?>) expected);
+        }
+        if (actual instanceof Map && expected instanceof Map) {
+            return findDifference(path, ((Map<?, ?>) actual).entrySet(), ((Map<?, ?>) expected).entrySet());
+        }
+        if (actual.getClass() != expected.getClass()) {
+            return Optional.of(path);
+        }
+        if (isValue(actual)) {
+            return actual.equals(expected) ? Optional.empty() : Optional.of(path);
+        }
+        for (Class<?> clazz = actual.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(each.getModifiers()) || each.isSynthetic()) {
+                    continue;
+                }
+                each.setAccessible(true);
+                Optional<String> result = findDifference(path + "." + each.getName(), each.get(actual), each.get(expected));
+                if (result.isPresent()) {
+                    return result;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<String> findDifference(final String path, final Collection<?> actual, final Collection<?> expected) {
+        if (actual.size() != expected.size()) {
+            return Optional.of(path + ".size");
+        }
+        Iterator<?> expectedIterator = expected.iterator();
+        int index = 0;
+        for (Object each : actual) {
+            Optional<String> result = findDifference(path + "[" + index++ + "]", each, expectedIterator.next());
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isValue(final Object object) {
+        return object instanceof CharSequence || object instanceof Number || object instanceof Boolean || object instanceof Character || object instanceof Enum;
+    }
+}
@@ -29,12 +29,24 @@ import javax.sql.XADataSource;
 import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.Properties;
 
 /**
  * Atomikos XA transaction manager.
  */
 public final class AtomikosTransactionManager implements XATransactionManager {
     
+    private static final String THREADED_2PC_KEY = "com.atomikos.icatch.threaded_2pc";
+    
+    private static final String CUSTOM_CONFIG_FILE_KEY = "com.atomikos.icatch.file";
+    
+    private static final String[] CONFIG_RESOURCES = {"transactions.properties", "jta.properties"};
+    
     private UserTransactionManager transactionManager;
     
     private UserTransactionService userTransactionService;
@@ -42,10 +54,55 @@ public final class AtomikosTransactionManager implements XATransactionManager {
     @Override
     public void init() {
         transactionManager = new UserTransactionManager();
-        userTransactionService = new UserTransactionServiceImp();
+        userTransactionService = new UserTransactionServiceImp(createTransactionServiceProperties());
         userTransactionService.init();
     }
     
+    /**
+     * Create properties of transaction service, parallel two phase commit is enabled unless it is configured by user.
+     *
+     * @return properties of transaction service
+     */
+    Properties createTransactionServiceProperties() {
+        Properties result = new Properties();
+        if (!isThreaded2PCConfigured()) {
+            result.setProperty(THREADED_2PC_KEY, Boolean.TRUE.toString());
+        }
+        return result;
+    }
+    
+    @SneakyThrows(IOException.class)
+    private boolean isThreaded2PCConfigured() {
+        if (null != System.getProperty(THREADED_2PC_KEY)) {
+            return true;
+        }
+        String customConfigFile = System.getProperty(CUSTOM_CONFIG_FILE_KEY);
+        if (null != customConfigFile) {
+            try (InputStream inputStream = new FileInputStream(customConfigFile)) {
+                if (containsThreaded2PC(inputStream)) {
+                    return true;
+                }
+            }
+        }
+        for (String each : CONFIG_RESOURCES) {
+            Enumeration<URL> resources = AtomikosTransactionManager.class.getClassLoader().getResources(each);
+            while (resources.hasMoreElements()) {
+                try (InputStream inputStream = resources.nextElement().openStream()) {
+                    if (containsThreaded2PC(inputStream)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+    
+    private boolean containsThreaded2PC(final InputStream inputStream) throws IOException {
+        Properties props = new Properties();
+        props.load(inputStream);
+        return props.containsKey(THREADED_2PC_KEY);
+    }
+    
     @Override
     public void registerRecoveryResource(final String dataSourceName, final XADataSource xaDataSource) {
         userTransactionService.registerResource(new AtomikosXARecoverableResource(dataSourceName, xaDataSource));
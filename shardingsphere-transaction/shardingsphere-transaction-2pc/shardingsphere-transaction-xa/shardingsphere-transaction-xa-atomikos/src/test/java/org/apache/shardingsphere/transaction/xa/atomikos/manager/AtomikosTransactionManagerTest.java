@@ -33,6 +33,7 @@ import javax.transaction.SystemException;
 import javax.transaction.Transaction;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -90,4 +91,19 @@ public final class AtomikosTransactionManagerTest {
         atomikosTransactionManager.close();
         verify(userTransactionService).shutdown(true);
     }
+    
+    @Test
+    public void assertEnableThreaded2PCByDefault() {
+        assertThat(atomikosTransactionManager.createTransactionServiceProperties().getProperty("com.atomikos.icatch.threaded_2pc"), is("true"));
+    }
+    
+    @Test
+    public void assertKeepThreaded2PCConfiguredByUser() {
+        System.setProperty("com.atomikos.icatch.threaded_2pc", "false");
+        try {
+            assertThat(atomikosTransactionManager.createTransactionServiceProperties().getProperty("com.atomikos.icatch.threaded_2pc"), nullValue());
+        } finally {
+            System.clearProperty("com.atomikos.icatch.threaded_2pc");
+        }
+    }
 }
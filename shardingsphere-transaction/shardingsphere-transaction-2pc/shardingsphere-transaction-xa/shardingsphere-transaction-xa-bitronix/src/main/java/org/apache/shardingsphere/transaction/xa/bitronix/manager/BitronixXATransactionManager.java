@@ -21,6 +21,7 @@ import bitronix.tm.BitronixTransactionManager;
 import bitronix.tm.TransactionManagerServices;
 import bitronix.tm.recovery.RecoveryException;
 import bitronix.tm.resource.ResourceRegistrar;
+import bitronix.tm.utils.ClassLoaderUtils;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.transaction.core.XATransactionManagerType;
 import org.apache.shardingsphere.transaction.xa.spi.SingleXAResource;
@@ -30,19 +31,53 @@ import javax.sql.XADataSource;
 import javax.transaction.RollbackException;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
 
 /**
  * Bitronix sharding transaction manager.
  */
 public final class BitronixXATransactionManager implements XATransactionManager {
     
+    private static final String CONFIG_FILE_KEY = "bitronix.tm.configuration";
+    
+    private static final String DEFAULT_CONFIG_RESOURCE = "bitronix-default-config.properties";
+    
+    private static final String ASYNCHRONOUS_2PC_KEY = "bitronix.tm.2pc.async";
+    
     private BitronixTransactionManager bitronixTransactionManager;
     
     @Override
     public void init() {
+        if (!TransactionManagerServices.isTransactionManagerRunning() && !isAsynchronous2PCConfigured()) {
+            TransactionManagerServices.getConfiguration().setAsynchronous2Pc(true);
+        }
         bitronixTransactionManager = TransactionManagerServices.getTransactionManager();
     }
     
+    /**
+     * Judge whether asynchronous two phase commit is configured by system property or configuration file of Bitronix.
+     *
+     * @return configured or not
+     */
+    @SneakyThrows(IOException.class)
+    boolean isAsynchronous2PCConfigured() {
+        if (null != System.getProperty(ASYNCHRONOUS_2PC_KEY)) {
+            return true;
+        }
+        String configFile = System.getProperty(CONFIG_FILE_KEY);
+        try (InputStream inputStream = null == configFile ? ClassLoaderUtils.getResourceAsStream(DEFAULT_CONFIG_RESOURCE) : new FileInputStream(configFile)) {
+            if (null == inputStream) {
+                return false;
+            }
+            Properties props = new Properties();
+            props.load(inputStream);
+            return props.containsKey(ASYNCHRONOUS_2PC_KEY);
+        }
+    }
+    
     @SneakyThrows(RecoveryException.class)
     @Override
     public void registerRecoveryResource(final String dataSourceName, final XADataSource xaDataSource) {
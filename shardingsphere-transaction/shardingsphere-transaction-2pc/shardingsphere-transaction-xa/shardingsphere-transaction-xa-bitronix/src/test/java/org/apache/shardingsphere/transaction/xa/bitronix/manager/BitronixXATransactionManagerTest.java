@@ -36,6 +36,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -83,4 +85,19 @@ public final class BitronixXATransactionManagerTest {
         bitronixXATransactionManager.close();
         verify(bitronixTransactionManager).shutdown();
     }
+    
+    @Test
+    public void assertAsynchronous2PCNotConfigured() {
+        assertFalse(bitronixXATransactionManager.isAsynchronous2PCConfigured());
+    }
+    
+    @Test
+    public void assertAsynchronous2PCConfiguredBySystemProperty() {
+        System.setProperty("bitronix.tm.2pc.async", "false");
+        try {
+            assertTrue(bitronixXATransactionManager.isAsynchronous2PCConfigured());
+        } finally {
+            System.clearProperty("bitronix.tm.2pc.async");
+        }
+    }
 }
@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.transaction.xa.narayana.manager;
 
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
 import com.arjuna.ats.arjuna.recovery.RecoveryManager;
 import com.arjuna.ats.internal.jta.recovery.arjunacore.XARecoveryModule;
 import com.arjuna.ats.jbossatx.jta.RecoveryManagerService;
 import com.arjuna.ats.jta.common.jtaPropertyManager;
+import com.arjuna.common.util.propertyservice.PropertiesFactory;
 import java.util.Objects;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.transaction.core.XATransactionManagerType;
@@ -37,6 +39,8 @@ import javax.transaction.TransactionManager;
  */
 public final class NarayanaXATransactionManager implements XATransactionManager {
     
+    private static final String[] ASYNC_PREPARE_KEYS = {"CoordinatorEnvironmentBean.asyncPrepare", "com.arjuna.ats.arjuna.coordinator.asyncPrepare"};
+    
     private TransactionManager transactionManager;
     
     private XARecoveryModule xaRecoveryModule;
@@ -45,6 +49,9 @@ public final class NarayanaXATransactionManager implements XATransactionManager
     
     @Override
     public void init() {
+        if (!isAsyncPrepareConfigured()) {
+            arjPropertyManager.getCoordinatorEnvironmentBean().setAsyncPrepare(true);
+        }
         transactionManager = jtaPropertyManager.getJTAEnvironmentBean().getTransactionManager();
         xaRecoveryModule = XARecoveryModule.getRegisteredXARecoveryModule();
         recoveryManagerService = new RecoveryManagerService();
@@ -53,6 +60,20 @@ public final class NarayanaXATransactionManager implements XATransactionManager
         recoveryManagerService.start();
     }
     
+    /**
+     * Judge whether asynchronous prepare is configured by system property or properties file of Narayana.
+     *
+     * @return configured or not
+     */
+    boolean isAsyncPrepareConfigured() {
+        for (String each : ASYNC_PREPARE_KEYS) {
+            if (null != System.getProperty(each) || PropertiesFactory.getDefaultProperties().containsKey(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     @Override
     public void registerRecoveryResource(final String dataSourceName, final XADataSource xaDataSource) {
         if (Objects.nonNull(xaRecoveryModule)) {
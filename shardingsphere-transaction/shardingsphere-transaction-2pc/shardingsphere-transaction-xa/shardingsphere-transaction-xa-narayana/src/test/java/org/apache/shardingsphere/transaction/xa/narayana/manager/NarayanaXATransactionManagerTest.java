@@ -35,6 +35,8 @@ import javax.transaction.TransactionManager;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -96,4 +98,19 @@ public final class NarayanaXATransactionManagerTest {
         verify(recoveryManagerService).stop();
         verify(recoveryManagerService).destroy();
     }
+    
+    @Test
+    public void assertAsyncPrepareNotConfigured() {
+        assertFalse(narayanaXATransactionManager.isAsyncPrepareConfigured());
+    }
+    
+    @Test
+    public void assertAsyncPrepareConfiguredBySystemProperty() {
+        System.setProperty("CoordinatorEnvironmentBean.asyncPrepare", "false");
+        try {
+            assertTrue(narayanaXATransactionManager.isAsyncPrepareConfigured());
+        } finally {
+            System.clearProperty("CoordinatorEnvironmentBean.asyncPrepare");
+        }
+    }
 }